@@ -274,3 +274,16 @@ CREATE SEQUENCE IF NOT EXISTS posts_id_seq
 
 ALTER SEQUENCE posts_id_seq
     OWNER TO postgres_container;
+
+-- SEQUENCE: outbox_events_id_seq
+DROP SEQUENCE IF EXISTS outbox_events_id_seq;
+
+CREATE SEQUENCE IF NOT EXISTS outbox_events_id_seq
+    INCREMENT 1
+    START 1
+    MINVALUE 1
+    MAXVALUE 9223372036854775807
+    CACHE 1;
+
+ALTER SEQUENCE outbox_events_id_seq
+    OWNER TO postgres_container;
@@ -377,12 +377,56 @@ CREATE TABLE IF NOT EXISTS files
         CONSTRAINT files_entity_type_check
             CHECK ((entity_type)::TEXT = ANY
                    ((ARRAY ['USER'::CHARACTER VARYING, 'TEST_CASE'::CHARACTER VARYING, 'TEST'::CHARACTER VARYING, 'PROJECT'::CHARACTER VARYING, 'COMMENT'::CHARACTER VARYING, 'BUG_REPORT'::CHARACTER VARYING])::TEXT[])),
-    original_name VARCHAR(255)                NOT NULL
+    original_name    VARCHAR(255)                NOT NULL,
+    content_hash     VARCHAR(64),
+    thumbnail_status VARCHAR(255)
+        CONSTRAINT files_thumbnail_status_check
+            CHECK ((thumbnail_status)::TEXT = ANY
+                   ((ARRAY ['PENDING'::CHARACTER VARYING, 'READY'::CHARACTER VARYING, 'FAILED'::CHARACTER VARYING])::TEXT[])),
+    thumbnail_key    VARCHAR(255),
+    updated_at       TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT files_entity_type_entity_id_original_name_key
+        UNIQUE (entity_type, entity_id, original_name)
 );
 
 ALTER TABLE files
     OWNER TO postgres_container;
 
+CREATE INDEX IF NOT EXISTS files_entity_type_entity_id_created_at_idx
+    ON files (entity_type, entity_id, created_at);
+
+-- Table: file_blobs
+DROP TABLE IF EXISTS file_blobs;
+
+CREATE TABLE IF NOT EXISTS file_blobs
+(
+    hash       VARCHAR(64)                 NOT NULL
+        PRIMARY KEY,
+    size       BIGINT                      NOT NULL,
+    ref_count  INTEGER                     NOT NULL,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE file_blobs
+    OWNER TO postgres_container;
+
+-- Table: folder_deletions
+DROP TABLE IF EXISTS folder_deletions;
+
+CREATE TABLE IF NOT EXISTS folder_deletions
+(
+    id             UUID                        NOT NULL
+        PRIMARY KEY,
+    entity_type    VARCHAR(255)                NOT NULL,
+    entity_id      BIGINT                      NOT NULL,
+    correlation_id VARCHAR(255),
+    claimed_at     TIMESTAMP(6) WITH TIME ZONE,
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE folder_deletions
+    OWNER TO postgres_container;
+
 -- Table: feedbacks
 DROP TABLE IF EXISTS feedbacks;
 
@@ -487,3 +531,43 @@ ALTER SEQUENCE posts_id_seq
 
 ALTER TABLE posts
     OWNER TO postgres_container;
+
+-- Table: export_jobs
+DROP TABLE IF EXISTS export_jobs;
+
+CREATE TABLE IF NOT EXISTS export_jobs
+(
+    id             UUID                        NOT NULL
+        PRIMARY KEY,
+    owner_id       BIGINT                      NOT NULL,
+    entity_type    VARCHAR(255)                NOT NULL,
+    project_id     BIGINT                      NOT NULL,
+    format         VARCHAR(255)                NOT NULL,
+    status         VARCHAR(255)                NOT NULL,
+    processed_rows BIGINT                      NOT NULL,
+    file_key       VARCHAR(255),
+    download_url   VARCHAR(255),
+    error_message  VARCHAR(255),
+    created_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE export_jobs
+    OWNER TO postgres_container;
+
+-- Table: outbox_events
+DROP TABLE IF EXISTS outbox_events;
+
+CREATE TABLE IF NOT EXISTS outbox_events
+(
+    id          BIGINT                      NOT NULL
+        PRIMARY KEY,
+    topic       VARCHAR(255)                NOT NULL,
+    event_key   VARCHAR(255),
+    event_class VARCHAR(255)                NOT NULL,
+    payload     TEXT                        NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+ALTER TABLE outbox_events
+    OWNER TO postgres_container;
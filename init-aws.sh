@@ -29,6 +29,20 @@ export AWS_DEFAULT_REGION="us-east-2"
 echo "🚀 Створюємо S3-бакет: $S3_BUCKET_NAME..."
 aws --endpoint-url=$AWS_ENDPOINT s3 mb s3://$S3_BUCKET_NAME
 
+# Дозволяємо браузеру завантажувати файли напряму за presigned URL
+echo "🔐 Налаштовуємо CORS для бакета: $S3_BUCKET_NAME..."
+aws --endpoint-url=$AWS_ENDPOINT s3api put-bucket-cors --bucket $S3_BUCKET_NAME --cors-configuration '{
+  "CORSRules": [
+    {
+      "AllowedOrigins": ["*"],
+      "AllowedMethods": ["GET", "PUT", "HEAD"],
+      "AllowedHeaders": ["*"],
+      "ExposeHeaders": ["ETag"],
+      "MaxAgeSeconds": 3000
+    }
+  ]
+}'
+
 # Перевіряємо, що бакет створено
 echo "📂 Список бакетів:"
 aws --endpoint-url=$AWS_ENDPOINT s3 ls
@@ -0,0 +1,72 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact binary encoding of the events registered in an {@link EventTypeRegistry}.
+ * <p>
+ * A payload is the format version, the varint id of the event type and the event as described by
+ * {@link EventSchema}. Unlike JSON it carries neither property names nor class names, numbers are varints and
+ * timestamps take two varints instead of a decimal string. Incompatible changes of the layout itself must bump
+ * {@link #FORMAT_VERSION}.
+ */
+public final class BinaryEventCodec implements EventCodec {
+
+    public static final String NAME = "binary";
+
+    public static final int FORMAT_VERSION = 1;
+
+    private final EventTypeRegistry registry;
+
+    private final Map<Class<?>, EventSchema> schemas = new ConcurrentHashMap<>();
+
+    public BinaryEventCodec(EventTypeRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(Class<?> eventType) {
+        return registry.findId(eventType).isPresent();
+    }
+
+    @Override
+    public byte[] encode(ApplicationEvent event) {
+        var type = event.getClass();
+        int typeId = registry.findId(type)
+                .orElseThrow(() -> new EventCodecException(type.getName() + " is not registered"));
+
+        var out = new BinaryWriter(128);
+        out.writeByte(FORMAT_VERSION);
+        out.writeVarInt(typeId);
+        schema(type).write(out, event);
+        return out.toByteArray();
+    }
+
+    @Override
+    public ApplicationEvent decode(byte[] data) {
+        var in = new BinaryReader(data);
+
+        int version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new EventCodecException("Unsupported format version " + version);
+        }
+
+        int typeId = in.readVarInt();
+        var type = registry.findType(typeId)
+                .orElseThrow(() -> new EventCodecException("Unknown event type id " + typeId));
+
+        return (ApplicationEvent) schema(type).read(in);
+    }
+
+    private EventSchema schema(Class<?> type) {
+        return schemas.computeIfAbsent(type, EventSchema::of);
+    }
+}
@@ -0,0 +1,98 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the encodings of {@link BinaryWriter} from a bounded region of a byte array.
+ */
+final class BinaryReader {
+
+    private final byte[] data;
+
+    private final int limit;
+
+    private int position;
+
+    BinaryReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    private BinaryReader(byte[] data, int position, int limit) {
+        this.data = data;
+        this.position = position;
+        this.limit = limit;
+    }
+
+    int readByte() {
+        require(1);
+        return data[position++] & 0xFF;
+    }
+
+    byte[] readBytes(int length) {
+        require(length);
+        var bytes = Arrays.copyOfRange(data, position, position + length);
+        position += length;
+        return bytes;
+    }
+
+    int readVarInt() {
+        var value = readVarLong();
+        if (value > 0xFFFFFFFFL) {
+            throw new EventCodecException("Varint does not fit into 32 bits");
+        }
+        return (int) value;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new EventCodecException("Malformed varint");
+    }
+
+    long readZigZagLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    long readFixedLong() {
+        require(8);
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (data[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    String readString() {
+        int length = readVarInt();
+        require(length);
+        var value = new String(data, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /**
+     * Returns a reader over the next length-prefixed region and moves past it, whether or not the returned reader
+     * consumes all of it.
+     */
+    BinaryReader readNested() {
+        int length = readVarInt();
+        require(length);
+        var nested = new BinaryReader(data, position, position + length);
+        position += length;
+        return nested;
+    }
+
+    private void require(int length) {
+        if (length < 0 || limit - position < length) {
+            throw new EventCodecException("Unexpected end of event payload");
+        }
+    }
+}
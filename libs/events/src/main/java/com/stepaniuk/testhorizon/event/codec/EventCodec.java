@@ -0,0 +1,18 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+
+/**
+ * Encodes events into self-contained payloads. The {@link #getName() name} is sent along with every payload, so
+ * that consumers can pick the matching codec.
+ */
+public interface EventCodec {
+
+    String getName();
+
+    boolean supports(Class<?> eventType);
+
+    byte[] encode(ApplicationEvent event);
+
+    ApplicationEvent decode(byte[] data);
+}
@@ -0,0 +1,12 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+public class EventCodecException extends RuntimeException {
+
+    public EventCodecException(String message) {
+        super(message);
+    }
+
+    public EventCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
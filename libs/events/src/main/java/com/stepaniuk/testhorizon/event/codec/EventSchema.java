@@ -0,0 +1,172 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Positional layout of a class in the binary format.
+ * <p>
+ * Events are read through the getters of their {@link ConstructorProperties} and created through that constructor;
+ * other objects, such as the {@code Data} of update events, are read and written through the getters and setters of
+ * their fields in declaration order. A record is the number of properties, a bitmap of the non-null ones and then
+ * their values. Property names are not written, so the schema of a class may only evolve by appending properties:
+ * missing trailing properties are read as {@code null} and unknown trailing ones are ignored.
+ */
+final class EventSchema {
+
+    private final Class<?> type;
+
+    private final Constructor<?> constructor;
+
+    private final Property[] properties;
+
+    private final boolean populatedBySetters;
+
+    private EventSchema(Class<?> type, Constructor<?> constructor, Property[] properties, boolean populatedBySetters) {
+        this.type = type;
+        this.constructor = constructor;
+        this.properties = properties;
+        this.populatedBySetters = populatedBySetters;
+    }
+
+    static EventSchema of(Class<?> type) {
+        return Arrays.stream(type.getConstructors())
+                .filter(constructor -> constructor.isAnnotationPresent(ConstructorProperties.class))
+                .findFirst()
+                .map(constructor -> ofConstructor(type, constructor))
+                .orElseGet(() -> ofFields(type));
+    }
+
+    private static EventSchema ofConstructor(Class<?> type, Constructor<?> constructor) {
+        var names = constructor.getAnnotation(ConstructorProperties.class).value();
+        var parameterTypes = constructor.getGenericParameterTypes();
+
+        var properties = new Property[names.length];
+        for (int i = 0; i < names.length; i++) {
+            properties[i] = new Property(getter(type, names[i]), null, ValueCodec.forType(parameterTypes[i]));
+        }
+        return new EventSchema(type, constructor, properties, false);
+    }
+
+    private static EventSchema ofFields(Class<?> type) {
+        Constructor<?> constructor;
+        try {
+            constructor = type.getConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new EventCodecException(type.getName() + " has neither a @ConstructorProperties nor a no-args constructor", e);
+        }
+
+        var properties = new ArrayList<Property>();
+        for (var declaringType : hierarchy(type)) {
+            for (Field field : declaringType.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                properties.add(new Property(getter(type, field.getName()), setter(type, field),
+                        ValueCodec.forType(field.getGenericType())));
+            }
+        }
+        return new EventSchema(type, constructor, properties.toArray(Property[]::new), true);
+    }
+
+    void write(BinaryWriter out, Object value) {
+        var values = new Object[properties.length];
+        var presence = new byte[(properties.length + 7) / 8];
+
+        for (int i = 0; i < properties.length; i++) {
+            values[i] = invoke(properties[i].getter(), value);
+            if (values[i] != null) {
+                presence[i >> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+
+        out.writeVarInt(properties.length);
+        out.writeBytes(presence);
+        for (int i = 0; i < properties.length; i++) {
+            if (values[i] != null) {
+                properties[i].codec().write(out, values[i]);
+            }
+        }
+    }
+
+    Object read(BinaryReader in) {
+        int count = in.readVarInt();
+        var presence = in.readBytes((count + 7) / 8);
+
+        var values = new Object[properties.length];
+        for (int i = 0; i < Math.min(count, properties.length); i++) {
+            if ((presence[i >> 3] & (1 << (i & 7))) != 0) {
+                values[i] = properties[i].codec().read(in);
+            }
+        }
+        return instantiate(values);
+    }
+
+    private Object instantiate(Object[] values) {
+        try {
+            if (!populatedBySetters) {
+                return constructor.newInstance(values);
+            }
+
+            var instance = constructor.newInstance();
+            for (int i = 0; i < properties.length; i++) {
+                if (values[i] != null) {
+                    properties[i].setter().invoke(instance, values[i]);
+                }
+            }
+            return instance;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new EventCodecException("Could not create " + type.getName(), e);
+        }
+    }
+
+    private Object invoke(Method getter, Object target) {
+        try {
+            return getter.invoke(target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new EventCodecException("Could not read " + getter.getName() + " of " + type.getName(), e);
+        }
+    }
+
+    private static Method getter(Class<?> type, String property) {
+        var suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (var prefix : List.of("get", "is")) {
+            try {
+                return type.getMethod(prefix + suffix);
+            } catch (NoSuchMethodException ignored) {
+                // try the next prefix
+            }
+        }
+        throw new EventCodecException(type.getName() + " has no getter for " + property);
+    }
+
+    private static Method setter(Class<?> type, Field field) {
+        var name = "set" + Character.toUpperCase(field.getName().charAt(0)) + field.getName().substring(1);
+        try {
+            return type.getMethod(name, field.getType());
+        } catch (NoSuchMethodException e) {
+            throw new EventCodecException(type.getName() + " has no setter for " + field.getName(), e);
+        }
+    }
+
+    private static Deque<Class<?>> hierarchy(Class<?> type) {
+        var hierarchy = new ArrayDeque<Class<?>>();
+        for (var current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            hierarchy.addFirst(current);
+        }
+        return hierarchy;
+    }
+
+    private record Property(Method getter, Method setter, ValueCodec codec) {
+    }
+}
@@ -0,0 +1,151 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import com.stepaniuk.testhorizon.event.auth.UserAuthenticatedEvent;
+import com.stepaniuk.testhorizon.event.auth.UserRegisteredEvent;
+import com.stepaniuk.testhorizon.event.auth.UserResetPasswordEvent;
+import com.stepaniuk.testhorizon.event.auth.UserVerifiedEvent;
+import com.stepaniuk.testhorizon.event.bugreport.BugReportCreatedEvent;
+import com.stepaniuk.testhorizon.event.bugreport.BugReportDeletedEvent;
+import com.stepaniuk.testhorizon.event.bugreport.BugReportUpdatedEvent;
+import com.stepaniuk.testhorizon.event.comment.CommentCreatedEvent;
+import com.stepaniuk.testhorizon.event.comment.CommentDeletedEvent;
+import com.stepaniuk.testhorizon.event.comment.CommentUpdatedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobCompletedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobFailedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobProgressEvent;
+import com.stepaniuk.testhorizon.event.feedback.FeedbackCreatedEvent;
+import com.stepaniuk.testhorizon.event.feedback.FeedbackDeletedEvent;
+import com.stepaniuk.testhorizon.event.feedback.FeedbackUpdatedEvent;
+import com.stepaniuk.testhorizon.event.file.FileDeleteEvent;
+import com.stepaniuk.testhorizon.event.file.FileUploadEvent;
+import com.stepaniuk.testhorizon.event.file.FolderDeleteEvent;
+import com.stepaniuk.testhorizon.event.notebook.NotebookCreatedEvent;
+import com.stepaniuk.testhorizon.event.notebook.NotebookDeletedEvent;
+import com.stepaniuk.testhorizon.event.notebook.NotebookUpdatedEvent;
+import com.stepaniuk.testhorizon.event.notebook.note.NoteCreatedEvent;
+import com.stepaniuk.testhorizon.event.notebook.note.NoteDeletedEvent;
+import com.stepaniuk.testhorizon.event.notebook.note.NoteUpdatedEvent;
+import com.stepaniuk.testhorizon.event.post.PostCreatedEvent;
+import com.stepaniuk.testhorizon.event.post.PostDeletedEvent;
+import com.stepaniuk.testhorizon.event.post.PostUpdatedEvent;
+import com.stepaniuk.testhorizon.event.project.ProjectCreatedEvent;
+import com.stepaniuk.testhorizon.event.project.ProjectDeletedEvent;
+import com.stepaniuk.testhorizon.event.project.ProjectUpdatedEvent;
+import com.stepaniuk.testhorizon.event.rating.RatingUpdatedEvent;
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+import com.stepaniuk.testhorizon.event.test.TestCreatedEvent;
+import com.stepaniuk.testhorizon.event.test.TestDeletedEvent;
+import com.stepaniuk.testhorizon.event.test.TestUpdatedEvent;
+import com.stepaniuk.testhorizon.event.testcase.TestCaseCreatedEvent;
+import com.stepaniuk.testhorizon.event.testcase.TestCaseDeletedEvent;
+import com.stepaniuk.testhorizon.event.testcase.TestCaseUpdatedEvent;
+import com.stepaniuk.testhorizon.event.user.UserAuthorityUpdatedEvent;
+import com.stepaniuk.testhorizon.event.user.UserDeletedEvent;
+import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Assigns the numeric ids that identify event types in binary payloads. Ids are part of the wire format: once
+ * assigned they must never be reused for another type.
+ */
+public final class EventTypeRegistry {
+
+    private final Map<Integer, Class<? extends ApplicationEvent>> typesById = new HashMap<>();
+    private final Map<Class<?>, Integer> idsByType = new HashMap<>();
+
+    public EventTypeRegistry register(int id, Class<? extends ApplicationEvent> type) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Event type id must be positive, got " + id);
+        }
+        if (typesById.containsKey(id)) {
+            throw new IllegalArgumentException("Event type id " + id + " is already assigned to " + typesById.get(id).getName());
+        }
+        if (idsByType.containsKey(type)) {
+            throw new IllegalArgumentException(type.getName() + " is already registered");
+        }
+
+        typesById.put(id, type);
+        idsByType.put(type, id);
+        return this;
+    }
+
+    public OptionalInt findId(Class<?> type) {
+        var id = idsByType.get(type);
+        return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    public Optional<Class<? extends ApplicationEvent>> findType(int id) {
+        return Optional.ofNullable(typesById.get(id));
+    }
+
+    public Collection<Class<? extends ApplicationEvent>> getTypes() {
+        return Collections.unmodifiableCollection(typesById.values());
+    }
+
+    /**
+     * Registry of all events published by the application, grouped by topic in blocks of ten ids.
+     */
+    public static EventTypeRegistry defaults() {
+        return new EventTypeRegistry()
+                .register(1, UserRegisteredEvent.class)
+                .register(2, UserAuthenticatedEvent.class)
+                .register(3, UserVerifiedEvent.class)
+                .register(4, UserResetPasswordEvent.class)
+
+                .register(10, UserUpdatedEvent.class)
+                .register(11, UserDeletedEvent.class)
+                .register(12, UserAuthorityUpdatedEvent.class)
+
+                .register(20, ProjectCreatedEvent.class)
+                .register(21, ProjectUpdatedEvent.class)
+                .register(22, ProjectDeletedEvent.class)
+
+                .register(30, TestCaseCreatedEvent.class)
+                .register(31, TestCaseUpdatedEvent.class)
+                .register(32, TestCaseDeletedEvent.class)
+
+                .register(40, TestCreatedEvent.class)
+                .register(41, TestUpdatedEvent.class)
+                .register(42, TestDeletedEvent.class)
+
+                .register(50, BugReportCreatedEvent.class)
+                .register(51, BugReportUpdatedEvent.class)
+                .register(52, BugReportDeletedEvent.class)
+
+                .register(60, CommentCreatedEvent.class)
+                .register(61, CommentUpdatedEvent.class)
+                .register(62, CommentDeletedEvent.class)
+
+                .register(70, FeedbackCreatedEvent.class)
+                .register(71, FeedbackUpdatedEvent.class)
+                .register(72, FeedbackDeletedEvent.class)
+
+                .register(80, NotebookCreatedEvent.class)
+                .register(81, NotebookUpdatedEvent.class)
+                .register(82, NotebookDeletedEvent.class)
+
+                .register(90, NoteCreatedEvent.class)
+                .register(91, NoteUpdatedEvent.class)
+                .register(92, NoteDeletedEvent.class)
+
+                .register(100, PostCreatedEvent.class)
+                .register(101, PostUpdatedEvent.class)
+                .register(102, PostDeletedEvent.class)
+
+                .register(110, RatingUpdatedEvent.class)
+
+                .register(120, FileUploadEvent.class)
+                .register(121, FileDeleteEvent.class)
+                .register(122, FolderDeleteEvent.class)
+
+                .register(130, ExportJobProgressEvent.class)
+                .register(131, ExportJobCompletedEvent.class)
+                .register(132, ExportJobFailedEvent.class);
+    }
+}
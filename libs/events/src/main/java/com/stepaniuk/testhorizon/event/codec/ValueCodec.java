@@ -0,0 +1,152 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Encoding of a single non-null property value. Enums are written by name, so constants can be reordered, and
+ * nested objects are length-prefixed, so that readers with an older schema can skip properties appended to them.
+ */
+final class ValueCodec {
+
+    private static final ValueCodec STRING = new ValueCodec(
+            (out, value) -> out.writeString((String) value),
+            BinaryReader::readString);
+
+    private static final ValueCodec LONG = new ValueCodec(
+            (out, value) -> out.writeZigZagLong((Long) value),
+            BinaryReader::readZigZagLong);
+
+    private static final ValueCodec INTEGER = new ValueCodec(
+            (out, value) -> out.writeZigZagLong((Integer) value),
+            in -> Math.toIntExact(in.readZigZagLong()));
+
+    private static final ValueCodec BOOLEAN = new ValueCodec(
+            (out, value) -> out.writeByte((Boolean) value ? 1 : 0),
+            in -> in.readByte() != 0);
+
+    private static final ValueCodec INSTANT = new ValueCodec(
+            (out, value) -> {
+                var instant = (Instant) value;
+                out.writeZigZagLong(instant.getEpochSecond());
+                out.writeVarInt(instant.getNano());
+            },
+            in -> Instant.ofEpochSecond(in.readZigZagLong(), in.readVarInt()));
+
+    private static final ValueCodec UUID_CODEC = new ValueCodec(
+            (out, value) -> {
+                var uuid = (UUID) value;
+                out.writeFixedLong(uuid.getMostSignificantBits());
+                out.writeFixedLong(uuid.getLeastSignificantBits());
+            },
+            in -> new UUID(in.readFixedLong(), in.readFixedLong()));
+
+    private final BiConsumer<BinaryWriter, Object> writer;
+
+    private final Function<BinaryReader, Object> reader;
+
+    private ValueCodec(BiConsumer<BinaryWriter, Object> writer, Function<BinaryReader, Object> reader) {
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    void write(BinaryWriter out, Object value) {
+        writer.accept(out, value);
+    }
+
+    Object read(BinaryReader in) {
+        return reader.apply(in);
+    }
+
+    static ValueCodec forType(Type type) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            return list(forType(parameterized.getActualTypeArguments()[0]));
+        }
+        if (!(type instanceof Class<?> raw) || raw.isArray() || Iterable.class.isAssignableFrom(raw)) {
+            throw new EventCodecException("Unsupported property type " + type.getTypeName());
+        }
+
+        if (raw == String.class) {
+            return STRING;
+        }
+        if (raw == Long.class || raw == long.class) {
+            return LONG;
+        }
+        if (raw == Integer.class || raw == int.class) {
+            return INTEGER;
+        }
+        if (raw == Boolean.class || raw == boolean.class) {
+            return BOOLEAN;
+        }
+        if (raw == Instant.class) {
+            return INSTANT;
+        }
+        if (raw == UUID.class) {
+            return UUID_CODEC;
+        }
+        if (raw.isEnum()) {
+            return enumeration(raw);
+        }
+        if (raw.isPrimitive() || raw.getName().startsWith("java.")) {
+            throw new EventCodecException("Unsupported property type " + raw.getName());
+        }
+        return object(EventSchema.of(raw));
+    }
+
+    private static ValueCodec enumeration(Class<?> type) {
+        var constants = new HashMap<String, Object>();
+        for (var constant : type.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+
+        return new ValueCodec(
+                (out, value) -> out.writeString(((Enum<?>) value).name()),
+                in -> {
+                    var name = in.readString();
+                    var constant = constants.get(name);
+                    if (constant == null) {
+                        throw new EventCodecException("Unknown constant " + name + " of " + type.getName());
+                    }
+                    return constant;
+                });
+    }
+
+    private static ValueCodec list(ValueCodec element) {
+        return new ValueCodec(
+                (out, value) -> {
+                    var list = (List<?>) value;
+                    out.writeVarInt(list.size());
+                    for (var item : list) {
+                        out.writeByte(item == null ? 0 : 1);
+                        if (item != null) {
+                            element.write(out, item);
+                        }
+                    }
+                },
+                in -> {
+                    int size = in.readVarInt();
+                    var list = new ArrayList<>(Math.min(size, 64));
+                    for (int i = 0; i < size; i++) {
+                        list.add(in.readByte() == 0 ? null : element.read(in));
+                    }
+                    return list;
+                });
+    }
+
+    private static ValueCodec object(EventSchema schema) {
+        return new ValueCodec(
+                (out, value) -> {
+                    var nested = new BinaryWriter(64);
+                    schema.write(nested, value);
+                    out.writeNested(nested);
+                },
+                in -> schema.read(in.readNested()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.stepaniuk.testhorizon.event.export;
+
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ExportJobCompletedEvent extends ExportJobEvent {
+
+    private final String downloadUrl;
+
+    @ConstructorProperties({"timestamp", "eventId", "correlationId", "jobId", "ownerId", "processedRows", "downloadUrl"})
+    public ExportJobCompletedEvent(Instant timestamp, String eventId, String correlationId,
+                                   UUID jobId, Long ownerId, Long processedRows, String downloadUrl) {
+        super("ExportJobCompletedEvent", timestamp, eventId, correlationId, jobId, ownerId, ExportJobStatus.COMPLETED, processedRows);
+        this.downloadUrl = downloadUrl;
+    }
+}
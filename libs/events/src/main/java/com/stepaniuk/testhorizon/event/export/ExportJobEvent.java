@@ -0,0 +1,34 @@
+package com.stepaniuk.testhorizon.event.export;
+
+import com.stepaniuk.testhorizon.event.shared.AbstractApplicationEvent;
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ExportJobEvent extends AbstractApplicationEvent implements ApplicationEvent {
+
+    private final UUID jobId;
+    private final Long ownerId;
+    private final ExportJobStatus status;
+    private final Long processedRows;
+
+    @ConstructorProperties({"eventType", "timestamp", "eventId", "correlationId",
+            "jobId", "ownerId", "status", "processedRows"})
+    public ExportJobEvent(String eventType, Instant timestamp, String eventId, String correlationId,
+                          UUID jobId, Long ownerId, ExportJobStatus status, Long processedRows) {
+        super(eventType, timestamp, eventId, correlationId);
+        this.jobId = jobId;
+        this.ownerId = ownerId;
+        this.status = status;
+        this.processedRows = processedRows;
+    }
+}
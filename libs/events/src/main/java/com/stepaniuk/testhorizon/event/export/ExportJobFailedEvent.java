@@ -0,0 +1,25 @@
+package com.stepaniuk.testhorizon.event.export;
+
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ExportJobFailedEvent extends ExportJobEvent {
+
+    private final String errorMessage;
+
+    @ConstructorProperties({"timestamp", "eventId", "correlationId", "jobId", "ownerId", "processedRows", "errorMessage"})
+    public ExportJobFailedEvent(Instant timestamp, String eventId, String correlationId,
+                                UUID jobId, Long ownerId, Long processedRows, String errorMessage) {
+        super("ExportJobFailedEvent", timestamp, eventId, correlationId, jobId, ownerId, ExportJobStatus.FAILED, processedRows);
+        this.errorMessage = errorMessage;
+    }
+}
@@ -0,0 +1,22 @@
+package com.stepaniuk.testhorizon.event.export;
+
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ExportJobProgressEvent extends ExportJobEvent {
+
+    @ConstructorProperties({"timestamp", "eventId", "correlationId", "jobId", "ownerId", "processedRows"})
+    public ExportJobProgressEvent(Instant timestamp, String eventId, String correlationId,
+                                  UUID jobId, Long ownerId, Long processedRows) {
+        super("ExportJobProgressEvent", timestamp, eventId, correlationId, jobId, ownerId, ExportJobStatus.RUNNING, processedRows);
+    }
+}
@@ -0,0 +1,29 @@
+package com.stepaniuk.testhorizon.event.file;
+
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+
+/**
+ * Published once after all files of an entity were deleted, instead of one {@link FileDeleteEvent} per file.
+ * {@link #getFileName()} is {@code null}.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class FolderDeleteEvent extends FileEvent {
+
+    private final Integer deletedFiles;
+
+    @ConstructorProperties({"eventType", "timestamp", "eventId", "correlationId",
+            "entityType", "entityId", "deletedFiles"})
+    public FolderDeleteEvent(String eventType, Instant timestamp, String eventId, String correlationId,
+                             FileEntityType entityType, Long entityId, Integer deletedFiles) {
+        super(eventType, timestamp, eventId, correlationId, null, entityType, entityId);
+        this.deletedFiles = deletedFiles;
+    }
+}
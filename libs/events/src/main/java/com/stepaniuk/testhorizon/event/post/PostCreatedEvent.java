@@ -4,6 +4,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.beans.ConstructorProperties;
 import java.time.Instant;
 
 @Getter
@@ -12,6 +13,7 @@ import java.time.Instant;
 public class PostCreatedEvent extends PostEvent {
     private final Long ownerId;
 
+    @ConstructorProperties({"timestamp", "eventId", "correlationId", "postId", "ownerId"})
     public PostCreatedEvent(Instant timestamp, String eventId, String correlationId,
                             Long postId, Long ownerId) {
         super("PostCreatedEvent", timestamp, eventId, correlationId, postId);
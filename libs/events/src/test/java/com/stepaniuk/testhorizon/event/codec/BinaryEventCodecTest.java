@@ -0,0 +1,228 @@
+package com.stepaniuk.testhorizon.event.codec;
+
+import com.stepaniuk.testhorizon.event.bugreport.BugReportUpdatedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobCompletedEvent;
+import com.stepaniuk.testhorizon.event.shared.AbstractApplicationEvent;
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+import com.stepaniuk.testhorizon.event.test.TestUpdatedEvent;
+import com.stepaniuk.testhorizon.event.testcase.TestCaseUpdatedEvent;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportSeverityName;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportStatusName;
+import com.stepaniuk.testhorizon.types.test.TestTypeName;
+import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryEventCodecTest {
+
+    private final BinaryEventCodec codec = new BinaryEventCodec(EventTypeRegistry.defaults());
+
+    @Test
+    void shouldRoundTripTestUpdatedEvent() {
+        // given
+        var event = new TestUpdatedEvent(Instant.parse("2026-10-17T10:15:30.123456789Z"), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 1L,
+                new TestUpdatedEvent.Data(2L, "Login test", "Checks the login form", null,
+                        "https://github.com/user/repo", TestTypeName.FUNCTIONAL));
+
+        // when
+        var decoded = codec.decode(codec.encode(event));
+
+        // then
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void shouldRoundTripBugReportUpdatedEvent() {
+        // given
+        var event = new BugReportUpdatedEvent(Instant.now(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 1L,
+                new BugReportUpdatedEvent.Data("Crash", "Crashes on save", "Windows 11, Chrome",
+                        BugReportSeverityName.CRITICAL, BugReportStatusName.OPENED));
+
+        // when
+        var decoded = codec.decode(codec.encode(event));
+
+        // then
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void shouldRoundTripListsWithNullElements() {
+        // given
+        var event = new TestCaseUpdatedEvent(Instant.now(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 1L,
+                new TestCaseUpdatedEvent.Data("Title", null, null, null,
+                        Arrays.asList("Open the page", null, "Überprüfen"), TestCasePriorityName.HIGH));
+
+        // when
+        var decoded = codec.decode(codec.encode(event));
+
+        // then
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void shouldRoundTripEveryRegisteredEvent() throws Exception {
+        for (var type : EventTypeRegistry.defaults().getTypes()) {
+            // given
+            var event = sampleOf(type);
+
+            // when
+            var decoded = codec.decode(codec.encode(event));
+
+            // then
+            assertEquals(event, decoded, type.getSimpleName());
+        }
+    }
+
+    @Test
+    void shouldKeepPayloadCloseToSizeOfValues() {
+        // given
+        var event = new ExportJobCompletedEvent(Instant.now(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), UUID.randomUUID(), 1L, 100L, "https://bucket/exports/1.csv");
+
+        // when
+        var encoded = codec.encode(event);
+
+        // then
+        assertTrue(encoded.length < 160, "was " + encoded.length + " bytes");
+    }
+
+    @Test
+    void shouldReadPayloadOfOlderSchemaWithMissingPropertiesAsNull() {
+        // given
+        var older = new BinaryEventCodec(new EventTypeRegistry().register(1, SampleEventV1.class));
+        var newer = new BinaryEventCodec(new EventTypeRegistry().register(1, SampleEventV2.class));
+        var payload = older.encode(new SampleEventV1(Instant.EPOCH, "event", "correlation", 7L));
+
+        // when
+        var decoded = (SampleEventV2) newer.decode(payload);
+
+        // then
+        assertEquals(7L, decoded.getSampleId());
+        assertNull(decoded.getComment());
+        assertEquals("correlation", decoded.getCorrelationId());
+    }
+
+    @Test
+    void shouldIgnoreTrailingPropertiesOfNewerSchema() {
+        // given
+        var older = new BinaryEventCodec(new EventTypeRegistry().register(1, SampleEventV1.class));
+        var newer = new BinaryEventCodec(new EventTypeRegistry().register(1, SampleEventV2.class));
+        var payload = newer.encode(new SampleEventV2(Instant.EPOCH, "event", "correlation", 7L, "added later"));
+
+        // when
+        var decoded = (SampleEventV1) older.decode(payload);
+
+        // then
+        assertEquals(7L, decoded.getSampleId());
+        assertEquals("event", decoded.getEventId());
+    }
+
+    @Test
+    void shouldThrowWhenTypeIdIsUnknown() {
+        // given
+        var payload = new BinaryEventCodec(new EventTypeRegistry().register(999, SampleEventV1.class))
+                .encode(new SampleEventV1(Instant.EPOCH, "event", "correlation", 7L));
+
+        // when & then
+        assertThrows(EventCodecException.class, () -> codec.decode(payload));
+    }
+
+    @Test
+    void shouldThrowWhenPayloadIsTruncated() {
+        // given
+        var payload = codec.encode(new ExportJobCompletedEvent(Instant.now(), "event", "correlation",
+                UUID.randomUUID(), 1L, 100L, "https://bucket/exports/1.csv"));
+
+        // when & then
+        assertThrows(EventCodecException.class, () -> codec.decode(Arrays.copyOf(payload, payload.length - 4)));
+    }
+
+    @Test
+    void shouldThrowWhenEventTypeIsNotRegistered() {
+        // given
+        var event = new SampleEventV1(Instant.EPOCH, "event", "correlation", 7L);
+
+        // when & then
+        assertFalse(codec.supports(SampleEventV1.class));
+        assertThrows(EventCodecException.class, () -> codec.encode(event));
+    }
+
+    private static ApplicationEvent sampleOf(Class<? extends ApplicationEvent> type) throws Exception {
+        var constructor = Arrays.stream(type.getConstructors())
+                .filter(candidate -> candidate.isAnnotationPresent(ConstructorProperties.class))
+                .findFirst()
+                .orElseThrow();
+
+        var parameterTypes = constructor.getParameterTypes();
+        var arguments = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            arguments[i] = sampleValueOf(parameterTypes[i], i);
+        }
+        return (ApplicationEvent) constructor.newInstance(arguments);
+    }
+
+    private static Object sampleValueOf(Class<?> type, int index) throws Exception {
+        if (type == String.class) {
+            return "value-" + index;
+        }
+        if (type == Long.class) {
+            return (long) index;
+        }
+        if (type == Integer.class) {
+            return -index;
+        }
+        if (type == Instant.class) {
+            return Instant.parse("2026-10-17T10:15:30.123Z");
+        }
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == List.class) {
+            return List.of("value-" + index);
+        }
+        return type.getConstructor().newInstance();
+    }
+
+    public static class SampleEventV1 extends AbstractApplicationEvent {
+
+        private final Long sampleId;
+
+        @ConstructorProperties({"timestamp", "eventId", "correlationId", "sampleId"})
+        public SampleEventV1(Instant timestamp, String eventId, String correlationId, Long sampleId) {
+            super("SampleEvent", timestamp, eventId, correlationId);
+            this.sampleId = sampleId;
+        }
+
+        public Long getSampleId() {
+            return sampleId;
+        }
+    }
+
+    public static class SampleEventV2 extends SampleEventV1 {
+
+        private final String comment;
+
+        @ConstructorProperties({"timestamp", "eventId", "correlationId", "sampleId", "comment"})
+        public SampleEventV2(Instant timestamp, String eventId, String correlationId, Long sampleId, String comment) {
+            super(timestamp, eventId, correlationId, sampleId);
+            this.comment = comment;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.stepaniuk.testhorizon.payload.export;
+
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@Relation(collectionRelation = "exportJobs", itemRelation = "exportJobs")
+public class ExportJobResponse extends RepresentationModel<ExportJobResponse> {
+
+    @NotNull
+    private final UUID id;
+
+    @NotNull
+    private final EntityType entityType;
+
+    @NotNull
+    private final Long projectId;
+
+    @NotNull
+    private final ExportFormat format;
+
+    @NotNull
+    private final ExportJobStatus status;
+
+    @NotNull
+    private final Long processedRows;
+
+    @Nullable
+    private final String downloadUrl;
+
+    @Nullable
+    private final String errorMessage;
+
+    @NotNull
+    private final Instant createdAt;
+
+    @NotNull
+    private final Instant updatedAt;
+}
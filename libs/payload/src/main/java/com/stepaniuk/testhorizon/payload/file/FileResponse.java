@@ -1,6 +1,7 @@
 package com.stepaniuk.testhorizon.payload.file;
 
 import com.stepaniuk.testhorizon.validation.shared.Url;
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -19,4 +20,8 @@ public class FileResponse extends RepresentationModel<FileResponse> {
     @Url
     @NotNull
     private final String fileUrl;
+
+    @Url
+    @Nullable
+    private final String thumbnailUrl;
 }
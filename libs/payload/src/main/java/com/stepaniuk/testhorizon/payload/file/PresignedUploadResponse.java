@@ -0,0 +1,33 @@
+package com.stepaniuk.testhorizon.payload.file;
+
+import com.stepaniuk.testhorizon.validation.shared.Url;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.hateoas.server.core.Relation;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@ToString
+@EqualsAndHashCode(callSuper = true)
+@Relation(collectionRelation = "uploads", itemRelation = "uploads")
+public class PresignedUploadResponse extends RepresentationModel<PresignedUploadResponse> {
+
+    @NotNull
+    private final String fileName;
+
+    @Url
+    @NotNull
+    private final String uploadUrl;
+
+    @NotNull
+    private final String method;
+
+    @NotNull
+    private final Instant expiresAt;
+}
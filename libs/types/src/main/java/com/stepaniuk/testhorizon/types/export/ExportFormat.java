@@ -0,0 +1,5 @@
+package com.stepaniuk.testhorizon.types.export;
+
+public enum ExportFormat {
+    XML, CSV
+}
@@ -0,0 +1,135 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import com.stepaniuk.testhorizon.event.bugreport.BugReportUpdatedEvent;
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+import com.stepaniuk.testhorizon.event.test.TestUpdatedEvent;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportSeverityName;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportStatusName;
+import com.stepaniuk.testhorizon.types.test.TestTypeName;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encode and decode throughput of the JSON records written so far with the binary codec, through
+ * {@link EventSerializer} and {@link EventDeserializer} as configured on the producer and consumer.
+ * <p>
+ * Every benchmark also reports the secondary result {@code bytes}, the record bytes, including the headers they carry,
+ * encoded or decoded per second; divided by the score of the benchmark it gives the size of one record. Run with
+ * {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventCodecBenchmark {
+
+    @Param({"TestUpdatedEvent", "BugReportUpdatedEvent"})
+    public String eventType;
+
+    private ApplicationEvent event;
+
+    private EventSerializer jsonSerializer;
+
+    private EventSerializer binarySerializer;
+
+    private EventDeserializer deserializer;
+
+    private RecordHeaders jsonHeaders;
+
+    private byte[] jsonRecord;
+
+    private RecordHeaders binaryHeaders;
+
+    private byte[] binaryRecord;
+
+    private int jsonRecordSize;
+
+    private int binaryRecordSize;
+
+    @Setup
+    public void setUp() {
+        event = switch (eventType) {
+            case "TestUpdatedEvent" -> new TestUpdatedEvent(Instant.now(), UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString(), 1042L,
+                    new TestUpdatedEvent.Data(317L, "Login with expired password",
+                            "Checks that users with an expired password are asked to reset it",
+                            "Log in as a user whose password expired yesterday",
+                            "https://github.com/testhorizon/login-tests", TestTypeName.FUNCTIONAL));
+            case "BugReportUpdatedEvent" -> new BugReportUpdatedEvent(Instant.now(), UUID.randomUUID().toString(),
+                    UUID.randomUUID().toString(), 2318L,
+                    new BugReportUpdatedEvent.Data("Save button does nothing",
+                            "Clicking save on the profile page neither saves nor shows an error",
+                            "Windows 11, Chrome 129", BugReportSeverityName.HIGH, BugReportStatusName.IN_PROGRESS));
+            default -> throw new IllegalArgumentException(eventType);
+        };
+
+        jsonSerializer = new EventSerializer();
+        jsonSerializer.configure(Map.of(), false);
+        binarySerializer = new EventSerializer();
+        binarySerializer.configure(Map.of(EventSerializer.CODEC_CONFIG, "binary"), false);
+        deserializer = new EventDeserializer();
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.REMOVE_TYPE_INFO_HEADERS, false), false);
+
+        jsonHeaders = new RecordHeaders();
+        jsonRecord = jsonSerializer.serialize("events", jsonHeaders, event);
+        binaryHeaders = new RecordHeaders();
+        binaryRecord = binarySerializer.serialize("events", binaryHeaders, event);
+
+        jsonRecordSize = jsonRecord.length + sizeOf(jsonHeaders);
+        binaryRecordSize = binaryRecord.length + sizeOf(binaryHeaders);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode(RecordBytes recordBytes) {
+        recordBytes.bytes += jsonRecordSize;
+        return jsonSerializer.serialize("events", new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode(RecordBytes recordBytes) {
+        recordBytes.bytes += binaryRecordSize;
+        return binarySerializer.serialize("events", new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public Object jsonDecode(RecordBytes recordBytes) {
+        recordBytes.bytes += jsonRecordSize;
+        return deserializer.deserialize("events", jsonHeaders, jsonRecord);
+    }
+
+    @Benchmark
+    public Object binaryDecode(RecordBytes recordBytes) {
+        recordBytes.bytes += binaryRecordSize;
+        return deserializer.deserialize("events", binaryHeaders, binaryRecord);
+    }
+
+    /**
+     * Record bytes handled by one thread, reported by JMH as a rate next to the score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RecordBytes {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    private static int sizeOf(RecordHeaders headers) {
+        int size = 0;
+        for (Header header : headers) {
+            size += header.key().length() + header.value().length;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,74 @@
+package com.stepaniuk.testhorizon.security;
+
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.User;
+import com.stepaniuk.testhorizon.user.authority.Authority;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares token verification throughput of the previous implementation, which decoded the key and built
+ * a parser per call, with a reused parser and with {@link JwtProvider} serving already verified tokens.
+ * <p>
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+
+    private String secretKey;
+
+    private String token;
+
+    private JwtParser reusedParser;
+
+    private JwtProvider jwtProvider;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        secretKey = Encoders.BASE64.encode(keyBytes);
+
+        jwtProvider = new JwtProvider(secretKey, 3600000L, 86400000L, 10000);
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("johndoe@gmail.com");
+        user.setAuthorities(Set.of(new Authority(1L, AuthorityName.TESTER)));
+        token = jwtProvider.generateAccessToken(user);
+
+        reusedParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build();
+    }
+
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims reusedParser() {
+        return reusedParser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims verifiedTokenCache() {
+        return jwtProvider.extractAllClaims(token);
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepaniuk.testhorizon.aws.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when file name can not be used as the last segment of an S3 key.
+ */
+@Getter
+public class InvalidFileNameException extends RuntimeException{
+
+    private final String fileName;
+
+    public InvalidFileNameException(String fileName) {
+        super("Invalid file name: " + fileName);
+        this.fileName = fileName;
+    }
+}
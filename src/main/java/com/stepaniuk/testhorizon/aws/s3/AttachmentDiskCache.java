@@ -0,0 +1,190 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Size-bounded least-recently-used cache of S3 objects on the local disk.
+ * <p>
+ * Objects up to {@code s3.cache.max-object-size} are downloaded once into {@code s3.cache.directory}; the least
+ * recently used ones are deleted when the total exceeds {@code s3.cache.max-size}. Concurrent misses of the same key
+ * share one download. Entries expire after {@code s3.cache.ttl-seconds}, because objects stored under a file name can
+ * be replaced; uploads and deletions evict them right away as well. The directory is emptied on startup, as only the
+ * entries known to this process are tracked.
+ */
+@Component
+public class AttachmentDiskCache {
+
+    private final S3Client s3Client;
+    private final String bucketName;
+    private final Path directory;
+    private final long maxSize;
+    private final long maxObjectSize;
+    private final Duration ttl;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Entry>> downloads = new ConcurrentHashMap<>();
+    private long size;
+
+    public AttachmentDiskCache(S3Client s3Client,
+                               @Value("${s3.bucket.name}") String bucketName,
+                               @Value("${s3.cache.directory:${java.io.tmpdir}/testhorizon-attachments}") String directory,
+                               @Value("${s3.cache.max-size:1GB}") String maxSize,
+                               @Value("${s3.cache.max-object-size:64MB}") String maxObjectSize,
+                               @Value("${s3.cache.ttl-seconds:300}") long ttlSeconds) throws IOException {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+        this.directory = Path.of(directory);
+        this.maxSize = DataSize.parse(maxSize).toBytes();
+        this.maxObjectSize = DataSize.parse(maxObjectSize).toBytes();
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+
+        FileSystemUtils.deleteRecursively(this.directory);
+        Files.createDirectories(this.directory);
+    }
+
+    public boolean isCacheable(long objectSize) {
+        return objectSize <= maxObjectSize && objectSize <= maxSize;
+    }
+
+    public synchronized Optional<Entry> get(String key) {
+        Entry entry = entries.get(key);
+
+        if (entry != null && entry.cachedAt().plus(ttl).isBefore(Instant.now())) {
+            remove(key);
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(entry);
+    }
+
+    /**
+     * Returns the cached entry of the key, downloading the object first on a miss.
+     */
+    public Entry getOrLoad(String key) throws IOException {
+        Optional<Entry> cached = get(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        var download = new CompletableFuture<Entry>();
+        CompletableFuture<Entry> running = downloads.putIfAbsent(key, download);
+
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            Entry entry = download(key);
+            put(key, entry);
+            download.complete(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            download.completeExceptionally(e);
+            throw e;
+        } finally {
+            downloads.remove(key, download);
+        }
+    }
+
+    /**
+     * Opens the file of the entry for reading, unless the entry has been evicted or replaced since it was looked up.
+     * Files are only deleted under the same lock, so the returned channel always sees the whole contents.
+     */
+    public synchronized Optional<FileChannel> open(String key, Entry entry) throws IOException {
+        if (entries.get(key) != entry) {
+            return Optional.empty();
+        }
+
+        return Optional.of(FileChannel.open(entry.path(), StandardOpenOption.READ));
+    }
+
+    public synchronized void evict(String key) {
+        remove(key);
+    }
+
+    private Entry download(String key) throws IOException {
+        Path target = directory.resolve(UUID.randomUUID().toString());
+        Path partial = directory.resolve(target.getFileName() + ".part");
+
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build())) {
+            Files.copy(object, partial);
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+
+            GetObjectResponse response = object.response();
+            return new Entry(target, Files.size(target), response.eTag(), response.lastModified(),
+                    response.contentType(), Instant.now());
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        remove(key);
+        entries.put(key, entry);
+        size += entry.size();
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            size -= evicted.size();
+            deleteFile(evicted.path());
+        }
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+
+        if (removed != null) {
+            size -= removed.size();
+            deleteFile(removed.path());
+        }
+    }
+
+    // open channels of files being served keep reading the unlinked contents until closed
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> download) throws IOException {
+        try {
+            return download.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    public record Entry(Path path, long size, String eTag, Instant lastModified, String contentType, Instant cachedAt) {
+    }
+}
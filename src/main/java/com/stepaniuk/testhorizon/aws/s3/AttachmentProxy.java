@@ -0,0 +1,220 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves S3 objects through the API with support for conditional and range requests.
+ * <p>
+ * {@code If-None-Match} and {@code If-Modified-Since} are answered with 304 from the object metadata alone, and a
+ * single {@code Range} (honouring {@code If-Range}) is answered with 206. Objects that fit into the
+ * {@link AttachmentDiskCache} are served from the local copy with {@link FileChannel#transferTo}, larger ones are
+ * streamed from S3, requesting only the asked range.
+ */
+@Service
+public class AttachmentProxy {
+
+    private final S3Client s3Client;
+    private final AttachmentDiskCache attachmentDiskCache;
+    private final String bucketName;
+
+    public AttachmentProxy(S3Client s3Client,
+                           AttachmentDiskCache attachmentDiskCache,
+                           @Value("${s3.bucket.name}") String bucketName) {
+        this.s3Client = s3Client;
+        this.attachmentDiskCache = attachmentDiskCache;
+        this.bucketName = bucketName;
+    }
+
+    public ResponseEntity<StreamingResponseBody> serve(String key, HttpHeaders requestHeaders) throws IOException {
+        Optional<AttachmentDiskCache.Entry> cached = attachmentDiskCache.get(key);
+        Metadata metadata = cached.map(Metadata::of).orElseGet(() -> Metadata.of(headObject(key)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        setValidators(headers, metadata);
+
+        if (isNotModified(metadata, requestHeaders)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        AttachmentDiskCache.Entry entry = cached.orElse(null);
+        if (entry == null && attachmentDiskCache.isCacheable(metadata.size())) {
+            entry = attachmentDiskCache.getOrLoad(key);
+            // the object may have been replaced since the HEAD request, the downloaded copy is what gets served
+            metadata = Metadata.of(entry);
+            setValidators(headers, metadata);
+        }
+
+        HttpRange range = requestedRange(metadata, requestHeaders);
+        long start = 0;
+        long end = metadata.size() - 1;
+
+        if (range != null) {
+            try {
+                start = range.getRangeStart(metadata.size());
+                end = range.getRangeEnd(metadata.size());
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + metadata.size());
+                return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+            }
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + metadata.size());
+        }
+
+        long length = end - start + 1;
+        headers.setContentLength(length);
+        headers.set(HttpHeaders.CONTENT_TYPE, metadata.contentType() != null
+                ? metadata.contentType()
+                : MediaType.APPLICATION_OCTET_STREAM_VALUE);
+
+        // an entry evicted since the lookup has lost its file, its contents are then read from S3 instead
+        Optional<FileChannel> channel = entry != null ? attachmentDiskCache.open(key, entry) : Optional.empty();
+        StreamingResponseBody body = channel.isPresent()
+                ? cachedBody(channel.get(), start, length)
+                : remoteBody(key, metadata.eTag(), range != null ? "bytes=" + start + "-" + end : null);
+
+        return new ResponseEntity<>(body, headers, range != null ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK);
+    }
+
+    public void evict(String key) {
+        attachmentDiskCache.evict(key);
+    }
+
+    private static void setValidators(HttpHeaders headers, Metadata metadata) {
+        if (metadata.eTag() != null) {
+            headers.setETag(metadata.eTag());
+        }
+        if (metadata.lastModified() != null) {
+            headers.setLastModified(metadata.lastModified());
+        }
+    }
+
+    private HeadObjectResponse headObject(String key) {
+        return s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    // the channel is opened before the response is returned, an eviction while the body is written cannot remove
+    // the contents
+    private static StreamingResponseBody cachedBody(FileChannel channel, long start, long length) {
+        return outputStream -> {
+            try (channel) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = start;
+                long remaining = length;
+
+                while (remaining > 0) {
+                    long transferred = channel.transferTo(position, remaining, target);
+                    if (transferred <= 0) {
+                        break;
+                    }
+                    position += transferred;
+                    remaining -= transferred;
+                }
+            }
+        };
+    }
+
+    private StreamingResponseBody remoteBody(String key, String eTag, String range) {
+        return outputStream -> {
+            try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .range(range)
+                    .ifMatch(eTag)
+                    .build())) {
+                object.transferTo(outputStream);
+            }
+        };
+    }
+
+    private static boolean isNotModified(Metadata metadata, HttpHeaders requestHeaders) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+
+        if (!ifNoneMatch.isEmpty()) {
+            return metadata.eTag() != null && ifNoneMatch.stream()
+                    .anyMatch(tag -> tag.equals("*") || weakTag(tag).equals(weakTag(metadata.eTag())));
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince >= 0 && metadata.lastModified() != null
+                && metadata.lastModified().getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    /**
+     * Returns the single requested range, or {@code null} when the whole object is to be sent: no range, an
+     * invalid one, several ranges, or an {@code If-Range} the object no longer matches.
+     */
+    private static HttpRange requestedRange(Metadata metadata, HttpHeaders requestHeaders) {
+        List<HttpRange> ranges;
+        try {
+            ranges = requestHeaders.getRange();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (ranges.size() != 1 || !matchesIfRange(metadata, requestHeaders.getFirst(HttpHeaders.IF_RANGE))) {
+            return null;
+        }
+
+        return ranges.get(0);
+    }
+
+    private static boolean matchesIfRange(Metadata metadata, String ifRange) {
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range requires a strong comparison
+            return !ifRange.startsWith("W/") && ifRange.equals(metadata.eTag());
+        }
+
+        try {
+            Instant date = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return metadata.lastModified() != null && metadata.lastModified().getEpochSecond() == date.getEpochSecond();
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String weakTag(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+
+    private record Metadata(long size, String eTag, Instant lastModified, String contentType) {
+
+        static Metadata of(AttachmentDiskCache.Entry entry) {
+            return new Metadata(entry.size(), entry.eTag(), entry.lastModified(), entry.contentType());
+        }
+
+        static Metadata of(HeadObjectResponse response) {
+            return new Metadata(response.contentLength(), response.eTag(), response.lastModified(), response.contentType());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Stores file contents once per SHA-256 under {@code blobs/<hash>} and counts the files referencing them.
+ * <p>
+ * The hash is computed while the source is read, so it is read only once. Files up to {@code s3.dedup.buffer-limit}
+ * are read into memory first, which lets a duplicate skip the upload entirely. Larger files are streamed to a
+ * staging key and then copied to their blob key inside S3, or dropped when the blob already exists.
+ * <p>
+ * Adding and dropping a reference both hold the lock on the {@code file_blobs} row while they check the count and
+ * write or delete the object, so the last release of a blob and a new upload of the same contents never interleave.
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentAddressedStore {
+
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final String STAGING_PREFIX = "staging/";
+
+    private final S3Client s3Client;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final FileBlobRepository fileBlobRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${s3.bucket.name}")
+    private String bucketName;
+
+    @Value("${s3.dedup.buffer-limit:8MB}")
+    private String bufferLimit;
+
+    public static String blobKey(String hash) {
+        return BLOB_PREFIX + hash;
+    }
+
+    /**
+     * Stores the contents and adds a reference to their blob. Returns the hash of the contents.
+     */
+    public String store(InputStream inputStream, long size, String contentType) throws IOException {
+        // the SDK must not reset the stream on a retry, the bytes read again would be added to the digest twice
+        var digestInputStream = new DigestInputStream(inputStream, newDigest()) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+
+        if (size <= DataSize.parse(bufferLimit).toBytes()) {
+            return storeBuffered(digestInputStream, size, contentType);
+        }
+
+        return storeStaged(digestInputStream, size, contentType);
+    }
+
+    /**
+     * Drops a reference to the blob and deletes the blob when it was the last one.
+     */
+    public void release(String hash) {
+        transactionTemplate.executeWithoutResult(status -> fileBlobRepository.findByHashForUpdate(hash)
+                .ifPresent(fileBlob -> {
+                    if (fileBlob.getRefCount() > 1) {
+                        fileBlob.setRefCount(fileBlob.getRefCount() - 1);
+                        return;
+                    }
+
+                    // the object goes first, a failed delete rolls back and leaves the reference in place
+                    deleteObject(blobKey(hash));
+                    fileBlobRepository.delete(fileBlob);
+                }));
+    }
+
+    private String storeBuffered(DigestInputStream inputStream, long size, String contentType) throws IOException {
+        byte[] contents = inputStream.readAllBytes();
+        String hash = toHex(inputStream.getMessageDigest());
+
+        addReference(hash, size, () -> s3StreamingUploader.upload(bucketName, blobKey(hash), contentType,
+                new ByteArrayInputStream(contents), contents.length));
+
+        return hash;
+    }
+
+    private String storeStaged(DigestInputStream inputStream, long size, String contentType) throws IOException {
+        String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+        s3StreamingUploader.upload(bucketName, stagingKey, contentType, inputStream, size);
+
+        try {
+            String hash = toHex(inputStream.getMessageDigest());
+
+            addReference(hash, size, () -> s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(stagingKey)
+                    .destinationBucket(bucketName)
+                    .destinationKey(blobKey(hash))
+                    .build()));
+
+            return hash;
+        } finally {
+            deleteObject(stagingKey);
+        }
+    }
+
+    /**
+     * Adds a reference under the row lock and writes the blob object when the row has no references yet.
+     */
+    private void addReference(String hash, long size, BlobWriter blobWriter) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                fileBlobRepository.insertIfAbsent(hash, size, Instant.now());
+                var fileBlob = fileBlobRepository.findByHashForUpdate(hash).orElseThrow();
+
+                if (fileBlob.getRefCount() <= 0) {
+                    try {
+                        blobWriter.write();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+
+                fileBlob.setRefCount(Math.max(fileBlob.getRefCount(), 0) + 1);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void deleteObject(String key) {
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build());
+    }
+
+    @FunctionalInterface
+    private interface BlobWriter {
+        void write() throws IOException;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.Instant;
@@ -20,7 +21,11 @@ import java.util.UUID;
 @RequiredArgsConstructor
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "files")
+@Table(name = "files", indexes = {
+        @Index(name = "files_entity_type_entity_id_created_at_idx", columnList = "entity_type, entity_id, created_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "files_entity_type_entity_id_original_name_key", columnNames = {"entity_type", "entity_id", "original_name"})
+})
 public class File {
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -41,6 +46,27 @@ public class File {
     @CreatedDate
     private Instant createdAt;
 
+    /**
+     * SHA-256 of the contents when the file is stored as a shared blob (see {@link ContentAddressedStore}),
+     * {@code null} when it is stored under its own key.
+     */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "thumbnail_status")
+    @Enumerated(EnumType.STRING)
+    private ThumbnailStatus thumbnailStatus;
+
+    @Column(name = "thumbnail_key")
+    private String thumbnailKey;
+
+    /**
+     * When the contents or the thumbnail last changed, so the objects the row points to are at most this old.
+     */
+    @Column(name = "updated_at")
+    @LastModifiedDate
+    private Instant updatedAt;
+
     @Override
     public final boolean equals(Object o) {
         if (this == o) return true;
@@ -64,6 +90,10 @@ public class File {
                 "originalName = " + originalName + ", " +
                 "entityType = " + entityType + ", " +
                 "entityId = " + entityId + ", " +
-                "createdAt = " + createdAt + ")";
+                "createdAt = " + createdAt + ", " +
+                "contentHash = " + contentHash + ", " +
+                "thumbnailStatus = " + thumbnailStatus + ", " +
+                "thumbnailKey = " + thumbnailKey + ", " +
+                "updatedAt = " + updatedAt + ")";
     }
 }
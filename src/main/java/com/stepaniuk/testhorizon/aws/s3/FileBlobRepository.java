@@ -0,0 +1,35 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Reference counts of shared blobs. Every change of a count goes through the row lock taken by
+ * {@link #findByHashForUpdate(String)}, so a blob that is being deleted can not get a new reference.
+ */
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+    /**
+     * Creates an unreferenced row for new contents, so there is a row to lock. Waits for a concurrent insert of the
+     * same hash and does nothing when the row already exists.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO file_blobs (hash, size, ref_count, created_at) VALUES (:hash, :size, 0, :createdAt) " +
+            "ON CONFLICT (hash) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("hash") String hash, @Param("size") long size, @Param("createdAt") Instant createdAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.hash = :hash")
+    Optional<FileBlob> findByHashForUpdate(@Param("hash") String hash);
+}
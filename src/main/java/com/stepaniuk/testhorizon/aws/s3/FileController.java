@@ -1,14 +1,21 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
 import com.stepaniuk.testhorizon.payload.file.FileResponse;
+import com.stepaniuk.testhorizon.payload.file.FileUploadResponse;
+import com.stepaniuk.testhorizon.payload.file.PresignedUploadResponse;
 import com.stepaniuk.testhorizon.types.files.FileEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,7 +27,7 @@ public class FileController {
     private final S3Service s3Service;
 
     @PostMapping("/{entityType}/{id}")
-    public ResponseEntity<PagedModel<FileResponse>> uploadFiles(
+    public ResponseEntity<PagedModel<FileUploadResponse>> uploadFiles(
             @PathVariable FileEntityType entityType,
             @PathVariable Long id,
             @RequestParam("files") List<MultipartFile> files) {
@@ -28,6 +35,25 @@ public class FileController {
         return ResponseEntity.ok(s3Service.uploadFiles(files, entityType, id, UUID.randomUUID().toString()));
     }
 
+    @PostMapping("/{entityType}/{id}/presigned-uploads")
+    public ResponseEntity<PresignedUploadResponse> createPresignedUpload(
+            @PathVariable FileEntityType entityType,
+            @PathVariable Long id,
+            @RequestParam String fileName,
+            @Nullable @RequestParam(required = false) String contentType) {
+
+        return ResponseEntity.ok(s3Service.createUploadUrl(entityType, id, fileName, contentType));
+    }
+
+    @PostMapping("/{entityType}/{id}/presigned-uploads/complete")
+    public ResponseEntity<FileResponse> completePresignedUpload(
+            @PathVariable FileEntityType entityType,
+            @PathVariable Long id,
+            @RequestParam String fileName) {
+
+        return new ResponseEntity<>(s3Service.completeUpload(entityType, id, fileName, UUID.randomUUID().toString()), HttpStatus.CREATED);
+    }
+
     @DeleteMapping("/{entityType}/{id}")
     public ResponseEntity<Void> deleteFiles(
             @PathVariable FileEntityType entityType,
@@ -46,15 +72,16 @@ public class FileController {
             @PathVariable Long id) {
 
         s3Service.deleteFolder(entityType, id, UUID.randomUUID().toString());
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().build();
     }
 
     @GetMapping("/list/{entityType}/{id}")
     public ResponseEntity<PagedModel<FileResponse>> listFilesByEntityTypeAndId(
+            Pageable pageable,
             @PathVariable FileEntityType entityType,
             @PathVariable Long id) {
 
-        return ResponseEntity.ok(s3Service.listFiles(entityType, id));
+        return ResponseEntity.ok(s3Service.listFiles(entityType, id, pageable));
     }
 
     @GetMapping("/{entityType}/{id}/{fileName}")
@@ -65,4 +92,14 @@ public class FileController {
 
         return ResponseEntity.ok(s3Service.getFileByEntityTypeAndId(entityType, id, fileName));
     }
+
+    @GetMapping("/{entityType}/{id}/{fileName}/content")
+    public ResponseEntity<StreamingResponseBody> getFileContent(
+            @PathVariable FileEntityType entityType,
+            @PathVariable Long id,
+            @PathVariable String fileName,
+            @RequestHeader HttpHeaders headers) throws IOException {
+
+        return s3Service.getFileContent(entityType, id, fileName, headers);
+    }
 }
@@ -1,10 +1,22 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
 import com.stepaniuk.testhorizon.payload.file.FileResponse;
+import com.stepaniuk.testhorizon.payload.file.FileUploadResponse;
+import com.stepaniuk.testhorizon.payload.file.PresignedUploadResponse;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 
+import java.time.Instant;
+
 @Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR)
 public interface FileMapper {
-    FileResponse toResponse(String fileUrl);
+    default FileResponse toResponse(String fileUrl) {
+        return toResponse(fileUrl, null);
+    }
+
+    FileResponse toResponse(String fileUrl, String thumbnailUrl);
+
+    FileUploadResponse toUploadResponse(String fileName, String fileUrl, String error);
+
+    PresignedUploadResponse toPresignedUploadResponse(String fileName, String uploadUrl, String method, Instant expiresAt);
 }
@@ -1,20 +1,23 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
 import com.stepaniuk.testhorizon.event.file.FileEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.List;
 
 @Producer
 @RequiredArgsConstructor
 public class FileProducer {
 
-    private final KafkaTemplate<String, FileEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, FileEvent>> send(FileEvent fileEvent) {
-        return kafkaTemplate.send("files", fileEvent);
+    public void send(FileEvent fileEvent) {
+        outbox.add("files", fileEvent.getEntityType() + "/" + fileEvent.getEntityId(), fileEvent);
+    }
+
+    public void sendAll(List<? extends FileEvent> fileEvents) {
+        fileEvents.forEach(this::send);
     }
 }
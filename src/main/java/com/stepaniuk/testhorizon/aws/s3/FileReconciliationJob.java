@@ -0,0 +1,342 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the {@code files} table and the bucket consistent, so listings can be served from the table alone.
+ * <p>
+ * The bucket listing and {@link FileRepository#findObjectKeysAfter} both come sorted by key, so they are merged like
+ * two sorted files: memory use does not depend on the number of objects or rows. Rows are read in keyset pages, each
+ * with its own snapshot, so a run over a large table holds no snapshot open while the bucket is listed. Rows whose object is missing are
+ * removed (thumbnails are reset instead, so they are generated again), each batch in its own transaction together with
+ * the release of the blobs of the rows it actually deleted. Objects no row refers to are counted, and
+ * deleted as well with {@code s3.reconciliation.delete-orphaned-objects}. Only keys under the folders of the
+ * {@code files} table are compared, other objects such as exports are left alone. Rows changed and objects written
+ * within the grace period are never touched, their upload or row may still be in progress.
+ * <p>
+ * A run holds a transaction-scoped advisory lock, so only one instance reconciles at a time; the transaction holding
+ * it only reads, the changes are committed in transactions of their own.
+ * <p>
+ * The outcome of the last run is exported as {@code files.reconciliation.*} metrics.
+ */
+@Component
+public class FileReconciliationJob implements MeterBinder {
+
+    private static final String STAGING_PREFIX = "staging/";
+    private static final String BLOB_PREFIX = ContentAddressedStore.blobKey("");
+    private static final UUID FIRST_FILE_ID = new UUID(0, 0);
+    private static final long RECONCILIATION_LOCK_KEY = 0x66696C6573L;
+
+    private final S3Client s3Client;
+    private final FileRepository fileRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final ContentAddressedStore contentAddressedStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicLong scannedObjects = new AtomicLong();
+    private final AtomicLong scannedRows = new AtomicLong();
+    private final AtomicLong orphanedObjects = new AtomicLong();
+    private final AtomicLong orphanedRows = new AtomicLong();
+    private final AtomicLong deletedObjects = new AtomicLong();
+    private final AtomicLong deletedRows = new AtomicLong();
+    private final AtomicLong lastDurationMillis = new AtomicLong();
+
+    @Value("${s3.bucket.name}")
+    private String bucketName;
+
+    @Value("${s3.reconciliation.page-size:500}")
+    private int pageSize;
+
+    @Value("${s3.reconciliation.grace-period-minutes:10}")
+    private long gracePeriodMinutes;
+
+    @Value("${s3.reconciliation.delete-orphaned-rows:true}")
+    private boolean deleteOrphanedRows;
+
+    @Value("${s3.reconciliation.delete-orphaned-objects:false}")
+    private boolean deleteOrphanedObjects;
+
+    @Autowired
+    public FileReconciliationJob(S3Client s3Client, FileRepository fileRepository, FileBlobRepository fileBlobRepository,
+                                 ContentAddressedStore contentAddressedStore, PlatformTransactionManager transactionManager) {
+        this.s3Client = s3Client;
+        this.fileRepository = fileRepository;
+        this.fileBlobRepository = fileBlobRepository;
+        this.contentAddressedStore = contentAddressedStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Scheduled(fixedDelayString = "${s3.reconciliation.interval-ms:3600000}",
+            initialDelayString = "${s3.reconciliation.initial-delay-ms:600000}")
+    public void reconcile() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (fileRepository.tryLock(RECONCILIATION_LOCK_KEY)) {
+                reconcileLocked();
+            }
+        });
+    }
+
+    private void reconcileLocked() {
+        Instant startedAt = Instant.now();
+        var run = new Run(startedAt.minus(Duration.ofMinutes(gracePeriodMinutes)));
+
+        merge(listManagedObjects(), new RowPages(run.cutoff), run);
+        run.flushRows();
+        run.flushObjects();
+
+        scannedObjects.set(run.scannedObjects);
+        scannedRows.set(run.scannedRows);
+        orphanedObjects.set(run.orphanedObjects);
+        orphanedRows.set(run.orphanedRows);
+        lastDurationMillis.set(Duration.between(startedAt, Instant.now()).toMillis());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("files.reconciliation.objects.scanned", scannedObjects, AtomicLong::get)
+                .description("Objects compared by the last reconciliation")
+                .register(registry);
+        Gauge.builder("files.reconciliation.rows.scanned", scannedRows, AtomicLong::get)
+                .description("Object keys of file rows compared by the last reconciliation")
+                .register(registry);
+        Gauge.builder("files.reconciliation.objects.orphaned", orphanedObjects, AtomicLong::get)
+                .description("Objects without a file row found by the last reconciliation")
+                .register(registry);
+        Gauge.builder("files.reconciliation.rows.orphaned", orphanedRows, AtomicLong::get)
+                .description("File rows without an object found by the last reconciliation")
+                .register(registry);
+        FunctionCounter.builder("files.reconciliation.objects.deleted", deletedObjects, AtomicLong::get)
+                .description("Orphaned objects deleted by reconciliations")
+                .register(registry);
+        FunctionCounter.builder("files.reconciliation.rows.deleted", deletedRows, AtomicLong::get)
+                .description("Orphaned file rows deleted or reset by reconciliations")
+                .register(registry);
+        Gauge.builder("files.reconciliation.duration", lastDurationMillis, AtomicLong::get)
+                .baseUnit("milliseconds")
+                .description("Duration of the last reconciliation")
+                .register(registry);
+    }
+
+    private void merge(Iterator<S3Object> objects, Iterator<StoredObjectKey> rows, Run run) {
+        S3Object object = next(objects);
+        StoredObjectKey row = next(rows);
+
+        while (object != null || row != null) {
+            int comparison = object == null ? 1 : row == null ? -1 : compareKeys(object.key(), row.getObjectKey());
+
+            if (comparison < 0) {
+                run.scannedObjects++;
+                run.orphanedObject(object);
+                object = next(objects);
+            } else if (comparison > 0) {
+                run.scannedRows++;
+                run.orphanedRow(row);
+                row = next(rows);
+            } else {
+                run.scannedObjects++;
+                while (row != null && row.getObjectKey().equals(object.key())) {
+                    run.scannedRows++;
+                    row = next(rows);
+                }
+                object = next(objects);
+            }
+        }
+    }
+
+    private Iterator<S3Object> listManagedObjects() {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                        .bucket(bucketName)
+                        .maxKeys(pageSize)
+                        .build())
+                .contents()
+                .stream()
+                .filter(object -> isManaged(object.key()))
+                .iterator();
+    }
+
+    private static boolean isManaged(String key) {
+        return key.startsWith(BLOB_PREFIX) || key.startsWith(STAGING_PREFIX)
+                || Arrays.stream(FileEntityType.values()).anyMatch(type -> key.startsWith(type + "/"));
+    }
+
+    /**
+     * Compares keys in the order of the bucket listing and of the {@code "C"} collation: by UTF-8 bytes, which is
+     * the order of code points and differs from {@link String#compareTo} for characters outside the BMP.
+     */
+    static int compareKeys(String first, String second) {
+        int i = 0;
+        int j = 0;
+
+        while (i < first.length() && j < second.length()) {
+            int firstCodePoint = first.codePointAt(i);
+            int secondCodePoint = second.codePointAt(j);
+
+            if (firstCodePoint != secondCodePoint) {
+                return Integer.compare(firstCodePoint, secondCodePoint);
+            }
+
+            i += Character.charCount(firstCodePoint);
+            j += Character.charCount(secondCodePoint);
+        }
+
+        return Integer.compare(first.length() - i, second.length() - j);
+    }
+
+    private static <T> T next(Iterator<T> iterator) {
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * Reads the rows one page at a time, continuing after the key and file id of the last row of the previous page.
+     */
+    private class RowPages implements Iterator<StoredObjectKey> {
+
+        private final Instant cutoff;
+        private Iterator<StoredObjectKey> page = Collections.emptyIterator();
+        private String lastKey = "";
+        private UUID lastFileId = FIRST_FILE_ID;
+        private boolean lastPage;
+
+        private RowPages(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                List<StoredObjectKey> rows = fileRepository.findObjectKeysAfter(cutoff, lastKey, lastFileId, pageSize);
+                lastPage = rows.size() < pageSize;
+
+                if (!rows.isEmpty()) {
+                    var lastRow = rows.get(rows.size() - 1);
+                    lastKey = lastRow.getObjectKey();
+                    lastFileId = lastRow.getFileId();
+                }
+
+                page = rows.iterator();
+            }
+
+            return page.hasNext();
+        }
+
+        @Override
+        public StoredObjectKey next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return page.next();
+        }
+    }
+
+    private class Run {
+
+        private final Instant cutoff;
+        private final List<UUID> rowsToDelete = new ArrayList<>();
+        private final List<ObjectIdentifier> objectsToDelete = new ArrayList<>();
+
+        private long scannedObjects;
+        private long scannedRows;
+        private long orphanedObjects;
+        private long orphanedRows;
+
+        private Run(Instant cutoff) {
+            this.cutoff = cutoff;
+        }
+
+        private void orphanedObject(S3Object object) {
+            if (object.lastModified() != null && !object.lastModified().isBefore(cutoff)) {
+                return;
+            }
+
+            orphanedObjects++;
+
+            // a blob that still has a reference count is owned by ContentAddressedStore, its upload may be racing
+            if (!deleteOrphanedObjects || (object.key().startsWith(BLOB_PREFIX)
+                    && fileBlobRepository.existsById(object.key().substring(BLOB_PREFIX.length())))) {
+                return;
+            }
+
+            objectsToDelete.add(ObjectIdentifier.builder().key(object.key()).build());
+            if (objectsToDelete.size() >= pageSize) {
+                flushObjects();
+            }
+        }
+
+        private void orphanedRow(StoredObjectKey row) {
+            if (!Boolean.TRUE.equals(row.getReconcilable())) {
+                return;
+            }
+
+            orphanedRows++;
+
+            if (!deleteOrphanedRows) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(row.getThumbnail())) {
+                transactionTemplate.executeWithoutResult(status ->
+                        fileRepository.updateThumbnail(row.getFileId(), null, null, Instant.now()));
+                deletedRows.incrementAndGet();
+                return;
+            }
+
+            rowsToDelete.add(row.getFileId());
+            if (rowsToDelete.size() >= pageSize) {
+                flushRows();
+            }
+        }
+
+        // deleted rows sort before the next page, so they do not disturb the paging
+        private void flushRows() {
+            if (rowsToDelete.isEmpty()) {
+                return;
+            }
+
+            // rows deleted meanwhile by a user are not returned, their blobs were released by that delete
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<String> contentHashes = fileRepository.deleteAllByIdReturningContentHash(List.copyOf(rowsToDelete));
+                contentHashes.stream()
+                        .filter(Objects::nonNull)
+                        .forEach(contentAddressedStore::release);
+                return contentHashes.size();
+            });
+            deletedRows.addAndGet(deleted != null ? deleted : 0);
+
+            rowsToDelete.clear();
+        }
+
+        private void flushObjects() {
+            if (objectsToDelete.isEmpty()) {
+                return;
+            }
+
+            var response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(delete -> delete.objects(objectsToDelete).quiet(true))
+                    .build());
+            deletedObjects.addAndGet(objectsToDelete.size() - (response.hasErrors() ? response.errors().size() : 0));
+
+            objectsToDelete.clear();
+        }
+    }
+}
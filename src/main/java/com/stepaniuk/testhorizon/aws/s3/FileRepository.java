@@ -1,14 +1,90 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
 import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface FileRepository extends JpaRepository<File, UUID>, JpaSpecificationExecutor<File> {
 
     boolean existsByOriginalNameAndEntityTypeAndEntityId(String originalName, FileEntityType entityType, Long entityId);
-}
\ No newline at end of file
+
+    Optional<File> findByOriginalNameAndEntityTypeAndEntityId(String originalName, FileEntityType entityType, Long entityId);
+
+    List<File> findAllByEntityTypeAndEntityIdAndOriginalNameIn(FileEntityType entityType, Long entityId, Collection<String> originalNames);
+
+    Page<File> findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(FileEntityType entityType, Long entityId, Pageable pageable);
+
+    /**
+     * Returns the next page of keys of all objects referenced by the table (contents and thumbnails), in the binary
+     * order of the bucket listing and after the given key and file id, so both can be merged page by page. Rows
+     * sharing a blob yield the same key once per row. A key is reconcilable when its row has not changed since the
+     * cutoff, rows written before {@code updated_at} existed fall back to {@code created_at}. Start with an empty key,
+     * every key sorts after it.
+     */
+    @Query(value = "SELECT k.object_key AS \"objectKey\", k.file_id AS \"fileId\", k.thumbnail AS \"thumbnail\", " +
+            "k.changed_at < :cutoff AS \"reconcilable\" FROM (" +
+            "SELECT CASE WHEN f.content_hash IS NOT NULL THEN 'blobs/' || f.content_hash " +
+            "ELSE f.entity_type || '/' || f.entity_id || '/' || f.original_name END AS object_key, " +
+            "f.id AS file_id, FALSE AS thumbnail, COALESCE(f.updated_at, f.created_at) AS changed_at FROM files f " +
+            "UNION ALL " +
+            "SELECT f.thumbnail_key, f.id, TRUE, COALESCE(f.updated_at, f.created_at) FROM files f " +
+            "WHERE f.thumbnail_key IS NOT NULL" +
+            ") k WHERE k.object_key COLLATE \"C\" > :afterKey OR (k.object_key = :afterKey AND k.file_id > :afterFileId) " +
+            "ORDER BY k.object_key COLLATE \"C\", k.file_id LIMIT :limit", nativeQuery = true)
+    List<StoredObjectKey> findObjectKeysAfter(@Param("cutoff") Instant cutoff, @Param("afterKey") String afterKey,
+                                              @Param("afterFileId") UUID afterFileId, @Param("limit") int limit);
+
+    @Query("SELECT f.contentHash FROM File f " +
+            "WHERE f.entityType = :entityType AND f.entityId = :entityId AND f.contentHash IS NOT NULL")
+    List<String> findContentHashesInFolder(@Param("entityType") FileEntityType entityType, @Param("entityId") Long entityId);
+
+    /**
+     * Marks the thumbnail of the file as requested. Returns {@code 0} when it was requested before, so only one
+     * caller schedules its generation.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE File f SET f.thumbnailStatus = :status WHERE f.id = :id AND f.thumbnailStatus IS NULL")
+    int requestThumbnail(@Param("id") UUID id, @Param("status") ThumbnailStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE File f SET f.thumbnailStatus = :status, f.thumbnailKey = :thumbnailKey, f.updatedAt = :now " +
+            "WHERE f.id = :id")
+    void updateThumbnail(@Param("id") UUID id, @Param("status") ThumbnailStatus status,
+                         @Param("thumbnailKey") String thumbnailKey, @Param("now") Instant now);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM File f WHERE f.entityType = :entityType AND f.entityId = :entityId")
+    int deleteAllInFolder(@Param("entityType") FileEntityType entityType, @Param("entityId") Long entityId);
+
+    /**
+     * Deletes the rows and returns the content hash of each row that was actually deleted, {@code null} for rows
+     * stored under their own key. Rows that no longer exist are skipped.
+     */
+    @Transactional
+    @Query(value = "DELETE FROM files WHERE id IN (:ids) RETURNING content_hash", nativeQuery = true)
+    List<String> deleteAllByIdReturningContentHash(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Takes a transaction-scoped advisory lock, so only one reconciliation runs at a time.
+     * Returns {@code false} when another instance holds it.
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryLock(@Param("key") long key);
+}
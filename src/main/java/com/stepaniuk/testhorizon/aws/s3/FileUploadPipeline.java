@@ -0,0 +1,76 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs the uploads of one request concurrently.
+ * <p>
+ * At most {@code s3.upload.request-concurrency} files of a single request are in flight at a time, and all
+ * requests share the {@code fileUploadExecutor} pool, which caps the total number of concurrent uploads.
+ * A failing file does not affect the others, every file gets its own {@link Outcome} in the input order.
+ */
+@Component
+public class FileUploadPipeline {
+
+    private final ThreadPoolTaskExecutor fileUploadExecutor;
+    private final int requestConcurrency;
+
+    public FileUploadPipeline(@Qualifier("fileUploadExecutor") ThreadPoolTaskExecutor fileUploadExecutor,
+                              @Value("${s3.upload.request-concurrency:4}") int requestConcurrency) {
+        this.fileUploadExecutor = fileUploadExecutor;
+        this.requestConcurrency = requestConcurrency;
+    }
+
+    public List<Outcome> uploadAll(List<MultipartFile> files, Uploader uploader) {
+        var permits = new Semaphore(requestConcurrency);
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(files.size());
+
+        for (MultipartFile file : files) {
+            permits.acquireUninterruptibly();
+
+            CompletableFuture<Outcome> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> upload(file, uploader), fileUploadExecutor);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.completedFuture(new Outcome(file, e));
+            }
+
+            futures.add(future.whenComplete((outcome, error) -> permits.release()));
+        }
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private static Outcome upload(MultipartFile file, Uploader uploader) {
+        try {
+            uploader.upload(file);
+            return new Outcome(file, null);
+        } catch (IOException | RuntimeException e) {
+            return new Outcome(file, e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Uploader {
+        void upload(MultipartFile file) throws IOException;
+    }
+
+    public record Outcome(MultipartFile file, Throwable error) {
+
+        public boolean isSuccessful() {
+            return error == null;
+        }
+    }
+}
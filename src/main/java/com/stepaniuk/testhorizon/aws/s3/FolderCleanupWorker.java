@@ -0,0 +1,104 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.event.file.FolderDeleteEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deletes the folders queued as {@link FolderDeletion} tombstones, off the request thread.
+ * <p>
+ * The objects under the folder prefix are listed page by page following the continuation tokens, and every page
+ * (at most 1000 keys, the limit of a single {@code DeleteObjects} call) is deleted with one request. The rows are
+ * then removed with a single statement together with one {@link FolderDeleteEvent} and the tombstone, and shared
+ * contents are released afterwards.
+ * Every step is idempotent, so a tombstone whose worker died is simply processed again once its claim expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class FolderCleanupWorker {
+
+    private final S3Client s3Client;
+    private final FileRepository fileRepository;
+    private final FolderDeletionRepository folderDeletionRepository;
+    private final ContentAddressedStore contentAddressedStore;
+    private final FileProducer fileProducer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${s3.bucket.name}")
+    private String bucketName;
+
+    @Value("${s3.folder-cleanup.batch-size:10}")
+    private int batchSize;
+
+    @Value("${s3.folder-cleanup.claim-timeout-minutes:15}")
+    private long claimTimeoutMinutes;
+
+    @Scheduled(fixedDelayString = "${s3.folder-cleanup.poll-interval-ms:5000}")
+    public void processPending() {
+        Instant staleBefore = Instant.now().minus(Duration.ofMinutes(claimTimeoutMinutes));
+
+        for (FolderDeletion folderDeletion : folderDeletionRepository.findClaimable(staleBefore, PageRequest.of(0, batchSize))) {
+            if (folderDeletionRepository.claim(folderDeletion.getId(), Instant.now(), staleBefore) > 0) {
+                process(folderDeletion);
+            }
+        }
+    }
+
+    void process(FolderDeletion folderDeletion) {
+        deleteObjects(String.format("%s/%s/", folderDeletion.getEntityType(), folderDeletion.getEntityId()));
+
+        // rows, the hashes they reference, the event and the tombstone are handled in one transaction; releasing
+        // happens after the commit, so a crash in between can only leave a blob referenced too often, never delete
+        // one still in use
+        var contentHashes = transactionTemplate.execute(status -> {
+            var hashes = fileRepository.findContentHashesInFolder(folderDeletion.getEntityType(), folderDeletion.getEntityId());
+            int count = fileRepository.deleteAllInFolder(folderDeletion.getEntityType(), folderDeletion.getEntityId());
+
+            fileProducer.send(new FolderDeleteEvent("FolderDeleteEvent", Instant.now(), UUID.randomUUID().toString(),
+                    folderDeletion.getCorrelationId(), folderDeletion.getEntityType(), folderDeletion.getEntityId(),
+                    count));
+
+            folderDeletionRepository.deleteById(folderDeletion.getId());
+            return hashes;
+        });
+
+        contentHashes.forEach(contentAddressedStore::release);
+    }
+
+    private void deleteObjects(String prefix) {
+        var pages = s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(prefix)
+                .build());
+
+        for (ListObjectsV2Response page : pages) {
+            if (!page.hasContents() || page.contents().isEmpty()) {
+                continue;
+            }
+
+            List<ObjectIdentifier> identifiers = page.contents().stream()
+                    .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+                    .toList();
+
+            var response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(identifiers).quiet(true).build())
+                    .build());
+
+            if (response.hasErrors() && !response.errors().isEmpty()) {
+                throw new IllegalStateException("Unable to delete " + response.errors().size() + " objects under " + prefix);
+            }
+        }
+    }
+}
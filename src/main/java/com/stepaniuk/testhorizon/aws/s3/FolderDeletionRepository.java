@@ -0,0 +1,33 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface FolderDeletionRepository extends JpaRepository<FolderDeletion, UUID> {
+
+    boolean existsByEntityTypeAndEntityId(FileEntityType entityType, Long entityId);
+
+    @Query("SELECT d FROM FolderDeletion d WHERE d.claimedAt IS NULL OR d.claimedAt < :staleBefore ORDER BY d.createdAt")
+    List<FolderDeletion> findClaimable(@Param("staleBefore") Instant staleBefore, Pageable pageable);
+
+    /**
+     * Claims the tombstone for the calling worker. Returns {@code 0} when another worker claimed it first; a claim
+     * older than {@code staleBefore} is considered abandoned and can be taken over.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE FolderDeletion d SET d.claimedAt = :now " +
+            "WHERE d.id = :id AND (d.claimedAt IS NULL OR d.claimedAt < :staleBefore)")
+    int claim(@Param("id") UUID id, @Param("now") Instant now, @Param("staleBefore") Instant staleBefore);
+}
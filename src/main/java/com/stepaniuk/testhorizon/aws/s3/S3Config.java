@@ -3,10 +3,13 @@ package com.stepaniuk.testhorizon.aws.s3;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
@@ -24,6 +27,15 @@ public class S3Config {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
+    @Value("${s3.upload.global-concurrency:16}")
+    private int uploadGlobalConcurrency;
+
+    @Value("${s3.thumbnails.pool-size:2}")
+    private int thumbnailPoolSize;
+
+    @Value("${s3.thumbnails.queue-capacity:100}")
+    private int thumbnailQueueCapacity;
+
 
     @Bean
     public S3Client s3Client() {
@@ -35,4 +47,44 @@ public class S3Config {
                 .region(Region.of(region))
                 .build();
     }
+
+    @Bean
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(awsEndpointUrl))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .build())
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKeyId, secretAccessKey)))
+                .region(Region.of(region))
+                .build();
+    }
+
+    /**
+     * Shared pool for file uploads, its size is the maximum number of uploads running at the same time across
+     * all requests.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileUploadExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadGlobalConcurrency);
+        executor.setMaxPoolSize(uploadGlobalConcurrency);
+        executor.setThreadNamePrefix("file-upload-");
+        return executor;
+    }
+
+    /**
+     * Bounded pool for thumbnail generation, decoding images is CPU and memory heavy, so only a few run at once
+     * and requests beyond the queue capacity are rejected.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(thumbnailPoolSize);
+        executor.setMaxPoolSize(thumbnailPoolSize);
+        executor.setQueueCapacity(thumbnailQueueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        return executor;
+    }
 }
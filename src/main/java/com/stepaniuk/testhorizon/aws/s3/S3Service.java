@@ -1,31 +1,40 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
+import com.stepaniuk.testhorizon.aws.exceptions.InvalidFileNameException;
 import com.stepaniuk.testhorizon.aws.exceptions.NoSuchFilesByNamesException;
 import com.stepaniuk.testhorizon.aws.exceptions.UnableUploadFileException;
 import com.stepaniuk.testhorizon.event.file.FileDeleteEvent;
 import com.stepaniuk.testhorizon.event.file.FileUploadEvent;
 import com.stepaniuk.testhorizon.payload.file.FileResponse;
+import com.stepaniuk.testhorizon.payload.file.FileUploadResponse;
+import com.stepaniuk.testhorizon.payload.file.PresignedUploadResponse;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.types.files.FileEntityType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,120 +46,240 @@ public class S3Service {
     private final FileMapper fileMapper;
     private final PageMapper pageMapper;
     private final FileProducer fileProducer;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final FileUploadPipeline fileUploadPipeline;
+    private final S3UrlPresigner s3UrlPresigner;
+    private final ContentAddressedStore contentAddressedStore;
+    private final FolderDeletionRepository folderDeletionRepository;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final AttachmentProxy attachmentProxy;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${s3.bucket.name}")
     private String bucketName;
 
-    @Value("${spring.cloud.aws.s3.endpoint}")
-    private String s3EndpointUrl;
+    @Value("${s3.dedup.enabled:false}")
+    private boolean deduplicationEnabled;
+
+    /**
+     * Uploads the files concurrently (see {@link FileUploadPipeline}), then stores the rows of all uploaded files
+     * in one batch and publishes their events together. Files that fail to upload are reported in the response with
+     * their error, the request only fails when no file could be uploaded.
+     * <p>
+     * With {@code s3.dedup.enabled} the contents are stored once per SHA-256 by {@link ContentAddressedStore}
+     * instead of under the key of every file.
+     * <p>
+     * A file uploaded again under the same name replaces the contents of its row: the blob the row shared is released
+     * and its thumbnail is dropped.
+     * <p>
+     * The rows, their events and the release of the replaced blobs are written in one transaction, so an event is
+     * published exactly when its row exists. When the rows can not be stored, the references just added for their
+     * contents are released again; nothing else would ever drop them.
+     */
+    public PagedModel<FileUploadResponse> uploadFiles(List<MultipartFile> files, FileEntityType entityType, Long entityId, String correlationId) {
+        files.forEach(file -> validateFileName(file.getOriginalFilename()));
 
-
-    public PagedModel<FileResponse> uploadFiles(List<MultipartFile> files, FileEntityType entityType, Long entityId, String correlationId) {
         String folderPath = buildFolderPath(entityType, entityId);
-        createFolderIfNotExists(folderPath);
 
-        List<FileResponse> fileResponses = files.stream()
-                .map(file -> processFile(file, folderPath, entityType, entityId, correlationId))
+        Map<MultipartFile, String> contentHashes = new ConcurrentHashMap<>();
+
+        List<FileUploadPipeline.Outcome> outcomes = fileUploadPipeline.uploadAll(files, file -> {
+            if (deduplicationEnabled) {
+                contentHashes.put(file, storeContentAddressed(file));
+            } else {
+                String filePath = buildFilePath(folderPath, file.getOriginalFilename());
+                uploadFileToS3(file, filePath);
+                attachmentProxy.evict(filePath);
+            }
+        });
+
+        List<FileUploadPipeline.Outcome> uploaded = outcomes.stream()
+                .filter(FileUploadPipeline.Outcome::isSuccessful)
+                .toList();
+
+        if (uploaded.isEmpty() && !outcomes.isEmpty()) {
+            throw new UnableUploadFileException(outcomes.get(0).file().getOriginalFilename());
+        }
+
+        var replaced = new ReplacedContents();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<String, File> rows = new LinkedHashMap<>();
+                fileRepository.findAllByEntityTypeAndEntityIdAndOriginalNameIn(entityType, entityId, uploaded.stream()
+                                .map(outcome -> outcome.file().getOriginalFilename())
+                                .collect(Collectors.toSet()))
+                        .forEach(file -> rows.put(file.getOriginalName(), file));
+
+                for (FileUploadPipeline.Outcome outcome : uploaded) {
+                    File row = rows.computeIfAbsent(outcome.file().getOriginalFilename(),
+                            fileName -> createFileEntity(fileName, entityType, entityId));
+                    replaceContents(row, contentHashes.get(outcome.file()), replaced);
+                }
+
+                fileRepository.saveAll(List.copyOf(rows.values()));
+
+                fileProducer.sendAll(uploaded.stream()
+                        .map(outcome -> new FileUploadEvent("FileUploadEvent", Instant.now(), UUID.randomUUID().toString(), correlationId,
+                                outcome.file().getOriginalFilename(), entityType, entityId))
+                        .toList());
+
+                replaced.contentHashes().forEach(contentAddressedStore::release);
+            });
+        } catch (RuntimeException e) {
+            contentHashes.values().forEach(contentAddressedStore::release);
+            throw e;
+        }
+
+        deleteObjects(replaced.thumbnailKeys());
+
+        List<FileUploadResponse> fileResponses = outcomes.stream()
+                .map(outcome -> toUploadResponse(outcome, folderPath, contentHashes.get(outcome.file())))
                 .collect(Collectors.toList());
 
         var fileResponsesSize = fileResponses.size();
 
         return pageMapper.toResponse(
-                new PageImpl<>(fileResponses, Pageable.ofSize(fileResponsesSize), fileResponsesSize),
+                new PageImpl<>(fileResponses, Pageable.ofSize(Math.max(fileResponsesSize, 1)), fileResponsesSize),
                 URI.create("/files")
         );
     }
 
-    private FileResponse processFile(MultipartFile file, String folderPath, FileEntityType entityType, Long entityId, String correlationId) {
-        String fileName = file.getOriginalFilename();
-        String filePath = buildFilePath(folderPath, fileName);
+    private FileUploadResponse toUploadResponse(FileUploadPipeline.Outcome outcome, String folderPath, String contentHash) {
+        String fileName = outcome.file().getOriginalFilename();
 
-        try {
-            uploadFileToS3(file, filePath);
-        } catch (IOException e) {
-            throw new UnableUploadFileException(fileName);
+        if (outcome.isSuccessful()) {
+            return fileMapper.toUploadResponse(fileName, buildFileUrl(folderPath, fileName, contentHash), null);
         }
 
-        File fileEntity = createFileEntity(fileName, entityType, entityId);
-        fileRepository.save(fileEntity);
+        return fileMapper.toUploadResponse(fileName, null, "Unable to upload file: " + fileName);
+    }
 
-        fileProducer.send(
-                new FileUploadEvent("FileUploadEvent", Instant.now(), UUID.randomUUID().toString(), correlationId, fileName, entityType, entityId)
-        );
+    /**
+     * Deletes the rows together with their events in one transaction. The objects and the shared contents are dropped
+     * after the commit, so a failure in between can only leave an object {@link FileReconciliationJob} reports as
+     * orphaned, never a row without its contents.
+     */
+    public void deleteFiles(FileEntityType entityType, Long entityId, List<String> fileNames, Pageable pageable, String correlationId) {
+        List<File> files = transactionTemplate.execute(status -> {
+            Page<File> found = getFilesByNames(entityType, entityId, fileNames, pageable);
 
-        String fileUrl = buildFileUrl(filePath);
+            if (found.isEmpty()) {
+                throw new NoSuchFilesByNamesException(fileNames);
+            }
 
-        return fileMapper.toResponse(fileUrl);
-    }
+            fileRepository.deleteAll(found);
 
-    public void deleteFiles(FileEntityType entityType, Long entityId, List<String> fileNames, Pageable pageable, String correlationId) {
-        Page<File> files = getFilesByNames(entityType, entityId, fileNames, pageable);
+            for (File file : found) {
+                fileProducer.send(
+                        new FileDeleteEvent("FileDeleteEvent", Instant.now(), UUID.randomUUID().toString(), correlationId, file.getOriginalName(), entityType, entityId)
+                );
+            }
+
+            return found.getContent();
+        });
+
+        deleteFilesFromS3(files, buildFolderPath(entityType, entityId));
+        releaseContents(files);
+    }
 
-        if (files.isEmpty()) {
-            throw new NoSuchFilesByNamesException(fileNames);
+    /**
+     * Queues the deletion of all files of the entity, see {@link FolderCleanupWorker}. Queuing a folder that is
+     * already queued does nothing.
+     */
+    public void deleteFolder(FileEntityType entityType, Long entityId, String correlationId) {
+        if (folderDeletionRepository.existsByEntityTypeAndEntityId(entityType, entityId)) {
+            return;
         }
 
-        String folderName = buildFolderPath(entityType, entityId);
-        deleteFilesFromS3(files, folderName);
+        folderDeletionRepository.save(new FolderDeletion(null, entityType, entityId, correlationId, null, null));
+    }
 
-        for (File file : files) {
-            fileProducer.send(
-                    new FileDeleteEvent("FileDeleteEvent", Instant.now(), UUID.randomUUID().toString(), correlationId, file.getOriginalName(), entityType, entityId)
-            );
+    /**
+     * Uploads a file from the local disk under the given key and returns its URL. The body is streamed from the
+     * file, so it is never loaded into memory as a whole.
+     */
+    public String uploadObject(String key, Path path, String contentType) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            s3StreamingUploader.upload(bucketName, key, contentType, inputStream, Files.size(path));
         }
 
-        fileRepository.deleteAll(files);
+        return buildFileUrl(key);
     }
 
-    public void deleteFolder(FileEntityType entityType, Long entityId, String correlationId) {
-        String folderKey = buildFolderPath(entityType, entityId);
+    /**
+     * Returns a presigned PUT URL the client uploads the file to directly. The upload has to be confirmed with
+     * {@link #completeUpload} afterwards, which records the file.
+     */
+    public PresignedUploadResponse createUploadUrl(FileEntityType entityType, Long entityId, String fileName, String contentType) {
+        validateFileName(fileName);
 
-        List<S3Object> objects = listObjectsInFolder(folderKey);
-        if (!objects.isEmpty()) {
-            deleteObjectsFromS3(objects);
-        }
+        String filePath = buildFilePath(buildFolderPath(entityType, entityId), fileName);
+        var presignedUrl = s3UrlPresigner.presignUpload(filePath, contentType);
 
-        Specification<File> spec = (root, query, criteriaBuilder) -> criteriaBuilder.and(
-                criteriaBuilder.equal(root.get("entityType"), entityType),
-                criteriaBuilder.equal(root.get("entityId"), entityId)
-        );
+        return fileMapper.toPresignedUploadResponse(fileName, presignedUrl.url(), "PUT", presignedUrl.expiresAt());
+    }
 
-        List<File> files = fileRepository.findAll(spec);
+    /**
+     * Records a file uploaded through a presigned URL. Completing the same upload again does not create another row
+     * or event.
+     */
+    public FileResponse completeUpload(FileEntityType entityType, Long entityId, String fileName, String correlationId) {
+        validateFileName(fileName);
 
-        files.forEach(file -> fileProducer.send(
-                new FileDeleteEvent("FileDeleteEvent", Instant.now(), UUID.randomUUID().toString(), correlationId, file.getOriginalName(), entityType, entityId)
-        ));
+        String filePath = buildFilePath(buildFolderPath(entityType, entityId), fileName);
 
-        if (!files.isEmpty()) {
-            fileRepository.deleteAll(files);
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(filePath)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFilesByNamesException(List.of(fileName));
         }
-    }
 
-    public PagedModel<FileResponse> listFiles(FileEntityType entityType, Long entityId) {
-        return listFilesInS3(entityType, entityId);
+        attachmentProxy.evict(filePath);
+
+        var replaced = new ReplacedContents();
+        transactionTemplate.executeWithoutResult(status -> {
+            var existing = fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, entityId);
+
+            if (existing.isEmpty()) {
+                fileRepository.save(createFileEntity(fileName, entityType, entityId));
+
+                fileProducer.send(
+                        new FileUploadEvent("FileUploadEvent", Instant.now(), UUID.randomUUID().toString(), correlationId, fileName, entityType, entityId)
+                );
+            } else if (existing.get().getContentHash() != null) {
+                // the object under the file's own key supersedes the shared blob the row pointed to
+                replaceContents(existing.get(), null, replaced);
+                fileRepository.save(existing.get());
+                replaced.contentHashes().forEach(contentAddressedStore::release);
+            }
+        });
+        deleteObjects(replaced.thumbnailKeys());
+
+        return fileMapper.toResponse(buildFileUrl(filePath));
     }
 
-    private String buildFolderPath(FileEntityType entityType, Long entityId) {
-        return String.format("%s/%s", entityType, entityId);
+    public String createDownloadUrl(String key) {
+        return buildFileUrl(key);
     }
 
-    private void createFolderIfNotExists(String folderKey) {
-        if (isFolderEmpty(folderKey)) {
-            s3Client.putObject(PutObjectRequest.builder()
-                            .bucket(bucketName)
-                            .key(folderKey + "/")
-                            .build(),
-                    RequestBody.empty());
-        }
+    /**
+     * Lists the files of an entity from the {@code files} table alone, so the read path does not touch S3. Rows that
+     * lost their object are cleaned up by {@link FileReconciliationJob}.
+     */
+    public PagedModel<FileResponse> listFiles(FileEntityType entityType, Long entityId, Pageable pageable) {
+        String folderName = buildFolderPath(entityType, entityId);
+
+        Page<FileResponse> files = fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable)
+                .map(file -> toResponse(file, folderName));
+
+        return pageMapper.toResponse(files, URI.create("/files"));
     }
 
-    private boolean isFolderEmpty(String folderKey) {
-        return s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                        .bucket(bucketName)
-                        .prefix(folderKey)
-                        .build())
-                .contents()
-                .isEmpty();
+    private String buildFolderPath(FileEntityType entityType, Long entityId) {
+        return String.format("%s/%s", entityType, entityId);
     }
 
     private Page<File> getFilesByNames(FileEntityType entityType, Long entityId, List<String> fileNames, Pageable pageable) {
@@ -163,99 +292,174 @@ public class S3Service {
         return fileRepository.findAll(spec, pageable);
     }
 
+    /**
+     * The name becomes the last segment of the object key, so it must not contain separators or {@code ..} that
+     * would place the object outside the folder of the entity, nor control characters.
+     */
+    private static void validateFileName(String fileName) {
+        if (fileName == null || fileName.isBlank() || fileName.contains("/") || fileName.contains("\\")
+                || fileName.contains("..") || fileName.chars().anyMatch(Character::isISOControl)) {
+            throw new InvalidFileNameException(fileName);
+        }
+    }
+
     private String buildFilePath(String folder, String fileName) {
         return folder + "/" + fileName;
     }
 
     private String buildFileUrl(String filePath) {
-        return String.format("%s/%s/%s", s3EndpointUrl, bucketName, filePath);
+        return s3UrlPresigner.presignDownload(filePath);
+    }
+
+    private String buildFileUrl(String folder, String fileName, String contentHash) {
+        if (contentHash == null) {
+            return buildFileUrl(buildFilePath(folder, fileName));
+        }
+
+        // blob keys carry no name, so the original one is handed to the client with the download
+        return s3UrlPresigner.presignDownload(ContentAddressedStore.blobKey(contentHash), fileName);
+    }
+
+    private FileResponse toResponse(File file, String folder) {
+        return fileMapper.toResponse(
+                buildFileUrl(folder, file.getOriginalName(), file.getContentHash()),
+                thumbnailUrl(file, folder)
+        );
+    }
+
+    /**
+     * Returns the URL of the thumbnail once it exists. The first time an image file is returned its thumbnail is
+     * requested, until it is ready clients show the original.
+     */
+    private String thumbnailUrl(File file, String folder) {
+        if (file.getThumbnailStatus() == ThumbnailStatus.READY) {
+            return buildFileUrl(file.getThumbnailKey());
+        }
+
+        if (file.getThumbnailStatus() == null && ThumbnailGenerator.isImage(file.getOriginalName())) {
+            String sourceKey = file.getContentHash() != null
+                    ? ContentAddressedStore.blobKey(file.getContentHash())
+                    : buildFilePath(folder, file.getOriginalName());
+            thumbnailGenerator.request(file, sourceKey);
+        }
+
+        return null;
+    }
+
+    /**
+     * Points the row at new contents. The blob it referenced and its thumbnail, generated from the old contents,
+     * are collected so they can be dropped with the row update and after it respectively.
+     */
+    private void replaceContents(File file, String contentHash, ReplacedContents replaced) {
+        if (file.getContentHash() != null) {
+            replaced.contentHashes().add(file.getContentHash());
+        }
+        if (file.getThumbnailKey() != null) {
+            replaced.thumbnailKeys().add(file.getThumbnailKey());
+        }
+
+        file.setContentHash(contentHash);
+        file.setThumbnailStatus(null);
+        file.setThumbnailKey(null);
+        // set even when the hash stays the same, a row that is not dirty would keep its old timestamp
+        file.setUpdatedAt(Instant.now());
+    }
+
+    private String storeContentAddressed(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return contentAddressedStore.store(inputStream, file.getSize(), file.getContentType());
+        }
+    }
+
+    private void releaseContents(List<File> files) {
+        files.stream()
+                .map(File::getContentHash)
+                .filter(Objects::nonNull)
+                .forEach(contentAddressedStore::release);
     }
 
     private void uploadFileToS3(MultipartFile file, String filePath) throws IOException {
-        s3Client.putObject(PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(filePath)
-                        .build(),
-                RequestBody.fromBytes(file.getBytes()));
+        try (InputStream inputStream = file.getInputStream()) {
+            s3StreamingUploader.upload(bucketName, filePath, file.getContentType(), inputStream, file.getSize());
+        }
     }
 
     private File createFileEntity(String fileName, FileEntityType entityType, Long entityId) {
-        return new File(null, fileName, entityType, entityId, null);
+        return createFileEntity(fileName, entityType, entityId, null);
+    }
+
+    private File createFileEntity(String fileName, FileEntityType entityType, Long entityId, String contentHash) {
+        return new File(null, fileName, entityType, entityId, null, contentHash, null, null, null);
     }
 
-    private void deleteFilesFromS3(Page<File> files, String folderName) {
-        List<ObjectIdentifier> objectsToDelete = files.stream()
-                .map(file -> ObjectIdentifier.builder().key(folderName + "/" + file.getOriginalName()).build())
+    /**
+     * Deletes the objects owned by the files: their own contents unless stored as a shared blob, and their
+     * thumbnails.
+     */
+    private void deleteFilesFromS3(List<File> files, String folderName) {
+        List<String> keysToDelete = Stream.concat(
+                        files.stream()
+                                .filter(file -> file.getContentHash() == null)
+                                .map(file -> folderName + "/" + file.getOriginalName()),
+                        files.stream()
+                                .map(File::getThumbnailKey)
+                                .filter(Objects::nonNull))
                 .toList();
 
-        s3Client.deleteObjects(DeleteObjectsRequest.builder()
-                .bucket(bucketName)
-                .delete(del -> del.objects(objectsToDelete))
-                .build());
+        deleteObjects(keysToDelete);
     }
 
-    private List<S3Object> listObjectsInFolder(String folderKey) {
-        return s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                        .bucket(bucketName)
-                        .prefix(folderKey)
-                        .build())
-                .contents();
-    }
+    private void deleteObjects(List<String> keysToDelete) {
+        keysToDelete.forEach(attachmentProxy::evict);
 
-    private void deleteObjectsFromS3(List<S3Object> objects) {
-        List<ObjectIdentifier> objectIdentifiers = objects.stream()
-                .map(obj -> ObjectIdentifier.builder().key(obj.key()).build())
+        List<ObjectIdentifier> objectsToDelete = keysToDelete.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
                 .toList();
 
+        if (objectsToDelete.isEmpty()) {
+            return;
+        }
+
         s3Client.deleteObjects(DeleteObjectsRequest.builder()
                 .bucket(bucketName)
-                .delete(del -> del.objects(objectIdentifiers))
+                .delete(del -> del.objects(objectsToDelete))
                 .build());
     }
 
-    private PagedModel<FileResponse> listFilesInS3(FileEntityType entityType, Long entityId) {
-
-        String folderName = buildFolderPath(entityType, entityId);
-        List<S3Object> objects = listS3Objects(folderName);
-
-        List<FileResponse> fileResponses = objects.stream()
-                .map(S3Object::key)
-                .filter(key -> !key.endsWith("/"))
-                .map(key -> key.substring(key.lastIndexOf("/") + 1))
-                .filter(originalName -> fileRepository.existsByOriginalNameAndEntityTypeAndEntityId(originalName, entityType, entityId))
-                .map(originalName -> fileMapper.toResponse(buildFileUrl(folderName + "/" + originalName)))
-                .collect(Collectors.toList());
-
-        Pageable pageable = fileResponses.isEmpty() ? PageRequest.of(0, 1) : Pageable.ofSize(fileResponses.size());
+    /**
+     * Returns the URL of a single file. Existence is checked against the {@code files} table, so no S3 request is
+     * made; the URL itself is presigned locally.
+     */
+    public FileResponse getFileByEntityTypeAndId(FileEntityType entityType, Long id, String fileName) {
+        File file = fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, id)
+                .orElseThrow(() -> new NoSuchFilesByNamesException(List.of(fileName)));
 
-        return pageMapper.toResponse(
-                new PageImpl<>(fileResponses, pageable, fileResponses.size()),
-                URI.create("/files")
-        );
+        return toResponse(file, buildFolderPath(entityType, id));
     }
 
-    private List<S3Object> listS3Objects(String folderKey) {
-        return s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                        .bucket(bucketName)
-                        .prefix(folderKey)
-                        .build())
-                .contents();
-    }
+    /**
+     * Streams the contents of a file through {@link AttachmentProxy}, answering conditional and range requests.
+     */
+    public ResponseEntity<StreamingResponseBody> getFileContent(FileEntityType entityType, Long id, String fileName,
+                                                                HttpHeaders requestHeaders) throws IOException {
+        File file = fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, id)
+                .orElseThrow(() -> new NoSuchFilesByNamesException(List.of(fileName)));
 
-    public FileResponse getFileByEntityTypeAndId(FileEntityType entityType, Long id, String fileName) {
-        String folderKey = buildFolderPath(entityType, id);
-        String filePath = buildFilePath(folderKey, fileName);
-
-        if (s3Client.listObjectsV2(ListObjectsV2Request.builder()
-                        .bucket(bucketName)
-                        .prefix(folderKey)
-                        .build())
-                .contents()
-                .stream()
-                .noneMatch(s3Object -> s3Object.key().equals(filePath))) {
+        String key = file.getContentHash() != null
+                ? ContentAddressedStore.blobKey(file.getContentHash())
+                : buildFilePath(buildFolderPath(entityType, id), fileName);
+
+        try {
+            return attachmentProxy.serve(key, requestHeaders);
+        } catch (NoSuchKeyException e) {
             throw new NoSuchFilesByNamesException(List.of(fileName));
         }
+    }
 
-        return fileMapper.toResponse(buildFileUrl(filePath));
+    private record ReplacedContents(List<String> contentHashes, List<String> thumbnailKeys) {
+
+        private ReplacedContents() {
+            this(new ArrayList<>(), new ArrayList<>());
+        }
     }
 }
@@ -0,0 +1,144 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Uploads streams to S3 without holding the whole object in memory.
+ * <p>
+ * Objects smaller than {@code s3.upload.multipart-threshold} are sent with a single PUT streamed from the source.
+ * Larger objects use a multipart upload: parts of {@code s3.upload.part-size} are read into buffers taken from a
+ * pool of {@code s3.upload.part-buffers} buffers shared by all uploads, so the heap used for uploads is bounded by
+ * {@code part-size * part-buffers} no matter how many or how large the uploaded files are. Buffers are allocated on
+ * first use and reused afterwards, uploads that find the pool exhausted wait for a buffer to be released. Buffered parts can be retried by the SDK without re-reading the
+ * source. Note that S3 requires every part except the last one to be at least 5MB.
+ */
+@Component
+public class S3StreamingUploader {
+
+    private final S3Client s3Client;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final Semaphore partBufferPermits;
+    private final Queue<byte[]> partBuffers = new ConcurrentLinkedQueue<>();
+
+    public S3StreamingUploader(S3Client s3Client,
+                               @Value("${s3.upload.multipart-threshold:16MB}") String multipartThreshold,
+                               @Value("${s3.upload.part-size:8MB}") String partSize,
+                               @Value("${s3.upload.part-buffers:8}") int partBuffers) {
+        this.s3Client = s3Client;
+        this.multipartThreshold = DataSize.parse(multipartThreshold).toBytes();
+        this.partSize = Math.toIntExact(DataSize.parse(partSize).toBytes());
+        this.partBufferPermits = new Semaphore(partBuffers);
+    }
+
+    public void upload(String bucket, String key, String contentType, InputStream inputStream, long contentLength)
+            throws IOException {
+        if (contentLength < multipartThreshold) {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucket)
+                            .key(key)
+                            .contentType(contentType)
+                            .contentLength(contentLength)
+                            .build(),
+                    RequestBody.fromInputStream(inputStream, contentLength));
+            return;
+        }
+
+        uploadMultipart(bucket, key, contentType, inputStream);
+    }
+
+    private void uploadMultipart(String bucket, String key, String contentType, InputStream inputStream)
+            throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        List<CompletedPart> completedParts = new ArrayList<>();
+
+        try {
+            int partNumber = 1;
+            int read;
+
+            do {
+                byte[] buffer = acquireBuffer();
+
+                try {
+                    read = inputStream.readNBytes(buffer, 0, partSize);
+
+                    if (read > 0 || partNumber == 1) {
+                        completedParts.add(uploadPart(bucket, key, uploadId, partNumber++, buffer, read));
+                    }
+                } finally {
+                    releaseBuffer(buffer);
+                }
+            } while (read == partSize);
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    private CompletedPart uploadPart(String bucket, String key, String uploadId, int partNumber,
+                                     byte[] buffer, int length) {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length))
+                .eTag();
+
+        return CompletedPart.builder()
+                .partNumber(partNumber)
+                .eTag(eTag)
+                .build();
+    }
+
+    private byte[] acquireBuffer() throws InterruptedIOException {
+        try {
+            partBufferPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for an upload part buffer");
+        }
+
+        byte[] buffer = partBuffers.poll();
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        partBuffers.add(buffer);
+        partBufferPermits.release();
+    }
+}
@@ -0,0 +1,80 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Issues presigned URLs, so clients transfer file contents directly to and from the bucket without passing them
+ * through the API.
+ */
+@Component
+public class S3UrlPresigner {
+
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+    private final Duration uploadExpiration;
+    private final Duration downloadExpiration;
+
+    public S3UrlPresigner(S3Presigner s3Presigner,
+                          @Value("${s3.bucket.name}") String bucketName,
+                          @Value("${s3.presign.upload-expiration-minutes:15}") long uploadExpirationMinutes,
+                          @Value("${s3.presign.download-expiration-minutes:60}") long downloadExpirationMinutes) {
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+        this.uploadExpiration = Duration.ofMinutes(uploadExpirationMinutes);
+        this.downloadExpiration = Duration.ofMinutes(downloadExpirationMinutes);
+    }
+
+    public PresignedUrl presignUpload(String key, String contentType) {
+        PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(builder -> builder
+                .signatureDuration(uploadExpiration)
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .build()));
+
+        return new PresignedUrl(presignedRequest.url().toString(), presignedRequest.expiration());
+    }
+
+    public String presignDownload(String key) {
+        return s3Presigner.presignGetObject(builder -> builder
+                        .signatureDuration(downloadExpiration)
+                        .getObjectRequest(GetObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .build()))
+                .url()
+                .toString();
+    }
+
+    /**
+     * Presigns a download that the browser saves under the given name, for objects whose key does not carry it.
+     */
+    public String presignDownload(String key, String fileName) {
+        return s3Presigner.presignGetObject(builder -> builder
+                        .signatureDuration(downloadExpiration)
+                        .getObjectRequest(GetObjectRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .responseContentDisposition(ContentDisposition.inline()
+                                        .filename(fileName, StandardCharsets.UTF_8)
+                                        .build()
+                                        .toString())
+                                .build()))
+                .url()
+                .toString();
+    }
+
+    public record PresignedUrl(String url, Instant expiresAt) {
+    }
+}
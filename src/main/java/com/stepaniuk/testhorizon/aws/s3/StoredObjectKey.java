@@ -0,0 +1,23 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import java.util.UUID;
+
+/**
+ * Key of an object the {@code files} table expects in the bucket, see {@link FileRepository#findObjectKeysAfter}.
+ */
+public interface StoredObjectKey {
+
+    String getObjectKey();
+
+    UUID getFileId();
+
+    /**
+     * Whether the key is the thumbnail of the file rather than its contents.
+     */
+    Boolean getThumbnail();
+
+    /**
+     * Whether the row has not changed within the grace period, so a missing object means it is really gone.
+     */
+    Boolean getReconcilable();
+}
@@ -0,0 +1,160 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Generates downscaled JPEG thumbnails of image files on the bounded {@code thumbnailExecutor} pool.
+ * <p>
+ * Thumbnails are created lazily: the first listing of an image file requests one, and the outcome is memoized on
+ * the file row, so every image is decoded at most once. Images are decoded with source subsampling, which keeps the
+ * memory used for a large screenshot close to the size of the thumbnail instead of the full resolution.
+ */
+@Component
+@RequiredArgsConstructor
+public class ThumbnailGenerator {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+
+    private final S3Client s3Client;
+    private final FileRepository fileRepository;
+    @Qualifier("thumbnailExecutor")
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @Value("${s3.bucket.name}")
+    private String bucketName;
+
+    @Value("${s3.thumbnails.max-dimension:320}")
+    private int maxDimension;
+
+    @Value("${s3.thumbnails.max-source-pixels:100000000}")
+    private long maxSourcePixels;
+
+    public static boolean isImage(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && IMAGE_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    public static String thumbnailKey(File file) {
+        return String.format("%s/%s/.thumbnails/%s.jpg", file.getEntityType(), file.getEntityId(), file.getId());
+    }
+
+    /**
+     * Schedules the thumbnail of the file unless it was requested before. When the pool is saturated the request
+     * is withdrawn, so a later listing tries again.
+     */
+    public void request(File file, String sourceKey) {
+        if (fileRepository.requestThumbnail(file.getId(), ThumbnailStatus.PENDING) == 0) {
+            return;
+        }
+
+        try {
+            thumbnailExecutor.execute(() -> generate(file.getId(), sourceKey, thumbnailKey(file)));
+        } catch (TaskRejectedException e) {
+            fileRepository.updateThumbnail(file.getId(), null, null, Instant.now());
+        }
+    }
+
+    void generate(UUID fileId, String sourceKey, String thumbnailKey) {
+        try {
+            byte[] thumbnail = createThumbnail(sourceKey);
+
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(thumbnailKey)
+                            .contentType("image/jpeg")
+                            .build(),
+                    RequestBody.fromBytes(thumbnail));
+
+            fileRepository.updateThumbnail(fileId, ThumbnailStatus.READY, thumbnailKey, Instant.now());
+        } catch (IOException | RuntimeException e) {
+            fileRepository.updateThumbnail(fileId, ThumbnailStatus.FAILED, null, Instant.now());
+        }
+    }
+
+    private byte[] createThumbnail(String sourceKey) throws IOException {
+        BufferedImage source;
+
+        try (ResponseInputStream<GetObjectResponse> object = s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(sourceKey)
+                .build());
+             ImageInputStream imageInputStream = ImageIO.createImageInputStream(object)) {
+            source = decodeSubsampled(imageInputStream);
+        }
+
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        // JPEG has no alpha channel, transparent areas are painted white
+        var thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        var out = new ByteArrayOutputStream();
+        if (!ImageIO.write(thumbnail, "jpg", out)) {
+            throw new IOException("No JPEG writer available");
+        }
+        return out.toByteArray();
+    }
+
+    private BufferedImage decodeSubsampled(ImageInputStream imageInputStream) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+        if (!readers.hasNext()) {
+            throw new IOException("Unsupported image format");
+        }
+
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(imageInputStream, true, true);
+
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxSourcePixels) {
+                throw new IOException("Image of " + width + "x" + height + " pixels is too large");
+            }
+
+            // reading every n-th pixel only, while keeping at least twice the thumbnail size for a smooth downscale
+            int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+            ImageReadParam param = reader.getDefaultReadParam();
+            param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+            return reader.read(0, param);
+        } finally {
+            reader.dispose();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+/**
+ * State of the thumbnail of an image file, {@code null} on the file while no thumbnail was requested yet.
+ */
+public enum ThumbnailStatus {
+    PENDING,
+    READY,
+    FAILED
+}
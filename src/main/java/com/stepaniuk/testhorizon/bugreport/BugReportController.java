@@ -55,8 +55,9 @@ public class BugReportController {
                                                                           @Nullable @RequestParam(required = false) String title,
                                                                           @Nullable @RequestParam(required = false) Long reporterId,
                                                                           @Nullable @RequestParam(required = false) BugReportSeverityName severityName,
-                                                                          @Nullable @RequestParam(required = false) BugReportStatusName status) {
+                                                                          @Nullable @RequestParam(required = false) BugReportStatusName status,
+                                                                          @Nullable @RequestParam(required = false) String cursor) {
 
-        return ResponseEntity.ok(bugReportService.getAllBugReports(pageable, projectIds, title, reporterId, severityName, status));
+        return ResponseEntity.ok(bugReportService.getAllBugReports(pageable, projectIds, title, reporterId, severityName, status, cursor));
     }
 }
@@ -1,20 +1,17 @@
 package com.stepaniuk.testhorizon.bugreport;
 
 import com.stepaniuk.testhorizon.event.bugreport.BugReportEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class BugReportProducer {
 
-    private final KafkaTemplate<String, BugReportEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, BugReportEvent>> send(BugReportEvent bugReportEvent) {
-        return kafkaTemplate.send("bug-reports", bugReportEvent);
+    public void send(BugReportEvent bugReportEvent) {
+        outbox.add("bug-reports", bugReportEvent.getBugReportId(), bugReportEvent);
     }
 }
@@ -4,9 +4,7 @@ import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportByIdExcepti
 import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportSeverityByNameException;
 import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportStatusByNameException;
 import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverity;
-import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverityRepository;
 import com.stepaniuk.testhorizon.bugreport.status.BugReportStatus;
-import com.stepaniuk.testhorizon.bugreport.status.BugReportStatusRepository;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportCreatedEvent;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportDeletedEvent;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportUpdatedEvent;
@@ -17,6 +15,8 @@ import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
 import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
@@ -26,14 +26,20 @@ import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -42,15 +48,17 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class BugReportService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
+
     private final BugReportRepository bugReportRepository;
     private final BugReportMapper bugReportMapper;
     private final PageMapper pageMapper;
-    private final BugReportStatusRepository bugReportStatusRepository;
-    private final BugReportSeverityRepository bugReportSeverityRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final BugReportProducer bugReportProducer;
     private final ProjectRepository projectRepository;
     private final UserInfoService userInfoService;
 
+    @Transactional
     public BugReportResponse createBugReport(BugReportCreateRequest bugReportCreateRequest, Long reporterId, String correlationId) {
         BugReport bugReport = new BugReport();
 
@@ -67,12 +75,12 @@ public class BugReportService {
         bugReport.setReporterId(reporterId);
 
         bugReport.setSeverity(
-                bugReportSeverityRepository.findByName(bugReportCreateRequest.getSeverity())
+                dictionaryRegistry.findBugReportSeverity(bugReportCreateRequest.getSeverity())
                         .orElseThrow(() -> new NoSuchBugReportSeverityByNameException(bugReportCreateRequest.getSeverity()))
         );
 
         bugReport.setStatus(
-                bugReportStatusRepository.findByName(BugReportStatusName.OPENED)
+                dictionaryRegistry.findBugReportStatus(BugReportStatusName.OPENED)
                         .orElseThrow(() -> new NoSuchBugReportStatusByNameException(BugReportStatusName.OPENED))
         );
 
@@ -100,6 +108,7 @@ public class BugReportService {
         return bugReportMapper.toResponse(bugReport, projectInfo, reporter);
     }
 
+    @Transactional
     public void deleteBugReportById(Long id, String correlationId, AuthInfo authInfo) {
         var bugReport = bugReportRepository.findById(id)
                 .orElseThrow(() -> new NoSuchBugReportByIdException(id));
@@ -118,6 +127,7 @@ public class BugReportService {
         );
     }
 
+    @Transactional
     public BugReportResponse updateBugReport(Long bugReportId, BugReportUpdateRequest bugReportUpdateRequest, String correlationId, AuthInfo authInfo) {
         var bugReport = bugReportRepository.findById(bugReportId)
                 .orElseThrow(() -> new NoSuchBugReportByIdException(bugReportId));
@@ -145,7 +155,7 @@ public class BugReportService {
 
         if (bugReportUpdateRequest.getSeverity() != null) {
             bugReport.setSeverity(
-                    bugReportSeverityRepository.findByName(bugReportUpdateRequest.getSeverity())
+                    dictionaryRegistry.findBugReportSeverity(bugReportUpdateRequest.getSeverity())
                             .orElseThrow(() -> new NoSuchBugReportSeverityByNameException(bugReportUpdateRequest.getSeverity()))
             );
 
@@ -154,7 +164,7 @@ public class BugReportService {
 
         if (bugReportUpdateRequest.getStatus() != null) {
             bugReport.setStatus(
-                    bugReportStatusRepository.findByName(bugReportUpdateRequest.getStatus())
+                    dictionaryRegistry.findBugReportStatus(bugReportUpdateRequest.getStatus())
                             .orElseThrow(() -> new NoSuchBugReportStatusByNameException(bugReportUpdateRequest.getStatus()))
             );
 
@@ -182,7 +192,8 @@ public class BugReportService {
                                                           @Nullable String title,
                                                           @Nullable Long reporterId,
                                                           @Nullable BugReportSeverityName severityName,
-                                                          @Nullable BugReportStatusName statusName) {
+                                                          @Nullable BugReportStatusName statusName,
+                                                          @Nullable String cursor) {
 
         Specification<BugReport> specification = Specification.where(null);
 
@@ -205,7 +216,7 @@ public class BugReportService {
         }
 
         if (severityName != null) {
-            BugReportSeverity severity = bugReportSeverityRepository.findByName(severityName)
+            BugReportSeverity severity = dictionaryRegistry.findBugReportSeverity(severityName)
                     .orElseThrow(() -> new NoSuchBugReportSeverityByNameException(severityName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -214,7 +225,7 @@ public class BugReportService {
         }
 
         if (statusName != null) {
-            BugReportStatus status = bugReportStatusRepository.findByName(statusName)
+            BugReportStatus status = dictionaryRegistry.findBugReportStatus(statusName)
                     .orElseThrow(() -> new NoSuchBugReportStatusByNameException(statusName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -222,16 +233,28 @@ public class BugReportService {
             );
         }
 
+        if (cursor != null) {
+            Window<BugReport> bugReports = bugReportRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/bug-reports"));
+
+            return pageMapper.toResponse(bugReports.map(responseMapper(bugReports)), pageable, cursor, URI.create("/bug-reports"));
+        }
+
         var bugReports = bugReportRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                bugReports.map(bugReport -> bugReportMapper.toResponse(bugReport,
-                        projectRepository.findById(bugReport.getProjectId())
-                                .map(project -> new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId()))
-                                .orElseThrow(() -> new NoSuchProjectByIdException(bugReport.getProjectId())),
-                        userInfoService.getUserInfo(bugReport.getReporterId()))),
-                URI.create("/bug-reports")
+        return pageMapper.toResponse(bugReports.map(responseMapper(bugReports)), URI.create("/bug-reports"));
+    }
+
+    private Function<BugReport, BugReportResponse> responseMapper(Streamable<BugReport> bugReports) {
+        var reporterInfos = userInfoService.getUserInfos(
+                bugReports.stream().map(BugReport::getReporterId).collect(Collectors.toSet())
         );
+
+        return bugReport -> bugReportMapper.toResponse(bugReport,
+                projectRepository.findById(bugReport.getProjectId())
+                        .map(project -> new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId()))
+                        .orElseThrow(() -> new NoSuchProjectByIdException(bugReport.getProjectId())),
+                reporterInfos.get(bugReport.getReporterId()));
     }
 
     private boolean hasNoAccessToManageBugReport(Long reporterId, Long projectId, AuthInfo authInfo) {
@@ -5,6 +5,7 @@ import com.stepaniuk.testhorizon.payload.comment.CommentCreateRequest;
 import com.stepaniuk.testhorizon.payload.comment.CommentResponse;
 import com.stepaniuk.testhorizon.payload.comment.CommentUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CountMode;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -43,14 +44,18 @@ public class CommentController {
 
     @GetMapping("/all")
     public ResponseEntity<PagedModel<CommentResponse>> getAllComments(Pageable pageable,
-                                                                      @RequestParam(required = false) Long authorId){
-        return ResponseEntity.ok(commentService.getAllComments(pageable, authorId));
+                                                                      @RequestParam(required = false) Long authorId,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) CountMode count){
+        return ResponseEntity.ok(commentService.getAllComments(pageable, authorId, cursor, count));
     }
 
     @GetMapping
     public ResponseEntity<PagedModel<CommentResponse>> getCommentsByEntity(Pageable pageable,
                                                                           @RequestParam Long entityId,
-                                                                          @RequestParam EntityType entityType) {
-        return ResponseEntity.ok(commentService.getCommentsByEntity(pageable, entityId, entityType));
+                                                                          @RequestParam EntityType entityType,
+                                                                          @RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) CountMode count) {
+        return ResponseEntity.ok(commentService.getCommentsByEntity(pageable, entityId, entityType, cursor, count));
     }
 }
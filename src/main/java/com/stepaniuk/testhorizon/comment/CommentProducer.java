@@ -1,20 +1,17 @@
 package com.stepaniuk.testhorizon.comment;
 
 import com.stepaniuk.testhorizon.event.comment.CommentEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class CommentProducer {
 
-    private final KafkaTemplate<String, CommentEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, CommentEvent>> send(CommentEvent commentEvent) {
-        return kafkaTemplate.send("comments", commentEvent);
+    public void send(CommentEvent commentEvent) {
+        outbox.add("comments", commentEvent.getCommentId(), commentEvent);
     }
 }
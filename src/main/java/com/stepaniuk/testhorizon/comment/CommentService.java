@@ -10,7 +10,10 @@ import com.stepaniuk.testhorizon.payload.comment.CommentCreateRequest;
 import com.stepaniuk.testhorizon.payload.comment.CommentResponse;
 import com.stepaniuk.testhorizon.payload.comment.CommentUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CountMode;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.shared.PageMapper;
+import com.stepaniuk.testhorizon.shared.PagingQueries;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
@@ -19,13 +22,19 @@ import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -34,12 +43,16 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt");
+
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final PageMapper pageMapper;
     private final CommentProducer commentProducer;
     private final UserInfoService userInfoService;
+    private final PagingQueries pagingQueries;
 
+    @Transactional
     public CommentResponse createComment(CommentCreateRequest commentCreateRequest, Long authorId, String correlationId) {
         Comment comment = new Comment();
 
@@ -62,6 +75,7 @@ public class CommentService {
     }
 
 
+    @Transactional
     public CommentResponse updateComment(Long commentId, Long userId, CommentUpdateRequest commentUpdateRequest, String correlationId, AuthInfo authInfo) {
         var comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NoSuchCommentByIdException(commentId));
@@ -91,6 +105,7 @@ public class CommentService {
         return commentMapper.toResponse(updatedComment, authorInfo);
     }
 
+    @Transactional
     public void deleteCommentById(Long id, String correlationId, AuthInfo authInfo) {
         var comment = commentRepository.findById(id)
                 .orElseThrow(() -> new NoSuchCommentByIdException(id));
@@ -110,38 +125,80 @@ public class CommentService {
     }
 
     public PagedModel<CommentResponse> getAllComments(Pageable pageable,
-                                                      @Nullable Long authorId) {
+                                                      @Nullable Long authorId,
+                                                      @Nullable String cursor,
+                                                      @Nullable CountMode countMode) {
 
         Specification<Comment> specification = (authorId != null)
                 ? (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("authorId"), authorId)
                 : null;
 
+        if (cursor != null) {
+            Window<Comment> comments = commentRepository.findBy(Specification.where(specification),
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/comments"));
+
+            return pageMapper.toResponse(comments.map(responseMapper(comments)), pageable, cursor, URI.create("/comments"));
+        }
+
+        if (countMode == CountMode.NONE) {
+            var comments = pagingQueries.findSlice(Comment.class, specification, pageable);
+
+            return pageMapper.toResponse(comments.map(responseMapper(comments)), URI.create("/comments"));
+        }
+
+        if (countMode == CountMode.APPROXIMATE) {
+            var comments = pagingQueries.findPage(Comment.class, specification, pageable, true);
+
+            return pageMapper.toResponse(comments.map(responseMapper(comments)), URI.create("/comments"));
+        }
+
         var comments = (specification != null)
                 ? commentRepository.findAll(specification, pageable)
                 : commentRepository.findAll(pageable);
 
-        var authorInfo = (authorId != null) ? userInfoService.getUserInfo(authorId) : null;
+        return pageMapper.toResponse(comments.map(responseMapper(comments)), URI.create("/comments"));
+    }
 
-        return pageMapper.toResponse(
-                comments.map(comment -> commentMapper.toResponse(comment,
-                        (authorInfo != null) ? authorInfo : userInfoService.getUserInfo(comment.getAuthorId()))),
-                URI.create("/comments")
+
+    public PagedModel<CommentResponse> getCommentsByEntity(Pageable pageable, Long entityId, EntityType entityType,
+                                                           @Nullable String cursor,
+                                                           @Nullable CountMode countMode) {
+
+        Specification<Comment> specification = (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.equal(root.get("entityType"), entityType),
+                criteriaBuilder.equal(root.get("entityId"), entityId)
         );
-    }
 
+        if (cursor != null) {
+            Window<Comment> comments = commentRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/comments"));
+
+            return pageMapper.toResponse(comments.map(responseMapper(comments)), pageable, cursor, URI.create("/comments"));
+        }
+
+        if (countMode == CountMode.NONE) {
+            var comments = pagingQueries.findSlice(Comment.class, specification, pageable);
 
-    public PagedModel<CommentResponse> getCommentsByEntity(Pageable pageable, Long entityId, EntityType entityType) {
+            return pageMapper.toResponse(comments.map(responseMapper(comments)), URI.create("/comments"));
+        }
 
-        var comments = commentRepository.findByEntityTypeAndEntityId(pageable, entityType, entityId);
+        var comments = countMode == CountMode.APPROXIMATE
+                ? pagingQueries.findPage(Comment.class, specification, pageable, true)
+                : commentRepository.findByEntityTypeAndEntityId(pageable, entityType, entityId);
 
         if (comments.isEmpty()) {
             return pageMapper.toResponse(Page.empty(pageable), URI.create("/comments"));
         }
 
-        return pageMapper.toResponse(
-                comments.map(comment -> commentMapper.toResponse(comment, userInfoService.getUserInfo(comment.getAuthorId()))),
-                URI.create("/comments")
+        return pageMapper.toResponse(comments.map(responseMapper(comments)), URI.create("/comments"));
+    }
+
+    private Function<Comment, CommentResponse> responseMapper(Streamable<Comment> comments) {
+        var authorInfos = userInfoService.getUserInfos(
+                comments.stream().map(Comment::getAuthorId).collect(Collectors.toSet())
         );
+
+        return comment -> commentMapper.toResponse(comment, authorInfos.get(comment.getAuthorId()));
     }
 
     private boolean hasNoAccessToManageComment(Long authorId, AuthInfo authInfo) {
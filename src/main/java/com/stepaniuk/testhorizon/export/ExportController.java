@@ -1,11 +1,15 @@
 package com.stepaniuk.testhorizon.export;
 
 import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 public class ExportController {
 
     private final EntityExportService exportService;
+    private final ProjectBundleExportService projectBundleExportService;
 
     @GetMapping("/{entityType}/{id}")
     public ResponseEntity<?> exportEntity(
@@ -42,4 +47,35 @@ public class ExportController {
             }
         }
     }
+
+    @GetMapping("/projects/{id}/bundle")
+    public ResponseEntity<StreamingResponseBody> exportProjectBundle(
+            @PathVariable Long id,
+            @RequestParam ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        projectBundleExportService.checkProjectExists(id);
+
+        String fileName = "project_" + id + "_bundle." + format.name().toLowerCase();
+
+        if (gzip) {
+            StreamingResponseBody body = outputStream -> {
+                GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+                projectBundleExportService.exportBundle(id, format, gzipOutputStream);
+                gzipOutputStream.finish();
+            };
+
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName + ".gz")
+                    .contentType(MediaType.parseMediaType("application/gzip"))
+                    .body(body);
+        }
+
+        StreamingResponseBody body = outputStream -> projectBundleExportService.exportBundle(id, format, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + fileName)
+                .contentType(format == ExportFormat.CSV ? MediaType.TEXT_PLAIN : MediaType.APPLICATION_XML)
+                .body(body);
+    }
 }
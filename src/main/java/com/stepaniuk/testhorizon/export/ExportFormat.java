@@ -1,5 +0,0 @@
-package com.stepaniuk.testhorizon.export;
-
-public enum ExportFormat {
-    XML, CSV
-}
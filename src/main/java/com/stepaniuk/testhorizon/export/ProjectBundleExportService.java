@@ -0,0 +1,208 @@
+package com.stepaniuk.testhorizon.export;
+
+import com.stepaniuk.testhorizon.export.exceptions.NoSuchHandlerFoundForEntity;
+import com.stepaniuk.testhorizon.export.handler.StreamingExportHandler;
+import com.stepaniuk.testhorizon.project.Project;
+import com.stepaniuk.testhorizon.project.ProjectRepository;
+import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import static com.stepaniuk.testhorizon.export.ExportUtils.safeForCsv;
+import static com.stepaniuk.testhorizon.export.ExportUtils.safeForXml;
+
+/**
+ * Exports the entities of a project, either a single entity type or the whole project bundle (the project together
+ * with its test cases, tests and bug reports).
+ * <p>
+ * Rows are read through the {@link StreamingExportHandler}s in fixed-size chunks and written straight to the output
+ * stream, each row is detached right after it has been written, so memory usage does not grow with the project size.
+ */
+@Service
+public class ProjectBundleExportService {
+
+    private static final List<EntityType> BUNDLE_SECTIONS = List.of(EntityType.TEST_CASE, EntityType.TEST, EntityType.BUG_REPORT);
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+
+    private final ProjectRepository projectRepository;
+    private final EntityManager entityManager;
+    private final Map<EntityType, StreamingExportHandler<?>> handlerMap = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ProjectBundleExportService(ProjectRepository projectRepository, EntityManager entityManager,
+                                      List<StreamingExportHandler<?>> handlers) {
+        this.projectRepository = projectRepository;
+        this.entityManager = entityManager;
+        for (StreamingExportHandler<?> handler : handlers) {
+            handlerMap.put(handler.getEntityType(), handler);
+        }
+    }
+
+    public void checkProjectExists(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new NoSuchProjectByIdException(projectId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void exportBundle(Long projectId, ExportFormat format, OutputStream outputStream) throws IOException {
+        export(EntityType.PROJECT, projectId, format, outputStream, rows -> {
+        });
+    }
+
+    /**
+     * Writes all entities of the given type that belong to the project, {@link EntityType#PROJECT} stands for the
+     * whole project bundle. The progress listener receives the number of rows written so far after each row.
+     * The output stream is flushed but not closed.
+     */
+    @Transactional(readOnly = true)
+    public void export(EntityType entityType, Long projectId, ExportFormat format, OutputStream outputStream,
+                       LongConsumer progressListener) throws IOException {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new NoSuchProjectByIdException(projectId));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        var progress = new Progress(progressListener);
+
+        if (entityType == EntityType.PROJECT) {
+            writeBundle(project, format, writer, progress);
+        } else {
+            writeSingle(getHandler(entityType), projectId, format, writer, progress);
+        }
+
+        writer.flush();
+    }
+
+    private void writeBundle(Project project, ExportFormat format, Writer writer, Progress progress) throws IOException {
+        switch (format) {
+            case CSV -> {
+                writer.write("Project\n");
+                writer.write("Id,Title,Description,Instructions,GithubUrl\n");
+                writer.write(String.join(",",
+                        String.valueOf(project.getId()),
+                        safeForCsv(project.getTitle()),
+                        safeForCsv(project.getDescription()),
+                        safeForCsv(project.getInstructions()),
+                        safeForCsv(project.getGithubUrl())
+                ));
+                writer.write('\n');
+
+                for (EntityType section : BUNDLE_SECTIONS) {
+                    var handler = getHandler(section);
+                    writer.write("\n" + handler.getCsvSectionTitle() + "\n");
+                    writeCsvRows(handler, project.getId(), writer, progress);
+                }
+            }
+            case XML -> {
+                writer.write(XML_DECLARATION);
+                writer.write("""
+                        <project>
+                        <id>%s</id>
+                        <title>%s</title>
+                        <description>%s</description>
+                        <instructions>%s</instructions>
+                        <githubUrl>%s</githubUrl>
+                        """.formatted(
+                        project.getId(),
+                        safeForXml(project.getTitle()),
+                        safeForXml(project.getDescription()),
+                        safeForXml(project.getInstructions()),
+                        safeForXml(project.getGithubUrl())
+                ));
+
+                for (EntityType section : BUNDLE_SECTIONS) {
+                    writeXmlCollection(getHandler(section), project.getId(), writer, progress);
+                }
+
+                writer.write("</project>\n");
+            }
+        }
+    }
+
+    private void writeSingle(StreamingExportHandler<?> handler, Long projectId, ExportFormat format, Writer writer,
+                             Progress progress) throws IOException {
+        switch (format) {
+            case CSV -> writeCsvRows(handler, projectId, writer, progress);
+            case XML -> {
+                writer.write(XML_DECLARATION);
+                writeXmlCollection(handler, projectId, writer, progress);
+            }
+        }
+    }
+
+    private <E> void writeCsvRows(StreamingExportHandler<E> handler, Long projectId, Writer writer,
+                                  Progress progress) throws IOException {
+        writer.write(handler.getCsvHeader());
+        writer.write('\n');
+        writeRows(handler.streamByProjectId(projectId), progress, row -> {
+            writer.write(handler.toCsvRow(row));
+            writer.write('\n');
+        });
+    }
+
+    private <E> void writeXmlCollection(StreamingExportHandler<E> handler, Long projectId, Writer writer,
+                                        Progress progress) throws IOException {
+        writer.write("<" + handler.getXmlCollectionName() + ">\n");
+        writeRows(handler.streamByProjectId(projectId), progress, row -> writer.write(handler.toXmlElement(row)));
+        writer.write("</" + handler.getXmlCollectionName() + ">\n");
+    }
+
+    private <T> void writeRows(Stream<T> rows, Progress progress, RowWriter<T> rowWriter) throws IOException {
+        try (rows) {
+            Iterator<T> iterator = rows.iterator();
+
+            while (iterator.hasNext()) {
+                T row = iterator.next();
+                rowWriter.write(row);
+                entityManager.detach(row);
+                progress.increment();
+            }
+        }
+    }
+
+    private StreamingExportHandler<?> getHandler(EntityType entityType) {
+        StreamingExportHandler<?> handler = handlerMap.get(entityType);
+
+        if (handler == null) {
+            throw new NoSuchHandlerFoundForEntity(entityType);
+        }
+
+        return handler;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row) throws IOException;
+    }
+
+    private static final class Progress {
+
+        private final LongConsumer listener;
+        private long rows;
+
+        private Progress(LongConsumer listener) {
+            this.listener = listener;
+        }
+
+        private void increment() {
+            listener.accept(++rows);
+        }
+    }
+}
@@ -1,23 +1,29 @@
 package com.stepaniuk.testhorizon.export.handler;
 
+import com.stepaniuk.testhorizon.bugreport.BugReport;
+import com.stepaniuk.testhorizon.bugreport.BugReportRepository;
 import com.stepaniuk.testhorizon.bugreport.BugReportService;
 import com.stepaniuk.testhorizon.payload.bugreport.BugReportResponse;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.stream.Stream;
+
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForCsv;
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForXml;
 import static com.stepaniuk.testhorizon.types.entity.EntityType.BUG_REPORT;
 
 @Component
-public class BugReportExportHandler implements EntityExportHandler<BugReportResponse> {
+public class BugReportExportHandler implements EntityExportHandler<BugReportResponse>, StreamingExportHandler<BugReport> {
 
     private final BugReportService bugReportService;
+    private final BugReportRepository bugReportRepository;
 
     @Autowired
-    public BugReportExportHandler(BugReportService bugReportService) {
+    public BugReportExportHandler(BugReportService bugReportService, BugReportRepository bugReportRepository) {
         this.bugReportService = bugReportService;
+        this.bugReportRepository = bugReportRepository;
     }
 
     @Override
@@ -25,6 +31,11 @@ public class BugReportExportHandler implements EntityExportHandler<BugReportResp
         return BUG_REPORT;
     }
 
+    @Override
+    public Stream<BugReport> streamByProjectId(Long projectId) {
+        return bugReportRepository.streamByProjectId(projectId);
+    }
+
     @Override
     public BugReportResponse findById(Long id) {
         return bugReportService.getBugReportById(id);
@@ -69,4 +80,55 @@ public class BugReportExportHandler implements EntityExportHandler<BugReportResp
                 (bugReportResponse.getSeverity() != null) ? bugReportResponse.getSeverity().name() : ""
         );
     }
+
+    @Override
+    public String getCsvHeader() {
+        return "Id,ProjectId,Title,Description,Environment,Severity,Status";
+    }
+
+    @Override
+    public String toCsvRow(BugReport bugReport) {
+        return String.join(",",
+                String.valueOf(bugReport.getId()),
+                String.valueOf(bugReport.getProjectId()),
+                safeForCsv(bugReport.getTitle()),
+                safeForCsv(bugReport.getDescription()),
+                safeForCsv(bugReport.getEnvironment()),
+                (bugReport.getSeverity() != null) ? bugReport.getSeverity().getName().name() : "",
+                (bugReport.getStatus() != null) ? bugReport.getStatus().getName().name() : ""
+        );
+    }
+
+    @Override
+    public String getCsvSectionTitle() {
+        return "BugReports";
+    }
+
+    @Override
+    public String getXmlCollectionName() {
+        return "bugreports";
+    }
+
+    @Override
+    public String toXmlElement(BugReport bugReport) {
+        return """
+                <bugreport>
+                    <id>%s</id>
+                    <projectId>%s</projectId>
+                    <title>%s</title>
+                    <description>%s</description>
+                    <environment>%s</environment>
+                    <severity>%s</severity>
+                    <status>%s</status>
+                </bugreport>
+                """.formatted(
+                bugReport.getId(),
+                bugReport.getProjectId(),
+                safeForXml(bugReport.getTitle()),
+                safeForXml(bugReport.getDescription()),
+                safeForXml(bugReport.getEnvironment()),
+                (bugReport.getSeverity() != null) ? bugReport.getSeverity().getName().name() : "",
+                (bugReport.getStatus() != null) ? bugReport.getStatus().getName().name() : ""
+        );
+    }
 }
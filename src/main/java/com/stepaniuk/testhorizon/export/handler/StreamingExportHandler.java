@@ -0,0 +1,31 @@
+package com.stepaniuk.testhorizon.export.handler;
+
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+
+import java.util.stream.Stream;
+
+/**
+ * Streaming mode of an export handler: rows of a project are read through a server-side cursor and rendered one
+ * at a time, so exports of any size can be written without materializing the result set.
+ * <p>
+ * Returned streams must be closed by the caller and are only usable inside a transaction.
+ */
+public interface StreamingExportHandler<E> {
+
+    EntityType getEntityType();
+
+    Stream<E> streamByProjectId(Long projectId);
+
+    String getCsvHeader();
+
+    String toCsvRow(E entity);
+
+    /**
+     * Title of the section of a CSV project bundle, kept apart from the XML collection name.
+     */
+    String getCsvSectionTitle();
+
+    String getXmlCollectionName();
+
+    String toXmlElement(E entity);
+}
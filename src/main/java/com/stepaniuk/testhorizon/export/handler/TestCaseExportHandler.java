@@ -2,25 +2,30 @@ package com.stepaniuk.testhorizon.export.handler;
 
 import com.stepaniuk.testhorizon.export.ExportUtils;
 import com.stepaniuk.testhorizon.payload.testcase.TestCaseResponse;
+import com.stepaniuk.testhorizon.testcase.TestCase;
+import com.stepaniuk.testhorizon.testcase.TestCaseRepository;
 import com.stepaniuk.testhorizon.testcase.TestCaseService;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForCsv;
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForXml;
 import static com.stepaniuk.testhorizon.types.entity.EntityType.TEST_CASE;
 
 @Component
-public class TestCaseExportHandler implements EntityExportHandler<TestCaseResponse> {
+public class TestCaseExportHandler implements EntityExportHandler<TestCaseResponse>, StreamingExportHandler<TestCase> {
 
     private final TestCaseService testCaseService;
+    private final TestCaseRepository testCaseRepository;
 
     @Autowired
-    public TestCaseExportHandler(TestCaseService testCaseService) {
+    public TestCaseExportHandler(TestCaseService testCaseService, TestCaseRepository testCaseRepository) {
         this.testCaseService = testCaseService;
+        this.testCaseRepository = testCaseRepository;
     }
 
     @Override
@@ -28,6 +33,11 @@ public class TestCaseExportHandler implements EntityExportHandler<TestCaseRespon
         return TEST_CASE;
     }
 
+    @Override
+    public Stream<TestCase> streamByProjectId(Long projectId) {
+        return testCaseRepository.streamByProjectId(projectId);
+    }
+
     @Override
     public TestCaseResponse findById(Long id) {
         return testCaseService.getTestCaseById(id);
@@ -94,4 +104,73 @@ public class TestCaseExportHandler implements EntityExportHandler<TestCaseRespon
                 (testCase.getPriority() != null) ? testCase.getPriority().name() : ""
         );
     }
+
+    @Override
+    public String getCsvHeader() {
+        return "Id,ProjectId,Title,Description,Preconditions,InputData,Steps,Priority";
+    }
+
+    @Override
+    public String toCsvRow(TestCase testCase) {
+        String joinedSteps = "";
+        if (testCase.getSteps() != null && !testCase.getSteps().isEmpty()) {
+            joinedSteps = testCase.getSteps().stream()
+                    .map(ExportUtils::safeForCsv)
+                    .collect(Collectors.joining(";"));
+        }
+
+        return String.join(",",
+                String.valueOf(testCase.getId()),
+                String.valueOf(testCase.getProjectId()),
+                safeForCsv(testCase.getTitle()),
+                safeForCsv(testCase.getDescription()),
+                safeForCsv(testCase.getPreconditions()),
+                safeForCsv(testCase.getInputData()),
+                joinedSteps,
+                (testCase.getPriority() != null) ? testCase.getPriority().getName().name() : ""
+        );
+    }
+
+    @Override
+    public String getCsvSectionTitle() {
+        return "TestCases";
+    }
+
+    @Override
+    public String getXmlCollectionName() {
+        return "testcases";
+    }
+
+    @Override
+    public String toXmlElement(TestCase testCase) {
+        String stepsXml = "";
+
+        if (testCase.getSteps() != null && !testCase.getSteps().isEmpty()) {
+            stepsXml = testCase.getSteps().stream()
+                    .map(step -> "<step>" + safeForXml(step) + "</step>")
+                    .collect(Collectors.joining(""));
+        }
+
+        return """
+                <testcase>
+                    <id>%s</id>
+                    <projectId>%s</projectId>
+                    <title>%s</title>
+                    <description>%s</description>
+                    <preconditions>%s</preconditions>
+                    <inputData>%s</inputData>
+                    <steps>%s</steps>
+                    <priority>%s</priority>
+                </testcase>
+                """.formatted(
+                testCase.getId(),
+                testCase.getProjectId(),
+                safeForXml(testCase.getTitle()),
+                safeForXml(testCase.getDescription()),
+                safeForXml(testCase.getPreconditions()),
+                safeForXml(testCase.getInputData()),
+                stepsXml,
+                (testCase.getPriority() != null) ? testCase.getPriority().getName().name() : ""
+        );
+    }
 }
@@ -1,23 +1,29 @@
 package com.stepaniuk.testhorizon.export.handler;
 
 import com.stepaniuk.testhorizon.payload.test.TestResponse;
+import com.stepaniuk.testhorizon.test.Test;
+import com.stepaniuk.testhorizon.test.TestRepository;
 import com.stepaniuk.testhorizon.test.TestService;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.stream.Stream;
+
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForCsv;
 import static com.stepaniuk.testhorizon.export.ExportUtils.safeForXml;
 import static com.stepaniuk.testhorizon.types.entity.EntityType.TEST;
 
 @Component
-public class TestExportHandler implements EntityExportHandler<TestResponse> {
+public class TestExportHandler implements EntityExportHandler<TestResponse>, StreamingExportHandler<Test> {
 
     private final TestService testService;
+    private final TestRepository testRepository;
 
     @Autowired
-    public TestExportHandler(TestService testService) {
+    public TestExportHandler(TestService testService, TestRepository testRepository) {
         this.testService = testService;
+        this.testRepository = testRepository;
     }
 
     @Override
@@ -25,6 +31,11 @@ public class TestExportHandler implements EntityExportHandler<TestResponse> {
         return TEST;
     }
 
+    @Override
+    public Stream<Test> streamByProjectId(Long projectId) {
+        return testRepository.streamByProjectId(projectId);
+    }
+
     @Override
     public TestResponse findById(Long id) {
         return testService.getTestById(id);
@@ -75,4 +86,58 @@ public class TestExportHandler implements EntityExportHandler<TestResponse> {
                 (test.getType() != null) ? test.getType().name() : ""
         );
     }
+
+    @Override
+    public String getCsvHeader() {
+        return "Id,ProjectId,TestCaseId,Title,Description,Instructions,GithubUrl,Type";
+    }
+
+    @Override
+    public String toCsvRow(Test test) {
+        return String.join(",",
+                String.valueOf(test.getId()),
+                String.valueOf(test.getProjectId()),
+                (test.getTestCaseId() != null) ? test.getTestCaseId().toString() : "",
+                safeForCsv(test.getTitle()),
+                safeForCsv(test.getDescription()),
+                safeForCsv(test.getInstructions()),
+                safeForCsv(test.getGithubUrl()),
+                (test.getType() != null) ? test.getType().getName().name() : ""
+        );
+    }
+
+    @Override
+    public String getCsvSectionTitle() {
+        return "Tests";
+    }
+
+    @Override
+    public String getXmlCollectionName() {
+        return "tests";
+    }
+
+    @Override
+    public String toXmlElement(Test test) {
+        return """
+                <test>
+                    <id>%s</id>
+                    <projectId>%s</projectId>
+                    <testCaseId>%s</testCaseId>
+                    <title>%s</title>
+                    <description>%s</description>
+                    <instructions>%s</instructions>
+                    <githubUrl>%s</githubUrl>
+                    <type>%s</type>
+                </test>
+                """.formatted(
+                test.getId(),
+                test.getProjectId(),
+                (test.getTestCaseId() != null) ? test.getTestCaseId() : "",
+                safeForXml(test.getTitle()),
+                safeForXml(test.getDescription()),
+                safeForXml(test.getInstructions()),
+                safeForXml(test.getGithubUrl()),
+                (test.getType() != null) ? test.getType().getName().name() : ""
+        );
+    }
 }
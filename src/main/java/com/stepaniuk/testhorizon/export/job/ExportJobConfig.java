@@ -0,0 +1,32 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ExportJobConfig {
+
+    @Value("${export.jobs.pool-size:2}")
+    private int poolSize;
+
+    @Value("${export.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    /**
+     * Bounded worker pool for export jobs: a fixed number of workers and a bounded queue, submissions beyond
+     * the queue capacity are rejected instead of piling up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor exportJobExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("export-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.payload.export.ExportJobResponse;
+import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping(path = "/export-jobs", produces = "application/json")
+public class ExportJobController {
+
+    private final ExportJobService exportJobService;
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> createExportJob(@RequestParam EntityType entityType,
+                                                             @RequestParam Long projectId,
+                                                             @RequestParam ExportFormat format,
+                                                             AuthInfo authInfo) {
+        return new ResponseEntity<>(exportJobService.createExportJob(entityType, projectId, format,
+                authInfo.getUserId(), UUID.randomUUID().toString()), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobResponse> getExportJobById(@PathVariable UUID id, AuthInfo authInfo) {
+        return ResponseEntity.ok(exportJobService.getExportJob(id, authInfo));
+    }
+}
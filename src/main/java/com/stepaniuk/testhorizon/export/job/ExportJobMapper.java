@@ -0,0 +1,25 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.payload.export.ExportJobResponse;
+import org.mapstruct.*;
+import org.springframework.hateoas.Link;
+
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface ExportJobMapper {
+
+    @BeanMapping(qualifiedByName = "addLinks")
+    ExportJobResponse toResponse(ExportJob exportJob);
+
+    @AfterMapping
+    @Named("addLinks")
+    default ExportJobResponse addLinks(ExportJob exportJob, @MappingTarget ExportJobResponse response) {
+
+        response.add(Link.of("/export-jobs/" + exportJob.getId()).withSelfRel());
+
+        if (exportJob.getDownloadUrl() != null) {
+            response.add(Link.of(exportJob.getDownloadUrl()).withRel("download"));
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.event.export.ExportJobEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
+import com.stepaniuk.testhorizon.shared.Producer;
+import lombok.RequiredArgsConstructor;
+
+@Producer
+@RequiredArgsConstructor
+public class ExportJobProducer {
+
+    private final Outbox outbox;
+
+    public void send(ExportJobEvent exportJobEvent) {
+        outbox.add("export-jobs", exportJobEvent.getJobId(), exportJobEvent);
+    }
+}
@@ -0,0 +1,86 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ExportJobRepository extends JpaRepository<ExportJob, UUID> {
+
+    /**
+     * Moves a queued job to {@code RUNNING}. Returns {@code 0} when the job is no longer queued, it was failed by
+     * {@link StaleExportJobSweeper} meanwhile and must not run.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.RUNNING, " +
+            "j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.QUEUED")
+    int claim(@Param("id") UUID id, @Param("now") Instant now);
+
+    /**
+     * Stores the progress of a running job. {@link ExportJobRunner} calls it in a transaction of its own together with
+     * the progress event, so both are visible while the export is still reading inside a read-only transaction. Also
+     * moves {@code updatedAt}, which tells {@link StaleExportJobSweeper} that the job is still alive.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.processedRows = :processedRows, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.RUNNING")
+    int updateProcessedRows(@Param("id") UUID id, @Param("processedRows") Long processedRows, @Param("now") Instant now);
+
+    /**
+     * Marks the jobs still queued or running on this instance as alive, see {@link StaleExportJobSweeper}.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.updatedAt = :now WHERE j.id IN :ids AND j.status IN :statuses")
+    int heartbeat(@Param("ids") Collection<UUID> ids, @Param("statuses") Collection<ExportJobStatus> statuses,
+                  @Param("now") Instant now);
+
+    /**
+     * Records the uploaded export of a running job. Returns {@code 0} when the job is no longer running.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.COMPLETED, " +
+            "j.processedRows = :processedRows, j.fileKey = :fileKey, j.downloadUrl = :downloadUrl, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.RUNNING")
+    int complete(@Param("id") UUID id, @Param("processedRows") Long processedRows, @Param("fileKey") String fileKey,
+                 @Param("downloadUrl") String downloadUrl, @Param("now") Instant now);
+
+    /**
+     * Records the error of a running job. Returns {@code 0} when the job is no longer running.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.FAILED, " +
+            "j.processedRows = :processedRows, j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.RUNNING")
+    int fail(@Param("id") UUID id, @Param("processedRows") Long processedRows,
+             @Param("errorMessage") String errorMessage, @Param("now") Instant now);
+
+    List<ExportJob> findAllByStatusInAndUpdatedAtBefore(Collection<ExportJobStatus> statuses, Instant staleBefore);
+
+    /**
+     * Marks the job as failed unless it was updated or heartbeated since {@code staleBefore} or has already finished.
+     * Returns {@code 0} when the job is still alive, so only one instance reports it.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ExportJob j SET j.status = com.stepaniuk.testhorizon.types.export.ExportJobStatus.FAILED, " +
+            "j.errorMessage = :errorMessage, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :statuses AND j.updatedAt < :staleBefore")
+    int failIfStale(@Param("id") UUID id, @Param("statuses") Collection<ExportJobStatus> statuses,
+                    @Param("staleBefore") Instant staleBefore, @Param("errorMessage") String errorMessage,
+                    @Param("now") Instant now);
+}
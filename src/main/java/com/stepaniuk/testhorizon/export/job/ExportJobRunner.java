@@ -0,0 +1,189 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.aws.s3.S3Service;
+import com.stepaniuk.testhorizon.event.export.ExportJobCompletedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobFailedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobProgressEvent;
+import com.stepaniuk.testhorizon.export.ProjectBundleExportService;
+import com.stepaniuk.testhorizon.export.job.exceptions.NoSuchExportJobByIdException;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executes a single export job on a worker thread: streams the export into a temporary file, uploads the file to
+ * the S3 bucket and records the outcome. Progress is published every {@code export.jobs.progress-interval} rows.
+ * <p>
+ * A job only runs once it moved from {@code QUEUED} to {@code RUNNING}, and only a running job is completed or failed,
+ * so a job failed by {@link StaleExportJobSweeper} never reports another outcome. Every status change is written
+ * together with its event in one transaction. The export reads inside a read-only
+ * transaction, so these transactions are always new ones; joining the export's transaction would have the progress
+ * updates rejected or never flushed.
+ */
+@Component
+public class ExportJobRunner {
+
+    private static final String EXPORTS_FOLDER = "exports";
+
+    private final ExportJobRepository exportJobRepository;
+    private final ProjectBundleExportService projectBundleExportService;
+    private final S3Service s3Service;
+    private final ExportJobProducer exportJobProducer;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<UUID> trackedJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${export.jobs.progress-interval:1000}")
+    private long progressInterval;
+
+    @Autowired
+    public ExportJobRunner(ExportJobRepository exportJobRepository, ProjectBundleExportService projectBundleExportService,
+                           S3Service s3Service, ExportJobProducer exportJobProducer,
+                           PlatformTransactionManager transactionManager) {
+        this.exportJobRepository = exportJobRepository;
+        this.projectBundleExportService = projectBundleExportService;
+        this.s3Service = s3Service;
+        this.exportJobProducer = exportJobProducer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Records that the job was handed to the worker pool of this instance, so {@link StaleExportJobSweeper} keeps it
+     * alive while it waits in the queue.
+     */
+    public void track(UUID jobId) {
+        trackedJobs.add(jobId);
+    }
+
+    public void untrack(UUID jobId) {
+        trackedJobs.remove(jobId);
+    }
+
+    /**
+     * Returns the jobs queued or running on this instance.
+     */
+    public Set<UUID> trackedJobs() {
+        return Collections.unmodifiableSet(trackedJobs);
+    }
+
+    public void run(UUID jobId, String correlationId) {
+        try {
+            execute(jobId, correlationId);
+        } finally {
+            untrack(jobId);
+        }
+    }
+
+    private void execute(UUID jobId, String correlationId) {
+        var job = exportJobRepository.findById(jobId)
+                .orElseThrow(() -> new NoSuchExportJobByIdException(jobId));
+
+        // a job failed as stale while it was queued is left alone, it was reported already
+        boolean claimed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (exportJobRepository.claim(jobId, Instant.now()) == 0) {
+                return false;
+            }
+
+            publishProgress(job, 0L, correlationId);
+            return true;
+        }));
+
+        if (!claimed) {
+            return;
+        }
+
+        var processedRows = new AtomicLong();
+        Path tempFile = null;
+
+        try {
+            tempFile = Files.createTempFile("export-" + jobId, "." + extension(job.getFormat()));
+
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                projectBundleExportService.export(job.getEntityType(), job.getProjectId(), job.getFormat(), outputStream,
+                        rows -> {
+                            processedRows.set(rows);
+                            if (rows % progressInterval == 0) {
+                                transactionTemplate.executeWithoutResult(status -> {
+                                    if (exportJobRepository.updateProcessedRows(jobId, rows, Instant.now()) > 0) {
+                                        publishProgress(job, rows, correlationId);
+                                    }
+                                });
+                            }
+                        });
+            }
+
+            String fileKey = EXPORTS_FOLDER + "/" + jobId + "/" + fileName(job);
+            String downloadUrl = s3Service.uploadObject(fileKey, tempFile, contentType(job.getFormat()));
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (exportJobRepository.complete(jobId, processedRows.get(), fileKey, downloadUrl, Instant.now()) > 0) {
+                    exportJobProducer.send(
+                            new ExportJobCompletedEvent(Instant.now(), UUID.randomUUID().toString(), correlationId,
+                                    jobId, job.getOwnerId(), processedRows.get(), downloadUrl)
+                    );
+                }
+            });
+        } catch (Exception e) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (exportJobRepository.fail(jobId, processedRows.get(), e.getMessage(), Instant.now()) > 0) {
+                    exportJobProducer.send(
+                            new ExportJobFailedEvent(Instant.now(), UUID.randomUUID().toString(), correlationId,
+                                    jobId, job.getOwnerId(), processedRows.get(), e.getMessage())
+                    );
+                }
+            });
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    private void publishProgress(ExportJob job, Long processedRows, String correlationId) {
+        exportJobProducer.send(
+                new ExportJobProgressEvent(Instant.now(), UUID.randomUUID().toString(), correlationId,
+                        job.getId(), job.getOwnerId(), processedRows)
+        );
+    }
+
+    private static String fileName(ExportJob job) {
+        return job.getEntityType().name().toLowerCase() + "_" + job.getProjectId() + "." + extension(job.getFormat());
+    }
+
+    private static String extension(ExportFormat format) {
+        return format.name().toLowerCase();
+    }
+
+    private static String contentType(ExportFormat format) {
+        return switch (format) {
+            case CSV -> "text/csv";
+            case XML -> "application/xml";
+        };
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // the temporary directory is cleaned up by the operating system
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.aws.s3.S3Service;
+import com.stepaniuk.testhorizon.export.ProjectBundleExportService;
+import com.stepaniuk.testhorizon.export.job.exceptions.ExportJobQueueFullException;
+import com.stepaniuk.testhorizon.export.job.exceptions.NoSuchExportJobByIdException;
+import com.stepaniuk.testhorizon.payload.export.ExportJobResponse;
+import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ExportJobService {
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportJobMapper exportJobMapper;
+    private final ExportJobRunner exportJobRunner;
+    private final ProjectBundleExportService projectBundleExportService;
+    private final S3Service s3Service;
+    @Qualifier("exportJobExecutor")
+    private final ThreadPoolTaskExecutor exportJobExecutor;
+
+    public ExportJobResponse createExportJob(EntityType entityType, Long projectId, ExportFormat format,
+                                             Long ownerId, String correlationId) {
+        projectBundleExportService.checkProjectExists(projectId);
+
+        var exportJob = new ExportJob();
+
+        exportJob.setOwnerId(ownerId);
+        exportJob.setEntityType(entityType);
+        exportJob.setProjectId(projectId);
+        exportJob.setFormat(format);
+        exportJob.setStatus(ExportJobStatus.QUEUED);
+        exportJob.setProcessedRows(0L);
+
+        var savedExportJob = exportJobRepository.save(exportJob);
+        var jobId = savedExportJob.getId();
+
+        exportJobRunner.track(jobId);
+
+        try {
+            exportJobExecutor.execute(() -> exportJobRunner.run(jobId, correlationId));
+        } catch (TaskRejectedException e) {
+            exportJobRunner.untrack(jobId);
+            exportJobRepository.delete(savedExportJob);
+            throw new ExportJobQueueFullException(exportJobExecutor.getQueueCapacity());
+        }
+
+        return exportJobMapper.toResponse(savedExportJob);
+    }
+
+    public ExportJobResponse getExportJob(UUID id, AuthInfo authInfo) {
+        var exportJob = exportJobRepository.findById(id)
+                .orElseThrow(() -> new NoSuchExportJobByIdException(id));
+
+        if (!exportJob.getOwnerId().equals(authInfo.getUserId())) {
+            throw new AccessToManageEntityDeniedException("Export job", "/export-jobs");
+        }
+
+        // presigned urls expire, so a fresh one is issued every time the job is read
+        if (exportJob.getFileKey() != null) {
+            exportJob.setDownloadUrl(s3Service.createDownloadUrl(exportJob.getFileKey()));
+        }
+
+        return exportJobMapper.toResponse(exportJob);
+    }
+}
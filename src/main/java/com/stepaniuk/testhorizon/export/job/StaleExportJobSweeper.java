@@ -0,0 +1,61 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.event.export.ExportJobFailedEvent;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Fails export jobs that were left {@code QUEUED} or {@code RUNNING} by an instance that stopped, their worker
+ * queue lived in its memory and is gone. Runs at startup and then every {@code export.jobs.stale-check-interval-ms}.
+ * <p>
+ * Staleness is measured by a heartbeat, not by how long a job waits: every run first moves {@code updatedAt} of the
+ * jobs this instance still holds in its queue or runs (see {@link ExportJobRunner#trackedJobs()}), running jobs also
+ * move it with every progress update. A job counts as lost once nothing moved it for
+ * {@code export.jobs.stale-after-minutes}, which has to exceed the check interval by a wide margin.
+ */
+@Component
+@RequiredArgsConstructor
+public class StaleExportJobSweeper {
+
+    static final String ERROR_MESSAGE = "Export job was interrupted, please start it again";
+
+    private static final List<ExportJobStatus> UNFINISHED = List.of(ExportJobStatus.QUEUED, ExportJobStatus.RUNNING);
+
+    private final ExportJobRepository exportJobRepository;
+    private final ExportJobProducer exportJobProducer;
+    private final ExportJobRunner exportJobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${export.jobs.stale-after-minutes:30}")
+    private long staleAfterMinutes;
+
+    @Scheduled(fixedDelayString = "${export.jobs.stale-check-interval-ms:300000}")
+    public void failStaleJobs() {
+        var trackedJobs = List.copyOf(exportJobRunner.trackedJobs());
+        if (!trackedJobs.isEmpty()) {
+            exportJobRepository.heartbeat(trackedJobs, UNFINISHED, Instant.now());
+        }
+
+        Instant staleBefore = Instant.now().minus(Duration.ofMinutes(staleAfterMinutes));
+
+        for (ExportJob job : exportJobRepository.findAllByStatusInAndUpdatedAtBefore(UNFINISHED, staleBefore)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (exportJobRepository.failIfStale(job.getId(), UNFINISHED, staleBefore, ERROR_MESSAGE, Instant.now()) > 0) {
+                    exportJobProducer.send(
+                            new ExportJobFailedEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                                    job.getId(), job.getOwnerId(), job.getProcessedRows(), ERROR_MESSAGE)
+                    );
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.stepaniuk.testhorizon.export.job.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when the export worker pool has no free queue slot for a new job.
+ */
+@Getter
+public class ExportJobQueueFullException extends RuntimeException {
+
+    private final int queueCapacity;
+
+    public ExportJobQueueFullException(int queueCapacity) {
+        super("Export job queue is full, capacity " + queueCapacity);
+        this.queueCapacity = queueCapacity;
+    }
+}
@@ -0,0 +1,19 @@
+package com.stepaniuk.testhorizon.export.job.exceptions;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when export job with given id does not exist.
+ */
+@Getter
+public class NoSuchExportJobByIdException extends RuntimeException {
+
+    private final UUID id;
+
+    public NoSuchExportJobByIdException(UUID id) {
+        super("Export job with id " + id + " does not exist");
+        this.id = id;
+    }
+}
@@ -49,8 +49,9 @@ public class FeedbackController {
     @GetMapping
     public ResponseEntity<PagedModel<FeedbackResponse>> getAllFeedbacks(Pageable pageable,
                                                                         @Nullable @RequestParam(required = false) Long ownerId,
-                                                                        @Nullable @RequestParam(required = false) List<Long> feedbackIds) {
+                                                                        @Nullable @RequestParam(required = false) List<Long> feedbackIds,
+                                                                        @Nullable @RequestParam(required = false) String cursor) {
 
-        return ResponseEntity.ok(feedbackService.getAllFeedbacks(pageable, ownerId, feedbackIds));
+        return ResponseEntity.ok(feedbackService.getAllFeedbacks(pageable, ownerId, feedbackIds, cursor));
     }
 }
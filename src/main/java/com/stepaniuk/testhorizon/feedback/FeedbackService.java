@@ -8,29 +8,39 @@ import com.stepaniuk.testhorizon.payload.feedback.FeedbackCreateRequest;
 import com.stepaniuk.testhorizon.payload.feedback.FeedbackResponse;
 import com.stepaniuk.testhorizon.payload.feedback.FeedbackUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class FeedbackService {
+
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "rating");
     private final FeedbackRepository feedbackRepository;
     private final FeedbackMapper feedbackMapper;
     private final PageMapper pageMapper;
     private final FeedbackProducer feedbackProducer;
     private final UserInfoService userInfoService;
 
+    @Transactional
     public FeedbackResponse createFeedback(FeedbackCreateRequest feedbackCreateRequest,
                                            Long userId, String correlationId) {
         var feedback = new Feedback();
@@ -60,6 +70,7 @@ public class FeedbackService {
                 userInfoService.getUserInfo(authInfo.getUserId()));
     }
 
+    @Transactional
     public FeedbackResponse updateFeedback(Long id, FeedbackUpdateRequest request,
                                            String correlationId) {
         var feedback = feedbackRepository.findById(id)
@@ -87,6 +98,7 @@ public class FeedbackService {
                 userInfoService.getUserInfo(updatedFeedback.getOwnerId()));
     }
 
+    @Transactional
     public void deleteFeedback(Long id, String correlationId) {
         var feedback = feedbackRepository.findById(id)
                 .orElseThrow(() -> new NoSuchFeedbackFoundByIdException(id));
@@ -98,7 +110,8 @@ public class FeedbackService {
 
     public PagedModel<FeedbackResponse> getAllFeedbacks(Pageable pageable,
                                                         @Nullable Long ownerId,
-                                                        @Nullable List<Long> feedbackIds){
+                                                        @Nullable List<Long> feedbackIds,
+                                                        @Nullable String cursor){
         Specification<Feedback> specification = Specification.where(null);
         if (ownerId != null) {
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -111,12 +124,27 @@ public class FeedbackService {
             );
         }
 
+        if (cursor != null) {
+            Window<Feedback> feedbacks = feedbackRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/feedbacks"));
+
+            return pageMapper.toResponse(feedbacks.map(responseMapper(feedbacks)), pageable, cursor, URI.create("/feedbacks"));
+        }
+
         var feedbacks = feedbackRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(feedbacks.map(feedback -> {
-            var userInfo = userInfoService.getUserInfo(feedback.getOwnerId());
-            return feedbackMapper.toResponse(feedback, userInfo);
-        }), URI.create("/feedbacks"));
+        return pageMapper.toResponse(feedbacks.map(responseMapper(feedbacks)), URI.create("/feedbacks"));
 
     }
+
+    private Function<Feedback, FeedbackResponse> responseMapper(Streamable<Feedback> feedbacks) {
+        var ownerInfos = userInfoService.getUserInfos(
+                feedbacks.stream().map(Feedback::getOwnerId).collect(Collectors.toSet())
+        );
+
+        return feedback -> {
+            var userInfo = ownerInfos.get(feedback.getOwnerId());
+            return feedbackMapper.toResponse(feedback, userInfo);
+        };
+    }
 }
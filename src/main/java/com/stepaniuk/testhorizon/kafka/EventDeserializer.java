@@ -0,0 +1,71 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import com.stepaniuk.testhorizon.event.codec.BinaryEventCodec;
+import com.stepaniuk.testhorizon.event.codec.EventCodec;
+import com.stepaniuk.testhorizon.event.codec.EventCodecException;
+import com.stepaniuk.testhorizon.event.codec.EventTypeRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads records with the codec named in their {@value EventSerializer#CODEC_HEADER} header, and records without
+ * the header with {@link JsonDeserializer}, so topics may contain both formats.
+ */
+public class EventDeserializer implements Deserializer<Object> {
+
+    private final Map<String, EventCodec> codecs;
+
+    private final JsonDeserializer<Object> jsonDeserializer = new JsonDeserializer<>();
+
+    public EventDeserializer() {
+        this(List.of(new BinaryEventCodec(EventTypeRegistry.defaults())));
+    }
+
+    public EventDeserializer(List<EventCodec> codecs) {
+        this.codecs = codecs.stream()
+                .collect(Collectors.toUnmodifiableMap(EventCodec::getName, Function.identity()));
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return jsonDeserializer.deserialize(topic, data);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        var header = headers.lastHeader(EventSerializer.CODEC_HEADER);
+        if (header == null || data == null) {
+            return jsonDeserializer.deserialize(topic, headers, data);
+        }
+
+        var name = new String(header.value(), StandardCharsets.UTF_8);
+        var codec = codecs.get(name);
+        if (codec == null) {
+            throw new SerializationException("Unsupported event codec " + name + " of a record in " + topic);
+        }
+
+        try {
+            return codec.decode(data);
+        } catch (EventCodecException e) {
+            throw new SerializationException("Could not decode a " + name + " record in " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+}
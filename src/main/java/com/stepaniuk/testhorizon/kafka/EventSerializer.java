@@ -0,0 +1,82 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import com.stepaniuk.testhorizon.event.codec.BinaryEventCodec;
+import com.stepaniuk.testhorizon.event.codec.EventCodec;
+import com.stepaniuk.testhorizon.event.codec.EventTypeRegistry;
+import com.stepaniuk.testhorizon.event.shared.ApplicationEvent;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes events with the codec selected by the {@code event.codec} producer property and names it in the
+ * {@value #CODEC_HEADER} header. Without the property, and for values the codec does not support, records are
+ * written by {@link JsonSerializer} as before.
+ * <p>
+ * Consumers read both formats through {@link EventDeserializer}, so a codec should only be enabled once every
+ * consumer of the topics runs it.
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    public static final String CODEC_CONFIG = "event.codec";
+
+    public static final String CODEC_HEADER = "event-codec";
+
+    public static final String JSON = "json";
+
+    private final List<EventCodec> codecs;
+
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+
+    private EventCodec codec;
+
+    private byte[] codecHeader;
+
+    public EventSerializer() {
+        this(List.of(new BinaryEventCodec(EventTypeRegistry.defaults())));
+    }
+
+    public EventSerializer(List<EventCodec> codecs) {
+        this.codecs = codecs;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonSerializer.configure(configs, isKey);
+
+        var name = configs.get(CODEC_CONFIG);
+        if (name == null || JSON.equals(name)) {
+            return;
+        }
+
+        codec = codecs.stream()
+                .filter(candidate -> candidate.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ConfigException(CODEC_CONFIG, name, "Unknown event codec"));
+        codecHeader = codec.getName().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (codec != null && data instanceof ApplicationEvent event && codec.supports(event.getClass())) {
+            headers.add(CODEC_HEADER, codecHeader);
+            return codec.encode(event);
+        }
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+
+@Configuration
+public class KafkaProducerConfig {
+
+    /**
+     * Applies the {@link KafkaProducerProfile} selected by {@code kafka.producer.profile}. Settings configured
+     * explicitly under {@code spring.kafka.producer} take precedence over the preset.
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer producerProfileCustomizer(
+            @Value("${kafka.producer.profile:balanced}") String profileName) {
+        var profile = KafkaProducerProfile.fromName(profileName);
+
+        return producerFactory -> {
+            var configured = producerFactory.getConfigurationProperties();
+            var updates = new HashMap<String, Object>();
+
+            profile.getProperties().forEach((name, value) -> {
+                if (!configured.containsKey(name)) {
+                    updates.put(name, value);
+                }
+            });
+
+            producerFactory.updateConfigs(updates);
+        };
+    }
+}
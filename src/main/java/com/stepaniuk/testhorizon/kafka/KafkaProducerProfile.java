@@ -0,0 +1,56 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Presets for the producer settings that trade latency for throughput. Every preset keeps idempotence and
+ * {@code acks=all}, so retried batches are neither duplicated nor reordered within a partition.
+ */
+public enum KafkaProducerProfile {
+
+    /**
+     * Waits up to 20 ms to fill large batches and compresses them with zstd, for bulk publishing such as
+     * draining a backlog of outbox events.
+     */
+    HIGH_THROUGHPUT(20, 131072, "zstd"),
+
+    /**
+     * Sends every record as soon as possible, with cheap lz4 compression of whatever has accumulated meanwhile.
+     */
+    LOW_LATENCY(0, 16384, "lz4"),
+
+    /**
+     * Short linger with medium batches, which already coalesces the records of one outbox relay batch.
+     */
+    BALANCED(5, 65536, "lz4");
+
+    private final int lingerMs;
+    private final int batchSize;
+    private final String compressionType;
+
+    KafkaProducerProfile(int lingerMs, int batchSize, String compressionType) {
+        this.lingerMs = lingerMs;
+        this.batchSize = batchSize;
+        this.compressionType = compressionType;
+    }
+
+    public Map<String, Object> getProperties() {
+        return Map.of(
+                ProducerConfig.LINGER_MS_CONFIG, lingerMs,
+                ProducerConfig.BATCH_SIZE_CONFIG, batchSize,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType,
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true
+        );
+    }
+
+    /**
+     * Resolves a profile from its name, accepting the kebab-case form used in configuration files.
+     */
+    public static KafkaProducerProfile fromName(String name) {
+        return valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
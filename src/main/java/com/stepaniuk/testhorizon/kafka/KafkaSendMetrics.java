@@ -0,0 +1,67 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.record.RecordBatch;
+import org.springframework.kafka.support.LoggingProducerListener;
+import org.springframework.kafka.support.ProducerListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the time between creating a record and its acknowledgement by the broker
+ * ({@code kafka.producer.send.latency}) and the failed sends ({@code kafka.producer.send.failures}) per topic.
+ * <p>
+ * Replaces the default {@link LoggingProducerListener} of the auto-configured template, which it still delegates
+ * the failures to. Latency meters of the topics declared in {@link KafkaTopicConfig} are registered upfront, so
+ * they are reported even before the first send.
+ */
+@Component
+public class KafkaSendMetrics implements ProducerListener<Object, Object> {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> latencies = new ConcurrentHashMap<>();
+    private final ProducerListener<Object, Object> logging = new LoggingProducerListener<>();
+
+    public KafkaSendMetrics(MeterRegistry meterRegistry, List<NewTopic> topics) {
+        this.meterRegistry = meterRegistry;
+        topics.forEach(topic -> latency(topic.name()));
+    }
+
+    @Override
+    public void onSuccess(ProducerRecord<Object, Object> producerRecord, RecordMetadata recordMetadata) {
+        if (recordMetadata.timestamp() == RecordBatch.NO_TIMESTAMP) {
+            return;
+        }
+
+        var elapsed = Math.max(0, System.currentTimeMillis() - recordMetadata.timestamp());
+        latency(producerRecord.topic()).record(Duration.ofMillis(elapsed));
+    }
+
+    @Override
+    public void onError(ProducerRecord<Object, Object> producerRecord, @Nullable RecordMetadata recordMetadata,
+                        Exception exception) {
+        Counter.builder("kafka.producer.send.failures")
+                .tag("topic", producerRecord.topic())
+                .tag("exception", exception.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+
+        logging.onError(producerRecord, recordMetadata, exception);
+    }
+
+    private Timer latency(String topic) {
+        return latencies.computeIfAbsent(topic, name -> Timer.builder("kafka.producer.send.latency")
+                .tag("topic", name)
+                .register(meterRegistry));
+    }
+}
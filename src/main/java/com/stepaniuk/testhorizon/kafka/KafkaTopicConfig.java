@@ -4,81 +4,101 @@ import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.config.TopicBuilder;
 
 @Configuration
 @RequiredArgsConstructor
 public class KafkaTopicConfig {
 
+    private final Environment environment;
+
     @Bean
     public NewTopic usersTopic() {
-        return TopicBuilder.name("users")
-                .build();
+        return topic("users");
     }
 
     @Bean
     public NewTopic authTopic() {
-        return TopicBuilder.name("auth")
-                .build();
+        return topic("auth");
     }
 
     @Bean
     public NewTopic testCaseTopic() {
-        return TopicBuilder.name("test-cases")
-                .build();
+        return topic("test-cases");
     }
 
     @Bean
     public NewTopic testTopic() {
-        return TopicBuilder.name("tests")
-                .build();
+        return topic("tests");
     }
 
     @Bean
     public NewTopic ratingTopic() {
-        return TopicBuilder.name("ratings")
-                .build();
+        return topic("ratings");
     }
 
     @Bean
     public NewTopic projectTopic() {
-        return TopicBuilder.name("projects")
-                .build();
+        return topic("projects");
     }
 
     @Bean
     public NewTopic commentTopic() {
-        return TopicBuilder.name("comments")
-                .build();
+        return topic("comments");
     }
 
     @Bean
     public NewTopic bugReportTopic() {
-        return TopicBuilder.name("bug-reports")
-                .build();
+        return topic("bug-reports");
     }
 
     @Bean
     public NewTopic fileTopic() {
-        return TopicBuilder.name("files")
-                .build();
+        return topic("files");
     }
 
     @Bean
     public NewTopic feedbackTopic() {
-        return TopicBuilder.name("feedbacks")
-                .build();
+        return topic("feedbacks");
     }
 
     @Bean
     public NewTopic notebookTopic() {
-        return TopicBuilder.name("notebooks")
-                .build();
+        return topic("notebooks");
+    }
+
+    @Bean
+    public NewTopic exportJobTopic() {
+        return topic("export-jobs");
     }
 
     @Bean
     public NewTopic testRunTopic() {
-        return TopicBuilder.name("notes")
+        return topic("notes");
+    }
+
+    @Bean
+    public NewTopic postTopic() {
+        return topic("posts");
+    }
+
+    /**
+     * Builds a topic with {@code kafka.topics.partitions} partitions and {@code kafka.topics.replicas} replicas, both
+     * of which can be overridden per topic, e.g. {@code kafka.topics.bug-reports.partitions}.
+     * <p>
+     * Partitions can only be added to an existing topic. Adding them moves keys to other partitions, so the events of
+     * an entity published around the change may be consumed out of order.
+     */
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(topicProperty(name, "partitions", 6))
+                .replicas(topicProperty(name, "replicas", 1))
                 .build();
     }
+
+    private int topicProperty(String topic, String property, int defaultValue) {
+        int value = environment.getProperty("kafka.topics." + property, Integer.class, defaultValue);
+        return environment.getProperty("kafka.topics." + topic + "." + property, Integer.class, value);
+    }
 }
@@ -1,13 +1,18 @@
 package com.stepaniuk.testhorizon.kafka;
 
 import com.stepaniuk.testhorizon.event.auth.AuthEvent;
+import com.stepaniuk.testhorizon.event.bugreport.BugReportCreatedEvent;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportEvent;
+import com.stepaniuk.testhorizon.event.comment.CommentCreatedEvent;
 import com.stepaniuk.testhorizon.event.comment.CommentEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobEvent;
 import com.stepaniuk.testhorizon.event.feedback.FeedbackEvent;
 import com.stepaniuk.testhorizon.event.file.FileEvent;
 import com.stepaniuk.testhorizon.event.project.ProjectEvent;
 import com.stepaniuk.testhorizon.event.rating.RatingEvent;
+import com.stepaniuk.testhorizon.event.test.TestCreatedEvent;
 import com.stepaniuk.testhorizon.event.test.TestEvent;
+import com.stepaniuk.testhorizon.event.testcase.TestCaseCreatedEvent;
 import com.stepaniuk.testhorizon.event.testcase.TestCaseEvent;
 import com.stepaniuk.testhorizon.event.user.UserEvent;
 import lombok.RequiredArgsConstructor;
@@ -15,58 +20,139 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
+
+/**
+ * Forwards events to the WebSocket subscribers. The broker is in memory, so it only reaches the sessions connected to
+ * this instance: every instance consumes all events in a consumer group of its own, starting from the latest offsets.
+ * Within an instance, every listener runs {@code kafka.listener.concurrency} consumers, each owning a share of the
+ * partitions; since records are keyed by aggregate id, the events of one entity are forwarded by a single thread in
+ * the order they were published. A session only sees the order of the instance it is connected to, and events
+ * published while it reconnects to another instance are missed.
+ * <p>
+ * Besides the destination of its kind, such as {@code /topic/bug-reports}, an event is sent to the destination of
+ * the entity it belongs to, e.g. {@code /topic/bug-reports/42}, and created events also to the collection of their
+ * parent, e.g. {@code /topic/projects/7/bug-reports}. Events about a single user go to that user's queue, e.g.
+ * {@code /user/queue/export-jobs}. The broker only sends a message to the sessions subscribed to its destination,
+ * so clients watching a few entities no longer receive every event. Who may subscribe to what is decided by
+ * {@link com.stepaniuk.testhorizon.security.config.WebSocketAuthorizationInterceptor}.
+ */
 @Component
 @RequiredArgsConstructor
 public class KafkaWebSocketNotifier {
+    private static final String PER_INSTANCE = "_#{T(java.util.UUID).randomUUID()}";
+    private static final String FROM_LATEST = "auto.offset.reset=latest";
+
     private final SimpMessagingTemplate simpMessagingTemplate;
 
-    @KafkaListener(topics = "users", groupId = "user_group")
+    @KafkaListener(topics = "users", groupId = "user_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleUserEvents(UserEvent userEvent) {
         simpMessagingTemplate.convertAndSend("/topic/users", userEvent);
+        sendToUser(userEvent.getUserId(), "/queue/users", userEvent);
     }
 
-    @KafkaListener(topics = "auth", groupId = "auth_group")
+    @KafkaListener(topics = "auth", groupId = "auth_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleAuthEvents(AuthEvent authEvent) {
         simpMessagingTemplate.convertAndSend("/topic/auth", authEvent);
     }
 
-    @KafkaListener(topics = "test-cases", groupId = "test_case_group")
+    @KafkaListener(topics = "test-cases", groupId = "test_case_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleTestCaseEvents(TestCaseEvent testCaseEvent) {
         simpMessagingTemplate.convertAndSend("/topic/test-cases", testCaseEvent);
+        simpMessagingTemplate.convertAndSend("/topic/test-cases/" + testCaseEvent.getTestCaseId(), testCaseEvent);
+
+        if (testCaseEvent instanceof TestCaseCreatedEvent createdEvent) {
+            simpMessagingTemplate.convertAndSend("/topic/projects/" + createdEvent.getProjectId() + "/test-cases", createdEvent);
+        }
     }
 
-    @KafkaListener(topics = "tests", groupId = "test_group")
+    @KafkaListener(topics = "tests", groupId = "test_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleTestEvents(TestEvent testEvent) {
         simpMessagingTemplate.convertAndSend("/topic/tests", testEvent);
+        simpMessagingTemplate.convertAndSend("/topic/tests/" + testEvent.getTestId(), testEvent);
+
+        if (testEvent instanceof TestCreatedEvent createdEvent) {
+            simpMessagingTemplate.convertAndSend("/topic/projects/" + createdEvent.getProjectId() + "/tests", createdEvent);
+        }
     }
 
-    @KafkaListener(topics = "ratings", groupId = "rating_group")
+    @KafkaListener(topics = "ratings", groupId = "rating_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleRatingEvents(RatingEvent ratingEvent) {
         simpMessagingTemplate.convertAndSend("/topic/ratings", ratingEvent);
+        sendToUser(ratingEvent.getUserId(), "/queue/ratings", ratingEvent);
     }
 
-    @KafkaListener(topics = "projects", groupId = "project_group")
+    @KafkaListener(topics = "projects", groupId = "project_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleProjectEvents(ProjectEvent projectEvent) {
         simpMessagingTemplate.convertAndSend("/topic/projects", projectEvent);
+        simpMessagingTemplate.convertAndSend("/topic/projects/" + projectEvent.getProjectId(), projectEvent);
     }
 
-    @KafkaListener(topics = "comments", groupId = "comment_group")
+    @KafkaListener(topics = "comments", groupId = "comment_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleCommentEvents(CommentEvent commentEvent) {
         simpMessagingTemplate.convertAndSend("/topic/comments", commentEvent);
+        simpMessagingTemplate.convertAndSend("/topic/comments/" + commentEvent.getCommentId(), commentEvent);
+
+        if (commentEvent instanceof CommentCreatedEvent createdEvent && createdEvent.getEntityType() != null) {
+            simpMessagingTemplate.convertAndSend("/topic/" + kindOf(createdEvent.getEntityType()) + "/"
+                    + createdEvent.getEntityId() + "/comments", createdEvent);
+        }
     }
 
-    @KafkaListener(topics = "bug-reports", groupId = "bug_report_group")
+    @KafkaListener(topics = "bug-reports", groupId = "bug_report_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleBugReportEvents(BugReportEvent bugReportEvent) {
         simpMessagingTemplate.convertAndSend("/topic/bug-reports", bugReportEvent);
+        simpMessagingTemplate.convertAndSend("/topic/bug-reports/" + bugReportEvent.getBugReportId(), bugReportEvent);
+
+        if (bugReportEvent instanceof BugReportCreatedEvent createdEvent) {
+            simpMessagingTemplate.convertAndSend("/topic/projects/" + createdEvent.getProjectId() + "/bug-reports", createdEvent);
+        }
     }
 
-    @KafkaListener(topics = "files", groupId = "file_group")
+    @KafkaListener(topics = "files", groupId = "file_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleFileEvents(FileEvent fileEvent) {
         simpMessagingTemplate.convertAndSend("/topic/files", fileEvent);
+
+        if (fileEvent.getEntityType() != null) {
+            simpMessagingTemplate.convertAndSend("/topic/" + kindOf(fileEvent.getEntityType()) + "/"
+                    + fileEvent.getEntityId() + "/files", fileEvent);
+        }
     }
 
-    @KafkaListener(topics = "feedbacks", groupId = "feedback_group")
+    @KafkaListener(topics = "feedbacks", groupId = "feedback_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
     public void handleFeedbackEvents(FeedbackEvent feedbackEvent) {
         simpMessagingTemplate.convertAndSend("/topic/feedbacks", feedbackEvent);
+        simpMessagingTemplate.convertAndSend("/topic/feedbacks/" + feedbackEvent.getFeedbackId(), feedbackEvent);
+    }
+
+    @KafkaListener(topics = "export-jobs", groupId = "export_job_group" + PER_INSTANCE, properties = FROM_LATEST,
+            concurrency = "${kafka.listener.concurrency:3}")
+    public void handleExportJobEvents(ExportJobEvent exportJobEvent) {
+        simpMessagingTemplate.convertAndSend("/topic/export-jobs", exportJobEvent);
+        sendToUser(exportJobEvent.getOwnerId(), "/queue/export-jobs", exportJobEvent);
+    }
+
+    private void sendToUser(Long userId, String destination, Object event) {
+        if (userId != null) {
+            simpMessagingTemplate.convertAndSendToUser(userId.toString(), destination, event);
+        }
+    }
+
+    /**
+     * Destination segment of an entity type, the same as its REST path, e.g. {@code bug-reports} for
+     * {@code BUG_REPORT}.
+     */
+    static String kindOf(Enum<?> entityType) {
+        return entityType.name().toLowerCase(Locale.ROOT).replace('_', '-') + "s";
     }
 }
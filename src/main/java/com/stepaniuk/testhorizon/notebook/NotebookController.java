@@ -49,8 +49,9 @@ public class NotebookController {
     @GetMapping
     public ResponseEntity<PagedModel<NotebookResponse>> getAllNotebooks(Pageable pageable,
                                                                        @RequestParam(required = false) Long ownerId,
-                                                                       @RequestParam(required = false) String title) {
-        return ResponseEntity.ok(notebookService.getAllNotebooks(pageable,ownerId, title));
+                                                                       @RequestParam(required = false) String title,
+                                                                       @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(notebookService.getAllNotebooks(pageable,ownerId, title, cursor));
     }
 
 }
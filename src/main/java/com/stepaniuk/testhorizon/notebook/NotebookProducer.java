@@ -1,19 +1,16 @@
 package com.stepaniuk.testhorizon.notebook;
 
 import com.stepaniuk.testhorizon.event.notebook.NotebookEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class NotebookProducer {
-    private final KafkaTemplate<String, NotebookEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, NotebookEvent>> send(NotebookEvent notebookEvent) {
-        return kafkaTemplate.send("notebooks", notebookEvent);
+    public void send(NotebookEvent notebookEvent) {
+        outbox.add("notebooks", notebookEvent.getNotebookId(), notebookEvent);
     }
 }
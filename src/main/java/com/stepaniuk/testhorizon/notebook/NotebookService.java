@@ -8,6 +8,7 @@ import com.stepaniuk.testhorizon.payload.notebook.NotebookCreateRequest;
 import com.stepaniuk.testhorizon.payload.notebook.NotebookResponse;
 import com.stepaniuk.testhorizon.payload.notebook.NotebookUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
@@ -15,13 +16,19 @@ import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -29,12 +36,15 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @Service
 @RequiredArgsConstructor
 public class NotebookService {
+
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
     private final NotebookRepository notebookRepository;
     private final NotebookMapper notebookMapper;
     private final PageMapper pageMapper;
     private final UserInfoService userInfoService;
     private final NotebookProducer notebookProducer;
 
+    @Transactional
     public NotebookResponse createNotebook(NotebookCreateRequest notebookCreateRequest, Long ownerId, String correlationId) {
         Notebook notebook = new Notebook();
 
@@ -61,6 +71,7 @@ public class NotebookService {
                 .orElseThrow(() -> new NoSuchNotebookByIdException(id));
     }
 
+    @Transactional
     public void deleteNotebookById(Long id, String correlationId, AuthInfo authInfo) {
         var notebook = notebookRepository.findById(id)
                 .orElseThrow(() -> new NoSuchNotebookByIdException(id));
@@ -79,6 +90,7 @@ public class NotebookService {
         );
     }
 
+    @Transactional
     public NotebookResponse updateNotebook(Long id, NotebookUpdateRequest notebookUpdateRequest, String correlationId, AuthInfo authInfo) {
         var notebook = notebookRepository.findById(id)
                 .orElseThrow(() -> new NoSuchNotebookByIdException(id));
@@ -114,7 +126,8 @@ public class NotebookService {
 
     public PagedModel<NotebookResponse> getAllNotebooks(Pageable pageable,
                                                       @Nullable Long ownerId,
-                                                      @Nullable String title) {
+                                                      @Nullable String title,
+                                                      @Nullable String cursor) {
 
         Specification<Notebook> specification = Specification.where(null);
 
@@ -130,12 +143,24 @@ public class NotebookService {
             );
         }
 
+        if (cursor != null) {
+            Window<Notebook> notebooks = notebookRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/notebooks"));
+
+            return pageMapper.toResponse(notebooks.map(responseMapper(notebooks)), pageable, cursor, URI.create("/notebooks"));
+        }
+
         var notebooks = notebookRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                notebooks.map(notebook -> notebookMapper.toResponse(notebook, userInfoService.getUserInfo(notebook.getOwnerId()))),
-                URI.create("/notebooks")
+        return pageMapper.toResponse(notebooks.map(responseMapper(notebooks)), URI.create("/notebooks"));
+    }
+
+    private Function<Notebook, NotebookResponse> responseMapper(Streamable<Notebook> notebooks) {
+        var ownerInfos = userInfoService.getUserInfos(
+                notebooks.stream().map(Notebook::getOwnerId).collect(Collectors.toSet())
         );
+
+        return notebook -> notebookMapper.toResponse(notebook, ownerInfos.get(notebook.getOwnerId()));
     }
 
     private boolean hasNoAccessToManageNotebook(Long ownerId, AuthInfo authInfo) {
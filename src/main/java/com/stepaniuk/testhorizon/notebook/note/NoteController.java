@@ -57,8 +57,9 @@ public class NoteController {
     @GetMapping
     public ResponseEntity<PagedModel<NoteResponse>> getAllNotes(Pageable pageable,
                                                                 @RequestParam(required = false) Long notebookId,
-                                                                @RequestParam(required = false) String title
+                                                                @RequestParam(required = false) String title,
+                                                                @RequestParam(required = false) String cursor
     ) {
-        return ResponseEntity.ok(noteService.getAllNotes(pageable, notebookId, title));
+        return ResponseEntity.ok(noteService.getAllNotes(pageable, notebookId, title, cursor));
     }
 }
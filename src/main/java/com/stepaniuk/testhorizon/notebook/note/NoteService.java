@@ -9,18 +9,22 @@ import com.stepaniuk.testhorizon.payload.notebook.note.NoteCreateRequest;
 import com.stepaniuk.testhorizon.payload.notebook.note.NoteResponse;
 import com.stepaniuk.testhorizon.payload.notebook.note.NoteUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
@@ -29,12 +33,15 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @Service
 @RequiredArgsConstructor
 public class NoteService {
+
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
     private final NoteRepository noteRepository;
     private final NoteMapper noteMapper;
     private final NoteProducer noteProducer;
     private final PageMapper pageMapper;
     private final NotebookService notebookService;
 
+    @Transactional
     public NoteResponse createNote(NoteCreateRequest noteCreateRequest, Long notebookId, String correlationId) {
         var notebook = notebookService.getNotebookById(notebookId);
 
@@ -61,6 +68,7 @@ public class NoteService {
                 .orElseThrow(() -> new NoSuchNoteByIdException(id));
     }
 
+    @Transactional
     public void deleteNoteById(Long id, String correlationId, AuthInfo authInfo) {
         var note = noteRepository.findById(id)
                 .orElseThrow(() -> new NoSuchNoteByIdException(id));
@@ -82,6 +90,7 @@ public class NoteService {
         );
     }
 
+    @Transactional
     public NoteResponse updateNote(Long id, NoteUpdateRequest noteUpdateRequest, String correlationId, AuthInfo authInfo) {
         var note = noteRepository.findById(id)
                 .orElseThrow(() -> new NoSuchNoteByIdException(id));
@@ -117,7 +126,8 @@ public class NoteService {
         return noteMapper.toResponse(updatedNote);
     }
 
-    public PagedModel<NoteResponse> getAllNotes(Pageable pageable, @Nullable Long notebookId, @Nullable String title) {
+    public PagedModel<NoteResponse> getAllNotes(Pageable pageable, @Nullable Long notebookId, @Nullable String title,
+                                                @Nullable String cursor) {
         Specification<Note> specification = Specification.where(null);
 
         if (notebookId != null) {
@@ -132,6 +142,13 @@ public class NoteService {
             );
         }
 
+        if (cursor != null) {
+            Window<Note> notes = noteRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/notes"));
+
+            return pageMapper.toResponse(notes.map(noteMapper::toResponse), pageable, cursor, URI.create("/notes"));
+        }
+
         var notesPage = noteRepository.findAll(specification, pageable);
 
         return pageMapper.toResponse(
@@ -0,0 +1,50 @@
+package com.stepaniuk.testhorizon.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stepaniuk.testhorizon.event.shared.AbstractApplicationEvent;
+import com.stepaniuk.testhorizon.shared.exceptions.ProducerException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+
+/**
+ * Stores events to be published to Kafka by {@link OutboxRelay}. Events are written in the transaction of the
+ * caller, so they are published exactly when the change they describe is committed, and adding one never waits on
+ * the broker.
+ * <p>
+ * The key is the id of the aggregate the event belongs to. Records with the same key go to the same partition, so
+ * the events of one entity are consumed in order while different entities are spread over all partitions.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public void add(String topic, Object key, AbstractApplicationEvent event) {
+        outboxEventRepository.save(new OutboxEvent(null, topic, Objects.toString(key, null), event.getClass().getName(),
+                serialize(event), null));
+    }
+
+    AbstractApplicationEvent read(OutboxEvent outboxEvent) {
+        try {
+            var eventClass = Class.forName(outboxEvent.getEventClass()).asSubclass(AbstractApplicationEvent.class);
+            return objectMapper.readValue(outboxEvent.getPayload(), eventClass);
+        } catch (ClassNotFoundException | JsonProcessingException e) {
+            throw new ProducerException(e);
+        }
+    }
+
+    private String serialize(AbstractApplicationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new ProducerException(e);
+        }
+    }
+}
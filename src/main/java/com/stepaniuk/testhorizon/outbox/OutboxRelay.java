@@ -0,0 +1,77 @@
+package com.stepaniuk.testhorizon.outbox;
+
+import com.stepaniuk.testhorizon.shared.SchedulingConfig;
+import com.stepaniuk.testhorizon.shared.exceptions.ProducerException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Publishes the events stored by {@link Outbox} to their topics.
+ * <p>
+ * The oldest {@code outbox.relay.batch-size} events are sent together and removed once the broker acknowledged all
+ * of them; when a send fails the transaction rolls back and the batch is sent again on the next poll, so delivery is
+ * at least once. An advisory lock keeps relays of other instances out, so events leave in id order. Ids are taken
+ * when an event is written, not when its transaction commits, so events of overlapping transactions may leave in a
+ * different order than they committed; only events of one transaction, or of transactions that update the same rows,
+ * keep their relative order.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x6F7574626F78L;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Outbox outbox;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}", scheduler = SchedulingConfig.OUTBOX_RELAY_SCHEDULER)
+    public void relay() {
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        if (!outboxEventRepository.tryLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.findOldest(PageRequest.of(0, batchSize));
+
+        var sends = batch.stream()
+                .map(outboxEvent -> kafkaTemplate.send(outboxEvent.getTopic(), outboxEvent.getEventKey(), outbox.read(outboxEvent)))
+                .toArray(CompletableFuture[]::new);
+
+        try {
+            CompletableFuture.allOf(sends).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProducerException(e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new ProducerException(e);
+        }
+
+        outboxEventRepository.deleteAllInBatch(batch);
+        return batch.size();
+    }
+}
@@ -4,6 +4,7 @@ import com.stepaniuk.testhorizon.payload.post.PostCreateRequest;
 import com.stepaniuk.testhorizon.payload.post.PostResponse;
 import com.stepaniuk.testhorizon.payload.post.PostUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CountMode;
 import com.stepaniuk.testhorizon.types.post.PostCategoryName;
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
@@ -49,9 +50,11 @@ public class PostController {
     public ResponseEntity<PagedModel<PostResponse>> getAllPosts(Pageable pageable,
                                                                 @Nullable @RequestParam(required = false) Long ownerId,
                                                                 @Nullable @RequestParam(required = false) String title,
-                                                                @Nullable @RequestParam(required = false) PostCategoryName category) {
+                                                                @Nullable @RequestParam(required = false) PostCategoryName category,
+                                                                @Nullable @RequestParam(required = false) String cursor,
+                                                                @Nullable @RequestParam(required = false) CountMode count) {
 
-        return ResponseEntity.ok(postService.getAllPosts(pageable, ownerId, title, category));
+        return ResponseEntity.ok(postService.getAllPosts(pageable, ownerId, title, category, cursor, count));
     }
 
 }
@@ -1,20 +1,16 @@
 package com.stepaniuk.testhorizon.post;
 
-
 import com.stepaniuk.testhorizon.event.post.PostEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class PostProducer {
-    private final KafkaTemplate<String, PostEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, PostEvent>> send(PostEvent postEvent) {
-        return kafkaTemplate.send("posts", postEvent);
+    public void send(PostEvent postEvent) {
+        outbox.add("posts", postEvent.getPostId(), postEvent);
     }
 }
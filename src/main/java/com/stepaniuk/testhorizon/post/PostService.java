@@ -7,11 +7,14 @@ import com.stepaniuk.testhorizon.payload.post.PostCreateRequest;
 import com.stepaniuk.testhorizon.payload.post.PostResponse;
 import com.stepaniuk.testhorizon.payload.post.PostUpdateRequest;
 import com.stepaniuk.testhorizon.post.category.PostCategory;
-import com.stepaniuk.testhorizon.post.category.PostCategoryRepository;
 import com.stepaniuk.testhorizon.post.exceptions.NoSuchPostByIdException;
 import com.stepaniuk.testhorizon.post.exceptions.NoSuchPostCategoryByNameException;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CountMode;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapper;
+import com.stepaniuk.testhorizon.shared.PagingQueries;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.types.post.PostCategoryName;
@@ -19,13 +22,19 @@ import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -34,13 +43,17 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
+
     private final PostRepository postRepository;
-    private final PostCategoryRepository postCategoryRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final PostProducer postProducer;
     private final PostMapper postMapper;
     private final PageMapper pageMapper;
     private final UserInfoService userInfoService;
+    private final PagingQueries pagingQueries;
 
+    @Transactional
     public PostResponse createPost(PostCreateRequest request, Long ownerId, String correlationId) {
         Post post = new Post();
 
@@ -49,7 +62,7 @@ public class PostService {
         post.setContent(request.getContent());
         post.setOwnerId(ownerId);
         post.setCategory(
-                postCategoryRepository.findByName(request.getCategory())
+                dictionaryRegistry.findPostCategory(request.getCategory())
                         .orElseThrow(() -> new NoSuchPostCategoryByNameException(request.getCategory()))
         );
 
@@ -76,6 +89,7 @@ public class PostService {
         );
     }
 
+    @Transactional
     public void deletePostById(Long id, String correlationId, AuthInfo authInfo) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new NoSuchPostByIdException(id));
@@ -94,6 +108,7 @@ public class PostService {
         );
     }
 
+    @Transactional
     public PostResponse updatePost(Long id, PostUpdateRequest request, String correlationId, AuthInfo authInfo) {
         Post post = postRepository.findById(id)
                 .orElseThrow(() -> new NoSuchPostByIdException(id));
@@ -121,7 +136,7 @@ public class PostService {
 
         if (request.getCategory() != null) {
             post.setCategory(
-                    postCategoryRepository.findByName(request.getCategory())
+                    dictionaryRegistry.findPostCategory(request.getCategory())
                             .orElseThrow(() -> new NoSuchPostCategoryByNameException(request.getCategory()))
             );
             postData.setCategory(request.getCategory());
@@ -143,7 +158,9 @@ public class PostService {
     public PagedModel<PostResponse> getAllPosts(Pageable pageable,
                                                 @Nullable Long ownerId,
                                                 @Nullable String title,
-                                                @Nullable PostCategoryName categoryName) {
+                                                @Nullable PostCategoryName categoryName,
+                                                @Nullable String cursor,
+                                                @Nullable CountMode countMode) {
 
         Specification<Post> specification = Specification.where(null);
 
@@ -160,7 +177,7 @@ public class PostService {
         }
 
         if (categoryName != null) {
-            PostCategory category = postCategoryRepository.findByName(categoryName)
+            PostCategory category = dictionaryRegistry.findPostCategory(categoryName)
                     .orElseThrow(() -> new NoSuchPostCategoryByNameException(categoryName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -168,12 +185,32 @@ public class PostService {
             );
         }
 
-        var postsPage = postRepository.findAll(specification, pageable);
+        if (cursor != null) {
+            Window<Post> posts = postRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/posts"));
+
+            return pageMapper.toResponse(posts.map(responseMapper(posts)), pageable, cursor, URI.create("/posts"));
+        }
+
+        if (countMode == CountMode.NONE) {
+            var posts = pagingQueries.findSlice(Post.class, specification, pageable);
+
+            return pageMapper.toResponse(posts.map(responseMapper(posts)), URI.create("/posts"));
+        }
+
+        var postsPage = countMode == CountMode.APPROXIMATE
+                ? pagingQueries.findPage(Post.class, specification, pageable, true)
+                : postRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                postsPage.map(post -> postMapper.toResponse(post, userInfoService.getUserInfo(post.getOwnerId()))),
-                URI.create("/posts")
+        return pageMapper.toResponse(postsPage.map(responseMapper(postsPage)), URI.create("/posts"));
+    }
+
+    private Function<Post, PostResponse> responseMapper(Streamable<Post> posts) {
+        var ownerInfos = userInfoService.getUserInfos(
+                posts.stream().map(Post::getOwnerId).collect(Collectors.toSet())
         );
+
+        return post -> postMapper.toResponse(post, ownerInfos.get(post.getOwnerId()));
     }
 
     private boolean hasNoAccessToManagePost(Long ownerId, AuthInfo authInfo) {
@@ -51,7 +51,8 @@ public class ProjectController {
     public ResponseEntity<PagedModel<ProjectResponse>> getAllProjects(Pageable pageable,
                                                                       @Nullable @RequestParam(required = false) Long ownerId,
                                                                       @Nullable @RequestParam(required = false) String title,
-                                                                      @Nullable @RequestParam(required = false) ProjectStatusName status) {
-        return ResponseEntity.ok(projectService.getAllProjects(pageable, ownerId, title, status));
+                                                                      @Nullable @RequestParam(required = false) ProjectStatusName status,
+                                                                      @Nullable @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(projectService.getAllProjects(pageable, ownerId, title, status, cursor));
     }
 }
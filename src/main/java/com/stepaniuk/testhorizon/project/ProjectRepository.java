@@ -1,15 +1,22 @@
 package com.stepaniuk.testhorizon.project;
 
+import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
 
     @Query("SELECT p.ownerId FROM Project p WHERE p.id = :projectId")
     Long findProjectOwnerIdById(@Param("projectId") Long projectId);
 
+    @Query("SELECT new com.stepaniuk.testhorizon.payload.info.ProjectInfo(p.id, p.title, p.ownerId) FROM Project p WHERE p.id IN :projectIds")
+    List<ProjectInfo> findProjectInfosByIds(@Param("projectIds") Collection<Long> projectIds);
+
 }
\ No newline at end of file
@@ -9,8 +9,9 @@ import com.stepaniuk.testhorizon.payload.project.ProjectUpdateRequest;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectStatusByNameException;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
-import com.stepaniuk.testhorizon.project.status.ProjectStatusRepository;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
@@ -19,13 +20,19 @@ import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -34,13 +41,16 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class ProjectService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
+
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final PageMapper pageMapper;
-    private final ProjectStatusRepository projectStatusRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final ProjectProducer projectProducer;
     private final UserInfoService userInfoService;
 
+    @Transactional
     public ProjectResponse createProject(ProjectCreateRequest projectCreateRequest, Long ownerId, String correlationId) {
         Project project = new Project();
 
@@ -50,7 +60,7 @@ public class ProjectService {
         project.setInstructions(projectCreateRequest.getInstructions());
         project.setGithubUrl(projectCreateRequest.getGithubUrl());
         project.setStatus(
-                projectStatusRepository.findByName(ProjectStatusName.ACTIVE)
+                dictionaryRegistry.findProjectStatus(ProjectStatusName.ACTIVE)
                         .orElseThrow(() -> new NoSuchProjectStatusByNameException(ProjectStatusName.ACTIVE))
         );
 
@@ -73,6 +83,7 @@ public class ProjectService {
                 .orElseThrow(() -> new NoSuchProjectByIdException(id));
     }
 
+    @Transactional
     public void deleteProjectById(Long id, String correlationId, AuthInfo authInfo) {
         var project = projectRepository.findById(id)
                 .orElseThrow(() -> new NoSuchProjectByIdException(id));
@@ -91,6 +102,7 @@ public class ProjectService {
         );
     }
 
+    @Transactional
     public ProjectResponse updateProject(Long id, ProjectUpdateRequest projectUpdateRequest, String correlationId, AuthInfo authInfo) {
         var project = projectRepository.findById(id)
                 .orElseThrow(() -> new NoSuchProjectByIdException(id));
@@ -118,7 +130,7 @@ public class ProjectService {
 
         if (projectUpdateRequest.getStatus() != null) {
             project.setStatus(
-                    projectStatusRepository.findByName(projectUpdateRequest.getStatus())
+                    dictionaryRegistry.findProjectStatus(projectUpdateRequest.getStatus())
                             .orElseThrow(() -> new NoSuchProjectStatusByNameException(projectUpdateRequest.getStatus()))
             );
 
@@ -141,7 +153,8 @@ public class ProjectService {
     public PagedModel<ProjectResponse> getAllProjects(Pageable pageable,
                                                       @Nullable Long ownerId,
                                                       @Nullable String title,
-                                                      @Nullable ProjectStatusName statusName) {
+                                                      @Nullable ProjectStatusName statusName,
+                                                      @Nullable String cursor) {
 
         Specification<Project> specification = Specification.where(null);
 
@@ -158,7 +171,7 @@ public class ProjectService {
         }
 
         if (statusName != null) {
-            ProjectStatus status = projectStatusRepository.findByName(statusName)
+            ProjectStatus status = dictionaryRegistry.findProjectStatus(statusName)
                     .orElseThrow(() -> new NoSuchProjectStatusByNameException(statusName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -166,12 +179,24 @@ public class ProjectService {
             );
         }
 
+        if (cursor != null) {
+            Window<Project> projects = projectRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/projects"));
+
+            return pageMapper.toResponse(projects.map(responseMapper(projects)), pageable, cursor, URI.create("/projects"));
+        }
+
         var projects = projectRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                projects.map(project -> projectMapper.toResponse(project, userInfoService.getUserInfo(project.getOwnerId()))),
-                URI.create("/projects")
+        return pageMapper.toResponse(projects.map(responseMapper(projects)), URI.create("/projects"));
+    }
+
+    private Function<Project, ProjectResponse> responseMapper(Streamable<Project> projects) {
+        var ownerInfos = userInfoService.getUserInfos(
+                projects.stream().map(Project::getOwnerId).collect(Collectors.toSet())
         );
+
+        return project -> projectMapper.toResponse(project, ownerInfos.get(project.getOwnerId()));
     }
 
     private boolean hasNoAccessToManageProject(Long ownerId, AuthInfo authInfo) {
@@ -31,7 +31,8 @@ public class RatingController {
     @GetMapping
     public ResponseEntity<PagedModel<RatingResponse>> getRatings(Pageable pageable,
                                                                  @Nullable @RequestParam(required = false) Long userId,
-                                                                 @Nullable @RequestParam(required = false) Long ratedByUserId) {
-        return ResponseEntity.ok(ratingService.getRatings(pageable, userId, ratedByUserId));
+                                                                 @Nullable @RequestParam(required = false) Long ratedByUserId,
+                                                                 @Nullable @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(ratingService.getRatings(pageable, userId, ratedByUserId, cursor));
     }
 }
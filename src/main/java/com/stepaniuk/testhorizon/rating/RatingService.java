@@ -5,31 +5,44 @@ import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.rating.RatingResponse;
 import com.stepaniuk.testhorizon.payload.rating.RatingUpdateRequest;
 import com.stepaniuk.testhorizon.rating.exceptions.UserCannotChangeOwnRatingException;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.shared.PageMapper;
+import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.user.User;
 import com.stepaniuk.testhorizon.user.UserRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class RatingService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "ratingPoints");
+
     private final RatingRepository ratingRepository;
     private final UserRepository userRepository;
     private final RatingMapper ratingMapper;
     private final PageMapper pageMapper;
     private final RatingProducer ratingProducer;
+    private final UserInfoService userInfoService;
 
+    @Transactional
     public RatingResponse changeRating(RatingUpdateRequest request, Long ratedByUserId, String correlationId) {
 
         Long userId = request.getUserId();
@@ -39,7 +52,7 @@ public class RatingService {
         }
 
         User user = findUserById(userId);
-        UserInfo ratedByUser = findUserInfo(ratedByUserId);
+        UserInfo ratedByUser = userInfoService.getUserInfo(ratedByUserId);
 
         Rating rating = new Rating();
         rating.setUserId(userId);
@@ -67,7 +80,8 @@ public class RatingService {
 
     public PagedModel<RatingResponse> getRatings(Pageable pageable,
                                                  @Nullable Long userId,
-                                                 @Nullable Long ratedByUserId) {
+                                                 @Nullable Long ratedByUserId,
+                                                 @Nullable String cursor) {
 
         Specification<Rating> specification = Specification.where(null);
 
@@ -83,13 +97,27 @@ public class RatingService {
             );
         }
 
+        if (cursor != null) {
+            Window<Rating> ratings = ratingRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/ratings"));
+
+            return pageMapper.toResponse(ratings.map(responseMapper(ratings)), pageable, cursor, URI.create("/ratings"));
+        }
+
         var ratings = ratingRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                ratings.map(rating -> ratingMapper.toResponse(rating,
-                        findUserInfo(rating.getUserId()),
-                        findUserInfo(rating.getRatedByUserId())
-                )), URI.create("/projects")
+        return pageMapper.toResponse(ratings.map(responseMapper(ratings)), URI.create("/projects"));
+    }
+
+    private Function<Rating, RatingResponse> responseMapper(Streamable<Rating> ratings) {
+        var userIds = ratings.stream()
+                .flatMap(rating -> Stream.of(rating.getUserId(), rating.getRatedByUserId()))
+                .collect(Collectors.toSet());
+        var userInfos = userInfoService.getUserInfos(userIds);
+
+        return rating -> ratingMapper.toResponse(rating,
+                userInfos.get(rating.getUserId()),
+                userInfos.get(rating.getRatedByUserId())
         );
     }
 
@@ -99,9 +127,4 @@ public class RatingService {
         );
     }
 
-    private UserInfo findUserInfo(Long userId) {
-        User user = findUserById(userId);
-        return new UserInfo(userId, user.getFirstName(), user.getLastName());
-    }
-
 }
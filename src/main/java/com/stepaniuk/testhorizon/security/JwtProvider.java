@@ -1,31 +1,59 @@
 package com.stepaniuk.testhorizon.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.stepaniuk.testhorizon.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.Nullable;
 import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Service
 public class JwtProvider {
-    @Value("${spring.security.jwt.secret-key}")
-    private String secretKey;
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final Key signKey;
+
+    private final JwtParser jwtParser;
+
+    private final Cache<String, Claims> verifiedTokens;
 
     @Getter
-    @Value("${spring.security.jwt.access-expiration-time}")
-    private Long accessTokenExpiration;
+    private final Long accessTokenExpiration;
 
     @Getter
-    @Value("${spring.security.jwt.refresh-expiration-time}")
-    private Long refreshTokenExpiration;
+    private final Long refreshTokenExpiration;
+
+    public JwtProvider(@Value("${spring.security.jwt.secret-key}") String secretKey,
+                       @Value("${spring.security.jwt.access-expiration-time}") Long accessTokenExpiration,
+                       @Value("${spring.security.jwt.refresh-expiration-time}") Long refreshTokenExpiration,
+                       @Value("${spring.security.jwt.verified-token-cache-size:10000}") long verifiedTokenCacheSize) {
+        this.signKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+    }
 
     public String extractUsername(String token){
         return extractClaim(token, Claims::getSubject);
@@ -59,7 +87,11 @@ public class JwtProvider {
             TokenType tokenType
     ){
         extraClaims.put("type", tokenType.name());
-        extraClaims.put("authorities", userDetails.getAuthorities());
+        extraClaims.put(AUTHORITIES_CLAIM, userDetails.getAuthorities());
+
+        if (userDetails instanceof User user && user.getId() != null) {
+            extraClaims.put(USER_ID_CLAIM, user.getId());
+        }
 
         return Jwts
                 .builder()
@@ -68,13 +100,49 @@ public class JwtProvider {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis()+expiration))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .signWith(signKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails details){
-        final String username = extractUsername(token);
-        return (username.equals(details.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(extractAllClaims(token), details);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails details){
+        final String username = claims.getSubject();
+        return (username.equals(details.getUsername()) && !claims.getExpiration().before(new Date()));
+    }
+
+    @Nullable
+    public Long extractUserId(Claims claims){
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId != null ? userId.longValue() : null;
+    }
+
+    @Nullable
+    public Instant extractIssuedAt(Claims claims){
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant() : null;
+    }
+
+    public List<String> extractAuthorities(Claims claims){
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+
+        if (authorities == null) {
+            return List.of();
+        }
+
+        List<String> authorityNames = new ArrayList<>();
+
+        for (Object authority : authorities) {
+            if (authority instanceof Map<?, ?> grantedAuthority) {
+                authorityNames.add(String.valueOf(grantedAuthority.get("authority")));
+            } else {
+                authorityNames.add(String.valueOf(authority));
+            }
+        }
+
+        return authorityNames;
     }
 
     public TokenType getTokenType(String token){
@@ -83,22 +151,53 @@ public class JwtProvider {
         return TokenType.valueOf(type);
     }
 
-    private boolean isTokenExpired(String token){
-        return extractClaim(token, Claims::getExpiration)
-                .before(new Date());
+    /**
+     * Verifies the token and returns its claims. Tokens that were already verified are served from a bounded
+     * cache keyed by the token hash until they expire, so repeated requests with the same token skip
+     * signature verification and JSON parsing. The returned claims must not be modified.
+     */
+    public Claims extractAllClaims(String token){
+        String tokenHash = hash(token);
+        Claims claims = verifiedTokens.getIfPresent(tokenHash);
+
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(tokenHash, claims);
+        }
+
+        return claims;
     }
 
-    private Claims extractAllClaims(String token){
-            return Jwts
-                    .parserBuilder()
-                    .setSigningKey(getSignKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+    private static String hash(String token){
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
     }
 
-    private Key getSignKey(){
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+
+            if (expiration == null) {
+                return 0;
+            }
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
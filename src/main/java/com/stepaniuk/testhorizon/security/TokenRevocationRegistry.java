@@ -0,0 +1,66 @@
+package com.stepaniuk.testhorizon.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepaniuk.testhorizon.event.user.UserAuthorityUpdatedEvent;
+import com.stepaniuk.testhorizon.event.user.UserDeletedEvent;
+import com.stepaniuk.testhorizon.event.user.UserEvent;
+import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
+import jakarta.annotation.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Keeps track of users whose already issued tokens must no longer be accepted: deleted users and users
+ * whose authorities or email changed. Entries live only as long as the longest token lifetime, because
+ * after that every token issued before the revocation has expired anyway.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private final Cache<Long, Instant> revocations;
+
+    public TokenRevocationRegistry(@Value("${spring.security.jwt.refresh-expiration-time:86400000}") long refreshTokenExpiration) {
+        this.revocations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(refreshTokenExpiration))
+                .build();
+    }
+
+    public void revokeTokensIssuedBefore(Long userId, Instant revokedAt) {
+        revocations.asMap().merge(userId, revokedAt,
+                (previous, current) -> current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * The {@code iat} claim has whole seconds, so the revocation is compared at that precision: a token issued in
+     * the second of the revocation is still accepted, otherwise the token obtained right after the change would be
+     * rejected. A token without {@code iat} can not be placed and counts as revoked.
+     */
+    public boolean isRevoked(Long userId, @Nullable Instant issuedAt) {
+        var revokedAt = revocations.getIfPresent(userId);
+
+        if (revokedAt == null) {
+            return false;
+        }
+
+        return issuedAt == null || issuedAt.isBefore(revokedAt.truncatedTo(ChronoUnit.SECONDS));
+    }
+
+    @KafkaListener(topics = "users", groupId = "token_revocation_#{T(java.util.UUID).randomUUID()}")
+    public void handleUserEvents(UserEvent userEvent) {
+        if (userEvent instanceof UserDeletedEvent
+                || userEvent instanceof UserAuthorityUpdatedEvent
+                || (userEvent instanceof UserUpdatedEvent userUpdatedEvent && isEmailChanged(userUpdatedEvent))) {
+            revokeTokensIssuedBefore(userEvent.getUserId(), userEvent.getTimestamp());
+        }
+    }
+
+    private boolean isEmailChanged(UserUpdatedEvent userUpdatedEvent) {
+        return userUpdatedEvent.getData() != null && userUpdatedEvent.getData().getEmail() != null;
+    }
+}
@@ -19,12 +19,12 @@ import com.stepaniuk.testhorizon.security.auth.passwordreset.exception.PasswordR
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
 import com.stepaniuk.testhorizon.security.exceptions.PasswordsDoNotMatchException;
 import com.stepaniuk.testhorizon.security.exceptions.InvalidOldPasswordException;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import com.stepaniuk.testhorizon.user.User;
 import com.stepaniuk.testhorizon.user.UserMapper;
 import com.stepaniuk.testhorizon.user.UserRepository;
-import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
 import com.stepaniuk.testhorizon.user.email.EmailCode;
 import com.stepaniuk.testhorizon.user.email.EmailCodeRepository;
 import com.stepaniuk.testhorizon.user.email.exceptions.InvalidVerificationCodeException;
@@ -36,6 +36,9 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -51,7 +54,7 @@ public class AuthenticationService {
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
     private final UserRepository userRepository;
-    private final AuthorityRepository authorityRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final EmailCodeRepository emailCodeRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final JwtTokenService jwtTokenService;
@@ -59,6 +62,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final AuthProducer authProducer;
 
+    @Transactional
     public UserResponse register(UserCreateRequest request, String correlationId) {
         String email = request.getEmail();
 
@@ -79,7 +83,7 @@ public class AuthenticationService {
 
         var authorityName = request.getAuthorityName();
 
-        var userAuthority = authorityRepository.findByName(authorityName)
+        var userAuthority = dictionaryRegistry.findAuthority(authorityName)
                 .orElseThrow(() -> new NoSuchAuthorityException(authorityName));
 
         var authorities = new HashSet<>(Set.of(userAuthority));
@@ -101,11 +105,12 @@ public class AuthenticationService {
                 )
         );
 
-        sendVerificationEmail(email, savedEmailCode.getCode());
+        afterCommit(() -> sendVerificationEmail(email, savedEmailCode.getCode()));
 
         return userMapper.toResponse(savedUser, null);
     }
 
+    @Transactional
     public AuthenticationResponse authenticate(LoginRequest request, String correlationId) {
         String email = request.getEmail();
         User user = userRepository.findByEmail(email)
@@ -138,6 +143,7 @@ public class AuthenticationService {
         return jwtTokenService.refreshToken(refreshToken);
     }
 
+    @Transactional
     public void verifyUser(VerificationRequest request, String correlationId) {
         String email = request.getEmail();
         User user = userRepository.findByEmail(email)
@@ -171,6 +177,7 @@ public class AuthenticationService {
         }
     }
 
+    @Transactional
     public UserResponse registerUserByAdmin(UserCreateRequest request, AuthInfo authInfo, String correlationId) {
 
         if(!hasAuthority(authInfo, AuthorityName.ADMIN.name()))
@@ -195,7 +202,7 @@ public class AuthenticationService {
 
         var authorityName = request.getAuthorityName();
 
-        var userAuthority = authorityRepository.findByName(authorityName)
+        var userAuthority = dictionaryRegistry.findAuthority(authorityName)
                 .orElseThrow(() -> new NoSuchAuthorityException(authorityName));
 
         var authorities = new HashSet<>(Set.of(userAuthority));
@@ -256,6 +263,7 @@ public class AuthenticationService {
         sendPasswordResetEmail(email, token);
     }
 
+    @Transactional
     public void emailResetPassword(String token, EmailPasswordResetConfirmRequest request, String correlationId) {
         String newPassword = request.getNewPassword();
         String confirmPassword = request.getConfirmPassword();
@@ -285,6 +293,7 @@ public class AuthenticationService {
         passwordResetTokenRepository.delete(resetToken);
     }
 
+    @Transactional
     public void updatePasswordAuthenticated(Long id, UpdatePasswordRequest request, String correlationId) {
         String newPassword = request.getNewPassword();
         String confirmPassword = request.getConfirmPassword();
@@ -311,6 +320,24 @@ public class AuthenticationService {
         );
     }
 
+    /**
+     * Runs the action once the current transaction has committed, so no mail goes out for a user that was rolled
+     * back and the transaction is not held open while the mail server responds.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     private void sendVerificationEmail(String email, String verificationCode) {
         String subject = "Account Verification";
         String verificationTemplate = loadEmailTemplate(
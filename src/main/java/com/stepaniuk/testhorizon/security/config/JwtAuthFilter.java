@@ -1,6 +1,11 @@
 package com.stepaniuk.testhorizon.security.config;
 
 import com.stepaniuk.testhorizon.security.JwtProvider;
+import com.stepaniuk.testhorizon.security.TokenRevocationRegistry;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.User;
+import com.stepaniuk.testhorizon.user.authority.Authority;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
@@ -18,6 +23,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -27,6 +33,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
 
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -45,10 +52,11 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = extractJwtFromHeader(authHeader);
-            final String userEmail = jwtProvider.extractUsername(jwt);
+            final Claims claims = jwtProvider.extractAllClaims(jwt);
+            final String userEmail = claims.getSubject();
 
             if (userEmail != null && isAuthenticationAbsent()) {
-                authenticateUser(request, jwt, userEmail);
+                authenticateUser(request, claims, userEmail);
             }
         } catch (ExpiredJwtException | MalformedJwtException e) {
             isAuthSuccessful = false;
@@ -76,18 +84,48 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return SecurityContextHolder.getContext().getAuthentication() == null;
     }
 
-    private void authenticateUser(HttpServletRequest request, String jwt, String userEmail) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+    private void authenticateUser(HttpServletRequest request, Claims claims, String userEmail) {
+        Long userId = jwtProvider.extractUserId(claims);
 
-        if (jwtProvider.isTokenValid(jwt, userDetails)) {
-            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-            );
+        if (userId != null) {
+            if (!tokenRevocationRegistry.isRevoked(userId, jwtProvider.extractIssuedAt(claims))) {
+                setAuthentication(request, buildPrincipal(userId, userEmail, claims));
+            }
+            return;
+        }
 
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+        // tokens issued before the user id claim was introduced still need the user to be loaded
+        UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+
+        if (jwtProvider.isTokenValid(claims, userDetails)) {
+            setAuthentication(request, userDetails);
         }
     }
+
+    private User buildPrincipal(Long userId, String userEmail, Claims claims) {
+        User user = new User();
+
+        user.setId(userId);
+        user.setEmail(userEmail);
+        user.setEnabled(true);
+        user.setAccountNonExpired(true);
+        user.setAccountNonLocked(true);
+        user.setCredentialsNonExpired(true);
+        user.setAuthorities(jwtProvider.extractAuthorities(claims).stream()
+                .map(authority -> new Authority(null, AuthorityName.valueOf(authority)))
+                .collect(Collectors.toSet()));
+
+        return user;
+    }
+
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -34,7 +34,9 @@ public class SecurityConfiguration {
             "/feedbacks",
             "/posts",
             "/posts/**",
-            "/comments"
+            "/comments",
+            // STOMP sessions are authenticated by WebSocketAuthorizationInterceptor
+            "/notifications-websocket/**"
     };
 
     private static final String[] ADMIN_ONLY_MATCHERS = {
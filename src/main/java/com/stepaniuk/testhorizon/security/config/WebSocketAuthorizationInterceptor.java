@@ -0,0 +1,151 @@
+package com.stepaniuk.testhorizon.security.config;
+
+import com.stepaniuk.testhorizon.security.JwtProvider;
+import com.stepaniuk.testhorizon.security.TokenRevocationRegistry;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Set;
+
+/**
+ * Authenticates STOMP sessions and authorizes their subscriptions.
+ * <p>
+ * A {@code CONNECT} frame may carry the access token in an {@code Authorization: Bearer} header. The session user is
+ * then named by the user id, which is what user destinations such as {@code /user/queue/export-jobs} are resolved
+ * against. Subscriptions require an authenticated session, like the REST endpoints the events stem from; the
+ * destinations of all user, auth and export job events are for admins only. Subscribing to broker queues directly
+ * and sending to broker destinations are denied, so that clients can neither read other users' queues nor publish
+ * events themselves, and so are pattern subscriptions.
+ */
+@Component
+@RequiredArgsConstructor
+public class WebSocketAuthorizationInterceptor implements ChannelInterceptor {
+
+    private static final Set<String> ADMIN_ONLY_DESTINATIONS = Set.of(
+            "/topic/users",
+            "/topic/auth",
+            "/topic/export-jobs"
+    );
+
+    private final JwtProvider jwtProvider;
+
+    private final UserDetailsService userDetailsService;
+
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        var accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> authenticate(accessor);
+            case SUBSCRIBE -> authorizeSubscription(accessor.getUser(), accessor.getDestination());
+            case SEND -> authorizeSend(accessor.getDestination());
+            default -> {
+                // other frames do not address destinations
+            }
+        }
+
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        var authHeader = accessor.getFirstNativeHeader("Authorization");
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            // a session authenticated by the handshake request is renamed to the user id as well
+            if (accessor.getUser() instanceof Authentication authentication && authentication.getPrincipal() instanceof User user) {
+                accessor.setUser(UsernamePasswordAuthenticationToken.authenticated(user.getId().toString(), null,
+                        authentication.getAuthorities()));
+            }
+            return;
+        }
+
+        try {
+            accessor.setUser(buildAuthentication(jwtProvider.extractAllClaims(authHeader.substring(7))));
+        } catch (JwtException e) {
+            throw new AccessDeniedException("Invalid or expired token");
+        }
+    }
+
+    private Authentication buildAuthentication(Claims claims) {
+        Long userId = jwtProvider.extractUserId(claims);
+
+        if (userId != null) {
+            if (tokenRevocationRegistry.isRevoked(userId, jwtProvider.extractIssuedAt(claims))) {
+                throw new AccessDeniedException("Invalid or expired token");
+            }
+
+            return UsernamePasswordAuthenticationToken.authenticated(userId.toString(), null,
+                    jwtProvider.extractAuthorities(claims).stream().map(SimpleGrantedAuthority::new).toList());
+        }
+
+        // tokens issued before the user id claim was introduced still need the user to be loaded
+        var userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+
+        if (!(userDetails instanceof User user) || !jwtProvider.isTokenValid(claims, userDetails)) {
+            throw new AccessDeniedException("Invalid or expired token");
+        }
+
+        return UsernamePasswordAuthenticationToken.authenticated(user.getId().toString(), null, user.getAuthorities());
+    }
+
+    private void authorizeSubscription(@Nullable Principal user, @Nullable String destination) {
+        if (destination == null || isPattern(destination)
+                || !(user instanceof Authentication authentication) || !authentication.isAuthenticated()) {
+            throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+        }
+
+        if (destination.startsWith("/user/queue/")) {
+            return;
+        }
+
+        if (!destination.startsWith("/topic/")) {
+            throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+        }
+
+        if (ADMIN_ONLY_DESTINATIONS.contains(destination) && !isAdmin(authentication)) {
+            throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+        }
+    }
+
+    private void authorizeSend(@Nullable String destination) {
+        if (destination == null || !destination.startsWith("/app/")) {
+            throw new AccessDeniedException("Sending to " + destination + " is not allowed");
+        }
+    }
+
+    /**
+     * The simple broker matches subscriptions as Ant patterns, so {@code /topic/*} would match admin only
+     * destinations as well.
+     */
+    private boolean isPattern(String destination) {
+        return destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0;
+    }
+
+    private boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> AuthorityName.ADMIN.name().equals(authority.getAuthority()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.stepaniuk.testhorizon.shared;
+
+/**
+ * How a paged list response computes its total count.
+ */
+public enum CountMode {
+    /**
+     * Runs a {@code COUNT(*)} with the same filter as the page query.
+     */
+    EXACT,
+    /**
+     * Uses the planner row estimate of the table for unfiltered queries and falls back to an exact count otherwise.
+     */
+    APPROXIMATE,
+    /**
+     * Skips counting and only reports whether a next page exists.
+     */
+    NONE
+}
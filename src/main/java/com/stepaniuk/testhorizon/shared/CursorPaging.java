@@ -0,0 +1,156 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.stepaniuk.testhorizon.shared.exceptions.InvalidCursorException;
+import com.stepaniuk.testhorizon.shared.exceptions.UnsupportedCursorSortException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (cursor) pagination for list endpoints. Instead of an offset, the query seeks past the sort key values
+ * of the last returned row, so deep pages cost the same as the first one and no count query is issued.
+ * <p>
+ * The position is handed to clients as an opaque, URL-safe cursor. An empty cursor starts from the beginning.
+ * Only whitelisted sort properties are accepted, and {@code id} is always appended as a tie-breaker, so the
+ * order is total. Without an explicit sort, rows are returned newest first.
+ */
+public final class CursorPaging {
+
+    private static final String ID_PROPERTY = "id";
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private CursorPaging() {
+    }
+
+    /**
+     * Creates a fluent query function for {@code JpaSpecificationExecutor.findBy} that returns the window
+     * following the given cursor.
+     */
+    public static <T> Function<FluentQuery.FetchableFluentQuery<T>, Window<T>> scroll(Pageable pageable, String cursor,
+                                                                                    Set<String> sortProperties,
+                                                                                    String entityUrl) {
+        Sort sort = resolveSort(pageable.getSort(), sortProperties, entityUrl);
+        ScrollPosition position = decode(cursor, sort, entityUrl);
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_PAGE_SIZE;
+
+        return query -> query.sortBy(sort).limit(size).scroll(position);
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keysetPosition) || keysetPosition.isInitial()) {
+            return "";
+        }
+
+        List<String> entries = new ArrayList<>();
+        keysetPosition.getKeys().forEach((property, value) -> entries.add(encodeValue(property) + "=" + encodeKey(value)));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join("&", entries).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Sort resolveSort(Sort requestedSort, Set<String> sortProperties, String entityUrl) {
+        Sort sort = requestedSort.isSorted() ? requestedSort : DEFAULT_SORT;
+        Sort.Direction tieBreakerDirection = Sort.Direction.ASC;
+
+        for (Sort.Order order : sort) {
+            if (!sortProperties.contains(order.getProperty()) && !ID_PROPERTY.equals(order.getProperty())) {
+                throw new UnsupportedCursorSortException(order.getProperty(), entityUrl);
+            }
+            tieBreakerDirection = order.getDirection();
+        }
+
+        return sort.getOrderFor(ID_PROPERTY) != null
+                ? sort
+                : sort.and(Sort.by(tieBreakerDirection, ID_PROPERTY));
+    }
+
+    private static ScrollPosition decode(String cursor, Sort sort, String entityUrl) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            for (String entry : decoded.split("&")) {
+                int separator = entry.indexOf('=');
+                keys.put(URLDecoder.decode(entry.substring(0, separator), StandardCharsets.UTF_8),
+                        decodeKey(entry.substring(separator + 1)));
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor, entityUrl);
+        }
+
+        if (!keys.keySet().equals(sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet()))) {
+            throw new InvalidCursorException(cursor, entityUrl);
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encodeKey(Object value) {
+        if (value == null) {
+            return "n:";
+        }
+
+        String type;
+
+        if (value instanceof String) {
+            type = "s";
+        } else if (value instanceof Long) {
+            type = "l";
+        } else if (value instanceof Integer) {
+            type = "i";
+        } else if (value instanceof Instant) {
+            type = "t";
+        } else if (value instanceof BigDecimal) {
+            type = "d";
+        } else if (value instanceof Boolean) {
+            type = "b";
+        } else {
+            throw new IllegalStateException("Unsupported cursor key type " + value.getClass().getName());
+        }
+
+        return type + ":" + encodeValue(value.toString());
+    }
+
+    private static Object decodeKey(String key) {
+        String value = URLDecoder.decode(key.substring(2), StandardCharsets.UTF_8);
+
+        return switch (key.substring(0, 2)) {
+            case "n:" -> null;
+            case "s:" -> value;
+            case "l:" -> Long.valueOf(value);
+            case "i:" -> Integer.valueOf(value);
+            case "t:" -> Instant.parse(value);
+            case "d:" -> new BigDecimal(value);
+            case "b:" -> Boolean.valueOf(value);
+            default -> throw new IllegalArgumentException("Unknown cursor key type");
+        };
+    }
+
+    private static String encodeValue(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,126 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverity;
+import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverityRepository;
+import com.stepaniuk.testhorizon.bugreport.status.BugReportStatus;
+import com.stepaniuk.testhorizon.bugreport.status.BugReportStatusRepository;
+import com.stepaniuk.testhorizon.post.category.PostCategory;
+import com.stepaniuk.testhorizon.post.category.PostCategoryRepository;
+import com.stepaniuk.testhorizon.project.status.ProjectStatus;
+import com.stepaniuk.testhorizon.project.status.ProjectStatusRepository;
+import com.stepaniuk.testhorizon.test.type.TestType;
+import com.stepaniuk.testhorizon.test.type.TestTypeRepository;
+import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
+import com.stepaniuk.testhorizon.testcase.priority.TestCasePriorityRepository;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportSeverityName;
+import com.stepaniuk.testhorizon.types.bugreport.BugReportStatusName;
+import com.stepaniuk.testhorizon.types.post.PostCategoryName;
+import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
+import com.stepaniuk.testhorizon.types.test.TestTypeName;
+import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.authority.Authority;
+import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-memory registry of the static lookup tables (test types, project statuses, bug report severities and
+ * statuses, test case priorities, post categories and authorities), keyed by their enum names.
+ * <p>
+ * Rows are loaded once at startup and handed out as is, so lookups never hit the database. The rows are
+ * never modified and are only used as targets of non-cascading associations, therefore they can be assigned
+ * to entities of any persistence context. A lookup of a name that is not loaded triggers a single
+ * {@link #refresh()}, so rows added after startup are picked up on demand.
+ */
+@Component
+@RequiredArgsConstructor
+public class DictionaryRegistry {
+
+    private final TestTypeRepository testTypeRepository;
+    private final ProjectStatusRepository projectStatusRepository;
+    private final BugReportSeverityRepository bugReportSeverityRepository;
+    private final BugReportStatusRepository bugReportStatusRepository;
+    private final TestCasePriorityRepository testCasePriorityRepository;
+    private final PostCategoryRepository postCategoryRepository;
+    private final AuthorityRepository authorityRepository;
+
+    private volatile Dictionaries dictionaries;
+
+    @PostConstruct
+    public synchronized void refresh() {
+        dictionaries = new Dictionaries(
+                toEnumMap(TestTypeName.class, testTypeRepository.findAll(), TestType::getName),
+                toEnumMap(ProjectStatusName.class, projectStatusRepository.findAll(), ProjectStatus::getName),
+                toEnumMap(BugReportSeverityName.class, bugReportSeverityRepository.findAll(), BugReportSeverity::getName),
+                toEnumMap(BugReportStatusName.class, bugReportStatusRepository.findAll(), BugReportStatus::getName),
+                toEnumMap(TestCasePriorityName.class, testCasePriorityRepository.findAll(), TestCasePriority::getName),
+                toEnumMap(PostCategoryName.class, postCategoryRepository.findAll(), PostCategory::getName),
+                toEnumMap(AuthorityName.class, authorityRepository.findAll(), Authority::getName)
+        );
+    }
+
+    public Optional<TestType> findTestType(TestTypeName name) {
+        return find(Dictionaries::testTypes, name);
+    }
+
+    public Optional<ProjectStatus> findProjectStatus(ProjectStatusName name) {
+        return find(Dictionaries::projectStatuses, name);
+    }
+
+    public Optional<BugReportSeverity> findBugReportSeverity(BugReportSeverityName name) {
+        return find(Dictionaries::bugReportSeverities, name);
+    }
+
+    public Optional<BugReportStatus> findBugReportStatus(BugReportStatusName name) {
+        return find(Dictionaries::bugReportStatuses, name);
+    }
+
+    public Optional<TestCasePriority> findTestCasePriority(TestCasePriorityName name) {
+        return find(Dictionaries::testCasePriorities, name);
+    }
+
+    public Optional<PostCategory> findPostCategory(PostCategoryName name) {
+        return find(Dictionaries::postCategories, name);
+    }
+
+    public Optional<Authority> findAuthority(AuthorityName name) {
+        return find(Dictionaries::authorities, name);
+    }
+
+    private <N extends Enum<N>, D> Optional<D> find(Function<Dictionaries, Map<N, D>> dictionary, N name) {
+        var value = dictionary.apply(dictionaries).get(name);
+
+        if (value == null && name != null) {
+            refresh();
+            value = dictionary.apply(dictionaries).get(name);
+        }
+
+        return Optional.ofNullable(value);
+    }
+
+    private static <N extends Enum<N>, D> Map<N, D> toEnumMap(Class<N> nameType, List<D> rows, Function<D, N> nameGetter) {
+        var map = new EnumMap<N, D>(nameType);
+        rows.forEach(row -> map.put(nameGetter.apply(row), row));
+        return Collections.unmodifiableMap(map);
+    }
+
+    private record Dictionaries(
+            Map<TestTypeName, TestType> testTypes,
+            Map<ProjectStatusName, ProjectStatus> projectStatuses,
+            Map<BugReportSeverityName, BugReportSeverity> bugReportSeverities,
+            Map<BugReportStatusName, BugReportStatus> bugReportStatuses,
+            Map<TestCasePriorityName, TestCasePriority> testCasePriorities,
+            Map<PostCategoryName, PostCategory> postCategories,
+            Map<AuthorityName, Authority> authorities
+    ) {
+    }
+}
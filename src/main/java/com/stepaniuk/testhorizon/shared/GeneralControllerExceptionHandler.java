@@ -1,5 +1,6 @@
 package com.stepaniuk.testhorizon.shared;
 
+import com.stepaniuk.testhorizon.aws.exceptions.InvalidFileNameException;
 import com.stepaniuk.testhorizon.aws.exceptions.NoSuchFilesByNamesException;
 import com.stepaniuk.testhorizon.aws.exceptions.UnableUploadFileException;
 import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportByIdException;
@@ -8,6 +9,8 @@ import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportStatusByNam
 import com.stepaniuk.testhorizon.comment.exceptions.CommentAuthorMismatchException;
 import com.stepaniuk.testhorizon.comment.exceptions.NoSuchCommentByIdException;
 import com.stepaniuk.testhorizon.export.exceptions.NoSuchHandlerFoundForEntity;
+import com.stepaniuk.testhorizon.export.job.exceptions.ExportJobQueueFullException;
+import com.stepaniuk.testhorizon.export.job.exceptions.NoSuchExportJobByIdException;
 import com.stepaniuk.testhorizon.feedback.exceptions.NoSuchFeedbackFoundByIdException;
 import com.stepaniuk.testhorizon.notebook.exceptions.NoSuchNotebookByIdException;
 import com.stepaniuk.testhorizon.notebook.note.exceptions.NoSuchNoteByIdException;
@@ -22,6 +25,8 @@ import com.stepaniuk.testhorizon.security.exceptions.InvalidOldPasswordException
 import com.stepaniuk.testhorizon.security.exceptions.InvalidTokenException;
 import com.stepaniuk.testhorizon.security.exceptions.PasswordsDoNotMatchException;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
+import com.stepaniuk.testhorizon.shared.exceptions.InvalidCursorException;
+import com.stepaniuk.testhorizon.shared.exceptions.UnsupportedCursorSortException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestByIdException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestTypeByNameException;
 import com.stepaniuk.testhorizon.testcase.exceptions.NoSuchTestCaseByIdException;
@@ -255,6 +260,24 @@ public class GeneralControllerExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(value = {InvalidCursorException.class})
+    public ProblemDetail handleInvalidCursorException(InvalidCursorException e) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "Cursor " + e.getCursor() + " is invalid or does not match the requested sort");
+        problemDetail.setTitle("Invalid cursor");
+        problemDetail.setInstance(URI.create(e.getEntityUrl()));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(value = {UnsupportedCursorSortException.class})
+    public ProblemDetail handleUnsupportedCursorSortException(UnsupportedCursorSortException e) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "Cursor pagination does not support sorting by " + e.getProperty());
+        problemDetail.setTitle("Unsupported sort");
+        problemDetail.setInstance(URI.create(e.getEntityUrl()));
+        return problemDetail;
+    }
+
     @ExceptionHandler(value = {NoSuchFilesByNamesException.class})
     public ProblemDetail handleNoSuchFilesByNamesException(NoSuchFilesByNamesException e) {
         var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
@@ -273,6 +296,15 @@ public class GeneralControllerExceptionHandler {
         return problemDetail;
     }
 
+    @ExceptionHandler(value = {InvalidFileNameException.class})
+    public ProblemDetail handleInvalidFileNameException(InvalidFileNameException e) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST,
+                "Invalid file name: " + e.getFileName());
+        problemDetail.setTitle("Invalid file name");
+        problemDetail.setInstance(URI.create("/files"));
+        return problemDetail;
+    }
+
     @ExceptionHandler(value = {NoSuchHandlerFoundForEntity.class})
     public ProblemDetail handleNoSuchHandlerFoundForEntity(NoSuchHandlerFoundForEntity e) {
         var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
@@ -344,4 +376,22 @@ public class GeneralControllerExceptionHandler {
         problemDetail.setInstance(URI.create("/posts"));
         return problemDetail;
     }
+
+    @ExceptionHandler(value = {NoSuchExportJobByIdException.class})
+    public ProblemDetail handleNoSuchExportJobByIdException(NoSuchExportJobByIdException e) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND,
+                "No export job with id " + e.getId());
+        problemDetail.setTitle("No such export job");
+        problemDetail.setInstance(URI.create("/export-jobs"));
+        return problemDetail;
+    }
+
+    @ExceptionHandler(value = {ExportJobQueueFullException.class})
+    public ProblemDetail handleExportJobQueueFullException(ExportJobQueueFullException e) {
+        var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "Export job queue is full, try again later");
+        problemDetail.setTitle("Export job queue is full");
+        problemDetail.setInstance(URI.create("/export-jobs"));
+        return problemDetail;
+    }
 }
@@ -5,6 +5,8 @@ import org.mapstruct.Mapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
 import org.springframework.hateoas.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -50,6 +52,53 @@ public interface PageMapper {
         return model;
     }
 
+    /**
+     * Maps a slice to a response without page metadata, the total count is not known.
+     */
+    default <T> PagedModel<T> toResponse(Slice<T> slice, URI base) {
+        PagedModel<T> model = PagedModel.of(slice.getContent(), (PagedModel.PageMetadata) null);
+
+        if (slice.hasPrevious()) {
+            model.add(createLink(base, PageRequest.of(0, slice.getSize(), slice.getSort()), IanaLinkRelations.FIRST));
+            model.add(createLink(base, slice.previousPageable(), IanaLinkRelations.PREV));
+        }
+
+        model.add(createLink(base, slice.getPageable(), IanaLinkRelations.SELF));
+
+        if (slice.hasNext()) {
+            model.add(createLink(base, slice.nextPageable(), IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
+    /**
+     * Maps a keyset window to a response without page metadata. Navigation is forward only, the next link
+     * carries the cursor of the last element of the window.
+     */
+    default <T> PagedModel<T> toResponse(Window<T> window, Pageable pageable, String cursor, URI base) {
+        PagedModel<T> model = PagedModel.of(window.getContent(), (PagedModel.PageMetadata) null);
+
+        model.add(createCursorLink(base, cursor, pageable, IanaLinkRelations.SELF));
+
+        if (window.hasNext() && !window.isEmpty()) {
+            String nextCursor = CursorPaging.encode(window.positionAt(window.size() - 1));
+            model.add(createCursorLink(base, nextCursor, pageable, IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
+    default Link createCursorLink(URI base, String cursor, Pageable pageable, LinkRelation relation) {
+        UriComponentsBuilder builder = fromUri(base);
+        builder.replaceQueryParam("cursor", cursor);
+        builder.replaceQueryParam("size", pageable.getPageSize());
+        List<String> sort = pageable.getSort().stream().map(order -> order.getProperty() + "," + order.getDirection())
+                .toList();
+        builder.replaceQueryParam("sort", sort.toArray());
+        return Link.of(UriTemplate.of(builder.build().toString()), relation);
+    }
+
     default Link createLink(URI base, Pageable pageable, LinkRelation relation) {
         UriComponentsBuilder builder = fromUri(base);
         builder.replaceQueryParam("page", pageable.getPageNumber());
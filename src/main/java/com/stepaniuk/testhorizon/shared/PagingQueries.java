@@ -0,0 +1,150 @@
+package com.stepaniuk.testhorizon.shared;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Table;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.jpa.repository.query.QueryUtils.toOrders;
+
+/**
+ * Page queries that avoid the exact {@code COUNT(*)} issued by {@code JpaSpecificationExecutor.findAll(spec, pageable)}.
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PagingQueries {
+
+    private final EntityManager entityManager;
+
+    /**
+     * Fetches one row more than the page size to find out whether there is a next page, without counting.
+     */
+    public <T> Slice<T> findSlice(Class<T> domainClass, @Nullable Specification<T> specification, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(findContent(domainClass, specification, pageable, null), pageable, false);
+        }
+
+        List<T> content = findContent(domainClass, specification, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    /**
+     * Fetches the page and its total count. With {@code approximate} set and no filter, the total is taken from
+     * the Postgres planner estimate ({@code pg_class.reltuples}) instead of a full count.
+     */
+    public <T> Page<T> findPage(Class<T> domainClass, @Nullable Specification<T> specification, Pageable pageable,
+                                boolean approximate) {
+        List<T> content = findContent(domainClass, specification, pageable,
+                pageable.isPaged() ? pageable.getPageSize() : null);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            if (approximate && isUnfiltered(domainClass, specification)) {
+                Optional<Long> estimate = estimateRowCount(domainClass);
+
+                if (estimate.isPresent()) {
+                    return estimate.get();
+                }
+            }
+
+            return count(domainClass, specification);
+        });
+    }
+
+    private <T> List<T> findContent(Class<T> domainClass, @Nullable Specification<T> specification, Pageable pageable,
+                                    @Nullable Integer limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = criteriaBuilder.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        query.select(root);
+        applySpecification(specification, root, query, criteriaBuilder);
+
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        var typedQuery = entityManager.createQuery(query);
+
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        }
+
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    private <T> long count(Class<T> domainClass, @Nullable Specification<T> specification) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+
+        query.select(criteriaBuilder.count(root));
+        applySpecification(specification, root, query, criteriaBuilder);
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private <T> boolean isUnfiltered(Class<T> domainClass, @Nullable Specification<T> specification) {
+        if (specification == null) {
+            return true;
+        }
+
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+
+        return specification.toPredicate(query.from(domainClass), query, criteriaBuilder) == null;
+    }
+
+    private Optional<Long> estimateRowCount(Class<?> domainClass) {
+        Table table = domainClass.getAnnotation(Table.class);
+
+        if (table == null) {
+            return Optional.empty();
+        }
+
+        List<?> result = entityManager
+                .createNativeQuery("SELECT CAST(reltuples AS bigint) FROM pg_class WHERE oid = to_regclass(:tableName)")
+                .setParameter("tableName", table.name())
+                .getResultList();
+
+        // reltuples is -1 for tables that were never vacuumed or analyzed
+        return result.stream()
+                .map(value -> ((Number) value).longValue())
+                .filter(estimate -> estimate >= 0)
+                .findFirst();
+    }
+
+    private static <T> void applySpecification(@Nullable Specification<T> specification, Root<T> root,
+                                               CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder) {
+        if (specification == null) {
+            return;
+        }
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.stepaniuk.testhorizon.shared;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String OUTBOX_RELAY_SCHEDULER = "outboxRelayScheduler";
+
+    /**
+     * Default scheduler of the {@code @Scheduled} jobs, sized by {@code spring.task.scheduling.pool.size}. Declared
+     * here because Boot backs off its own scheduler as soon as any other one exists.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Runs only the outbox relay, so a long reconciliation or folder cleanup never delays event delivery.
+     */
+    @Bean(OUTBOX_RELAY_SCHEDULER)
+    public ThreadPoolTaskScheduler outboxRelayScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.poolSize(1)
+                .threadNamePrefix("outbox-relay-")
+                .build();
+    }
+}
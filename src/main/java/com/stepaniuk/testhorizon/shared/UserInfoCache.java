@@ -0,0 +1,68 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stepaniuk.testhorizon.event.user.UserDeletedEvent;
+import com.stepaniuk.testhorizon.event.user.UserEvent;
+import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
+import com.stepaniuk.testhorizon.payload.info.UserInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Process-wide cache of {@link UserInfo} keyed by user id. Entries are evicted by size and age,
+ * and invalidated whenever a user is updated or deleted on any node, since every instance
+ * consumes the {@code users} topic in its own consumer group.
+ */
+@Component
+public class UserInfoCache implements MeterBinder {
+
+    private final Cache<Long, UserInfo> cache;
+
+    public UserInfoCache(@Value("${user-info.cache.maximum-size:10000}") long maximumSize,
+                         @Value("${user-info.cache.expire-after-write:600000}") long expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(expireAfterWrite))
+                .recordStats()
+                .build();
+    }
+
+    public Map<Long, UserInfo> getAllPresent(Collection<Long> userIds) {
+        return cache.getAllPresent(userIds);
+    }
+
+    public void putAll(Collection<UserInfo> userInfos) {
+        userInfos.forEach(userInfo -> cache.put(userInfo.getId(), userInfo));
+    }
+
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @KafkaListener(topics = "users", groupId = "user_info_cache_#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest")
+    public void handleUserEvents(UserEvent userEvent) {
+        if (userEvent instanceof UserUpdatedEvent || userEvent instanceof UserDeletedEvent) {
+            invalidate(userEvent.getUserId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(cache, "userInfos", List.of()).bindTo(registry);
+    }
+}
@@ -6,16 +6,84 @@ import com.stepaniuk.testhorizon.user.UserRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.*;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class UserInfoService {
+
+    private static final String USER_INFO_MEMO_ATTRIBUTE = UserInfoService.class.getName() + ".USER_INFO_MEMO";
+
     private final UserRepository userRepository;
+    private final UserInfoCache userInfoCache;
 
     public UserInfo getUserInfo(Long userId) {
-        var user = userRepository.findById(userId).orElseThrow(
-                () -> new NoSuchUserByIdException(userId)
-        );
-        return new UserInfo(userId, user.getFirstName(), user.getLastName());
+        return getUserInfos(List.of(userId)).get(userId);
+    }
+
+    /**
+     * Resolves user infos for all given ids with at most one query. Ids are looked up in the current
+     * request's memo first, then in the {@link UserInfoCache}, and only the remaining ones hit the database.
+     *
+     * @throws NoSuchUserByIdException if any of the given users does not exist
+     */
+    public Map<Long, UserInfo> getUserInfos(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var memo = getRequestMemo();
+
+        var missingUserIds = userIds.stream()
+                .filter(userId -> !memo.containsKey(userId))
+                .collect(Collectors.toSet());
+
+        if (!missingUserIds.isEmpty()) {
+            var cachedUserInfos = userInfoCache.getAllPresent(missingUserIds);
+            memo.putAll(cachedUserInfos);
+            missingUserIds.removeAll(cachedUserInfos.keySet());
+        }
+
+        if (!missingUserIds.isEmpty()) {
+            var loadedUserInfos = userRepository.findUserInfosByIds(missingUserIds);
+            loadedUserInfos.forEach(userInfo -> memo.put(userInfo.getId(), userInfo));
+            userInfoCache.putAll(loadedUserInfos);
+        }
+
+        Map<Long, UserInfo> userInfos = new HashMap<>();
+
+        for (Long userId : userIds) {
+            var userInfo = memo.get(userId);
+
+            if (userInfo == null) {
+                throw new NoSuchUserByIdException(userId);
+            }
+
+            userInfos.put(userId, userInfo);
+        }
+
+        return userInfos;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, UserInfo> getRequestMemo() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return new HashMap<>();
+        }
+
+        var memo = (Map<Long, UserInfo>) requestAttributes.getAttribute(USER_INFO_MEMO_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        if (memo == null) {
+            memo = new HashMap<>();
+            requestAttributes.setAttribute(USER_INFO_MEMO_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+
+        return memo;
     }
 }
@@ -0,0 +1,20 @@
+package com.stepaniuk.testhorizon.shared.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded or does not match the requested sort
+ */
+@Getter
+public class InvalidCursorException extends RuntimeException {
+
+    private final String cursor;
+    private final String entityUrl;
+
+    public InvalidCursorException(String cursor, String entityUrl) {
+        super("Invalid cursor \"" + cursor + "\"");
+        this.cursor = cursor;
+        this.entityUrl = entityUrl;
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.stepaniuk.testhorizon.shared.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when cursor pagination is requested with a sort property that is not allowed for it
+ */
+@Getter
+public class UnsupportedCursorSortException extends RuntimeException {
+
+    private final String property;
+    private final String entityUrl;
+
+    public UnsupportedCursorSortException(String property, String entityUrl) {
+        super("Cursor pagination does not support sorting by \"" + property + "\"");
+        this.property = property;
+        this.entityUrl = entityUrl;
+    }
+
+}
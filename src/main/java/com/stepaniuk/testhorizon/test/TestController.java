@@ -53,9 +53,10 @@ public class TestController {
                                                                 @Nullable @RequestParam(required = false) List<Long> projectIds,
                                                                 @Nullable @RequestParam(required = false) Long authorId,
                                                                 @Nullable @RequestParam(required = false) Long testCaseId,
-                                                                @Nullable @RequestParam(required = false) TestTypeName type) {
+                                                                @Nullable @RequestParam(required = false) TestTypeName type,
+                                                                @Nullable @RequestParam(required = false) String cursor) {
 
-        return ResponseEntity.ok(testService.getAllTests(pageable, title, projectIds, authorId, testCaseId, type));
+        return ResponseEntity.ok(testService.getAllTests(pageable, title, projectIds, authorId, testCaseId, type, cursor));
     }
 
 }
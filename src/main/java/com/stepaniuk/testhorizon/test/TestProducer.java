@@ -1,20 +1,17 @@
 package com.stepaniuk.testhorizon.test;
 
 import com.stepaniuk.testhorizon.event.test.TestEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class TestProducer {
 
-    private final KafkaTemplate<String, TestEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, TestEvent>> send(TestEvent testEvent) {
-        return kafkaTemplate.send("tests", testEvent);
+    public void send(TestEvent testEvent) {
+        outbox.add("tests", testEvent.getTestId(), testEvent);
     }
 }
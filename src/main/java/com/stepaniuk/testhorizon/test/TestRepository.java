@@ -1,9 +1,23 @@
 package com.stepaniuk.testhorizon.test;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 @Repository
 public interface TestRepository extends JpaRepository<Test, Long>, JpaSpecificationExecutor<Test> {
-}
\ No newline at end of file
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Test t LEFT JOIN FETCH t.type WHERE t.projectId = :projectId ORDER BY t.id")
+    Stream<Test> streamByProjectId(@Param("projectId") Long projectId);
+}
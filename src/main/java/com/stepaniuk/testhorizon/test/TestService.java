@@ -11,13 +11,14 @@ import com.stepaniuk.testhorizon.payload.test.TestUpdateRequest;
 import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestByIdException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestTypeByNameException;
 import com.stepaniuk.testhorizon.test.type.TestType;
-import com.stepaniuk.testhorizon.test.type.TestTypeRepository;
 import com.stepaniuk.testhorizon.testcase.TestCaseRepository;
 import com.stepaniuk.testhorizon.testcase.exceptions.NoSuchTestCaseByIdException;
 import com.stepaniuk.testhorizon.types.test.TestTypeName;
@@ -25,14 +26,18 @@ import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -41,8 +46,10 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class TestService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
+
     private final TestRepository testRepository;
-    private final TestTypeRepository testTypeRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final ProjectRepository projectRepository;
     private final TestCaseRepository testCaseRepository;
     private final TestMapper testMapper;
@@ -50,6 +57,7 @@ public class TestService {
     private final TestProducer testProducer;
     private final UserInfoService userInfoService;
 
+    @Transactional
     public TestResponse createTest(TestCreateRequest testCreateRequest, Long authorId, String correlationId) {
         Test test = new Test();
 
@@ -69,7 +77,7 @@ public class TestService {
         test.setGithubUrl(testCreateRequest.getGithubUrl());
 
         test.setType(
-                testTypeRepository.findByName(testCreateRequest.getType())
+                dictionaryRegistry.findTestType(testCreateRequest.getType())
                         .orElseThrow(() -> new NoSuchTestTypeByNameException(testCreateRequest.getType()))
         );
 
@@ -107,6 +115,7 @@ public class TestService {
         return testMapper.toResponse(test, projectInfo, authorInfo, testCaseInfo);
     }
 
+    @Transactional
     public void deleteTestById(Long id, String correlationId, AuthInfo authInfo) {
         var test = testRepository.findById(id)
                 .orElseThrow(() -> new NoSuchTestByIdException(id));
@@ -125,6 +134,7 @@ public class TestService {
         );
     }
 
+    @Transactional
     public TestResponse updateTest(Long id, TestUpdateRequest testUpdateRequest, String correlationId, AuthInfo authInfo) {
 
         var test = testRepository.findById(id)
@@ -165,7 +175,7 @@ public class TestService {
 
         if (testUpdateRequest.getType() != null) {
             test.setType(
-                    testTypeRepository.findByName(testUpdateRequest.getType())
+                    dictionaryRegistry.findTestType(testUpdateRequest.getType())
                             .orElseThrow(() -> new NoSuchTestTypeByNameException(testUpdateRequest.getType()))
             );
 
@@ -193,7 +203,8 @@ public class TestService {
                                                 @Nullable List<Long> projectIds,
                                                 @Nullable Long authorId,
                                                 @Nullable Long testCaseId,
-                                                @Nullable TestTypeName typeName) {
+                                                @Nullable TestTypeName typeName,
+                                                @Nullable String cursor) {
 
         Specification<Test> specification = Specification.where(null);
 
@@ -222,7 +233,7 @@ public class TestService {
         }
 
         if (typeName != null) {
-            TestType type = testTypeRepository.findByName(typeName)
+            TestType type = dictionaryRegistry.findTestType(typeName)
                     .orElseThrow(() -> new NoSuchTestTypeByNameException(typeName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -230,20 +241,38 @@ public class TestService {
             );
         }
 
+        if (cursor != null) {
+            Window<Test> tests = testRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/tests"));
+
+            return pageMapper.toResponse(tests.map(responseMapper(tests)), pageable, cursor, URI.create("/tests"));
+        }
+
         var tests = testRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                tests.map(test -> testMapper.toResponse(
-                        test,
-                        projectRepository.findById(test.getProjectId())
-                                .map(project -> new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId()))
-                                .orElseThrow(() -> new NoSuchProjectByIdException(test.getProjectId())),
-                        userInfoService.getUserInfo(test.getAuthorId()),
-                        test.getTestCaseId() != null
-                                ? findTestCaseInfo(test.getTestCaseId())
-                                : null
-                )),
-                URI.create("/tests")
+        return pageMapper.toResponse(tests.map(responseMapper(tests)), URI.create("/tests"));
+    }
+
+    private Function<Test, TestResponse> responseMapper(Streamable<Test> tests) {
+        var projectInfos = projectRepository.findProjectInfosByIds(
+                        tests.stream().map(Test::getProjectId).collect(Collectors.toSet())
+                ).stream()
+                .collect(Collectors.toMap(ProjectInfo::getId, Function.identity()));
+        var authorInfos = userInfoService.getUserInfos(
+                tests.stream().map(Test::getAuthorId).collect(Collectors.toSet())
+        );
+        var testCaseInfos = findTestCaseInfos(
+                tests.stream().map(Test::getTestCaseId).filter(Objects::nonNull).collect(Collectors.toSet())
+        );
+
+        return test -> testMapper.toResponse(
+                test,
+                Optional.ofNullable(projectInfos.get(test.getProjectId()))
+                        .orElseThrow(() -> new NoSuchProjectByIdException(test.getProjectId())),
+                authorInfos.get(test.getAuthorId()),
+                test.getTestCaseId() != null
+                        ? testCaseInfos.get(test.getTestCaseId())
+                        : null
         );
     }
 
@@ -253,6 +282,24 @@ public class TestService {
                 .orElseThrow(() -> new NoSuchTestCaseByIdException(testCaseId));
     }
 
+    private Map<Long, TestCaseInfo> findTestCaseInfos(Set<Long> testCaseIds) {
+        if (testCaseIds.isEmpty()) {
+            return Map.of();
+        }
+
+        var testCaseInfos = testCaseRepository.findTestCaseInfosByIds(testCaseIds).stream()
+                .collect(Collectors.toMap(TestCaseInfo::getId, Function.identity()));
+
+        testCaseIds.stream()
+                .filter(testCaseId -> !testCaseInfos.containsKey(testCaseId))
+                .findFirst()
+                .ifPresent(testCaseId -> {
+                    throw new NoSuchTestCaseByIdException(testCaseId);
+                });
+
+        return testCaseInfos;
+    }
+
     private boolean hasNoAccessToManageTest(Long ownerId, Long projectId, AuthInfo authInfo) {
         Long projectOwnerId = projectRepository.findProjectOwnerIdById(projectId);
 
@@ -52,8 +52,9 @@ public class TestCaseController {
                                                                         @Nullable @RequestParam(required = false) String title,
                                                                         @Nullable @RequestParam(required = false) List<Long> projectIds,
                                                                         @Nullable @RequestParam(required = false) Long authorId,
-                                                                        @Nullable @RequestParam(required = false) TestCasePriorityName priority) {
+                                                                        @Nullable @RequestParam(required = false) TestCasePriorityName priority,
+                                                                        @Nullable @RequestParam(required = false) String cursor) {
 
-        return ResponseEntity.ok(testCaseService.getAllTestCases(pageable, title, projectIds, authorId, priority));
+        return ResponseEntity.ok(testCaseService.getAllTestCases(pageable, title, projectIds, authorId, priority, cursor));
     }
 }
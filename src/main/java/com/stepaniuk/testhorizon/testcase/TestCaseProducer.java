@@ -1,19 +1,16 @@
 package com.stepaniuk.testhorizon.testcase;
 
 import com.stepaniuk.testhorizon.event.testcase.TestCaseEvent;
+import com.stepaniuk.testhorizon.outbox.Outbox;
 import com.stepaniuk.testhorizon.shared.Producer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
-
-import java.util.concurrent.CompletableFuture;
 
 @Producer
 @RequiredArgsConstructor
 public class TestCaseProducer {
-    private final KafkaTemplate<String, TestCaseEvent> kafkaTemplate;
+    private final Outbox outbox;
 
-    public CompletableFuture<SendResult<String, TestCaseEvent>> send(TestCaseEvent testCaseEvent) {
-        return kafkaTemplate.send("test-cases", testCaseEvent);
+    public void send(TestCaseEvent testCaseEvent) {
+        outbox.add("test-cases", testCaseEvent.getTestCaseId(), testCaseEvent);
     }
 }
@@ -1,9 +1,29 @@
 package com.stepaniuk.testhorizon.testcase;
 
+import com.stepaniuk.testhorizon.payload.info.TestCaseInfo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface TestCaseRepository extends JpaRepository<TestCase, Long>, JpaSpecificationExecutor<TestCase> {
-}
\ No newline at end of file
+
+    @Query("SELECT new com.stepaniuk.testhorizon.payload.info.TestCaseInfo(t.id, t.title) FROM TestCase t WHERE t.id IN :testCaseIds")
+    List<TestCaseInfo> findTestCaseInfosByIds(@Param("testCaseIds") Collection<Long> testCaseIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM TestCase t LEFT JOIN FETCH t.priority WHERE t.projectId = :projectId ORDER BY t.id")
+    Stream<TestCase> streamByProjectId(@Param("projectId") Long projectId);
+}
@@ -10,26 +10,33 @@ import com.stepaniuk.testhorizon.payload.testcase.TestCaseUpdateRequest;
 import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testcase.exceptions.NoSuchTestCaseByIdException;
 import com.stepaniuk.testhorizon.testcase.exceptions.NoSuchTestCasePriorityByNameException;
 import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
-import com.stepaniuk.testhorizon.testcase.priority.TestCasePriorityRepository;
 import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.util.Streamable;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.stepaniuk.testhorizon.security.SecurityUtils.hasAuthority;
 import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
@@ -38,14 +45,17 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class TestCaseService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "title");
+
     private final TestCaseRepository testCaseRepository;
     private final ProjectRepository projectRepository;
     private final TestCaseMapper testCaseMapper;
     private final PageMapper pageMapper;
-    private final TestCasePriorityRepository testCasePriorityRepository;
+    private final DictionaryRegistry dictionaryRegistry;
     private final TestCaseProducer testCaseProducer;
     private final UserInfoService userInfoService;
 
+    @Transactional
     public TestCaseResponse createTestCase(TestCaseCreateRequest testCaseCreateRequest, Long authorId, String correlationId) {
         TestCase testCase = new TestCase();
 
@@ -64,7 +74,7 @@ public class TestCaseService {
         testCase.setSteps(testCaseCreateRequest.getSteps());
 
         testCase.setPriority(
-                testCasePriorityRepository.findByName(testCaseCreateRequest.getPriority())
+                dictionaryRegistry.findTestCasePriority(testCaseCreateRequest.getPriority())
                         .orElseThrow(() -> new NoSuchTestCasePriorityByNameException(testCaseCreateRequest.getPriority()))
         );
 
@@ -93,6 +103,7 @@ public class TestCaseService {
         return testCaseMapper.toResponse(testCase, projectInfo, authorInfo);
     }
 
+    @Transactional
     public void deleteTestCaseById(Long id, String correlationId, AuthInfo authInfo) {
 
         var testCase = testCaseRepository.findById(id)
@@ -112,6 +123,7 @@ public class TestCaseService {
         );
     }
 
+    @Transactional
     public TestCaseResponse updateTestCase(Long id, TestCaseUpdateRequest testCaseUpdateRequest, String correlationId, AuthInfo authInfo) {
         var testCase = testCaseRepository.findById(id)
                 .orElseThrow(() -> new NoSuchTestCaseByIdException(id));
@@ -149,7 +161,7 @@ public class TestCaseService {
 
         if (testCaseUpdateRequest.getPriority() != null) {
             testCase.setPriority(
-                    testCasePriorityRepository.findByName(testCaseUpdateRequest.getPriority())
+                    dictionaryRegistry.findTestCasePriority(testCaseUpdateRequest.getPriority())
                             .orElseThrow(() -> new NoSuchTestCasePriorityByNameException(testCaseUpdateRequest.getPriority()))
             );
 
@@ -176,7 +188,8 @@ public class TestCaseService {
                                                         String title,
                                                         @Nullable List<Long> projectIds,
                                                         @Nullable Long authorId,
-                                                        @Nullable TestCasePriorityName priorityName) {
+                                                        @Nullable TestCasePriorityName priorityName,
+                                                        @Nullable String cursor) {
 
         Specification<TestCase> specification = Specification.where(null);
 
@@ -199,7 +212,7 @@ public class TestCaseService {
         }
 
         if (priorityName != null) {
-            TestCasePriority priority = testCasePriorityRepository.findByName(priorityName)
+            TestCasePriority priority = dictionaryRegistry.findTestCasePriority(priorityName)
                     .orElseThrow(() -> new NoSuchTestCasePriorityByNameException(priorityName));
 
             specification = specification.and((root, query, criteriaBuilder) -> criteriaBuilder
@@ -207,17 +220,29 @@ public class TestCaseService {
             );
         }
 
+        if (cursor != null) {
+            Window<TestCase> testCases = testCaseRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/test-cases"));
+
+            return pageMapper.toResponse(testCases.map(responseMapper(testCases)), pageable, cursor, URI.create("/test-cases"));
+        }
+
         var testCases = testCaseRepository.findAll(specification, pageable);
 
-        return pageMapper.toResponse(
-                testCases.map(testCase -> testCaseMapper.toResponse(
-                        testCase,
-                        projectRepository.findById(testCase.getProjectId())
-                                .map(project -> new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId()))
-                                .orElseThrow(() -> new NoSuchProjectByIdException(testCase.getProjectId())),
-                        userInfoService.getUserInfo(testCase.getAuthorId())
-                )),
-                URI.create("/test-cases")
+        return pageMapper.toResponse(testCases.map(responseMapper(testCases)), URI.create("/test-cases"));
+    }
+
+    private Function<TestCase, TestCaseResponse> responseMapper(Streamable<TestCase> testCases) {
+        var authorInfos = userInfoService.getUserInfos(
+                testCases.stream().map(TestCase::getAuthorId).collect(Collectors.toSet())
+        );
+
+        return testCase -> testCaseMapper.toResponse(
+                testCase,
+                projectRepository.findById(testCase.getProjectId())
+                        .map(project -> new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId()))
+                        .orElseThrow(() -> new NoSuchProjectByIdException(testCase.getProjectId())),
+                authorInfos.get(testCase.getAuthorId())
         );
     }
 
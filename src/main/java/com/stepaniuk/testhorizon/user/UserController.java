@@ -65,8 +65,9 @@ public class UserController {
                                                                 @Nullable @RequestParam(required = false) List<Long> ids,
                                                                 @Nullable @RequestParam(required = false) String email,
                                                                 @Nullable @RequestParam(required = false) String fullName,
+                                                                @Nullable @RequestParam(required = false) String cursor,
                                                                 AuthInfo authInfo) {
-        return ResponseEntity.ok(userService.getAllUsers(pageable, ids, email, fullName, authInfo));
+        return ResponseEntity.ok(userService.getAllUsers(pageable, ids, email, fullName, authInfo, cursor));
     }
 
     @GetMapping("/top")
@@ -1,9 +1,14 @@
 package com.stepaniuk.testhorizon.user;
 
+import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +16,7 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.stepaniuk.testhorizon.payload.info.UserInfo(u.id, u.firstName, u.lastName) FROM User u WHERE u.id IN :userIds")
+    List<UserInfo> findUserInfosByIds(@Param("userIds") Collection<Long> userIds);
+}
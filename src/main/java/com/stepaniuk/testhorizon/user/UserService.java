@@ -6,19 +6,23 @@ import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.user.UserResponse;
 import com.stepaniuk.testhorizon.payload.user.UserUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CursorPaging;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.shared.PageMapper;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
-import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
 import com.stepaniuk.testhorizon.user.email.EmailCodeRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchAuthorityException;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByEmailException;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
+import jakarta.annotation.Nullable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.time.Instant;
@@ -34,12 +38,14 @@ import static com.stepaniuk.testhorizon.security.SecurityUtils.isOwner;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "email", "totalRating");
+
     private final UserRepository userRepository;
     private final EmailCodeRepository emailCodeRepository;
     private final PageMapper pageMapper;
     private final UserMapper userMapper;
     private final UserProducer userProducer;
-    private final AuthorityRepository authorityRepository;
+    private final DictionaryRegistry dictionaryRegistry;
 
     public UserResponse getUserById(Long id, AuthInfo authInfo) {
         User user = userRepository.findById(id)
@@ -55,7 +61,8 @@ public class UserService {
         return userMapper.toResponse(user, authInfo);
     }
 
-    public PagedModel<UserResponse> getAllUsers(Pageable pageable, List<Long> userIds, String email, String fullName, AuthInfo authInfo) {
+    public PagedModel<UserResponse> getAllUsers(Pageable pageable, List<Long> userIds, String email, String fullName, AuthInfo authInfo,
+                                                @Nullable String cursor) {
         Specification<User> specification = Specification.where(null);
 
         if (userIds != null && !userIds.isEmpty()) {
@@ -80,6 +87,14 @@ public class UserService {
             });
         }
 
+        if (cursor != null) {
+            Window<User> users = userRepository.findBy(specification,
+                    CursorPaging.scroll(pageable, cursor, CURSOR_SORT_PROPERTIES, "/users"));
+
+            return pageMapper.toResponse(users.map(user -> userMapper.toResponse(user, authInfo)), pageable, cursor,
+                    URI.create("/users"));
+        }
+
         var users = userRepository.findAll(specification, pageable);
 
         return pageMapper.toResponse(
@@ -89,6 +104,7 @@ public class UserService {
         );
     }
 
+    @Transactional
     public UserResponse updateUser(Long id, UserUpdateRequest userRequest, String correlationId, AuthInfo authInfo) {
 
         if(hasNoAccessToManageUser(id, authInfo)) {
@@ -126,6 +142,7 @@ public class UserService {
         return userMapper.toResponse(savedUser, authInfo);
     }
 
+    @Transactional
     public void deleteUserById(Long id, String correlationId, AuthInfo authInfo) {
 
         if (hasNoAccessToManageUser(id, authInfo)) {
@@ -167,6 +184,7 @@ public class UserService {
         );
     }
 
+    @Transactional
     public void changeUserAuthority(Long id, AuthorityName authority, AuthInfo authInfo) {
         if(!hasAuthority(authInfo, AuthorityName.ADMIN.name()))
             throw new AccessToManageEntityDeniedException("User", "/users");
@@ -174,7 +192,7 @@ public class UserService {
         var user = userRepository.findById(id)
                 .orElseThrow(() -> new NoSuchUserByIdException(id));
 
-        var userAuthority = authorityRepository.findByName(authority)
+        var userAuthority = dictionaryRegistry.findAuthority(authority)
                 .orElseThrow(() -> new NoSuchAuthorityException(authority));
 
         var authorities = new HashSet<>(Set.of(userAuthority));
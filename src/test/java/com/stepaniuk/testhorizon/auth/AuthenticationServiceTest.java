@@ -21,6 +21,7 @@ import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
 import com.stepaniuk.testhorizon.security.exceptions.InvalidOldPasswordException;
 import com.stepaniuk.testhorizon.security.exceptions.PasswordsDoNotMatchException;
 import com.stepaniuk.testhorizon.security.exceptions.InvalidTokenException;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
@@ -28,27 +29,24 @@ import com.stepaniuk.testhorizon.user.User;
 import com.stepaniuk.testhorizon.user.UserMapperImpl;
 import com.stepaniuk.testhorizon.user.UserRepository;
 import com.stepaniuk.testhorizon.user.authority.Authority;
-import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
 import com.stepaniuk.testhorizon.user.email.EmailCode;
 import com.stepaniuk.testhorizon.user.email.EmailCodeRepository;
 import com.stepaniuk.testhorizon.user.email.exceptions.InvalidVerificationCodeException;
 import com.stepaniuk.testhorizon.user.email.exceptions.VerificationCodeExpiredException;
 import com.stepaniuk.testhorizon.user.exceptions.*;
 import jakarta.mail.MessagingException;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -56,7 +54,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -77,7 +74,7 @@ class AuthenticationServiceTest {
     private UserRepository userRepository;
 
     @MockitoBean
-    private AuthorityRepository authorityRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private EmailService emailService;
@@ -104,17 +101,13 @@ class AuthenticationServiceTest {
         Authority authority = new Authority(1L, request.getAuthorityName());
 
         when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(authorityRepository.findByName(request.getAuthorityName())).thenReturn(Optional.of(authority));
+        when(dictionaryRegistry.findAuthority(request.getAuthorityName())).thenReturn(Optional.of(authority));
         when(userRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
         when(emailCodeRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new UserRegisteredEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserRegisteredEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserRegisteredEvent) event));
 
         // when
         UserResponse response = authenticationService.register(request, UUID.randomUUID().toString());
@@ -134,6 +127,32 @@ class AuthenticationServiceTest {
         verify(emailCodeRepository, times(1)).save(any());
     }
 
+    @Test
+    void shouldSendVerificationEmailOnlyAfterCommitWhenRegisterUser() throws MessagingException {
+        // given
+        UserCreateRequest request = new UserCreateRequest("new.email@gmail.com", "password", "John", "Doe", AuthorityName.TESTER);
+        Authority authority = new Authority(1L, request.getAuthorityName());
+
+        when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
+        when(dictionaryRegistry.findAuthority(request.getAuthorityName())).thenReturn(Optional.of(authority));
+        when(userRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
+        when(emailCodeRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            authenticationService.register(request, UUID.randomUUID().toString());
+
+            // then
+            verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(emailService, times(1)).sendEmail(eq(request.getEmail()), anyString(), anyString());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void shouldThrowUserAlreadyExistsExceptionWhenRegisterUser() {
         var correlationId = UUID.randomUUID().toString();
@@ -151,7 +170,7 @@ class AuthenticationServiceTest {
         UserCreateRequest request = new UserCreateRequest("existing.email@gmail.com", "password", "John", "Doe", AuthorityName.TESTER);
 
         when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(authorityRepository.findByName(request.getAuthorityName())).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findAuthority(request.getAuthorityName())).thenReturn(Optional.empty());
 
         assertThrows(NoSuchAuthorityException.class, () -> authenticationService.register(request, correlationId));
     }
@@ -168,12 +187,8 @@ class AuthenticationServiceTest {
         when(jwtTokenService.generateRefreshToken(user)).thenReturn("refresh-token");
 
         final var receivedEventWrapper = new UserAuthenticatedEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserAuthenticatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserAuthenticatedEvent) event));
 
         AuthenticationResponse response = authenticationService.authenticate(request, UUID.randomUUID().toString());
 
@@ -256,12 +271,8 @@ class AuthenticationServiceTest {
         when(emailCodeRepository.findByCode(request.getVerificationCode())).thenReturn(Optional.of(emailCode));
 
         final var receivedEventWrapper = new UserVerifiedEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserVerifiedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserVerifiedEvent) event));
 
         authenticationService.verifyUser(request, UUID.randomUUID().toString());
 
@@ -410,12 +421,8 @@ class AuthenticationServiceTest {
 
         when(passwordResetTokenRepository.findByToken(token)).thenReturn(Optional.of(resetToken));
         final var receivedEventWrapper = new UserResetPasswordEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserResetPasswordEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserResetPasswordEvent) event));
 
         authenticationService.emailResetPassword(token, request, correlationId);
 
@@ -492,12 +499,8 @@ class AuthenticationServiceTest {
 
         when(userRepository.save(any())).thenAnswer(answer(getFakeSave(userId)));
         final var receivedEventWrapper = new UserResetPasswordEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserResetPasswordEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserResetPasswordEvent) event));
 
         authenticationService.updatePasswordAuthenticated(userId, request, correlationId);
         var receivedEvent = receivedEventWrapper[0];
@@ -559,16 +562,12 @@ class AuthenticationServiceTest {
         String correlationId = UUID.randomUUID().toString();
 
         when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(authorityRepository.findByName(request.getAuthorityName())).thenReturn(Optional.of(authority));
+        when(dictionaryRegistry.findAuthority(request.getAuthorityName())).thenReturn(Optional.of(authority));
         when(userRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
 
         final var receivedEventWrapper = new UserRegisteredEvent[1];
-        when(
-                authProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (UserRegisteredEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(authProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserRegisteredEvent) event));
 
         // when
         UserResponse response = authenticationService.registerUserByAdmin(request, authInfo, correlationId);
@@ -617,7 +616,7 @@ class AuthenticationServiceTest {
                 Collections.singleton(new SimpleGrantedAuthority(AuthorityName.ADMIN.name())));
 
         when(userRepository.existsByEmail(request.getEmail())).thenReturn(false);
-        when(authorityRepository.findByName(request.getAuthorityName())).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findAuthority(request.getAuthorityName())).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(NoSuchAuthorityException.class, () -> 
@@ -647,9 +646,4 @@ class AuthenticationServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, AuthEvent>>, AuthEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("auth", event),
-                        new RecordMetadata(new TopicPartition("auth", 0), 0L, 0, 0L, 0, 0)));
-    }
 }
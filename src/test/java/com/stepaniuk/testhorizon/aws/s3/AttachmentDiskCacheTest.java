@@ -0,0 +1,133 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AttachmentDiskCacheTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldDownloadObjectOnceAndServeItFromDiskAfterwards() throws IOException {
+        // given
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "1KB", 300);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> object("test"));
+
+        // when
+        var loaded = cache.getOrLoad("TEST/1/file.txt");
+        var cached = cache.getOrLoad("TEST/1/file.txt");
+
+        // then
+        assertSame(loaded, cached);
+        assertEquals(4, loaded.size());
+        assertEquals("\"etag\"", loaded.eTag());
+        assertEquals("test", Files.readString(loaded.path()));
+        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntryWhenMaxSizeIsExceeded() throws IOException {
+        // given
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "10B", "10B", 300);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> object("four"));
+
+        var first = cache.getOrLoad("first");
+        var second = cache.getOrLoad("second");
+        cache.get("first");
+
+        // when
+        cache.getOrLoad("third");
+
+        // then
+        assertTrue(cache.get("first").isPresent());
+        assertTrue(cache.get("second").isEmpty());
+        assertTrue(cache.get("third").isPresent());
+        assertTrue(Files.exists(first.path()));
+        assertFalse(Files.exists(second.path()));
+    }
+
+    @Test
+    void shouldDeleteFileWhenEntryIsEvicted() throws IOException {
+        // given
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "1KB", 300);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> object("test"));
+        var entry = cache.getOrLoad("TEST/1/file.txt");
+
+        // when
+        cache.evict("TEST/1/file.txt");
+
+        // then
+        assertTrue(cache.get("TEST/1/file.txt").isEmpty());
+        assertFalse(Files.exists(entry.path()));
+    }
+
+    @Test
+    void shouldOpenFileOfCachedEntry() throws IOException {
+        // given
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "1KB", 300);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> object("test"));
+        var entry = cache.getOrLoad("TEST/1/file.txt");
+
+        // when
+        var channel = cache.open("TEST/1/file.txt", entry);
+
+        // then
+        assertTrue(channel.isPresent());
+        try (var opened = channel.get()) {
+            assertEquals(4, opened.size());
+        }
+    }
+
+    @Test
+    void shouldNotOpenFileOfEvictedEntry() throws IOException {
+        // given
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "1KB", 300);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> object("test"));
+        var entry = cache.getOrLoad("TEST/1/file.txt");
+        cache.evict("TEST/1/file.txt");
+
+        // when
+        var channel = cache.open("TEST/1/file.txt", entry);
+
+        // then
+        assertTrue(channel.isEmpty());
+    }
+
+    @Test
+    void shouldNotCacheObjectsLargerThanMaxObjectSize() throws IOException {
+        // when
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "10B", 300);
+
+        // then
+        assertTrue(cache.isCacheable(10));
+        assertFalse(cache.isCacheable(11));
+    }
+
+    private static ResponseInputStream<GetObjectResponse> object(String content) {
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder()
+                        .eTag("\"etag\"")
+                        .lastModified(Instant.parse("2024-01-01T00:00:00Z"))
+                        .contentType("text/plain")
+                        .build(),
+                AbortableInputStream.create(new ByteArrayInputStream(content.getBytes())));
+    }
+}
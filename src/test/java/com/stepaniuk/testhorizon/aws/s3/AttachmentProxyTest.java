@@ -0,0 +1,192 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AttachmentProxyTest {
+
+    private static final String CONTENT = "0123456789";
+    private static final Instant LAST_MODIFIED = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final S3Client s3Client = mock(S3Client.class);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength((long) CONTENT.length())
+                .eTag("\"etag\"")
+                .lastModified(LAST_MODIFIED)
+                .contentType("text/plain")
+                .build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            String body = request.range() != null ? CONTENT.substring(2, 6) : CONTENT;
+            return new ResponseInputStream<>(
+                    GetObjectResponse.builder().eTag("\"etag\"").lastModified(LAST_MODIFIED).contentType("text/plain").build(),
+                    AbortableInputStream.create(new ByteArrayInputStream(body.getBytes())));
+        });
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenETagMatches() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch("W/\"etag\"");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"etag\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void shouldReturnNotModifiedWhenNotModifiedSinceDate() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+        var headers = new HttpHeaders();
+        headers.setIfModifiedSince(LAST_MODIFIED);
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
+
+    @Test
+    void shouldServeWholeCachedObject() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", new HttpHeaders());
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CONTENT.length(), response.getHeaders().getContentLength());
+        assertEquals("bytes", response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals(CONTENT, write(response.getBody()));
+    }
+
+    @Test
+    void shouldServeRangeOfCachedObject() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("bytes 2-5/10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(4, response.getHeaders().getContentLength());
+        assertEquals("2345", write(response.getBody()));
+    }
+
+    @Test
+    void shouldServeFromS3WhenCachedEntryIsEvictedBeforeItIsOpened() throws IOException {
+        // given
+        var cache = spy(new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", "1KB", 300));
+        doReturn(Optional.empty()).when(cache).open(any(), any());
+        var proxy = new AttachmentProxy(s3Client, cache, "bucket");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", new HttpHeaders());
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CONTENT, write(response.getBody()));
+        // once to fill the cache, once for the body
+        verify(s3Client, times(2)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    void shouldRequestOnlyRangeFromS3WhenObjectIsTooLargeToCache() throws IOException {
+        // given
+        var proxy = proxy("4B");
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertEquals("2345", write(response.getBody()));
+        verify(s3Client).getObject(argThat((GetObjectRequest request) -> "bytes=2-5".equals(request.range())));
+    }
+
+    @Test
+    void shouldServeWholeObjectWhenIfRangeDoesNotMatch() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=2-5");
+        headers.set(HttpHeaders.IF_RANGE, "\"other\"");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(CONTENT, write(response.getBody()));
+    }
+
+    @Test
+    void shouldReturnRangeNotSatisfiableWhenRangeStartsAfterEnd() throws IOException {
+        // given
+        var proxy = proxy("1KB");
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=20-");
+
+        // when
+        var response = proxy.serve("TEST/1/file.txt", headers);
+
+        // then
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    private AttachmentProxy proxy(String maxObjectSize) throws IOException {
+        var cache = new AttachmentDiskCache(s3Client, "bucket", directory.toString(), "1KB", maxObjectSize, 300);
+        return new AttachmentProxy(s3Client, cache, "bucket");
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString();
+    }
+}
@@ -0,0 +1,179 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {ContentAddressedStore.class, S3StreamingUploader.class})
+@TestPropertySource(properties = {
+        "s3.bucket.name=testbucket",
+        "s3.dedup.buffer-limit=8B"
+})
+class ContentAddressedStoreTest {
+
+    // SHA-256 of "test"
+    private static final String SMALL_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String LARGE_CONTENTS = "larger than limit";
+
+    @Autowired
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FileBlobRepository fileBlobRepository;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldSkipUploadWhenSmallContentsAreAlreadyStored() throws IOException {
+        // given
+        var fileBlob = fileBlob(SMALL_HASH, 1);
+        when(fileBlobRepository.findByHashForUpdate(SMALL_HASH)).thenReturn(Optional.of(fileBlob));
+
+        // when
+        String hash = contentAddressedStore.store(stream("test"), 4, "text/plain");
+
+        // then
+        assertEquals(SMALL_HASH, hash);
+        assertEquals(2, fileBlob.getRefCount());
+        verify(fileBlobRepository).insertIfAbsent(eq(SMALL_HASH), eq(4L), any(Instant.class));
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void shouldUploadBlobWhenSmallContentsAreNew() throws IOException {
+        // given
+        var fileBlob = fileBlob(SMALL_HASH, 0);
+        when(fileBlobRepository.findByHashForUpdate(SMALL_HASH)).thenReturn(Optional.of(fileBlob));
+
+        // when
+        String hash = contentAddressedStore.store(stream("test"), 4, "text/plain");
+
+        // then
+        assertEquals(SMALL_HASH, hash);
+        assertEquals(1, fileBlob.getRefCount());
+        verify(s3Client).putObject(argThat((PutObjectRequest request) -> request.key().equals("blobs/" + SMALL_HASH)),
+                any(RequestBody.class));
+    }
+
+    @Test
+    void shouldStageAndCopyWhenLargeContentsAreNew() throws IOException {
+        // given
+        var fileBlob = fileBlob("large", 0);
+        when(fileBlobRepository.findByHashForUpdate(anyString())).thenReturn(Optional.of(fileBlob));
+
+        // when
+        String hash = contentAddressedStore.store(stream(LARGE_CONTENTS), LARGE_CONTENTS.length(), "text/plain");
+
+        // then
+        assertEquals(1, fileBlob.getRefCount());
+        verify(s3Client).putObject(argThat((PutObjectRequest request) -> request.key().startsWith("staging/")),
+                any(RequestBody.class));
+        verify(s3Client).copyObject(argThat((CopyObjectRequest request) ->
+                request.sourceKey().startsWith("staging/") && request.destinationKey().equals("blobs/" + hash)));
+        verify(s3Client).deleteObject(argThat((DeleteObjectRequest request) -> request.key().startsWith("staging/")));
+        verify(fileBlobRepository).insertIfAbsent(eq(hash), eq((long) LARGE_CONTENTS.length()), any(Instant.class));
+    }
+
+    @Test
+    void shouldDropStagedObjectWhenLargeContentsAreAlreadyStored() throws IOException {
+        // given
+        var fileBlob = fileBlob("large", 3);
+        when(fileBlobRepository.findByHashForUpdate(anyString())).thenReturn(Optional.of(fileBlob));
+
+        // when
+        contentAddressedStore.store(stream(LARGE_CONTENTS), LARGE_CONTENTS.length(), "text/plain");
+
+        // then
+        assertEquals(4, fileBlob.getRefCount());
+        verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+        verify(s3Client).deleteObject(argThat((DeleteObjectRequest request) -> request.key().startsWith("staging/")));
+    }
+
+    @Test
+    void shouldDeleteBlobWhenLastReferenceIsReleased() {
+        // given
+        var fileBlob = fileBlob(SMALL_HASH, 1);
+        when(fileBlobRepository.findByHashForUpdate(SMALL_HASH)).thenReturn(Optional.of(fileBlob));
+
+        // when
+        contentAddressedStore.release(SMALL_HASH);
+
+        // then
+        InOrder inOrder = inOrder(s3Client, fileBlobRepository);
+        inOrder.verify(s3Client).deleteObject(argThat((DeleteObjectRequest request) -> request.key().equals("blobs/" + SMALL_HASH)));
+        inOrder.verify(fileBlobRepository).delete(fileBlob);
+    }
+
+    @Test
+    void shouldKeepBlobWhenOtherReferencesRemain() {
+        // given
+        var fileBlob = fileBlob(SMALL_HASH, 2);
+        when(fileBlobRepository.findByHashForUpdate(SMALL_HASH)).thenReturn(Optional.of(fileBlob));
+
+        // when
+        contentAddressedStore.release(SMALL_HASH);
+
+        // then
+        assertEquals(1, fileBlob.getRefCount());
+        verify(fileBlobRepository, never()).delete(any());
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void shouldKeepBlobWhenDeleteOfObjectFails() {
+        // given
+        var fileBlob = fileBlob(SMALL_HASH, 1);
+        when(fileBlobRepository.findByHashForUpdate(SMALL_HASH)).thenReturn(Optional.of(fileBlob));
+        when(s3Client.deleteObject(any(DeleteObjectRequest.class))).thenThrow(SdkException.create("unavailable", null));
+
+        // when & then
+        assertThrows(SdkException.class, () -> contentAddressedStore.release(SMALL_HASH));
+        verify(fileBlobRepository, never()).delete(any());
+    }
+
+    private static FileBlob fileBlob(String hash, int refCount) {
+        return new FileBlob(hash, 4L, refCount, Instant.now());
+    }
+
+    private static ByteArrayInputStream stream(String contents) {
+        return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+    }
+}
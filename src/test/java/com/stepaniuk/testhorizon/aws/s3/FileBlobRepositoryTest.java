@@ -0,0 +1,63 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JpaLevelTest
+@Sql(scripts = {"classpath:sql/file/file_blobs.sql"})
+class FileBlobRepositoryTest {
+
+    private static final String SHARED_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String SINGLE_HASH = "60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752";
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Test
+    void shouldInsertUnreferencedBlobWhenInsertIfAbsent() {
+        // when
+        fileBlobRepository.insertIfAbsent("new", 10L, Instant.now());
+
+        // then
+        var fileBlob = fileBlobRepository.findById("new");
+        assertTrue(fileBlob.isPresent());
+        assertEquals(0, fileBlob.get().getRefCount());
+        assertEquals(10L, fileBlob.get().getSize());
+    }
+
+    @Test
+    void shouldKeepExistingBlobWhenInsertIfAbsent() {
+        // when
+        fileBlobRepository.insertIfAbsent(SHARED_HASH, 5L, Instant.now());
+
+        // then
+        var fileBlob = fileBlobRepository.findById(SHARED_HASH).orElseThrow();
+        assertEquals(2, fileBlob.getRefCount());
+        assertEquals(4L, fileBlob.getSize());
+    }
+
+    @Test
+    void shouldFindBlobByHashForUpdate() {
+        // when
+        var fileBlob = fileBlobRepository.findByHashForUpdate(SINGLE_HASH);
+
+        // then
+        assertTrue(fileBlob.isPresent());
+        assertEquals(1, fileBlob.get().getRefCount());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenBlobForUpdateDoesNotExist() {
+        // when
+        var fileBlob = fileBlobRepository.findByHashForUpdate("missing");
+
+        // then
+        assertTrue(fileBlob.isEmpty());
+    }
+}
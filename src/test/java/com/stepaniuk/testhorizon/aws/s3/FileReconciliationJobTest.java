@@ -0,0 +1,281 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {FileReconciliationJob.class})
+@TestPropertySource(properties = {
+        "s3.bucket.name=testbucket",
+        "s3.reconciliation.page-size=10",
+        "s3.reconciliation.delete-orphaned-objects=true"
+})
+class FileReconciliationJobTest {
+
+    @Autowired
+    private FileReconciliationJob fileReconciliationJob;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FileRepository fileRepository;
+
+    @MockitoBean
+    private FileBlobRepository fileBlobRepository;
+
+    @MockitoBean
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        when(fileRepository.tryLock(anyLong())).thenReturn(true);
+        when(fileRepository.deleteAllByIdReturningContentHash(anyCollection()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<Collection<?>>getArgument(0).size(), null));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+    }
+
+    @Test
+    void shouldDeleteRowsWhoseObjectIsMissing() {
+        // given
+        var present = row("TEST/1/present.jpg", false, true);
+        var missing = row("TEST/1/missing.jpg", false, true);
+
+        mockBucketKeys("TEST/1/present.jpg");
+        mockRows(missing, present);
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository).deleteAllByIdReturningContentHash(List.of(missing.getFileId()));
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void shouldNotDeleteAnythingWhenAllObjectsExist() {
+        // given
+        var first = row("blobs/abc", false, true);
+        var second = row("blobs/abc", false, true);
+
+        mockBucketKeys("TEST/1/present.jpg", "blobs/abc");
+        mockRows(first, second, row("TEST/1/present.jpg", false, true));
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository, never()).deleteAllByIdReturningContentHash(anyCollection());
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    @Test
+    void shouldReleaseContentsWhenDeletingRowOfMissingBlob() {
+        // given
+        var missing = row("blobs/abc", false, true);
+
+        mockBucketKeys();
+        mockRows(missing);
+        when(fileRepository.deleteAllByIdReturningContentHash(List.of(missing.getFileId()))).thenReturn(List.of("abc"));
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository).deleteAllByIdReturningContentHash(List.of(missing.getFileId()));
+        verify(contentAddressedStore).release("abc");
+    }
+
+    @Test
+    void shouldNotReleaseContentsOfRowDeletedMeanwhile() {
+        // given
+        var registry = new SimpleMeterRegistry();
+        fileReconciliationJob.bindTo(registry);
+        var missing = row("blobs/abc", false, true);
+
+        mockBucketKeys();
+        mockRows(missing);
+        when(fileRepository.deleteAllByIdReturningContentHash(List.of(missing.getFileId()))).thenReturn(List.of());
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(contentAddressedStore, never()).release(anyString());
+        assertEquals(0, registry.get("files.reconciliation.rows.deleted").functionCounter().count());
+    }
+
+    @Test
+    void shouldSkipRunWhenAnotherInstanceReconciles() {
+        // given
+        when(fileRepository.tryLock(anyLong())).thenReturn(false);
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository, never()).findObjectKeysAfter(any(Instant.class), anyString(), any(UUID.class), anyInt());
+        verifyNoInteractions(s3Client, contentAddressedStore);
+    }
+
+    @Test
+    void shouldResetThumbnailWhenThumbnailObjectIsMissing() {
+        // given
+        var thumbnail = row("TEST/1/.thumbnails/file.jpg", true, true);
+
+        mockBucketKeys();
+        mockRows(thumbnail);
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository).updateThumbnail(eq(thumbnail.getFileId()), isNull(), isNull(), any(Instant.class));
+        verify(fileRepository, never()).deleteAllByIdReturningContentHash(anyCollection());
+    }
+
+    @Test
+    void shouldKeepRowsCreatedDuringGracePeriod() {
+        // given
+        mockBucketKeys();
+        mockRows(row("TEST/1/new.jpg", false, false));
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository, never()).deleteAllByIdReturningContentHash(anyCollection());
+    }
+
+    @Test
+    void shouldDeleteObjectsWithoutRowsAndLeaveOtherFoldersAlone() {
+        // given
+        mockBucketKeys("TEST/1/orphan.jpg", "blobs/referenced", "exports/1/export.csv");
+        when(fileBlobRepository.existsById("referenced")).thenReturn(true);
+        mockRows();
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) ->
+                request.delete().objects().equals(List.of(ObjectIdentifier.builder().key("TEST/1/orphan.jpg").build()))));
+    }
+
+    @Test
+    void shouldExportOutcomeOfLastRunAsMetrics() {
+        // given
+        var registry = new SimpleMeterRegistry();
+        fileReconciliationJob.bindTo(registry);
+
+        mockBucketKeys("TEST/1/orphan.jpg", "TEST/1/present.jpg");
+        mockRows(row("TEST/1/missing.jpg", false, true), row("TEST/1/present.jpg", false, true));
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        assertEquals(2, registry.get("files.reconciliation.objects.scanned").gauge().value());
+        assertEquals(2, registry.get("files.reconciliation.rows.scanned").gauge().value());
+        assertEquals(1, registry.get("files.reconciliation.objects.orphaned").gauge().value());
+        assertEquals(1, registry.get("files.reconciliation.rows.orphaned").gauge().value());
+        assertEquals(1, registry.get("files.reconciliation.objects.deleted").functionCounter().count());
+        assertEquals(1, registry.get("files.reconciliation.rows.deleted").functionCounter().count());
+    }
+
+    @Test
+    void shouldReadNextPageAfterLastRowOfPreviousPage() {
+        // given
+        var rows = IntStream.range(0, 10).mapToObj(i -> row("TEST/1/file" + i + ".jpg", false, true)).toList();
+        var lastRow = rows.get(9);
+        var nextRow = row("TEST/1/next.jpg", false, true);
+
+        mockBucketKeys();
+        when(fileRepository.findObjectKeysAfter(any(Instant.class), eq(""), any(UUID.class), eq(10))).thenReturn(rows);
+        when(fileRepository.findObjectKeysAfter(any(Instant.class), eq(lastRow.getObjectKey()), eq(lastRow.getFileId()), eq(10)))
+                .thenReturn(List.of(nextRow));
+
+        // when
+        fileReconciliationJob.reconcile();
+
+        // then
+        verify(fileRepository, times(2)).findObjectKeysAfter(any(Instant.class), anyString(), any(UUID.class), eq(10));
+        verify(fileRepository).deleteAllByIdReturningContentHash(rows.stream().map(StoredObjectKey::getFileId).toList());
+        verify(fileRepository).deleteAllByIdReturningContentHash(List.of(nextRow.getFileId()));
+    }
+
+    @Test
+    void shouldCompareKeysByCodePoints() {
+        // when & then
+        assertTrue(FileReconciliationJob.compareKeys("TEST/1/a", "TEST/1/b") < 0);
+        assertTrue(FileReconciliationJob.compareKeys("TEST/1", "TEST/1/a") < 0);
+        assertTrue(FileReconciliationJob.compareKeys("\uFFFD", "\uD83D\uDE00") < 0);
+        assertEquals(0, FileReconciliationJob.compareKeys("TEST/1/a", "TEST/1/a"));
+    }
+
+    private void mockBucketKeys(String... keys) {
+        var request = ListObjectsV2Request.builder().bucket("testbucket").build();
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+                .contents(Arrays.stream(keys).map(key -> S3Object.builder().key(key).lastModified(Instant.EPOCH).build()).toList())
+                .isTruncated(false)
+                .build());
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class)))
+                .thenReturn(new ListObjectsV2Iterable(s3Client, request));
+    }
+
+    private void mockRows(StoredObjectKey... rows) {
+        when(fileRepository.findObjectKeysAfter(any(Instant.class), anyString(), any(UUID.class), anyInt()))
+                .thenReturn(List.of(rows), List.of());
+    }
+
+    private static StoredObjectKey row(String objectKey, boolean thumbnail, boolean reconcilable) {
+        var fileId = UUID.randomUUID();
+
+        return new StoredObjectKey() {
+            @Override
+            public String getObjectKey() {
+                return objectKey;
+            }
+
+            @Override
+            public UUID getFileId() {
+                return fileId;
+            }
+
+            @Override
+            public Boolean getThumbnail() {
+                return thumbnail;
+            }
+
+            @Override
+            public Boolean getReconcilable() {
+                return reconcilable;
+            }
+        };
+    }
+}
@@ -5,6 +5,8 @@ import com.stepaniuk.testhorizon.types.files.FileEntityType;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.Instant;
@@ -24,7 +26,7 @@ class FileRepositoryTest {
     @Test
     void shouldSaveFile() {
         // given
-        File fileToSave = new File(null, "originalName", FileEntityType.TEST, 1L, Instant.now());
+        File fileToSave = new File(null, "originalName", FileEntityType.TEST, 1L, Instant.now(), null, null, null, null);
 
         // when
         File savedFile = fileRepository.save(fileToSave);
@@ -41,12 +43,32 @@ class FileRepositoryTest {
     @Test
     void shouldThrowExceptionWhenSavingFileWithoutOriginalName() {
         // given
-        File fileToSave = new File(null, null, FileEntityType.TEST, 1L, Instant.now());
+        File fileToSave = new File(null, null, FileEntityType.TEST, 1L, Instant.now(), null, null, null, null);
 
         // when & then
         assertThrows(DataIntegrityViolationException.class, () -> fileRepository.save(fileToSave));
     }
 
+    @Test
+    void shouldThrowExceptionWhenSavingFileWithNameTakenInSameFolder() {
+        // given
+        File file = new File(null, "file.txt", FileEntityType.TEST, 1L, null, null, null, null, null);
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class, () -> fileRepository.saveAndFlush(file));
+    }
+
+    @Test
+    void shouldReturnFilesByNamesInFolder() {
+        // when
+        List<File> files = fileRepository.findAllByEntityTypeAndEntityIdAndOriginalNameIn(FileEntityType.TEST, 1L,
+                List.of("file.txt", "missing.txt"));
+
+        // then
+        assertEquals(1, files.size());
+        assertEquals("file.txt", files.get(0).getOriginalName());
+    }
+
     @Test
     void shouldReturnFileWhenFindById() {
         // when
@@ -146,4 +168,90 @@ class FileRepositoryTest {
         assertNotNull(files);
         assertFalse(files.isEmpty());
     }
+
+    @Test
+    void shouldReturnPageOfFilesWhenFindAllByEntityTypeAndEntityId() {
+        // when
+        Page<File> files = fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(FileEntityType.TEST, 1L, PageRequest.of(0, 10));
+
+        // then
+        assertEquals(1, files.getTotalElements());
+        assertEquals("file.txt", files.getContent().get(0).getOriginalName());
+    }
+
+    @Test
+    void shouldReturnEmptyPageWhenFindAllByEntityTypeAndEntityIdOfOtherEntity() {
+        // when
+        Page<File> files = fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(FileEntityType.BUG_REPORT, 1L, PageRequest.of(0, 10));
+
+        // then
+        assertTrue(files.isEmpty());
+    }
+
+    @Test
+    void shouldReturnObjectKeysInBinaryOrder() {
+        // given
+        fileRepository.saveAndFlush(new File(null, "blob.txt", FileEntityType.TEST, 1L, Instant.now(), "abc",
+                ThumbnailStatus.READY, "TEST/1/.thumbnails/blob.jpg", null));
+
+        // when
+        List<StoredObjectKey> keys = fileRepository.findObjectKeysAfter(Instant.parse("2025-01-01T00:00:00Z"), "",
+                new UUID(0, 0), 10);
+
+        // then
+        assertEquals(List.of("TEST/1/.thumbnails/blob.jpg", "TEST/1/file.txt", "blobs/abc"),
+                keys.stream().map(StoredObjectKey::getObjectKey).toList());
+        assertTrue(keys.get(0).getThumbnail());
+        assertFalse(keys.get(0).getReconcilable());
+        assertFalse(keys.get(1).getThumbnail());
+        assertTrue(keys.get(1).getReconcilable());
+        assertEquals(UUID.fromString("00000000-0000-0000-0000-000000000001"), keys.get(1).getFileId());
+    }
+
+    @Test
+    void shouldNotReturnReconcilableKeyOfOldRowWhoseContentsChanged() {
+        // given
+        File file = fileRepository.findById(UUID.fromString("00000000-0000-0000-0000-000000000001")).orElseThrow();
+        file.setContentHash("def");
+        file.setUpdatedAt(Instant.now());
+        fileRepository.saveAndFlush(file);
+
+        // when
+        List<StoredObjectKey> keys = fileRepository.findObjectKeysAfter(Instant.parse("2025-01-01T00:00:00Z"), "",
+                new UUID(0, 0), 10);
+
+        // then
+        assertEquals(1, keys.size());
+        assertEquals("blobs/def", keys.get(0).getObjectKey());
+        assertFalse(keys.get(0).getReconcilable());
+    }
+
+    @Test
+    void shouldReturnContentHashesOfRowsActuallyDeleted() {
+        // given
+        File blob = fileRepository.saveAndFlush(new File(null, "blob.txt", FileEntityType.TEST, 1L, Instant.now(), "abc",
+                null, null, null));
+        UUID missingId = UUID.randomUUID();
+
+        // when
+        List<String> contentHashes = fileRepository.deleteAllByIdReturningContentHash(
+                List.of(UUID.fromString("00000000-0000-0000-0000-000000000001"), blob.getId(), missingId));
+
+        // then
+        assertEquals(2, contentHashes.size());
+        assertTrue(contentHashes.contains("abc"));
+        assertTrue(contentHashes.contains(null));
+        assertTrue(fileRepository.findAll().isEmpty());
+    }
+
+    @Test
+    void shouldReturnObjectKeysAfterGivenKey() {
+        // when
+        List<StoredObjectKey> keys = fileRepository.findObjectKeysAfter(Instant.parse("2025-01-01T00:00:00Z"),
+                "TEST/1/.thumbnails/blob.jpg", new UUID(0, 0), 1);
+
+        // then
+        assertEquals(1, keys.size());
+        assertEquals("TEST/1/file.txt", keys.get(0).getObjectKey());
+    }
 }
@@ -0,0 +1,85 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileUploadPipelineTest {
+
+    private final ThreadPoolTaskExecutor executor = createExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldNotRunMoreUploadsOfOneRequestThanRequestConcurrency() {
+        // given
+        var fileUploadPipeline = new FileUploadPipeline(executor, 2);
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        // when
+        var outcomes = fileUploadPipeline.uploadAll(getFiles(6), file -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+
+        // then
+        assertEquals(6, outcomes.size());
+        assertTrue(outcomes.stream().allMatch(FileUploadPipeline.Outcome::isSuccessful));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void shouldReportFailureOfSingleFileInInputOrder() {
+        // given
+        var fileUploadPipeline = new FileUploadPipeline(executor, 4);
+        var files = getFiles(3);
+
+        // when
+        var outcomes = fileUploadPipeline.uploadAll(files, file -> {
+            if ("file1.txt".equals(file.getOriginalFilename())) {
+                throw new IOException("broken");
+            }
+        });
+
+        // then
+        assertSame(files.get(0), outcomes.get(0).file());
+        assertTrue(outcomes.get(0).isSuccessful());
+        assertFalse(outcomes.get(1).isSuccessful());
+        assertInstanceOf(IOException.class, outcomes.get(1).error());
+        assertTrue(outcomes.get(2).isSuccessful());
+    }
+
+    private static List<MultipartFile> getFiles(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            files.add(new MockMultipartFile("files", "file" + i + ".txt", "text/plain", new byte[]{1}));
+        }
+        return files;
+    }
+
+    private static ThreadPoolTaskExecutor createExecutor() {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.initialize();
+        return executor;
+    }
+}
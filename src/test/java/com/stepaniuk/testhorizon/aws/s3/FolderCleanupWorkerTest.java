@@ -0,0 +1,145 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.event.file.FolderDeleteEvent;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.paginators.ListObjectsV2Iterable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {FolderCleanupWorker.class})
+@TestPropertySource(properties = {
+        "s3.bucket.name=testbucket"
+})
+class FolderCleanupWorkerTest {
+
+    private static final UUID DELETION_ID = UUID.fromString("5b1f3c9e-3d3a-4f7e-8a5b-2c1d0e9f8a7b");
+
+    @Autowired
+    private FolderCleanupWorker folderCleanupWorker;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FileRepository fileRepository;
+
+    @MockitoBean
+    private FolderDeletionRepository folderDeletionRepository;
+
+    @MockitoBean
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private FileProducer fileProducer;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder().build());
+    }
+
+    @Test
+    void shouldDeleteEveryListedPageWithOneRequestAndSendSingleEvent() {
+        // given
+        var folderDeletion = getFolderDeletion();
+        when(folderDeletionRepository.findClaimable(any(Instant.class), any(Pageable.class))).thenReturn(List.of(folderDeletion));
+        when(folderDeletionRepository.claim(eq(DELETION_ID), any(Instant.class), any(Instant.class))).thenReturn(1);
+
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
+                .thenReturn(page(0, 1000, "token"))
+                .thenReturn(page(1000, 500, null));
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class))).thenAnswer(invocation ->
+                new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+
+        when(fileRepository.findContentHashesInFolder(FileEntityType.PROJECT, 1L)).thenReturn(List.of("hash"));
+        when(fileRepository.deleteAllInFolder(FileEntityType.PROJECT, 1L)).thenReturn(1500);
+
+        // when
+        folderCleanupWorker.processPending();
+
+        // then
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(s3Client, times(2)).listObjectsV2(argThat((ListObjectsV2Request request) -> "PROJECT/1/".equals(request.prefix())));
+        verify(fileRepository).deleteAllInFolder(FileEntityType.PROJECT, 1L);
+        verify(contentAddressedStore).release("hash");
+        verify(fileProducer).send(assertArg(event -> {
+            var folderDeleteEvent = (FolderDeleteEvent) event;
+            assertEquals(1500, folderDeleteEvent.getDeletedFiles());
+            assertEquals("correlation", folderDeleteEvent.getCorrelationId());
+        }));
+        verify(folderDeletionRepository).deleteById(DELETION_ID);
+    }
+
+    @Test
+    void shouldSkipTombstoneClaimedByOtherWorker() {
+        // given
+        when(folderDeletionRepository.findClaimable(any(Instant.class), any(Pageable.class))).thenReturn(List.of(getFolderDeletion()));
+        when(folderDeletionRepository.claim(eq(DELETION_ID), any(Instant.class), any(Instant.class))).thenReturn(0);
+
+        // when
+        folderCleanupWorker.processPending();
+
+        // then
+        verifyNoInteractions(s3Client, fileProducer);
+        verify(folderDeletionRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void shouldKeepTombstoneWhenObjectsCouldNotBeDeleted() {
+        // given
+        var folderDeletion = getFolderDeletion();
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(page(0, 1, null));
+        when(s3Client.listObjectsV2Paginator(any(ListObjectsV2Request.class))).thenAnswer(invocation ->
+                new ListObjectsV2Iterable(s3Client, invocation.getArgument(0)));
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class))).thenReturn(DeleteObjectsResponse.builder()
+                .errors(S3Error.builder().key("PROJECT/1/0").code("AccessDenied").build())
+                .build());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> folderCleanupWorker.process(folderDeletion));
+        verify(fileRepository, never()).deleteAllInFolder(any(), any());
+        verify(folderDeletionRepository, never()).deleteById(any());
+    }
+
+    private static ListObjectsV2Response page(int from, int count, String nextToken) {
+        return ListObjectsV2Response.builder()
+                .contents(IntStream.range(from, from + count)
+                        .mapToObj(i -> S3Object.builder().key("PROJECT/1/" + i).build())
+                        .toList())
+                .isTruncated(nextToken != null)
+                .nextContinuationToken(nextToken)
+                .build();
+    }
+
+    private static FolderDeletion getFolderDeletion() {
+        return new FolderDeletion(DELETION_ID, FileEntityType.PROJECT, 1L, "correlation", null, Instant.now());
+    }
+}
@@ -0,0 +1,111 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.shared.PageMapperImpl;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {S3Service.class, S3StreamingUploader.class, FileUploadPipeline.class,
+        S3ServiceTest.UploadExecutorConfig.class, FileMapperImpl.class, PageMapperImpl.class})
+@TestPropertySource(properties = {
+        "s3.bucket.name=testbucket",
+        "s3.dedup.enabled=true"
+})
+class S3ServiceDeduplicationTest {
+
+    private static final String NEW_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+    private static final String OLD_HASH = "60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752";
+
+    @Autowired
+    private S3Service s3Service;
+
+    @MockitoBean
+    private FileRepository fileRepository;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FileProducer fileProducer;
+
+    @MockitoBean
+    private S3UrlPresigner s3UrlPresigner;
+
+    @MockitoBean
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private FolderDeletionRepository folderDeletionRepository;
+
+    @MockitoBean
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @MockitoBean
+    private AttachmentProxy attachmentProxy;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(contentAddressedStore.store(any(InputStream.class), anyLong(), anyString())).thenReturn(NEW_HASH);
+    }
+
+    @Test
+    void shouldReleaseStoredContentsWhenRowsCanNotBeSaved() {
+        // given
+        var files = List.of(new MockMultipartFile("file1", "file1.jpg", "image/jpeg", new byte[]{1}));
+        when(fileRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("files_entity_type_entity_id_original_name_key"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> s3Service.uploadFiles(files, FileEntityType.TEST, 1L, "correlationId"));
+        verify(contentAddressedStore).release(NEW_HASH);
+        verifyNoInteractions(fileProducer);
+    }
+
+    @Test
+    void shouldReleaseOnlyReplacedContentsWhenRowsAreSaved() {
+        // given
+        var existing = new File(UUID.randomUUID(), "file1.jpg", FileEntityType.TEST, 1L, Instant.now(), OLD_HASH, null, null, null);
+        var files = List.of(new MockMultipartFile("file1", "file1.jpg", "image/jpeg", new byte[]{1}));
+        when(fileRepository.findAllByEntityTypeAndEntityIdAndOriginalNameIn(eq(FileEntityType.TEST), eq(1L), any()))
+                .thenReturn(List.of(existing));
+
+        // when
+        s3Service.uploadFiles(files, FileEntityType.TEST, 1L, "correlationId");
+
+        // then
+        verify(contentAddressedStore).release(OLD_HASH);
+        verify(contentAddressedStore, never()).release(NEW_HASH);
+    }
+}
@@ -0,0 +1,194 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.shared.PageMapperImpl;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the upload and fetch paths against LocalStack and counts the S3 requests they issue.
+ */
+@Testcontainers
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {S3Service.class, S3StreamingUploader.class, FileUploadPipeline.class,
+        S3ServiceRequestCountTest.LocalStackS3Config.class, FileMapperImpl.class, PageMapperImpl.class})
+class S3ServiceRequestCountTest {
+
+    private static final String BUCKET_NAME = "testbucket";
+
+    @Container
+    private static final LocalStackContainer localStack =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+                    .withServices(LocalStackContainer.Service.S3);
+
+    @DynamicPropertySource
+    static void localStackProperties(DynamicPropertyRegistry registry) {
+        registry.add("s3.bucket.name", () -> BUCKET_NAME);
+        registry.add("localstack.endpoint", () -> localStack.getEndpoint().toString());
+        registry.add("localstack.region", localStack::getRegion);
+        registry.add("localstack.access-key", localStack::getAccessKey);
+        registry.add("localstack.secret-key", localStack::getSecretKey);
+    }
+
+    @Autowired
+    private S3Service s3Service;
+
+    @Autowired
+    private RequestCounter requestCounter;
+
+    @MockitoBean
+    private FileRepository fileRepository;
+
+    @MockitoBean
+    private FileProducer fileProducer;
+
+    @MockitoBean
+    private S3UrlPresigner s3UrlPresigner;
+
+    @MockitoBean
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private FolderDeletionRepository folderDeletionRepository;
+
+    @MockitoBean
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @MockitoBean
+    private AttachmentProxy attachmentProxy;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(s3UrlPresigner.presignDownload(anyString())).thenAnswer(invocation -> "http://localstack/" + invocation.getArgument(0));
+        requestCounter.reset();
+    }
+
+    @Test
+    void shouldIssueSinglePutObjectWhenUploadingFile() {
+        // given
+        var file = new MockMultipartFile("file", "log.txt", "text/plain", "log line".getBytes());
+
+        // when
+        s3Service.uploadFiles(List.of(file), FileEntityType.BUG_REPORT, 1L, "correlationId");
+
+        // then
+        assertEquals(Map.of("PutObject", 1), requestCounter.snapshot());
+    }
+
+    @Test
+    void shouldNotIssueAnyS3RequestWhenGettingFileByName() {
+        // given
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId("log.txt", FileEntityType.BUG_REPORT, 1L))
+                .thenReturn(Optional.of(new File(UUID.randomUUID(), "log.txt", FileEntityType.BUG_REPORT, 1L, Instant.now(), null, null, null, null)));
+
+        // when
+        s3Service.getFileByEntityTypeAndId(FileEntityType.BUG_REPORT, 1L, "log.txt");
+
+        // then
+        assertEquals(Map.of(), requestCounter.snapshot());
+    }
+
+    static class RequestCounter implements ExecutionInterceptor {
+
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+            counts.computeIfAbsent(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
+                    operation -> new AtomicInteger()).incrementAndGet();
+        }
+
+        Map<String, Integer> snapshot() {
+            var snapshot = new ConcurrentHashMap<String, Integer>();
+            counts.forEach((operation, count) -> snapshot.put(operation, count.get()));
+            return snapshot;
+        }
+
+        void reset() {
+            counts.clear();
+        }
+    }
+
+    @Configuration
+    static class LocalStackS3Config {
+
+        @Bean
+        public RequestCounter requestCounter() {
+            return new RequestCounter();
+        }
+
+        @Bean
+        public S3Client s3Client(RequestCounter requestCounter,
+                                 @Value("${localstack.endpoint}") String endpoint,
+                                 @Value("${localstack.region}") String region,
+                                 @Value("${localstack.access-key}") String accessKey,
+                                 @Value("${localstack.secret-key}") String secretKey) {
+            var s3Client = S3Client.builder()
+                    .endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true)
+                    .region(Region.of(region))
+                    .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                    .overrideConfiguration(configuration -> configuration.addExecutionInterceptor(requestCounter))
+                    .build();
+
+            s3Client.createBucket(request -> request.bucket(BUCKET_NAME));
+            return s3Client;
+        }
+
+        @Bean
+        public ThreadPoolTaskExecutor fileUploadExecutor() {
+            var executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(2);
+            return executor;
+        }
+    }
+}
@@ -1,32 +1,40 @@
 package com.stepaniuk.testhorizon.aws.s3;
 
 
+import com.stepaniuk.testhorizon.aws.exceptions.InvalidFileNameException;
 import com.stepaniuk.testhorizon.aws.exceptions.NoSuchFilesByNamesException;
 import com.stepaniuk.testhorizon.aws.exceptions.UnableUploadFileException;
 import com.stepaniuk.testhorizon.event.file.FileDeleteEvent;
-import com.stepaniuk.testhorizon.event.file.FileEvent;
 import com.stepaniuk.testhorizon.event.file.FileUploadEvent;
 import com.stepaniuk.testhorizon.payload.file.FileResponse;
+import com.stepaniuk.testhorizon.payload.file.FileUploadResponse;
+import com.stepaniuk.testhorizon.payload.file.PresignedUploadResponse;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.files.FileEntityType;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.hateoas.PagedModel;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 
@@ -34,17 +42,20 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.answer;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ServiceLevelUnitTest
-@ContextConfiguration(classes = {S3Service.class, FileMapperImpl.class, PageMapperImpl.class})
+@ContextConfiguration(classes = {S3Service.class, S3StreamingUploader.class, FileUploadPipeline.class,
+        S3ServiceTest.UploadExecutorConfig.class, FileMapperImpl.class, PageMapperImpl.class})
 @TestPropertySource(properties = {
         "s3.bucket.name=testbucket",
         "spring.cloud.aws.s3.endpoint=http://localhost:4566"
@@ -63,6 +74,36 @@ class S3ServiceTest {
     @MockitoBean
     private FileProducer fileProducer;
 
+    @MockitoBean
+    private S3UrlPresigner s3UrlPresigner;
+
+    @MockitoBean
+    private ContentAddressedStore contentAddressedStore;
+
+    @MockitoBean
+    private FolderDeletionRepository folderDeletionRepository;
+
+    @MockitoBean
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @MockitoBean
+    private AttachmentProxy attachmentProxy;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(s3UrlPresigner.presignDownload(anyString()))
+                .thenAnswer(invocation -> "http://localhost:4566/testbucket/" + invocation.getArgument(0));
+    }
+
     @Test
     void shouldUploadFiles() {
         // given
@@ -74,24 +115,12 @@ class S3ServiceTest {
         Long entityId = 1L;
         String correlationId = "correlationId";
 
-        when(fileRepository.save(any(File.class))).then(answer(getFakeSave(UUID.fromString("00000000-0000-0000-0000-000000000001"))));
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
-                .thenReturn(ListObjectsV2Response.builder()
-                        .contents(S3Object.builder()
-                                .key(fileName)
-                                .build())
-                        .build());
-
         final var receivedEventWrapper = new FileUploadEvent[1];
-        when(
-                fileProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (FileUploadEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(fileProducer).sendAll(
+                assertArg(events -> receivedEventWrapper[0] = (FileUploadEvent) events.get(0)));
 
         // when
-        PagedModel<FileResponse> fileResponses = s3Service.uploadFiles(files, entityType, entityId, correlationId);
+        PagedModel<FileUploadResponse> fileResponses = s3Service.uploadFiles(files, entityType, entityId, correlationId);
 
         var fileResponse = fileResponses.getContent().iterator().next();
         // then
@@ -109,7 +138,60 @@ class S3ServiceTest {
         assertEquals(entityType, receivedEvent.getEntityType());
         assertEquals(entityId, receivedEvent.getEntityId());
 
-        verify(fileRepository, times(1)).save(any());
+        verify(fileRepository, times(1)).saveAll(argThat((List<File> rows) -> rows.size() == 1));
+        verify(s3Client, never()).listObjectsV2(any(ListObjectsV2Request.class));
+    }
+
+    @Test
+    void shouldReportFailedFilesAndStoreOnlyUploadedOnesWhenUploadingFiles() throws IOException {
+        // given
+        MultipartFile brokenFile = mock(MultipartFile.class);
+        when(brokenFile.getOriginalFilename()).thenReturn("broken.jpg");
+        when(brokenFile.getInputStream()).thenThrow(IOException.class);
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("file1", "file1.jpg", "image/jpeg", new byte[]{1, 2, 3}),
+                brokenFile
+        );
+
+        // when
+        var fileResponses = List.copyOf(s3Service.uploadFiles(files, FileEntityType.BUG_REPORT, 1L, "correlationId").getContent());
+
+        // then
+        assertEquals(2, fileResponses.size());
+        assertEquals("file1.jpg", fileResponses.get(0).getFileName());
+        assertNotNull(fileResponses.get(0).getFileUrl());
+        assertNull(fileResponses.get(0).getError());
+        assertEquals("broken.jpg", fileResponses.get(1).getFileName());
+        assertNull(fileResponses.get(1).getFileUrl());
+        assertNotNull(fileResponses.get(1).getError());
+
+        verify(fileRepository).saveAll(argThat((List<File> rows) ->
+                rows.size() == 1 && rows.get(0).getOriginalName().equals("file1.jpg")));
+        verify(fileProducer).sendAll(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void shouldReplaceContentsOfExistingRowWhenUploadingFileWithSameName() {
+        // given
+        String oldHash = "60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752";
+        var existing = new File(UUID.randomUUID(), "file1.jpg", FileEntityType.TEST, 1L, Instant.now(), oldHash,
+                ThumbnailStatus.READY, "TEST/1/.thumbnails/file1.jpg", null);
+        List<MultipartFile> files = List.of(new MockMultipartFile("file1", "file1.jpg", "image/jpeg", new byte[]{1}));
+
+        when(fileRepository.findAllByEntityTypeAndEntityIdAndOriginalNameIn(eq(FileEntityType.TEST), eq(1L), any()))
+                .thenReturn(List.of(existing));
+
+        // when
+        s3Service.uploadFiles(files, FileEntityType.TEST, 1L, "correlationId");
+
+        // then
+        verify(fileRepository).saveAll(argThat((List<File> rows) -> rows.equals(List.of(existing))));
+        assertNull(existing.getContentHash());
+        assertNull(existing.getThumbnailStatus());
+        assertNull(existing.getThumbnailKey());
+        verify(s3Client).deleteObjects(argThat((DeleteObjectsRequest request) -> request.delete().objects()
+                .equals(List.of(ObjectIdentifier.builder().key("TEST/1/.thumbnails/file1.jpg").build()))));
+        verify(contentAddressedStore).release(oldHash);
     }
 
     @Test
@@ -121,18 +203,29 @@ class S3ServiceTest {
         Long entityId = 1L;
         String correlationId = "correlationId";
 
-        // Mock for the getBytes method throwing IOException
-        when(mockFile.getBytes()).thenThrow(IOException.class);
-
-        // Mock the listObjectsV2 method
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
-                .thenReturn(ListObjectsV2Response.builder().contents(Collections.emptyList()).build());
+        // Mock for the getInputStream method throwing IOException
+        when(mockFile.getOriginalFilename()).thenReturn("file.jpg");
+        when(mockFile.getInputStream()).thenThrow(IOException.class);
 
         // Act and Assert
         assertThrows(UnableUploadFileException.class, () ->
                 s3Service.uploadFiles(files, entityType, entityId, correlationId));
     }
 
+    @Test
+    void shouldThrowInvalidFileNameExceptionBeforeUploadingAnyFile() {
+        // given
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("file1", "file1.jpg", "image/jpeg", new byte[]{1}),
+                new MockMultipartFile("file2", "file\n2.jpg", "image/jpeg", new byte[]{2})
+        );
+
+        // when & then
+        assertThrows(InvalidFileNameException.class,
+                () -> s3Service.uploadFiles(files, FileEntityType.TEST, 1L, "correlationId"));
+        verifyNoInteractions(s3Client, fileRepository, fileProducer);
+    }
+
     @Test
     void shouldDeleteAllFilesAndReturnVoid(){
         List<String> fileNames = List.of("file1.jpg");
@@ -140,16 +233,14 @@ class S3ServiceTest {
         Long entityId = 1L;
 
         List<File> files = List.of(
-                new File(UUID.randomUUID(), "file1.jpg",  entityType, entityId, Instant.now())
+                new File(UUID.randomUUID(), "file1.jpg",  entityType, entityId, Instant.now(), null, null, null, null)
         );
 
         var pageable = PageRequest.of(0, 1);
 
         final var receivedEventWrapper = new FileDeleteEvent[1];
-        when(fileProducer.send(
-                assertArg(event -> receivedEventWrapper[0] = (FileDeleteEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+        doNothing().when(fileProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (FileDeleteEvent) event));
 
         when(fileRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(files));
 
@@ -164,6 +255,105 @@ class S3ServiceTest {
         verify(fileRepository, times(1)).deleteAll(any(Page.class));
     }
 
+    @Test
+    void shouldKeepObjectsWhenDeleteEventCanNotBeStored() {
+        // given
+        String hash = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+        var pageable = PageRequest.of(0, 1);
+        var file = new File(UUID.randomUUID(), "file1.jpg", FileEntityType.TEST, 1L, Instant.now(), hash, null, null, null);
+
+        when(fileRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(file)));
+        doThrow(new IllegalStateException("outbox unavailable")).when(fileProducer).send(any());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () ->
+                s3Service.deleteFiles(FileEntityType.TEST, 1L, List.of("file1.jpg"), pageable, "correlationId"));
+        verify(transactionTemplate).execute(any());
+        verifyNoInteractions(s3Client, contentAddressedStore);
+    }
+
+    @Test
+    void shouldReleaseSharedContentsInsteadOfDeletingObjectWhenDeletingDeduplicatedFile() {
+        // given
+        FileEntityType entityType = FileEntityType.BUG_REPORT;
+        Long entityId = 1L;
+        var pageable = PageRequest.of(0, 1);
+        List<File> files = List.of(new File(UUID.randomUUID(), "log.txt", entityType, entityId, Instant.now(), "hash", null, null, null));
+
+        when(fileRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(files));
+        doNothing().when(fileProducer).send(any());
+
+        // when
+        s3Service.deleteFiles(entityType, entityId, List.of("log.txt"), pageable, UUID.randomUUID().toString());
+
+        // then
+        verify(contentAddressedStore).release("hash");
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+        verify(fileRepository).deleteAll(any(Page.class));
+    }
+
+    @Test
+    void shouldReturnNamedBlobUrlWhenListingDeduplicatedFiles() {
+        // given
+        FileEntityType entityType = FileEntityType.BUG_REPORT;
+        Long entityId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        List<File> files = List.of(new File(UUID.randomUUID(), "log.txt", entityType, entityId, Instant.now(), "hash", null, null, null));
+
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(new PageImpl<>(files, pageable, files.size()));
+        when(s3UrlPresigner.presignDownload("blobs/hash", "log.txt")).thenReturn("http://localhost:4566/testbucket/blobs/hash");
+
+        // when
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
+
+        // then
+        assertEquals("http://localhost:4566/testbucket/blobs/hash", result.getContent().iterator().next().getFileUrl());
+    }
+
+    @Test
+    void shouldReturnThumbnailUrlWhenThumbnailIsReady() {
+        // given
+        FileEntityType entityType = FileEntityType.BUG_REPORT;
+        Long entityId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        List<File> files = List.of(new File(UUID.randomUUID(), "screen.png", entityType, entityId, Instant.now(), null,
+                ThumbnailStatus.READY, "BUG_REPORT/1/.thumbnails/screen.jpg", null));
+
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(new PageImpl<>(files, pageable, files.size()));
+
+        // when
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
+
+        // then
+        var fileResponse = result.getContent().iterator().next();
+        assertEquals("http://localhost:4566/testbucket/BUG_REPORT/1/screen.png", fileResponse.getFileUrl());
+        assertEquals("http://localhost:4566/testbucket/BUG_REPORT/1/.thumbnails/screen.jpg", fileResponse.getThumbnailUrl());
+        verifyNoInteractions(thumbnailGenerator);
+    }
+
+    @Test
+    void shouldRequestThumbnailWhenImageIsListedFirstTime() {
+        // given
+        FileEntityType entityType = FileEntityType.BUG_REPORT;
+        Long entityId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
+        var image = new File(UUID.randomUUID(), "screen.png", entityType, entityId, Instant.now(), null, null, null, null);
+        var log = new File(UUID.randomUUID(), "log.txt", entityType, entityId, Instant.now(), null, null, null, null);
+
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(new PageImpl<>(List.of(image, log), pageable, 2));
+
+        // when
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
+
+        // then
+        assertTrue(result.getContent().stream().allMatch(fileResponse -> fileResponse.getThumbnailUrl() == null));
+        verify(thumbnailGenerator).request(image, "BUG_REPORT/1/screen.png");
+        verifyNoMoreInteractions(thumbnailGenerator);
+    }
+
     @Test
     void shouldThrowNoSuchFilesByNamesExceptionWhenDeleteAllFiles() {
         // given
@@ -182,45 +372,40 @@ class S3ServiceTest {
     }
 
     @Test
-    void shouldDeleteFolderWithFiles() {
+    void shouldQueueFolderDeletionWithoutTouchingS3() {
         // given
         FileEntityType entityType = FileEntityType.TEST;
         Long entityId = 1L;
         String correlationId = UUID.randomUUID().toString();
-        String folderKey = String.format("%s/%s", entityType, entityId);
-
-        List<S3Object> s3Objects = List.of(S3Object.builder().key(folderKey + "/file1.jpg").build());
-        List<File> files = List.of(new File(UUID.randomUUID(), "file1.jpg", entityType, entityId, Instant.now()));
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder().contents(s3Objects).build());
-        when(fileRepository.findAll(any(Specification.class))).thenReturn(files);
+        when(folderDeletionRepository.existsByEntityTypeAndEntityId(entityType, entityId)).thenReturn(false);
 
         // when
         s3Service.deleteFolder(entityType, entityId, correlationId);
 
         // then
-        verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(fileRepository, times(1)).deleteAll(files);
-        verify(fileProducer, times(1)).send(any(FileDeleteEvent.class));
+        verify(folderDeletionRepository).save(assertArg(folderDeletion -> {
+            assertEquals(entityType, folderDeletion.getEntityType());
+            assertEquals(entityId, folderDeletion.getEntityId());
+            assertEquals(correlationId, folderDeletion.getCorrelationId());
+        }));
+        verifyNoInteractions(s3Client, fileProducer);
+        verify(fileRepository, never()).deleteAll(anyList());
     }
 
     @Test
-    void shouldDeleteFolderWithoutFiles() {
+    void shouldNotQueueFolderDeletionTwice() {
         // given
         FileEntityType entityType = FileEntityType.TEST;
         Long entityId = 1L;
-        String correlationId = UUID.randomUUID().toString();
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder().contents(Collections.emptyList()).build());
-        when(fileRepository.findAll(any(Specification.class))).thenReturn(Collections.emptyList());
+        when(folderDeletionRepository.existsByEntityTypeAndEntityId(entityType, entityId)).thenReturn(true);
 
         // when
-        s3Service.deleteFolder(entityType, entityId, correlationId);
+        s3Service.deleteFolder(entityType, entityId, UUID.randomUUID().toString());
 
         // then
-        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
-        verify(fileRepository, never()).deleteAll(anyList());
-        verify(fileProducer, never()).send(any(FileDeleteEvent.class));
+        verify(folderDeletionRepository, never()).save(any());
     }
 
     @Test
@@ -228,24 +413,25 @@ class S3ServiceTest {
         // given
         FileEntityType entityType = FileEntityType.TEST;
         Long entityId = 1L;
-        String folderName = String.format("%s/%s", entityType, entityId);
-        List<S3Object> s3Objects = List.of(
-                S3Object.builder().key(folderName + "/file1.jpg").build(),
-                S3Object.builder().key(folderName + "/file2.jpg").build()
+        Pageable pageable = PageRequest.of(0, 10);
+        List<File> files = List.of(
+                new File(UUID.randomUUID(), "file1.jpg", entityType, entityId, Instant.now(), null, null, null, null),
+                new File(UUID.randomUUID(), "file2.jpg", entityType, entityId, Instant.now(), null, null, null, null)
         );
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder().contents(s3Objects).build());
-        when(fileRepository.existsByOriginalNameAndEntityTypeAndEntityId("file1.jpg", entityType, entityId)).thenReturn(true);
-        when(fileRepository.existsByOriginalNameAndEntityTypeAndEntityId("file2.jpg", entityType, entityId)).thenReturn(true);
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(new PageImpl<>(files, pageable, files.size()));
 
         // when
-        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId);
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
 
         // then
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
-        assertTrue(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().contains("file1.jpg")));
-        assertTrue(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().contains("file2.jpg")));
+        assertTrue(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().equals("http://localhost:4566/testbucket/TEST/1/file1.jpg")));
+        assertTrue(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().equals("http://localhost:4566/testbucket/TEST/1/file2.jpg")));
+        assertNotNull(result.getMetadata());
+        assertEquals(2, result.getMetadata().getTotalElements());
     }
 
     @Test
@@ -253,11 +439,13 @@ class S3ServiceTest {
         // given
         FileEntityType entityType = FileEntityType.TEST;
         Long entityId = 1L;
+        Pageable pageable = PageRequest.of(0, 10);
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder().contents(Collections.emptyList()).build());
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(Page.empty(pageable));
 
         // when
-        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId);
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
 
         // then
         assertNotNull(result);
@@ -265,28 +453,26 @@ class S3ServiceTest {
     }
 
     @Test
-    void shouldReturnPagedModelWithOnlyExistingFilesInRepository() {
+    void shouldNotCallS3WhenListingFiles() {
         // given
-        FileEntityType entityType = FileEntityType.TEST;
+        FileEntityType entityType = FileEntityType.BUG_REPORT;
         Long entityId = 1L;
-        String folderName = String.format("%s/%s", entityType, entityId);
-        List<S3Object> s3Objects = List.of(
-                S3Object.builder().key(folderName + "/file1.jpg").build(),
-                S3Object.builder().key(folderName + "/file2.jpg").build()
-        );
+        Pageable pageable = PageRequest.of(1, 1);
+        List<File> files = List.of(new File(UUID.randomUUID(), "file2.jpg", entityType, entityId, Instant.now(), null, null, null, null));
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder().contents(s3Objects).build());
-        when(fileRepository.existsByOriginalNameAndEntityTypeAndEntityId("file1.jpg", entityType, entityId)).thenReturn(true);
-        when(fileRepository.existsByOriginalNameAndEntityTypeAndEntityId("file2.jpg", entityType, entityId)).thenReturn(false);
+        when(fileRepository.findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable))
+                .thenReturn(new PageImpl<>(files, pageable, 2));
 
         // when
-        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId);
+        PagedModel<FileResponse> result = s3Service.listFiles(entityType, entityId, pageable);
 
         // then
-        assertNotNull(result);
         assertEquals(1, result.getContent().size());
-        assertTrue(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().contains("file1.jpg")));
-        assertFalse(result.getContent().stream().anyMatch(fileResponse -> fileResponse.getFileUrl().contains("file2.jpg")));
+        assertNotNull(result.getMetadata());
+        assertEquals(2, result.getMetadata().getTotalElements());
+        verify(fileRepository).findAllByEntityTypeAndEntityIdOrderByCreatedAtAsc(entityType, entityId, pageable);
+        verifyNoMoreInteractions(fileRepository);
+        verifyNoInteractions(s3Client);
     }
 
     @Test
@@ -298,12 +484,8 @@ class S3ServiceTest {
         String folderKey = String.format("%s/%s", entityType, entityId);
         String filePath = folderKey + "/" + fileName;
 
-        List<S3Object> s3Objects = List.of(
-                S3Object.builder().key(filePath).build()
-        );
-
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
-                .thenReturn(ListObjectsV2Response.builder().contents(s3Objects).build());
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, entityId))
+                .thenReturn(Optional.of(new File(UUID.randomUUID(), fileName, entityType, entityId, Instant.now(), null, null, null, null)));
 
         // when
         FileResponse result = s3Service.getFileByEntityTypeAndId(entityType, entityId, fileName);
@@ -312,6 +494,7 @@ class S3ServiceTest {
         assertNotNull(result);
         assertEquals(String.format("%s/%s/%s", "http://localhost:4566", "testbucket", filePath), result.getFileUrl());
         assertTrue(result.getFileUrl().contains(fileName));
+        verifyNoInteractions(s3Client);
     }
 
     @Test
@@ -321,8 +504,7 @@ class S3ServiceTest {
         Long entityId = 1L;
         String fileName = "nonExistingFile.jpg";
 
-        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class)))
-                .thenReturn(ListObjectsV2Response.builder().contents(Collections.emptyList()).build());
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, entityId)).thenReturn(Optional.empty());
 
         // when & then
         NoSuchFilesByNamesException exception = assertThrows(
@@ -333,17 +515,163 @@ class S3ServiceTest {
         assertTrue(exception.getMessage().contains(fileName));
     }
 
-    private Answer1<File, File> getFakeSave(UUID id) {
-        return file -> {
-            file.setId(id);
-            return file;
-        };
+    @Test
+    void shouldReturnPresignedUploadUrlWhenCreatingUploadUrl() {
+        // given
+        FileEntityType entityType = FileEntityType.TEST;
+        Long entityId = 1L;
+        String fileName = "file.jpg";
+        Instant expiresAt = Instant.now().plusSeconds(900);
+
+        when(s3UrlPresigner.presignUpload("TEST/1/file.jpg", "image/jpeg"))
+                .thenReturn(new S3UrlPresigner.PresignedUrl("http://localhost:4566/testbucket/TEST/1/file.jpg?X-Amz-Signature=abc", expiresAt));
+
+        // when
+        PresignedUploadResponse response = s3Service.createUploadUrl(entityType, entityId, fileName, "image/jpeg");
+
+        // then
+        assertNotNull(response);
+        assertEquals(fileName, response.getFileName());
+        assertEquals("PUT", response.getMethod());
+        assertEquals(expiresAt, response.getExpiresAt());
+        assertTrue(response.getUploadUrl().contains("X-Amz-Signature"));
+        verifyNoInteractions(s3Client, fileRepository, fileProducer);
+    }
+
+    @Test
+    void shouldThrowInvalidFileNameExceptionWhenCreatingUploadUrlOutsideEntityFolder() {
+        // when & then
+        assertThrows(InvalidFileNameException.class,
+                () -> s3Service.createUploadUrl(FileEntityType.TEST, 1L, "../2/file.jpg", "image/jpeg"));
+        assertThrows(InvalidFileNameException.class,
+                () -> s3Service.createUploadUrl(FileEntityType.TEST, 1L, "..", "image/jpeg"));
+        verifyNoInteractions(s3UrlPresigner);
+    }
+
+    @Test
+    void shouldThrowInvalidFileNameExceptionWhenCompletingUploadWithSeparatorInName() {
+        // when & then
+        assertThrows(InvalidFileNameException.class,
+                () -> s3Service.completeUpload(FileEntityType.TEST, 1L, "nested/file.jpg", "correlationId"));
+        assertThrows(InvalidFileNameException.class,
+                () -> s3Service.completeUpload(FileEntityType.TEST, 1L, "nested\\file.jpg", "correlationId"));
+        verifyNoInteractions(s3Client, fileRepository, fileProducer);
+    }
+
+    @Test
+    void shouldStoreFileAndSendEventWhenCompletingUpload() {
+        // given
+        FileEntityType entityType = FileEntityType.TEST;
+        Long entityId = 1L;
+        String fileName = "file.jpg";
+
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, entityId)).thenReturn(Optional.empty());
+        doNothing().when(fileProducer).send(any());
+
+        // when
+        FileResponse fileResponse = s3Service.completeUpload(entityType, entityId, fileName, "correlationId");
+
+        // then
+        assertEquals("http://localhost:4566/testbucket/TEST/1/file.jpg", fileResponse.getFileUrl());
+        verify(fileRepository).save(assertArg(file -> {
+            assertEquals(fileName, file.getOriginalName());
+            assertEquals(entityType, file.getEntityType());
+            assertEquals(entityId, file.getEntityId());
+        }));
+        verify(fileProducer).send(any(FileUploadEvent.class));
+    }
+
+    @Test
+    void shouldNotStoreFileTwiceWhenCompletingSameUploadAgain() {
+        // given
+        FileEntityType entityType = FileEntityType.TEST;
+        Long entityId = 1L;
+        String fileName = "file.jpg";
+
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId(fileName, entityType, entityId))
+                .thenReturn(Optional.of(new File(UUID.randomUUID(), fileName, entityType, entityId, Instant.now(), null, null, null, null)));
+
+        // when
+        FileResponse fileResponse = s3Service.completeUpload(entityType, entityId, fileName, "correlationId");
+
+        // then
+        assertNotNull(fileResponse);
+        verify(fileRepository, never()).save(any());
+        verifyNoInteractions(fileProducer);
+    }
+
+    @Test
+    void shouldReleaseSharedBlobWhenCompletingUploadOverDeduplicatedFile() {
+        // given
+        String hash = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+        var existing = new File(UUID.randomUUID(), "file.jpg", FileEntityType.TEST, 1L, Instant.now(), hash, null, null, null);
+
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder().build());
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId("file.jpg", FileEntityType.TEST, 1L))
+                .thenReturn(Optional.of(existing));
+
+        // when
+        s3Service.completeUpload(FileEntityType.TEST, 1L, "file.jpg", "correlationId");
+
+        // then
+        assertNull(existing.getContentHash());
+        verify(fileRepository).save(existing);
+        verify(contentAddressedStore).release(hash);
+        verifyNoInteractions(fileProducer);
+    }
+
+    @Test
+    void shouldThrowNoSuchFilesByNamesExceptionWhenCompletingUploadOfMissingObject() {
+        // given
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        // when & then
+        assertThrows(NoSuchFilesByNamesException.class,
+                () -> s3Service.completeUpload(FileEntityType.TEST, 1L, "file.jpg", "correlationId"));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldServeFileContentFromBlobKeyWhenFileIsDeduplicated() throws IOException {
+        // given
+        String hash = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+        var headers = new HttpHeaders();
+        ResponseEntity<StreamingResponseBody> served = ResponseEntity.ok(outputStream -> {});
+
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId("file.txt", FileEntityType.TEST, 1L))
+                .thenReturn(Optional.of(new File(UUID.randomUUID(), "file.txt", FileEntityType.TEST, 1L, Instant.now(), hash, null, null, null)));
+        when(attachmentProxy.serve("blobs/" + hash, headers)).thenReturn(served);
+
+        // when
+        var response = s3Service.getFileContent(FileEntityType.TEST, 1L, "file.txt", headers);
+
+        // then
+        assertSame(served, response);
     }
 
-    private Answer1<CompletableFuture<SendResult<String, FileEvent>>, FileEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("files", event),
-                        new RecordMetadata(new TopicPartition("files", 0), 0L, 0, 0L, 0, 0)));
+    @Test
+    void shouldThrowNoSuchFilesByNamesExceptionWhenContentObjectIsMissing() throws IOException {
+        // given
+        when(fileRepository.findByOriginalNameAndEntityTypeAndEntityId("file.txt", FileEntityType.TEST, 1L))
+                .thenReturn(Optional.of(new File(UUID.randomUUID(), "file.txt", FileEntityType.TEST, 1L, Instant.now(), null, null, null, null)));
+        when(attachmentProxy.serve(eq("TEST/1/file.txt"), any())).thenThrow(NoSuchKeyException.builder().build());
+
+        // when & then
+        assertThrows(NoSuchFilesByNamesException.class,
+                () -> s3Service.getFileContent(FileEntityType.TEST, 1L, "file.txt", new HttpHeaders()));
     }
 
+    @Configuration
+    static class UploadExecutorConfig {
+
+        @Bean
+        public ThreadPoolTaskExecutor fileUploadExecutor() {
+            var executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(2);
+            return executor;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class S3StreamingUploaderTest {
+
+    private final S3Client s3Client = mock(S3Client.class);
+
+    private final S3StreamingUploader s3StreamingUploader = new S3StreamingUploader(s3Client, "10B", "4B", 1);
+
+    @Test
+    void shouldUseSinglePutWhenContentIsBelowThreshold() throws IOException {
+        // given
+        var content = new ByteArrayInputStream(new byte[]{1, 2, 3});
+
+        // when
+        s3StreamingUploader.upload("bucket", "key", "image/png", content, 3);
+
+        // then
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldUploadPartsAndCompleteWhenContentIsAboveThreshold() throws IOException {
+        // given
+        var content = new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11});
+        var partSizes = new ArrayList<Long>();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            partSizes.add(request.contentLength());
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+
+        // when
+        s3StreamingUploader.upload("bucket", "key", "video/mp4", content, 11);
+
+        // then
+        assertEquals(List.of(4L, 4L, 3L), partSizes);
+        verify(s3Client).completeMultipartUpload(argThat((CompleteMultipartUploadRequest request) ->
+                request.uploadId().equals("upload") && request.multipartUpload().parts().size() == 3));
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void shouldAbortMultipartUploadAndReleaseBufferWhenReadingFails() throws IOException {
+        // given
+        InputStream failingContent = mock(InputStream.class);
+        when(failingContent.readNBytes(any(byte[].class), anyInt(), anyInt())).thenThrow(new IOException("broken"));
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload").build());
+
+        // when & then
+        assertThrows(IOException.class,
+                () -> s3StreamingUploader.upload("bucket", "key", "video/mp4", failingContent, 100));
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+
+        assertThrows(IOException.class,
+                () -> s3StreamingUploader.upload("bucket", "key", "video/mp4", failingContent, 100));
+        verify(s3Client, times(2)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    }
+}
@@ -0,0 +1,146 @@
+package com.stepaniuk.testhorizon.aws.s3;
+
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {ThumbnailGenerator.class})
+@TestPropertySource(properties = {
+        "s3.bucket.name=testbucket",
+        "s3.thumbnails.max-dimension=320"
+})
+class ThumbnailGeneratorTest {
+
+    private static final UUID FILE_ID = UUID.fromString("2f1c5d7a-9b3e-4c8d-a1f0-6e5b4d3c2a10");
+
+    @Autowired
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private FileRepository fileRepository;
+
+    @MockitoBean(name = "thumbnailExecutor")
+    private ThreadPoolTaskExecutor thumbnailExecutor;
+
+    @Test
+    void shouldStoreDownscaledThumbnailAndMarkItReady() throws IOException {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(objectOf(png(1600, 800)));
+
+        // when
+        thumbnailGenerator.generate(FILE_ID, "BUG_REPORT/1/screen.png", "BUG_REPORT/1/.thumbnails/" + FILE_ID + ".jpg");
+
+        // then
+        var requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        var bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client).putObject(requestCaptor.capture(), bodyCaptor.capture());
+        assertEquals("BUG_REPORT/1/.thumbnails/" + FILE_ID + ".jpg", requestCaptor.getValue().key());
+        assertEquals("image/jpeg", requestCaptor.getValue().contentType());
+
+        try (InputStream thumbnailStream = bodyCaptor.getValue().contentStreamProvider().newStream()) {
+            BufferedImage thumbnail = ImageIO.read(thumbnailStream);
+            assertEquals(320, thumbnail.getWidth());
+            assertEquals(160, thumbnail.getHeight());
+        }
+
+        verify(fileRepository).updateThumbnail(eq(FILE_ID), eq(ThumbnailStatus.READY),
+                eq("BUG_REPORT/1/.thumbnails/" + FILE_ID + ".jpg"), any(Instant.class));
+    }
+
+    @Test
+    void shouldMarkThumbnailFailedWhenContentsAreNotAnImage() {
+        // given
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(objectOf("not an image".getBytes()));
+
+        // when
+        thumbnailGenerator.generate(FILE_ID, "BUG_REPORT/1/broken.png", "BUG_REPORT/1/.thumbnails/" + FILE_ID + ".jpg");
+
+        // then
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(fileRepository).updateThumbnail(eq(FILE_ID), eq(ThumbnailStatus.FAILED), isNull(), any(Instant.class));
+    }
+
+    @Test
+    void shouldScheduleGenerationOnlyOnce() {
+        // given
+        var file = getFile();
+        when(fileRepository.requestThumbnail(FILE_ID, ThumbnailStatus.PENDING)).thenReturn(1).thenReturn(0);
+
+        // when
+        thumbnailGenerator.request(file, "BUG_REPORT/1/screen.png");
+        thumbnailGenerator.request(file, "BUG_REPORT/1/screen.png");
+
+        // then
+        verify(thumbnailExecutor, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void shouldWithdrawRequestWhenPoolIsSaturated() {
+        // given
+        var file = getFile();
+        when(fileRepository.requestThumbnail(FILE_ID, ThumbnailStatus.PENDING)).thenReturn(1);
+        doThrow(TaskRejectedException.class).when(thumbnailExecutor).execute(any(Runnable.class));
+
+        // when
+        thumbnailGenerator.request(file, "BUG_REPORT/1/screen.png");
+
+        // then
+        verify(fileRepository).updateThumbnail(eq(FILE_ID), isNull(), isNull(), any(Instant.class));
+    }
+
+    @Test
+    void shouldRecognizeImagesByExtension() {
+        assertTrue(ThumbnailGenerator.isImage("screen.PNG"));
+        assertTrue(ThumbnailGenerator.isImage("photo.jpeg"));
+        assertFalse(ThumbnailGenerator.isImage("log.txt"));
+        assertFalse(ThumbnailGenerator.isImage("README"));
+    }
+
+    private static File getFile() {
+        return new File(FILE_ID, "screen.png", FileEntityType.BUG_REPORT, 1L, Instant.now(), null, null, null, null);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> objectOf(byte[] contents) {
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(contents)));
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        var out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -384,7 +384,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, null, null, null, null, null))
+        when(bugReportService.getAllBugReports(pageable, null, null, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
@@ -424,7 +424,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, List.of(response.getId()), null, null, null, null))
+        when(bugReportService.getAllBugReports(pageable, List.of(response.getId()), null, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
@@ -465,7 +465,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, null, response.getTitle(), null, null, null))
+        when(bugReportService.getAllBugReports(pageable, null, response.getTitle(), null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
@@ -506,7 +506,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, null, null, response.getReporter().getId(), null, null))
+        when(bugReportService.getAllBugReports(pageable, null, null, response.getReporter().getId(), null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
@@ -547,7 +547,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, null, null, null, response.getSeverity(), null))
+        when(bugReportService.getAllBugReports(pageable, null, null, null, response.getSeverity(), null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
@@ -588,7 +588,7 @@ class BugReportControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(bugReportService.getAllBugReports(pageable, null, null, null, null, response.getStatus()))
+        when(bugReportService.getAllBugReports(pageable, null, null, null, null, response.getStatus(), null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/bug-reports"))
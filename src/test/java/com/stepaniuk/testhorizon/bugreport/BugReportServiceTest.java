@@ -4,12 +4,9 @@ import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportByIdExcepti
 import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportSeverityByNameException;
 import com.stepaniuk.testhorizon.bugreport.exceptions.NoSuchBugReportStatusByNameException;
 import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverity;
-import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverityRepository;
 import com.stepaniuk.testhorizon.bugreport.status.BugReportStatus;
-import com.stepaniuk.testhorizon.bugreport.status.BugReportStatusRepository;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportCreatedEvent;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportDeletedEvent;
-import com.stepaniuk.testhorizon.event.bugreport.BugReportEvent;
 import com.stepaniuk.testhorizon.event.bugreport.BugReportUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.bugreport.BugReportCreateRequest;
 import com.stepaniuk.testhorizon.payload.bugreport.BugReportUpdateRequest;
@@ -18,6 +15,7 @@ import com.stepaniuk.testhorizon.project.Project;
 import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
@@ -25,9 +23,6 @@ import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.bugreport.BugReportSeverityName;
 import com.stepaniuk.testhorizon.types.bugreport.BugReportStatusName;
 import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -35,16 +30,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -65,10 +59,7 @@ class BugReportServiceTest {
     private BugReportRepository bugReportRepository;
 
     @MockitoBean
-    private BugReportSeverityRepository bugReportSeverityRepository;
-
-    @MockitoBean
-    private BugReportStatusRepository bugReportStatusRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private ProjectRepository projectRepository;
@@ -90,16 +81,12 @@ class BugReportServiceTest {
         when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
         when(projectRepository.existsById(any())).thenReturn(true);
         when(bugReportRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
-        when(bugReportStatusRepository.findByName(BugReportStatusName.OPENED)).thenReturn(Optional.of(new BugReportStatus(1L, BugReportStatusName.OPENED)));
-        when(bugReportSeverityRepository.findByName(bugReportSeverity.getName())).thenReturn(Optional.of(bugReportSeverity));
+        when(dictionaryRegistry.findBugReportStatus(BugReportStatusName.OPENED)).thenReturn(Optional.of(new BugReportStatus(1L, BugReportStatusName.OPENED)));
+        when(dictionaryRegistry.findBugReportSeverity(bugReportSeverity.getName())).thenReturn(Optional.of(bugReportSeverity));
 
         final var receivedEventWrapper = new BugReportCreatedEvent[1];
-        when(
-                bugReportProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (BugReportCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(bugReportProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (BugReportCreatedEvent) event));
 
         // when
         var bugReportResponse = bugReportService.createBugReport(bugReportCreateRequest, 1L, UUID.randomUUID().toString());
@@ -141,7 +128,7 @@ class BugReportServiceTest {
         );
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(bugReportSeverityRepository.findByName(bugReportCreateRequest.getSeverity())).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findBugReportSeverity(bugReportCreateRequest.getSeverity())).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchBugReportSeverityByNameException.class, () -> bugReportService.createBugReport(bugReportCreateRequest, 1L, correlationId));
@@ -157,8 +144,8 @@ class BugReportServiceTest {
         );
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(bugReportSeverityRepository.findByName(bugReportCreateRequest.getSeverity())).thenReturn(Optional.of(new BugReportSeverity(1L, BugReportSeverityName.HIGH)));
-        when(bugReportStatusRepository.findByName(BugReportStatusName.OPENED)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findBugReportSeverity(bugReportCreateRequest.getSeverity())).thenReturn(Optional.of(new BugReportSeverity(1L, BugReportSeverityName.HIGH)));
+        when(dictionaryRegistry.findBugReportStatus(BugReportStatusName.OPENED)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchBugReportStatusByNameException.class, () -> bugReportService.createBugReport(bugReportCreateRequest, 1L, correlationId));
@@ -223,12 +210,8 @@ class BugReportServiceTest {
         when(bugReportRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new BugReportUpdatedEvent[1];
-        when(
-                bugReportProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (BugReportUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(bugReportProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (BugReportUpdatedEvent) event));
 
         // when
         var bugReportResponse = bugReportService.updateBugReport(1L, bugReportUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -284,7 +267,7 @@ class BugReportServiceTest {
         BugReportUpdateRequest bugReportUpdateRequest = new BugReportUpdateRequest(null, null, null, BugReportSeverityName.HIGH, null);
 
         when(bugReportRepository.findById(1L)).thenReturn(Optional.of(bugReport));
-        when(bugReportSeverityRepository.findByName(bugReportUpdateRequest.getSeverity())).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findBugReportSeverity(bugReportUpdateRequest.getSeverity())).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchBugReportSeverityByNameException.class, () -> bugReportService.updateBugReport(1L, bugReportUpdateRequest, correlationId, authInfo));
@@ -299,7 +282,7 @@ class BugReportServiceTest {
         BugReportUpdateRequest bugReportUpdateRequest = new BugReportUpdateRequest(null, null, null, null, BugReportStatusName.OPENED);
 
         when(bugReportRepository.findById(1L)).thenReturn(Optional.of(bugReport));
-        when(bugReportStatusRepository.findByName(BugReportStatusName.OPENED)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findBugReportStatus(BugReportStatusName.OPENED)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchBugReportStatusByNameException.class, () -> bugReportService.updateBugReport(1L, bugReportUpdateRequest, correlationId, authInfo));
@@ -327,12 +310,8 @@ class BugReportServiceTest {
 
         when(bugReportRepository.findById(1L)).thenReturn(Optional.of(bugReport));
         final var receivedEventWrapper = new BugReportDeletedEvent[1];
-        when(
-                bugReportProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (BugReportDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(bugReportProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (BugReportDeletedEvent) event));
 
         // when
         bugReportService.deleteBugReportById(1L, UUID.randomUUID().toString(), authInfo);
@@ -380,12 +359,12 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(bugReportToFind.getProjectId())).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, null, null);
+        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, null, null, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -424,12 +403,12 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(projectIds.get(0))).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, projectIds, null, null, null, null);
+        var bugReports = bugReportService.getAllBugReports(pageable, projectIds, null, null, null, null, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -468,12 +447,12 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, null, title, null, null, null);
+        var bugReports = bugReportService.getAllBugReports(pageable, null, title, null, null, null, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -512,12 +491,12 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, null, null, reporterId, null, null);
+        var bugReports = bugReportService.getAllBugReports(pageable, null, null, reporterId, null, null, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -556,13 +535,13 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
-        when(bugReportSeverityRepository.findByName(severityName)).thenReturn(Optional.of(new BugReportSeverity(1L, severityName)));
+        when(dictionaryRegistry.findBugReportSeverity(severityName)).thenReturn(Optional.of(new BugReportSeverity(1L, severityName)));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, severityName, null);
+        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, severityName, null, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -601,13 +580,13 @@ class BugReportServiceTest {
         var userInfo = new UserInfo(1L, "John", "Doe");
         var project = getNewProjectWithAllFields();
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
         when(bugReportRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(bugReportToFind), pageable, 1));
-        when(bugReportStatusRepository.findByName(statusName)).thenReturn(Optional.of(new BugReportStatus(1L, statusName)));
+        when(dictionaryRegistry.findBugReportStatus(statusName)).thenReturn(Optional.of(new BugReportStatus(1L, statusName)));
 
         // when
-        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, null, statusName);
+        var bugReports = bugReportService.getAllBugReports(pageable, null, null, null, null, statusName, null);
         var bugReportResponse = bugReports.getContent().iterator().next();
 
         // then
@@ -643,12 +622,6 @@ class BugReportServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, BugReportEvent>>, BugReportEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("bug-reports", event),
-                        new RecordMetadata(new TopicPartition("bug-reports", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private BugReport getNewBugReportWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
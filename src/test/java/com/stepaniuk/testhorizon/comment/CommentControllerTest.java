@@ -253,7 +253,7 @@ class CommentControllerTest {
         var response = createCommentResponse(commentId);
         var pageable = PageRequest.of(0, 2);
 
-        when(commentService.getAllComments(pageable, null))
+        when(commentService.getAllComments(pageable, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/comments"))
@@ -289,7 +289,7 @@ class CommentControllerTest {
         var response = createCommentResponse(commentId);
         var pageable = PageRequest.of(0, 2);
 
-        when(commentService.getAllComments(pageable, authorId))
+        when(commentService.getAllComments(pageable, authorId, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/comments"))
@@ -327,7 +327,7 @@ class CommentControllerTest {
         var response = createCommentResponse(commentId);
         var pageable = PageRequest.of(0, 2);
 
-        when(commentService.getCommentsByEntity(pageable, entityId, entityType))
+        when(commentService.getCommentsByEntity(pageable, entityId, entityType, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/comments"))
@@ -364,7 +364,7 @@ class CommentControllerTest {
         EntityType entityType = EntityType.TEST;
         var pageable = PageRequest.of(0, 2);
 
-        when(commentService.getCommentsByEntity(pageable, entityId, entityType))
+        when(commentService.getCommentsByEntity(pageable, entityId, entityType, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(), pageable, 0),
                                 URI.create("/comments"))
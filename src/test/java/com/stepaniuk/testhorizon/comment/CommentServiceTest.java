@@ -4,7 +4,6 @@ import com.stepaniuk.testhorizon.comment.exceptions.CommentAuthorMismatchExcepti
 import com.stepaniuk.testhorizon.comment.exceptions.NoSuchCommentByIdException;
 import com.stepaniuk.testhorizon.event.comment.CommentCreatedEvent;
 import com.stepaniuk.testhorizon.event.comment.CommentDeletedEvent;
-import com.stepaniuk.testhorizon.event.comment.CommentEvent;
 import com.stepaniuk.testhorizon.event.comment.CommentUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.comment.CommentCreateRequest;
 import com.stepaniuk.testhorizon.payload.comment.CommentResponse;
@@ -12,13 +11,11 @@ import com.stepaniuk.testhorizon.payload.comment.CommentUpdateRequest;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
+import com.stepaniuk.testhorizon.shared.PagingQueries;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -26,15 +23,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -57,6 +53,9 @@ class CommentServiceTest {
     @MockitoBean
     private UserInfoService userInfoService;
 
+    @MockitoBean
+    private PagingQueries pagingQueries;
+
     @Test
     void shouldReturnCommentResponseWhenCreatingComment() {
         // given
@@ -67,12 +66,8 @@ class CommentServiceTest {
         when(userInfoService.getUserInfo(authorId)).thenReturn(userInfo);
         when(commentRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
         final var receivedEventWrapper = new CommentCreatedEvent[1];
-        when(
-                commentProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (CommentCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(commentProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (CommentCreatedEvent) event));
 
         // when
         CommentResponse commentResponse = commentService.createComment(commentCreateRequest, authorId, UUID.randomUUID().toString());
@@ -112,12 +107,8 @@ class CommentServiceTest {
         when(commentRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new CommentUpdatedEvent[1];
-        when(
-                commentProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (CommentUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(commentProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (CommentUpdatedEvent) event));
 
         CommentResponse commentResponse = commentService.updateComment(commentId, userId, commentUpdateRequest, UUID.randomUUID().toString(), authInfo);
 
@@ -203,12 +194,8 @@ class CommentServiceTest {
         // when
         when(commentRepository.findById(commentId)).thenReturn(java.util.Optional.of(comment));
         final var receivedEventWrapper = new CommentDeletedEvent[1];
-        when(
-                commentProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (CommentDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(commentProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (CommentDeletedEvent) event));
 
         // when
         commentService.deleteCommentById(commentId, UUID.randomUUID().toString(), authInfo);
@@ -259,10 +246,10 @@ class CommentServiceTest {
         var pageable = PageRequest.of(0, 2);
 
         when(commentRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(commentToFind), pageable, 1));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
 
         // when
-        var comments = commentService.getAllComments(pageable, null);
+        var comments = commentService.getAllComments(pageable, null, null, null);
         var comment = comments.getContent().iterator().next();
 
         // then
@@ -295,10 +282,10 @@ class CommentServiceTest {
         var pageable = PageRequest.of(0, 2);
 
         when(commentRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(commentToFind), pageable, 1));
-        when(userInfoService.getUserInfo(authorId)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(authorId, userInfo));
 
         // when
-        var comments = commentService.getAllComments(pageable, authorId);
+        var comments = commentService.getAllComments(pageable, authorId, null, null);
         var comment = comments.getContent().iterator().next();
 
         // then
@@ -332,10 +319,10 @@ class CommentServiceTest {
         var pageable = PageRequest.of(0, 2);
 
         when(commentRepository.findByEntityTypeAndEntityId(pageable, entityType, entityId)).thenReturn(new PageImpl<>(List.of(commentToFind), pageable, 1));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
 
         // when
-        var comments = commentService.getCommentsByEntity(pageable, entityId, entityType);
+        var comments = commentService.getCommentsByEntity(pageable, entityId, entityType, null, null);
         var comment = comments.getContent().iterator().next();
 
         // then
@@ -369,7 +356,7 @@ class CommentServiceTest {
         when(commentRepository.findByEntityTypeAndEntityId(pageable, entityType, entityId)).thenReturn(new PageImpl<>(List.of(), pageable, 0));
 
         // when
-        var comments = commentService.getCommentsByEntity(pageable, entityId, entityType);
+        var comments = commentService.getCommentsByEntity(pageable, entityId, entityType, null, null);
 
         // then
         assertNotNull(comments);
@@ -385,12 +372,6 @@ class CommentServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, CommentEvent>>, CommentEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("comments", event),
-                        new RecordMetadata(new TopicPartition("comments", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Comment getNewCommentWithAllFields(Long id) {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -5,16 +5,22 @@ import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.security.config.JwtAuthFilter;
 import com.stepaniuk.testhorizon.testspecific.ControllerLevelUnitTest;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ControllerLevelUnitTest(controllers = ExportController.class)
 @AutoConfigureMockMvc(addFilters = false)
@@ -22,6 +28,9 @@ class ExportControllerTest {
     @MockitoBean
     private EntityExportService entityExportService;
 
+    @MockitoBean
+    private ProjectBundleExportService projectBundleExportService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -98,4 +107,59 @@ class ExportControllerTest {
         verify(entityExportService).exportCsv(EntityType.PROJECT, 1L);
     }
 
+    @Test
+    void shouldStreamCsvWhenExportingProjectBundle() throws Exception {
+        // given
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(2);
+            outputStream.write("Project\n1,title".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(projectBundleExportService).exportBundle(eq(1L), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        // when
+        var mvcResult = mockMvc.perform(get("/export/projects/1/bundle")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=project_1_bundle.csv"))
+                .andExpect(content().string("Project\n1,title"));
+
+        verify(projectBundleExportService).checkProjectExists(1L);
+    }
+
+    @Test
+    void shouldReturnGzipContentTypeWhenExportingProjectBundleWithGzip() throws Exception {
+        // given
+        // when
+        var mvcResult = mockMvc.perform(get("/export/projects/1/bundle")
+                        .param("format", "XML")
+                        .param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/gzip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=project_1_bundle.xml.gz"));
+
+        verify(projectBundleExportService).exportBundle(eq(1L), eq(ExportFormat.XML), any(OutputStream.class));
+    }
+
+    @Test
+    void shouldReturn404WhenExportingBundleOfNonExistingProject() throws Exception {
+        // given
+        doThrow(new NoSuchProjectByIdException(1L))
+                .when(projectBundleExportService).checkProjectExists(1L);
+
+        // when & then
+        mockMvc.perform(get("/export/projects/1/bundle").param("format", "CSV"))
+                .andExpect(status().isNotFound());
+
+        verify(projectBundleExportService, never()).exportBundle(any(), any(), any());
+    }
 }
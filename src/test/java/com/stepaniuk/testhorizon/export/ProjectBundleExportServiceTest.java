@@ -0,0 +1,119 @@
+package com.stepaniuk.testhorizon.export;
+
+import com.stepaniuk.testhorizon.bugreport.BugReportService;
+import com.stepaniuk.testhorizon.export.handler.BugReportExportHandler;
+import com.stepaniuk.testhorizon.export.handler.TestCaseExportHandler;
+import com.stepaniuk.testhorizon.export.handler.TestExportHandler;
+import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
+import com.stepaniuk.testhorizon.test.TestService;
+import com.stepaniuk.testhorizon.testcase.TestCaseService;
+import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JpaLevelTest
+@Import({ProjectBundleExportService.class, TestCaseExportHandler.class, TestExportHandler.class,
+        BugReportExportHandler.class})
+@Sql(scripts = {
+        "classpath:sql/project/project_statuses.sql",
+        "classpath:sql/project/projects.sql",
+        "classpath:sql/testcase/test_case_priorities.sql",
+        "classpath:sql/testcase/testcases.sql",
+        "classpath:sql/test/test_types.sql",
+        "classpath:sql/test/tests.sql",
+        "classpath:sql/bugreport/bugreport_severities.sql",
+        "classpath:sql/bugreport/bugreport_statuses.sql",
+        "classpath:sql/bugreport/bugreports.sql"
+})
+class ProjectBundleExportServiceTest {
+
+    @Autowired
+    private ProjectBundleExportService projectBundleExportService;
+
+    @MockitoBean
+    private TestCaseService testCaseService;
+
+    @MockitoBean
+    private TestService testService;
+
+    @MockitoBean
+    private BugReportService bugReportService;
+
+    @Test
+    void shouldWriteAllSectionsWhenExportingCsvBundle() throws Exception {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when
+        projectBundleExportService.exportBundle(1L, ExportFormat.CSV, outputStream);
+
+        // then
+        var csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.contains("1,Project title,Project description,Instructions,github.com"));
+        assertTrue(csv.contains("Test case title"));
+        assertTrue(csv.contains("Step 1;Step 2"));
+        assertTrue(csv.contains("Test title"));
+        assertTrue(csv.contains("Bug report title"));
+        assertTrue(csv.contains("\nTestCases\n"));
+        assertTrue(csv.contains("\nTests\n"));
+        assertTrue(csv.contains("\nBugReports\n"));
+    }
+
+    @Test
+    void shouldWriteOnlyRequestedEntityTypeAndReportProgress() throws Exception {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+        var progress = new AtomicLong();
+
+        // when
+        projectBundleExportService.export(EntityType.TEST, 1L, ExportFormat.CSV, outputStream, progress::set);
+
+        // then
+        var csv = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("Id,ProjectId,TestCaseId,Title"));
+        assertTrue(csv.contains("Test title"));
+        assertFalse(csv.contains("Bug report title"));
+        assertEquals(1, progress.get());
+    }
+
+    @Test
+    void shouldWriteAllSectionsWhenExportingXmlBundle() throws Exception {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when
+        projectBundleExportService.exportBundle(1L, ExportFormat.XML, outputStream);
+
+        // then
+        var xml = outputStream.toString(StandardCharsets.UTF_8);
+        assertTrue(xml.startsWith("<?xml"));
+        assertTrue(xml.contains("<title>Project title</title>"));
+        assertTrue(xml.contains("<step>Step 1</step><step>Step 2</step>"));
+        assertTrue(xml.contains("<title>Test title</title>"));
+        assertTrue(xml.contains("<title>Bug report title</title>"));
+        assertTrue(xml.trim().endsWith("</project>"));
+    }
+
+    @Test
+    void shouldThrowNoSuchProjectByIdExceptionWhenExportingBundleOfNonExistingProject() {
+        // given
+        var outputStream = new ByteArrayOutputStream();
+
+        // when & then
+        assertThrows(NoSuchProjectByIdException.class,
+                () -> projectBundleExportService.exportBundle(100L, ExportFormat.CSV, outputStream));
+        assertThrows(NoSuchProjectByIdException.class,
+                () -> projectBundleExportService.checkProjectExists(100L));
+    }
+}
@@ -1,5 +1,6 @@
 package com.stepaniuk.testhorizon.export.handler;
 
+import com.stepaniuk.testhorizon.bugreport.BugReportRepository;
 import com.stepaniuk.testhorizon.bugreport.BugReportService;
 import com.stepaniuk.testhorizon.payload.bugreport.BugReportResponse;
 import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
@@ -25,11 +26,14 @@ class BugReportExportHandlerTest {
     @Mock
     private BugReportService bugReportService;
 
+    @Mock
+    private BugReportRepository bugReportRepository;
+
     private BugReportExportHandler bugReportExportHandler;
 
     @BeforeEach
     void setUp() {
-        bugReportExportHandler = new BugReportExportHandler(bugReportService);
+        bugReportExportHandler = new BugReportExportHandler(bugReportService, bugReportRepository);
     }
 
     @Test
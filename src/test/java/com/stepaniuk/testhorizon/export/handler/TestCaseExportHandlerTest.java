@@ -3,7 +3,10 @@ package com.stepaniuk.testhorizon.export.handler;
 import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.testcase.TestCaseResponse;
+import com.stepaniuk.testhorizon.testcase.TestCase;
+import com.stepaniuk.testhorizon.testcase.TestCaseRepository;
 import com.stepaniuk.testhorizon.testcase.TestCaseService;
+import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,12 +28,15 @@ class TestCaseExportHandlerTest {
     @Mock
     private TestCaseService testCaseService;
 
+    @Mock
+    private TestCaseRepository testCaseRepository;
+
     private TestCaseExportHandler testCaseExportHandler;
 
     @BeforeEach
     void setUp() {
         // Створюємо handler, передаючи мок-сервіс
-        testCaseExportHandler = new TestCaseExportHandler(testCaseService);
+        testCaseExportHandler = new TestCaseExportHandler(testCaseService, testCaseRepository);
     }
 
     @Test
@@ -126,4 +132,18 @@ class TestCaseExportHandlerTest {
         assertTrue(xml.contains("<step>Step 2</step>"));
         assertTrue(xml.contains("<priority>HIGH</priority>"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void toCsvRowShouldReturnEntityRowMatchingHeader() {
+        // given
+        var testCase = new TestCase(5L, 1L, 2L, "MyTitle", "Desc", "preconditions", "inputData",
+                List.of("Step 1", "Step 2"), new TestCasePriority(1L, TestCasePriorityName.HIGH), Instant.now(), Instant.now());
+
+        // when
+        String row = testCaseExportHandler.toCsvRow(testCase);
+
+        // then
+        assertEquals(testCaseExportHandler.getCsvHeader().split(",").length, row.split(",").length);
+        assertEquals("5,1,MyTitle,Desc,preconditions,inputData,Step 1;Step 2,HIGH", row);
+    }
+}
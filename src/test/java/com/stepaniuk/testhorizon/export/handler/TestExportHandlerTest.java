@@ -4,6 +4,7 @@ import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
 import com.stepaniuk.testhorizon.payload.info.TestCaseInfo;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.test.TestResponse;
+import com.stepaniuk.testhorizon.test.TestRepository;
 import com.stepaniuk.testhorizon.test.TestService;
 import com.stepaniuk.testhorizon.types.entity.EntityType;
 import com.stepaniuk.testhorizon.types.test.TestTypeName;
@@ -25,11 +26,14 @@ class TestExportHandlerTest {
     @Mock
     private TestService testService;
 
+    @Mock
+    private TestRepository testRepository;
+
     private TestExportHandler testExportHandler;
 
     @BeforeEach
     void setUp() {
-        testExportHandler = new TestExportHandler(testService);
+        testExportHandler = new TestExportHandler(testService, testRepository);
     }
 
     @Test
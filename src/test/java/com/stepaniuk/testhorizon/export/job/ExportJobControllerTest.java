@@ -0,0 +1,122 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.export.job.exceptions.ExportJobQueueFullException;
+import com.stepaniuk.testhorizon.export.job.exceptions.NoSuchExportJobByIdException;
+import com.stepaniuk.testhorizon.payload.export.ExportJobResponse;
+import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.security.config.JwtAuthFilter;
+import com.stepaniuk.testhorizon.testspecific.ControllerLevelUnitTest;
+import com.stepaniuk.testhorizon.testspecific.jwt.WithJwtToken;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.hateoas.Link;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ControllerLevelUnitTest(controllers = ExportJobController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ExportJobControllerTest {
+
+    private static final UUID JOB_ID = UUID.fromString("8a4b1c7e-4f5d-4b39-9c77-0f3f1e2d9a10");
+
+    @MockitoBean
+    private ExportJobService exportJobService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtAuthFilter jwtAuthFilter;
+
+    @Test
+    @WithJwtToken(userId = 1L)
+    void shouldReturnAcceptedJobWhenCreatingExportJob() throws Exception {
+        // given
+        var response = getResponse(ExportJobStatus.QUEUED);
+        when(exportJobService.createExportJob(eq(EntityType.TEST_CASE), eq(1L), eq(ExportFormat.CSV), eq(1L), any()))
+                .thenReturn(response);
+
+        // when & then
+        mockMvc.perform(post("/export-jobs")
+                        .param("entityType", "TEST_CASE")
+                        .param("projectId", "1")
+                        .param("format", "CSV"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is(JOB_ID.toString())))
+                .andExpect(jsonPath("$.status", is("QUEUED")))
+                .andExpect(jsonPath("$._links.self.href", is("http://localhost/export-jobs/" + JOB_ID)));
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @WithJwtToken(userId = 1L)
+    void shouldReturnServiceUnavailableWhenExportJobQueueIsFull() throws Exception {
+        // given
+        when(exportJobService.createExportJob(any(), any(), any(), any(), any()))
+                .thenThrow(new ExportJobQueueFullException(50));
+
+        // when & then
+        mockMvc.perform(post("/export-jobs")
+                        .param("entityType", "TEST_CASE")
+                        .param("projectId", "1")
+                        .param("format", "CSV"))
+                .andExpect(status().isServiceUnavailable());
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @WithJwtToken(userId = 1L)
+    void shouldReturnExportJobWhenGettingById() throws Exception {
+        // given
+        var response = getResponse(ExportJobStatus.RUNNING);
+        when(exportJobService.getExportJob(eq(JOB_ID), any(AuthInfo.class))).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get("/export-jobs/" + JOB_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("RUNNING")))
+                .andExpect(jsonPath("$.processedRows", is(0)));
+
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @WithJwtToken(userId = 1L)
+    void shouldReturnNotFoundWhenGettingNonExistingExportJob() throws Exception {
+        // given
+        when(exportJobService.getExportJob(eq(JOB_ID), any(AuthInfo.class)))
+                .thenThrow(new NoSuchExportJobByIdException(JOB_ID));
+
+        // when & then
+        mockMvc.perform(get("/export-jobs/" + JOB_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.title", is("No such export job")));
+
+        SecurityContextHolder.clearContext();
+    }
+
+    private ExportJobResponse getResponse(ExportJobStatus status) {
+        var response = new ExportJobResponse(JOB_ID, EntityType.TEST_CASE, 1L, ExportFormat.CSV, status, 0L,
+                null, null, Instant.now(), Instant.now());
+        response.add(Link.of("/export-jobs/" + JOB_ID).withSelfRel());
+        return response;
+    }
+}
@@ -0,0 +1,148 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.stepaniuk.testhorizon.aws.s3.S3Service;
+import com.stepaniuk.testhorizon.bugreport.BugReportService;
+import com.stepaniuk.testhorizon.event.export.ExportJobCompletedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobProgressEvent;
+import com.stepaniuk.testhorizon.export.ProjectBundleExportService;
+import com.stepaniuk.testhorizon.export.handler.BugReportExportHandler;
+import com.stepaniuk.testhorizon.export.handler.TestCaseExportHandler;
+import com.stepaniuk.testhorizon.export.handler.TestExportHandler;
+import com.stepaniuk.testhorizon.outbox.Outbox;
+import com.stepaniuk.testhorizon.outbox.OutboxEvent;
+import com.stepaniuk.testhorizon.outbox.OutboxEventRepository;
+import com.stepaniuk.testhorizon.test.TestService;
+import com.stepaniuk.testhorizon.testcase.TestCaseService;
+import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs a whole job against Postgres without a surrounding test transaction, the way a worker thread runs it, so
+ * the progress writes really happen next to the read-only transaction of the export.
+ */
+@JpaLevelTest
+@Import({ExportJobRunner.class, ExportJobProducer.class, Outbox.class, ProjectBundleExportService.class,
+        TestCaseExportHandler.class, TestExportHandler.class, BugReportExportHandler.class,
+        ExportJobRunnerIntegrationTest.ObjectMapperConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = {
+        "classpath:sql/project/project_statuses.sql",
+        "classpath:sql/project/projects.sql",
+        "classpath:sql/testcase/test_case_priorities.sql",
+        "classpath:sql/testcase/testcases.sql",
+        "classpath:sql/test/test_types.sql",
+        "classpath:sql/export/tests_bulk.sql"
+})
+@Sql(scripts = "classpath:sql/export/cleanup.sql", executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+class ExportJobRunnerIntegrationTest {
+
+    @Autowired
+    private ExportJobRunner exportJobRunner;
+
+    @Autowired
+    private ExportJobRepository exportJobRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private TestCaseService testCaseService;
+
+    @MockitoBean
+    private TestService testService;
+
+    @MockitoBean
+    private BugReportService bugReportService;
+
+    @Test
+    void shouldStoreProgressAndItsEventsWhileExportReadsInReadOnlyTransaction() throws IOException {
+        // given
+        var exportJob = new ExportJob();
+        exportJob.setOwnerId(1L);
+        exportJob.setEntityType(EntityType.TEST);
+        exportJob.setProjectId(1L);
+        exportJob.setFormat(ExportFormat.CSV);
+        exportJob.setStatus(ExportJobStatus.QUEUED);
+        exportJob.setProcessedRows(0L);
+        var jobId = exportJobRepository.save(exportJob).getId();
+
+        when(s3Service.uploadObject(anyString(), any(Path.class), eq("text/csv"))).thenReturn("http://s3/export.csv");
+
+        // when
+        exportJobRunner.run(jobId, "correlation");
+
+        // then
+        var finishedJob = exportJobRepository.findById(jobId).orElseThrow();
+        assertEquals(ExportJobStatus.COMPLETED, finishedJob.getStatus());
+        assertEquals(2500L, finishedJob.getProcessedRows());
+        assertNull(finishedJob.getErrorMessage());
+
+        List<String> eventClasses = outboxEventRepository.findAll().stream()
+                .filter(outboxEvent -> outboxEvent.getTopic().equals("export-jobs"))
+                .map(OutboxEvent::getEventClass)
+                .toList();
+        // 0, 1000 and 2000 rows
+        assertEquals(3, eventClasses.stream().filter(ExportJobProgressEvent.class.getName()::equals).count());
+        assertEquals(1, eventClasses.stream().filter(ExportJobCompletedEvent.class.getName()::equals).count());
+    }
+
+    @Test
+    void shouldLeaveJobFailedWhileQueuedUntouched() {
+        // given
+        var exportJob = new ExportJob();
+        exportJob.setOwnerId(1L);
+        exportJob.setEntityType(EntityType.TEST);
+        exportJob.setProjectId(1L);
+        exportJob.setFormat(ExportFormat.CSV);
+        exportJob.setStatus(ExportJobStatus.FAILED);
+        exportJob.setProcessedRows(0L);
+        exportJob.setErrorMessage(StaleExportJobSweeper.ERROR_MESSAGE);
+        var jobId = exportJobRepository.save(exportJob).getId();
+
+        // when
+        exportJobRunner.run(jobId, "correlation");
+
+        // then
+        var job = exportJobRepository.findById(jobId).orElseThrow();
+        assertEquals(ExportJobStatus.FAILED, job.getStatus());
+        assertEquals(StaleExportJobSweeper.ERROR_MESSAGE, job.getErrorMessage());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @TestConfiguration
+    static class ObjectMapperConfig {
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder()
+                    .findAndAddModules()
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.aws.s3.S3Service;
+import com.stepaniuk.testhorizon.event.export.ExportJobCompletedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobFailedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobProgressEvent;
+import com.stepaniuk.testhorizon.export.ProjectBundleExportService;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {ExportJobRunner.class})
+class ExportJobRunnerTest {
+
+    private static final UUID JOB_ID = UUID.fromString("8a4b1c7e-4f5d-4b39-9c77-0f3f1e2d9a10");
+
+    @Autowired
+    private ExportJobRunner exportJobRunner;
+
+    @MockitoBean
+    private ExportJobRepository exportJobRepository;
+
+    @MockitoBean
+    private ProjectBundleExportService projectBundleExportService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private ExportJobProducer exportJobProducer;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldUploadExportAndCompleteJob() throws IOException {
+        // given
+        var exportJob = getNewQueuedExportJob();
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(exportJobRepository.claim(eq(JOB_ID), any(Instant.class))).thenReturn(1);
+        when(exportJobRepository.complete(eq(JOB_ID), anyLong(), anyString(), anyString(), any(Instant.class))).thenReturn(1);
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(3);
+            LongConsumer progressListener = invocation.getArgument(4);
+            outputStream.write("Id,ProjectId\n1,1\n".getBytes(StandardCharsets.UTF_8));
+            progressListener.accept(1L);
+            return null;
+        }).when(projectBundleExportService).export(eq(EntityType.TEST), eq(1L), eq(ExportFormat.CSV), any(), any());
+
+        var uploadedContent = new String[1];
+        when(s3Service.uploadObject(anyString(), any(Path.class), eq("text/csv"))).thenAnswer(invocation -> {
+            uploadedContent[0] = Files.readString(invocation.getArgument(1));
+            return "http://s3/bucket/" + invocation.getArgument(0);
+        });
+
+        // when
+        exportJobRunner.run(JOB_ID, "correlation");
+
+        // then
+        String downloadUrl = "http://s3/bucket/exports/" + JOB_ID + "/test_1.csv";
+        verify(exportJobRepository).complete(eq(JOB_ID), eq(1L), eq("exports/" + JOB_ID + "/test_1.csv"),
+                eq(downloadUrl), any(Instant.class));
+        assertEquals("Id,ProjectId\n1,1\n", uploadedContent[0]);
+
+        var captor = ArgumentCaptor.forClass(ExportJobEvent.class);
+        verify(exportJobProducer, times(2)).send(captor.capture());
+        var completedEvent = assertInstanceOf(ExportJobCompletedEvent.class, captor.getAllValues().get(1));
+        assertEquals(downloadUrl, completedEvent.getDownloadUrl());
+        assertEquals(2L, completedEvent.getOwnerId());
+    }
+
+    @Test
+    void shouldWriteProgressAndItsEventInNewTransaction() throws IOException {
+        // given
+        var exportJob = getNewQueuedExportJob();
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(exportJobRepository.claim(eq(JOB_ID), any(Instant.class))).thenReturn(1);
+        when(exportJobRepository.updateProcessedRows(eq(JOB_ID), eq(1000L), any(Instant.class))).thenReturn(1);
+        doAnswer(invocation -> {
+            LongConsumer progressListener = invocation.getArgument(4);
+            progressListener.accept(1000L);
+            return null;
+        }).when(projectBundleExportService).export(any(), any(), any(), any(), any());
+        when(s3Service.uploadObject(anyString(), any(Path.class), anyString())).thenReturn("http://s3/bucket/file");
+
+        // when
+        exportJobRunner.run(JOB_ID, "correlation");
+
+        // then
+        var inOrder = inOrder(transactionManager, exportJobRepository, exportJobProducer);
+        inOrder.verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        inOrder.verify(exportJobRepository).updateProcessedRows(eq(JOB_ID), eq(1000L), any());
+        inOrder.verify(exportJobProducer).send(argThat(event -> event instanceof ExportJobProgressEvent progressEvent
+                && progressEvent.getProcessedRows() == 1000L));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldMarkJobAsFailedWhenExportThrows() throws IOException {
+        // given
+        var exportJob = getNewQueuedExportJob();
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(exportJobRepository.claim(eq(JOB_ID), any(Instant.class))).thenReturn(1);
+        when(exportJobRepository.fail(eq(JOB_ID), anyLong(), anyString(), any(Instant.class))).thenReturn(1);
+        doThrow(new IOException("disk full"))
+                .when(projectBundleExportService).export(any(), any(), any(), any(), any());
+
+        // when
+        exportJobRunner.run(JOB_ID, "correlation");
+
+        // then
+        verify(exportJobRepository).fail(eq(JOB_ID), eq(0L), eq("disk full"), any(Instant.class));
+        verify(s3Service, never()).uploadObject(anyString(), any(), anyString());
+
+        var captor = ArgumentCaptor.forClass(ExportJobEvent.class);
+        verify(exportJobProducer, times(2)).send(captor.capture());
+        assertInstanceOf(ExportJobFailedEvent.class, captor.getAllValues().get(1));
+    }
+
+    @Test
+    void shouldSkipJobThatIsNoLongerQueued() throws IOException {
+        // given
+        var exportJob = getNewQueuedExportJob();
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(exportJobRepository.claim(eq(JOB_ID), any(Instant.class))).thenReturn(0);
+        exportJobRunner.track(JOB_ID);
+
+        // when
+        exportJobRunner.run(JOB_ID, "correlation");
+
+        // then
+        verifyNoInteractions(projectBundleExportService, s3Service, exportJobProducer);
+        verify(exportJobRepository, never()).complete(any(), any(), any(), any(), any());
+        verify(exportJobRepository, never()).fail(any(), any(), any(), any());
+        assertTrue(exportJobRunner.trackedJobs().isEmpty());
+    }
+
+    @Test
+    void shouldNotReportOutcomeOfJobFailedMeanwhile() throws IOException {
+        // given
+        var exportJob = getNewQueuedExportJob();
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(exportJobRepository.claim(eq(JOB_ID), any(Instant.class))).thenReturn(1);
+        when(exportJobRepository.complete(eq(JOB_ID), anyLong(), anyString(), anyString(), any(Instant.class))).thenReturn(0);
+        when(s3Service.uploadObject(anyString(), any(Path.class), anyString())).thenReturn("http://s3/bucket/file");
+
+        // when
+        exportJobRunner.run(JOB_ID, "correlation");
+
+        // then
+        verify(exportJobProducer, never()).send(any(ExportJobCompletedEvent.class));
+    }
+
+    private ExportJob getNewQueuedExportJob() {
+        var exportJob = new ExportJob();
+        exportJob.setId(JOB_ID);
+        exportJob.setOwnerId(2L);
+        exportJob.setEntityType(EntityType.TEST);
+        exportJob.setProjectId(1L);
+        exportJob.setFormat(ExportFormat.CSV);
+        exportJob.setStatus(ExportJobStatus.QUEUED);
+        exportJob.setProcessedRows(0L);
+        return exportJob;
+    }
+}
@@ -0,0 +1,164 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.aws.s3.S3Service;
+import com.stepaniuk.testhorizon.export.ProjectBundleExportService;
+import com.stepaniuk.testhorizon.export.job.exceptions.ExportJobQueueFullException;
+import com.stepaniuk.testhorizon.export.job.exceptions.NoSuchExportJobByIdException;
+import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
+import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer1;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.answer;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {ExportJobService.class, ExportJobMapperImpl.class})
+class ExportJobServiceTest {
+
+    private static final UUID JOB_ID = UUID.fromString("8a4b1c7e-4f5d-4b39-9c77-0f3f1e2d9a10");
+
+    @Autowired
+    private ExportJobService exportJobService;
+
+    @MockitoBean
+    private ExportJobRepository exportJobRepository;
+
+    @MockitoBean
+    private ExportJobRunner exportJobRunner;
+
+    @MockitoBean
+    private ProjectBundleExportService projectBundleExportService;
+
+    @MockitoBean
+    private S3Service s3Service;
+
+    @MockitoBean
+    private ThreadPoolTaskExecutor exportJobExecutor;
+
+    @Test
+    void shouldSaveQueuedJobAndSubmitItToWorkerPool() {
+        // given
+        when(exportJobRepository.save(any())).thenAnswer(answer(getFakeSave(JOB_ID)));
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(exportJobExecutor).execute(any(Runnable.class));
+
+        // when
+        var exportJobResponse = exportJobService.createExportJob(EntityType.TEST_CASE, 1L, ExportFormat.CSV,
+                2L, "correlation");
+
+        // then
+        assertNotNull(exportJobResponse);
+        assertEquals(JOB_ID, exportJobResponse.getId());
+        assertEquals(EntityType.TEST_CASE, exportJobResponse.getEntityType());
+        assertEquals(ExportFormat.CSV, exportJobResponse.getFormat());
+        assertEquals(ExportJobStatus.QUEUED, exportJobResponse.getStatus());
+        assertEquals(0L, exportJobResponse.getProcessedRows());
+        assertTrue(exportJobResponse.hasLink("self"));
+
+        var captor = ArgumentCaptor.forClass(ExportJob.class);
+        verify(exportJobRepository).save(captor.capture());
+        assertEquals(2L, captor.getValue().getOwnerId());
+        var inOrder = inOrder(exportJobRunner);
+        inOrder.verify(exportJobRunner).track(JOB_ID);
+        inOrder.verify(exportJobRunner).run(JOB_ID, "correlation");
+    }
+
+    @Test
+    void shouldThrowNoSuchProjectByIdExceptionWhenCreatingJobForNonExistingProject() {
+        // given
+        doThrow(new NoSuchProjectByIdException(1L)).when(projectBundleExportService).checkProjectExists(1L);
+
+        // when & then
+        assertThrows(NoSuchProjectByIdException.class,
+                () -> exportJobService.createExportJob(EntityType.TEST, 1L, ExportFormat.XML, 2L, "correlation"));
+        verifyNoInteractions(exportJobRepository, exportJobExecutor);
+    }
+
+    @Test
+    void shouldDeleteJobAndThrowExportJobQueueFullExceptionWhenPoolRejectsJob() {
+        // given
+        when(exportJobRepository.save(any())).thenAnswer(answer(getFakeSave(JOB_ID)));
+        doThrow(new TaskRejectedException("full")).when(exportJobExecutor).execute(any(Runnable.class));
+
+        // when & then
+        assertThrows(ExportJobQueueFullException.class,
+                () -> exportJobService.createExportJob(EntityType.TEST, 1L, ExportFormat.XML, 2L, "correlation"));
+        verify(exportJobRepository).delete(any(ExportJob.class));
+        verify(exportJobRunner).untrack(JOB_ID);
+        verify(exportJobRunner, never()).run(any(), anyString());
+    }
+
+    @Test
+    void shouldReturnExportJobResponseWhenGettingOwnJob() {
+        // given
+        var exportJob = getNewExportJobWithAllFields();
+        var presignedUrl = "http://s3/bucket/exports/" + JOB_ID + "/bug_report_1.csv?X-Amz-Signature=fresh";
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(exportJob));
+        when(s3Service.createDownloadUrl(exportJob.getFileKey())).thenReturn(presignedUrl);
+
+        // when
+        var exportJobResponse = exportJobService.getExportJob(JOB_ID, new AuthInfo(2L, List.of()));
+
+        // then
+        assertEquals(ExportJobStatus.COMPLETED, exportJobResponse.getStatus());
+        assertEquals(presignedUrl, exportJobResponse.getDownloadUrl());
+        assertTrue(exportJobResponse.hasLink("download"));
+    }
+
+    @Test
+    void shouldThrowAccessToManageEntityDeniedExceptionWhenGettingJobOfOtherUser() {
+        // given
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.of(getNewExportJobWithAllFields()));
+        var authInfo = new AuthInfo(3L, List.of());
+
+        // when & then
+        assertThrows(AccessToManageEntityDeniedException.class, () -> exportJobService.getExportJob(JOB_ID, authInfo));
+    }
+
+    @Test
+    void shouldThrowNoSuchExportJobByIdExceptionWhenGettingNonExistingJob() {
+        // given
+        when(exportJobRepository.findById(JOB_ID)).thenReturn(Optional.empty());
+        var authInfo = new AuthInfo(2L, List.of());
+
+        // when & then
+        assertThrows(NoSuchExportJobByIdException.class, () -> exportJobService.getExportJob(JOB_ID, authInfo));
+    }
+
+    private Answer1<ExportJob, ExportJob> getFakeSave(UUID id) {
+        return exportJob -> {
+            exportJob.setId(id);
+            exportJob.setCreatedAt(Instant.now());
+            exportJob.setUpdatedAt(Instant.now());
+            return exportJob;
+        };
+    }
+
+    private ExportJob getNewExportJobWithAllFields() {
+        return new ExportJob(JOB_ID, 2L, EntityType.BUG_REPORT, 1L, ExportFormat.CSV, ExportJobStatus.COMPLETED,
+                10L, "exports/" + JOB_ID + "/bug_report_1.csv", "http://s3/bucket/exports/" + JOB_ID + "/bug_report_1.csv",
+                null, Instant.now(), Instant.now());
+    }
+}
@@ -0,0 +1,130 @@
+package com.stepaniuk.testhorizon.export.job;
+
+import com.stepaniuk.testhorizon.event.export.ExportJobFailedEvent;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.export.ExportFormat;
+import com.stepaniuk.testhorizon.types.export.ExportJobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {StaleExportJobSweeper.class})
+class StaleExportJobSweeperTest {
+
+    private static final UUID JOB_ID = UUID.fromString("2d0c7a51-61b8-4c4e-9f0e-5a2b8e1c3d47");
+
+    @Autowired
+    private StaleExportJobSweeper staleExportJobSweeper;
+
+    @MockitoBean
+    private ExportJobRepository exportJobRepository;
+
+    @MockitoBean
+    private ExportJobProducer exportJobProducer;
+
+    @MockitoBean
+    private ExportJobRunner exportJobRunner;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldFailStaleJobAndSendFailedEvent() {
+        // given
+        var exportJob = getStaleRunningExportJob();
+        when(exportJobRepository.findAllByStatusInAndUpdatedAtBefore(anyCollection(), any(Instant.class)))
+                .thenReturn(List.of(exportJob));
+        when(exportJobRepository.failIfStale(eq(JOB_ID), anyCollection(), any(Instant.class), anyString(), any(Instant.class)))
+                .thenReturn(1);
+
+        // when
+        staleExportJobSweeper.failStaleJobs();
+
+        // then
+        verify(exportJobProducer).send(assertArg(event -> {
+            var failedEvent = (ExportJobFailedEvent) event;
+            assertEquals(JOB_ID, failedEvent.getJobId());
+            assertEquals(1L, failedEvent.getOwnerId());
+            assertEquals(500L, failedEvent.getProcessedRows());
+            assertEquals(StaleExportJobSweeper.ERROR_MESSAGE, failedEvent.getErrorMessage());
+        }));
+    }
+
+    @Test
+    void shouldNotSendEventWhenJobMadeProgressMeanwhile() {
+        // given
+        when(exportJobRepository.findAllByStatusInAndUpdatedAtBefore(anyCollection(), any(Instant.class)))
+                .thenReturn(List.of(getStaleRunningExportJob()));
+        when(exportJobRepository.failIfStale(eq(JOB_ID), anyCollection(), any(Instant.class), anyString(), any(Instant.class)))
+                .thenReturn(0);
+
+        // when
+        staleExportJobSweeper.failStaleJobs();
+
+        // then
+        verifyNoInteractions(exportJobProducer);
+    }
+
+    @Test
+    void shouldHeartbeatJobsHeldByThisInstanceBeforeLookingForStaleOnes() {
+        // given
+        var queuedJobId = UUID.fromString("7e3d2c1b-0a9f-4e8d-b7c6-5a4f3e2d1c0b");
+        when(exportJobRunner.trackedJobs()).thenReturn(Set.of(queuedJobId));
+
+        // when
+        staleExportJobSweeper.failStaleJobs();
+
+        // then
+        var inOrder = inOrder(exportJobRepository);
+        inOrder.verify(exportJobRepository).heartbeat(eq(List.of(queuedJobId)),
+                eq(List.of(ExportJobStatus.QUEUED, ExportJobStatus.RUNNING)), any(Instant.class));
+        inOrder.verify(exportJobRepository).findAllByStatusInAndUpdatedAtBefore(anyCollection(), any(Instant.class));
+        verifyNoInteractions(exportJobProducer);
+    }
+
+    @Test
+    void shouldNotHeartbeatWhenThisInstanceHoldsNoJobs() {
+        // when
+        staleExportJobSweeper.failStaleJobs();
+
+        // then
+        verify(exportJobRepository, never()).heartbeat(any(), any(), any());
+    }
+
+    private static ExportJob getStaleRunningExportJob() {
+        var exportJob = new ExportJob();
+        exportJob.setId(JOB_ID);
+        exportJob.setOwnerId(1L);
+        exportJob.setEntityType(EntityType.PROJECT);
+        exportJob.setProjectId(1L);
+        exportJob.setFormat(ExportFormat.CSV);
+        exportJob.setStatus(ExportJobStatus.RUNNING);
+        exportJob.setProcessedRows(500L);
+        exportJob.setUpdatedAt(Instant.parse("2024-11-25T17:28:19Z"));
+        return exportJob;
+    }
+}
@@ -224,7 +224,7 @@ class FeedbackControllerTest {
         var pageable = PageRequest.of(0, 10);
 
         // when
-        when(feedbackService.getAllFeedbacks(eq(pageable), isNull(), isNull()))
+        when(feedbackService.getAllFeedbacks(eq(pageable), isNull(), isNull(), isNull()))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/feedbacks"))
@@ -258,7 +258,7 @@ class FeedbackControllerTest {
         Long ownerId = 1L;
 
         // when
-        when(feedbackService.getAllFeedbacks(eq(pageable), eq(ownerId), isNull()))
+        when(feedbackService.getAllFeedbacks(eq(pageable), eq(ownerId), isNull(), isNull()))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/feedbacks"))
@@ -288,7 +288,7 @@ class FeedbackControllerTest {
         List<Long> feedbackIds = List.of(1L);
 
         // when
-        when(feedbackService.getAllFeedbacks(eq(pageable), isNull(), eq(feedbackIds)))
+        when(feedbackService.getAllFeedbacks(eq(pageable), isNull(), eq(feedbackIds), isNull()))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/feedbacks"))
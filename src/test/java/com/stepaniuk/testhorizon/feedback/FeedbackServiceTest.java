@@ -10,11 +10,7 @@ import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.event.feedback.FeedbackCreatedEvent;
 import com.stepaniuk.testhorizon.event.feedback.FeedbackDeletedEvent;
-import com.stepaniuk.testhorizon.event.feedback.FeedbackEvent;
 import com.stepaniuk.testhorizon.event.feedback.FeedbackUpdatedEvent;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -22,16 +18,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -67,12 +62,8 @@ class FeedbackServiceTest {
         when(feedbackRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
 
         final var receivedEventWrapper = new FeedbackCreatedEvent[1];
-        when(
-                feedbackProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (FeedbackCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(feedbackProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (FeedbackCreatedEvent) event));
 
         // when
         var feedbackResponse = feedbackService.createFeedback(feedbackCreateRequest, 1L, UUID.randomUUID().toString());
@@ -143,12 +134,8 @@ class FeedbackServiceTest {
         when(feedbackRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new FeedbackUpdatedEvent[1];
-        when(
-                feedbackProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (FeedbackUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(feedbackProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (FeedbackUpdatedEvent) event));
 
         // when
         var feedbackResponse = feedbackService.updateFeedback(1L, feedbackUpdateRequest, UUID.randomUUID().toString());
@@ -187,12 +174,8 @@ class FeedbackServiceTest {
         when(feedbackRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new FeedbackUpdatedEvent[1];
-        when(
-                feedbackProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (FeedbackUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(feedbackProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (FeedbackUpdatedEvent) event));
 
         // when
         var feedbackResponse = feedbackService.updateFeedback(1L, feedbackUpdateRequest, UUID.randomUUID().toString());
@@ -237,12 +220,8 @@ class FeedbackServiceTest {
 
         when(feedbackRepository.findById(1L)).thenReturn(Optional.of(feedback));
         final var receivedEventWrapper = new FeedbackDeletedEvent[1];
-        when(
-                feedbackProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (FeedbackDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(feedbackProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (FeedbackDeletedEvent) event));
 
         // when
         feedbackService.deleteFeedback(1L, correlationId);
@@ -275,11 +254,11 @@ class FeedbackServiceTest {
         Specification<Feedback> specification = Specification.where(null);
         var userInfo = new UserInfo(1L, "John", "Doe");
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(feedbackRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(feedbackToFind), pageable, 1));
 
         // when
-        var feedbacks = feedbackService.getAllFeedbacks(pageable, null, null);
+        var feedbacks = feedbackService.getAllFeedbacks(pageable, null, null, null);
         var feedbackResponse = feedbacks.getContent().iterator().next();
 
         // then
@@ -310,11 +289,11 @@ class FeedbackServiceTest {
         var pageable = PageRequest.of(0, 2);
         var userInfo = new UserInfo(1L, "John", "Doe");
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(feedbackRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(feedbackToFind), pageable, 1));
 
         // when
-        var feedbacks = feedbackService.getAllFeedbacks(pageable, ownerId, null);
+        var feedbacks = feedbackService.getAllFeedbacks(pageable, ownerId, null, null);
         var feedbackResponse = feedbacks.getContent().iterator().next();
 
         // then
@@ -345,11 +324,11 @@ class FeedbackServiceTest {
         var pageable = PageRequest.of(0, 2);
         var userInfo = new UserInfo(1L, "John", "Doe");
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(feedbackRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(feedbackToFind), pageable, 1));
 
         // when
-        var feedbacks = feedbackService.getAllFeedbacks(pageable, null, feedbackIds);
+        var feedbacks = feedbackService.getAllFeedbacks(pageable, null, feedbackIds, null);
         var feedbackResponse = feedbacks.getContent().iterator().next();
 
         // then
@@ -378,12 +357,6 @@ class FeedbackServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, FeedbackEvent>>, FeedbackEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("feedbacks", event),
-                        new RecordMetadata(new TopicPartition("feedbacks", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Feedback getNewFeedbackWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -1,55 +1,147 @@
 package com.stepaniuk.testhorizon.info;
 
+import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
+import com.stepaniuk.testhorizon.shared.UserInfoCache;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
-import com.stepaniuk.testhorizon.user.User;
 import com.stepaniuk.testhorizon.user.UserRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ServiceLevelUnitTest
-@ContextConfiguration(classes = {UserInfoService.class})
+@ContextConfiguration(classes = {UserInfoService.class, UserInfoCache.class})
 class UserInfoServiceTest {
 
     @Autowired
     private UserInfoService userInfoService;
 
+    @Autowired
+    private UserInfoCache userInfoCache;
+
     @MockitoBean
     private UserRepository userRepository;
 
+    @BeforeEach
+    void clearUserInfoCache() {
+        userInfoCache.invalidateAll();
+    }
+
+    @AfterEach
+    void resetRequestAttributes() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     void getUserInfoWhenUserExistsReturnsUserInfo() {
         Long userId = 1L;
-        User user = new User();
-        user.setId(userId);
-        user.setFirstName("John");
-        user.setLastName("Doe");
+        UserInfo userInfo = new UserInfo(userId, "John", "Doe");
 
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.findUserInfosByIds(Set.of(userId))).thenReturn(List.of(userInfo));
 
         UserInfo result = userInfoService.getUserInfo(userId);
 
         assertNotNull(result);
         assertEquals(userId, result.getId());
-        assertEquals(user.getFirstName(), result.getFirstName());
-        assertEquals(user.getLastName(), result.getLastName());
+        assertEquals(userInfo.getFirstName(), result.getFirstName());
+        assertEquals(userInfo.getLastName(), result.getLastName());
     }
 
     @Test
     void getUserInfoWhenUserDoesNotExistThrowsException() {
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findUserInfosByIds(Set.of(userId))).thenReturn(List.of());
 
         // when && then
         assertThrows(NoSuchUserByIdException.class, () -> userInfoService.getUserInfo(userId));
     }
+
+    @Test
+    void getUserInfosWhenUsersExistReturnsUserInfosById() {
+        UserInfo john = new UserInfo(1L, "John", "Doe");
+        UserInfo jane = new UserInfo(2L, "Jane", "Roe");
+
+        when(userRepository.findUserInfosByIds(Set.of(1L, 2L))).thenReturn(List.of(john, jane));
+
+        Map<Long, UserInfo> result = userInfoService.getUserInfos(List.of(1L, 2L, 1L));
+
+        assertEquals(2, result.size());
+        assertEquals(john, result.get(1L));
+        assertEquals(jane, result.get(2L));
+    }
+
+    @Test
+    void getUserInfosWhenSomeUserDoesNotExistThrowsException() {
+        UserInfo john = new UserInfo(1L, "John", "Doe");
+
+        when(userRepository.findUserInfosByIds(Set.of(1L, 2L))).thenReturn(List.of(john));
+
+        // when && then
+        assertThrows(NoSuchUserByIdException.class, () -> userInfoService.getUserInfos(Set.of(1L, 2L)));
+    }
+
+    @Test
+    void getUserInfosWithinRequestQueriesOnlyNotYetResolvedIds() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        UserInfo john = new UserInfo(1L, "John", "Doe");
+        UserInfo jane = new UserInfo(2L, "Jane", "Roe");
+
+        when(userRepository.findUserInfosByIds(Set.of(1L))).thenReturn(List.of(john));
+        when(userRepository.findUserInfosByIds(Set.of(2L))).thenReturn(List.of(jane));
+
+        userInfoService.getUserInfo(1L);
+        Map<Long, UserInfo> result = userInfoService.getUserInfos(Set.of(1L, 2L));
+        userInfoService.getUserInfo(2L);
+
+        assertEquals(Map.of(1L, john, 2L, jane), result);
+        verify(userRepository, times(1)).findUserInfosByIds(Set.of(1L));
+        verify(userRepository, times(1)).findUserInfosByIds(Set.of(2L));
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void getUserInfoWhenUserIsCachedDoesNotQueryDatabaseAgain() {
+        UserInfo john = new UserInfo(1L, "John", "Doe");
+
+        when(userRepository.findUserInfosByIds(Set.of(1L))).thenReturn(List.of(john));
+
+        userInfoService.getUserInfo(1L);
+        UserInfo result = userInfoService.getUserInfo(1L);
+
+        assertEquals(john, result);
+        verify(userRepository, times(1)).findUserInfosByIds(Set.of(1L));
+    }
+
+    @Test
+    void getUserInfoAfterUserUpdatedEventQueriesDatabaseAgain() {
+        UserInfo john = new UserInfo(1L, "John", "Doe");
+        UserInfo renamedJohn = new UserInfo(1L, "Johnny", "Doe");
+
+        when(userRepository.findUserInfosByIds(Set.of(1L))).thenReturn(List.of(john), List.of(renamedJohn));
+
+        userInfoService.getUserInfo(1L);
+        userInfoCache.handleUserEvents(new UserUpdatedEvent(Instant.now(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 1L, new UserUpdatedEvent.Data(null, "Johnny", null)));
+        UserInfo result = userInfoService.getUserInfo(1L);
+
+        assertEquals(renamedJohn, result);
+        verify(userRepository, times(2)).findUserInfosByIds(Set.of(1L));
+    }
 }
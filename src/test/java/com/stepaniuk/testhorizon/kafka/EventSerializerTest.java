@@ -0,0 +1,89 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import com.stepaniuk.testhorizon.event.test.TestUpdatedEvent;
+import com.stepaniuk.testhorizon.types.test.TestTypeName;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSerializerTest {
+
+    private static final Map<String, Object> CONSUMER_CONFIGS = Map.of(JsonDeserializer.TRUSTED_PACKAGES, "*");
+
+    @Test
+    void shouldWriteBinaryRecordWithCodecHeaderWhenCodecIsConfigured() {
+        // given
+        var event = testUpdatedEvent();
+        var headers = new RecordHeaders();
+        var serializer = new EventSerializer();
+        var deserializer = new EventDeserializer();
+        serializer.configure(Map.of(EventSerializer.CODEC_CONFIG, "binary"), false);
+        deserializer.configure(CONSUMER_CONFIGS, false);
+
+        // when
+        var data = serializer.serialize("tests", headers, event);
+        var decoded = deserializer.deserialize("tests", headers, data);
+
+        // then
+        var codecHeader = headers.lastHeader(EventSerializer.CODEC_HEADER);
+        assertNotNull(codecHeader);
+        assertEquals("binary", new String(codecHeader.value(), StandardCharsets.UTF_8));
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void shouldFallBackToJsonWhenCodecIsNotConfigured() {
+        // given
+        var event = testUpdatedEvent();
+        var headers = new RecordHeaders();
+        var serializer = new EventSerializer();
+        var deserializer = new EventDeserializer();
+        serializer.configure(Map.of(), false);
+        deserializer.configure(CONSUMER_CONFIGS, false);
+
+        // when
+        var data = serializer.serialize("tests", headers, event);
+        var decoded = deserializer.deserialize("tests", headers, data);
+
+        // then
+        assertNull(headers.lastHeader(EventSerializer.CODEC_HEADER));
+        assertTrue(new String(data, StandardCharsets.UTF_8).contains("\"testId\":1"));
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void shouldThrowWhenRecordUsesUnsupportedCodec() {
+        // given
+        var headers = new RecordHeaders();
+        headers.add(EventSerializer.CODEC_HEADER, "avro".getBytes(StandardCharsets.UTF_8));
+        var deserializer = new EventDeserializer();
+        deserializer.configure(CONSUMER_CONFIGS, false);
+
+        // when & then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize("tests", headers, new byte[]{1}));
+    }
+
+    @Test
+    void shouldThrowWhenConfiguredCodecIsUnknown() {
+        // given
+        var serializer = new EventSerializer();
+
+        // when & then
+        assertThrows(ConfigException.class, () -> serializer.configure(Map.of(EventSerializer.CODEC_CONFIG, "avro"), false));
+    }
+
+    private static TestUpdatedEvent testUpdatedEvent() {
+        return new TestUpdatedEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), 1L,
+                new TestUpdatedEvent.Data(2L, "Login test", "Checks the login form", "Open the login page",
+                        "https://github.com/user/repo", TestTypeName.FUNCTIONAL));
+    }
+}
@@ -0,0 +1,36 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaProducerProfileTest {
+
+    @Test
+    void shouldResolveProfileFromKebabCaseName() {
+        // when
+        var profile = KafkaProducerProfile.fromName(" low-latency ");
+
+        // then
+        assertEquals(KafkaProducerProfile.LOW_LATENCY, profile);
+    }
+
+    @Test
+    void shouldKeepIdempotenceInEveryProfile() {
+        for (var profile : KafkaProducerProfile.values()) {
+            // when
+            var properties = profile.getProperties();
+
+            // then
+            assertEquals(true, properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+            assertEquals("all", properties.get(ProducerConfig.ACKS_CONFIG));
+        }
+    }
+
+    @Test
+    void shouldThrowWhenProfileIsUnknown() {
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> KafkaProducerProfile.fromName("fastest"));
+    }
+}
@@ -0,0 +1,114 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(SpringExtension.class)
+@ImportAutoConfiguration(KafkaAutoConfiguration.class)
+@ContextConfiguration(classes = {KafkaProducerConfig.class, KafkaSendMetrics.class, KafkaTopicConfig.class,
+        KafkaSendMetricsTest.MeterRegistryConfig.class})
+@EmbeddedKafka(partitions = 1, bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@TestPropertySource(properties = {
+        "kafka.producer.profile=high-throughput",
+        "spring.kafka.producer.compression-type=gzip",
+        "spring.kafka.producer.key-serializer=org.apache.kafka.common.serialization.StringSerializer",
+        "spring.kafka.producer.value-serializer=org.apache.kafka.common.serialization.StringSerializer"
+})
+class KafkaSendMetricsTest {
+
+    @Autowired
+    private KafkaTemplate<Object, Object> kafkaTemplate;
+
+    @Autowired
+    private DefaultKafkaProducerFactory<?, ?> producerFactory;
+
+    @Autowired
+    private KafkaSendMetrics kafkaSendMetrics;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldApplyProfileWithoutOverridingExplicitSettings() {
+        // when
+        var properties = producerFactory.getConfigurationProperties();
+
+        // then
+        assertEquals(20, properties.get(ProducerConfig.LINGER_MS_CONFIG));
+        assertEquals(131072, properties.get(ProducerConfig.BATCH_SIZE_CONFIG));
+        assertEquals("all", properties.get(ProducerConfig.ACKS_CONFIG));
+        assertEquals(true, properties.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG));
+        assertEquals("gzip", properties.get(ProducerConfig.COMPRESSION_TYPE_CONFIG));
+    }
+
+    @Test
+    void shouldRegisterLatencyTimerForEveryDeclaredTopic() {
+        // when
+        var timer = meterRegistry.find("kafka.producer.send.latency").tag("topic", "bug-reports").timer();
+
+        // then
+        assertNotNull(timer);
+        assertEquals(0, timer.count());
+    }
+
+    @Test
+    void shouldRecordLatencyOfAcknowledgedSend() throws Exception {
+        // given
+        var timer = meterRegistry.get("kafka.producer.send.latency").tag("topic", "tests").timer();
+        var countBefore = timer.count();
+
+        // when
+        kafkaTemplate.send("tests", "1", "payload").get();
+
+        // then
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertEquals(countBefore + 1, timer.count()));
+    }
+
+    @Test
+    void shouldCountFailedSendByTopicAndException() {
+        // given
+        var producerRecord = new ProducerRecord<Object, Object>("notes", "1", "payload");
+
+        // when
+        kafkaSendMetrics.onError(producerRecord, null, new RecordTooLargeException("too large"));
+
+        // then
+        var counter = meterRegistry.find("kafka.producer.send.failures")
+                .tag("topic", "notes")
+                .tag("exception", "RecordTooLargeException")
+                .counter();
+        assertNotNull(counter);
+        assertEquals(1, counter.count());
+    }
+
+    @Configuration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
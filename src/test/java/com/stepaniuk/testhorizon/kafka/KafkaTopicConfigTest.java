@@ -0,0 +1,41 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaTopicConfigTest {
+
+    @Test
+    void shouldBuildTopicsWithConfiguredPartitionsAndReplicas() {
+        // given
+        var environment = new MockEnvironment()
+                .withProperty("kafka.topics.partitions", "12")
+                .withProperty("kafka.topics.replicas", "3");
+
+        // when
+        var topic = new KafkaTopicConfig(environment).projectTopic();
+
+        // then
+        assertEquals("projects", topic.name());
+        assertEquals(12, topic.numPartitions());
+        assertEquals((short) 3, topic.replicationFactor());
+    }
+
+    @Test
+    void shouldPreferTopicSpecificSettings() {
+        // given
+        var environment = new MockEnvironment()
+                .withProperty("kafka.topics.partitions", "12")
+                .withProperty("kafka.topics.bug-reports.partitions", "24");
+
+        // when
+        var config = new KafkaTopicConfig(environment);
+
+        // then
+        assertEquals(24, config.bugReportTopic().numPartitions());
+        assertEquals(12, config.testTopic().numPartitions());
+        assertEquals((short) 1, config.bugReportTopic().replicationFactor());
+    }
+}
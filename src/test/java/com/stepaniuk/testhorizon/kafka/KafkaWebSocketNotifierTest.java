@@ -0,0 +1,99 @@
+package com.stepaniuk.testhorizon.kafka;
+
+import com.stepaniuk.testhorizon.event.bugreport.BugReportCreatedEvent;
+import com.stepaniuk.testhorizon.event.comment.CommentCreatedEvent;
+import com.stepaniuk.testhorizon.event.export.ExportJobProgressEvent;
+import com.stepaniuk.testhorizon.event.file.FileUploadEvent;
+import com.stepaniuk.testhorizon.event.project.ProjectDeletedEvent;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.entity.EntityType;
+import com.stepaniuk.testhorizon.types.files.FileEntityType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {KafkaWebSocketNotifier.class})
+class KafkaWebSocketNotifierTest {
+
+    @Autowired
+    private KafkaWebSocketNotifier kafkaWebSocketNotifier;
+
+    @MockitoBean
+    private SimpMessagingTemplate simpMessagingTemplate;
+
+    @Test
+    void shouldSendProjectEventToProjectDestination() {
+        // given
+        var event = new ProjectDeletedEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(), 7L);
+
+        // when
+        kafkaWebSocketNotifier.handleProjectEvents(event);
+
+        // then
+        verify(simpMessagingTemplate).convertAndSend("/topic/projects", event);
+        verify(simpMessagingTemplate).convertAndSend("/topic/projects/7", event);
+        verifyNoMoreInteractions(simpMessagingTemplate);
+    }
+
+    @Test
+    void shouldSendCreatedBugReportToBugReportAndProjectDestinations() {
+        // given
+        var event = new BugReportCreatedEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                42L, 7L, 1L);
+
+        // when
+        kafkaWebSocketNotifier.handleBugReportEvents(event);
+
+        // then
+        verify(simpMessagingTemplate).convertAndSend("/topic/bug-reports/42", event);
+        verify(simpMessagingTemplate).convertAndSend("/topic/projects/7/bug-reports", event);
+    }
+
+    @Test
+    void shouldSendCreatedCommentToCommentsOfCommentedEntity() {
+        // given
+        var event = new CommentCreatedEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                3L, 1L, EntityType.TEST_CASE, 5L);
+
+        // when
+        kafkaWebSocketNotifier.handleCommentEvents(event);
+
+        // then
+        verify(simpMessagingTemplate).convertAndSend("/topic/comments/3", event);
+        verify(simpMessagingTemplate).convertAndSend("/topic/test-cases/5/comments", event);
+    }
+
+    @Test
+    void shouldSendFileEventToFilesOfOwningEntity() {
+        // given
+        var event = new FileUploadEvent("FileUploadEvent", Instant.now(), UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), "report.pdf", FileEntityType.BUG_REPORT, 42L);
+
+        // when
+        kafkaWebSocketNotifier.handleFileEvents(event);
+
+        // then
+        verify(simpMessagingTemplate).convertAndSend("/topic/bug-reports/42/files", event);
+    }
+
+    @Test
+    void shouldSendExportJobEventToOwnerQueue() {
+        // given
+        var event = new ExportJobProgressEvent(Instant.now(), UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+                UUID.randomUUID(), 9L, 1000L);
+
+        // when
+        kafkaWebSocketNotifier.handleExportJobEvents(event);
+
+        // then
+        verify(simpMessagingTemplate).convertAndSendToUser("9", "/queue/export-jobs", event);
+    }
+}
@@ -266,7 +266,7 @@ class NotebookControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(notebookService.getAllNotebooks(pageable, null, null))
+        when(notebookService.getAllNotebooks(pageable, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notebooks"))
@@ -300,7 +300,7 @@ class NotebookControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(notebookService.getAllNotebooks(pageable, 1L, null))
+        when(notebookService.getAllNotebooks(pageable, 1L, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notebooks"))
@@ -335,7 +335,7 @@ class NotebookControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(notebookService.getAllNotebooks(pageable, null, "title"))
+        when(notebookService.getAllNotebooks(pageable, null, "title", null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notebooks"))
@@ -2,7 +2,6 @@ package com.stepaniuk.testhorizon.notebook;
 
 import com.stepaniuk.testhorizon.event.notebook.NotebookCreatedEvent;
 import com.stepaniuk.testhorizon.event.notebook.NotebookDeletedEvent;
-import com.stepaniuk.testhorizon.event.notebook.NotebookEvent;
 import com.stepaniuk.testhorizon.event.notebook.NotebookUpdatedEvent;
 import com.stepaniuk.testhorizon.notebook.exceptions.NoSuchNotebookByIdException;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
@@ -13,9 +12,6 @@ import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -23,16 +19,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -66,12 +61,8 @@ class NotebookServiceTest {
         when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
         when(notebookRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
         final var receivedEventWrapper = new NotebookCreatedEvent[1];
-        when(
-                notebookProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NotebookCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(notebookProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NotebookCreatedEvent) event));
 
         // when
         var notebookResponse = notebookService.createNotebook(notebookCreateRequest, 1L, UUID.randomUUID().toString());
@@ -141,12 +132,8 @@ class NotebookServiceTest {
         when(notebookRepository.findById(1L)).thenReturn(Optional.of(notebookToUpdate));
         when(notebookRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
         var receivedEventWrapper = new NotebookUpdatedEvent[1];
-        when(
-                notebookProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NotebookUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(notebookProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NotebookUpdatedEvent) event));
 
         // when
         var updatedNotebookResponse = notebookService.updateNotebook(1L, notebookUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -207,12 +194,8 @@ class NotebookServiceTest {
         var authInfo = new AuthInfo(1L, List.of());
         when(notebookRepository.findById(1L)).thenReturn(Optional.of(notebookToDelete));
         final var receivedEventWrapper = new NotebookDeletedEvent[1];
-        when(
-                notebookProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NotebookDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(notebookProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NotebookDeletedEvent) event));
 
         // when
         notebookService.deleteNotebookById(1L, UUID.randomUUID().toString(), authInfo);
@@ -259,10 +242,10 @@ class NotebookServiceTest {
         var pageable = PageRequest.of(0, 2);
         Specification<Notebook> specification = Specification.where(null);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(notebookRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(notebookToFind), pageable, 1));
 
-        var notebookPageResponse = notebookService.getAllNotebooks(pageable, null, null);
+        var notebookPageResponse = notebookService.getAllNotebooks(pageable, null, null, null);
         var notebookResponse = notebookPageResponse.getContent().iterator().next();
 
         // then
@@ -297,10 +280,10 @@ class NotebookServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(ownerId)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(ownerId, userInfo));
         when(notebookRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(notebookToFind), pageable, 1));
 
-        var notebookPageResponse = notebookService.getAllNotebooks(pageable, ownerId, null);
+        var notebookPageResponse = notebookService.getAllNotebooks(pageable, ownerId, null, null);
         var notebookResponse = notebookPageResponse.getContent().iterator().next();
 
         // then
@@ -334,10 +317,10 @@ class NotebookServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(notebookRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(notebookToFind), pageable, 1));
 
-        var notebookPageResponse = notebookService.getAllNotebooks(pageable, null, title);
+        var notebookPageResponse = notebookService.getAllNotebooks(pageable, null, title, null);
         var notebookResponse = notebookPageResponse.getContent().iterator().next();
 
         // then
@@ -366,12 +349,6 @@ class NotebookServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, NotebookEvent>>, NotebookEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("notebooks", event),
-                        new RecordMetadata(new TopicPartition("notebooks", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Notebook getNewNotebookWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -254,7 +254,7 @@ class NoteControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(noteService.getAllNotes(pageable, null, null))
+        when(noteService.getAllNotes(pageable, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notes"))
@@ -287,7 +287,7 @@ class NoteControllerTest {
         Long notebookId = 1L;
 
         // when
-        when(noteService.getAllNotes(pageable, notebookId, null))
+        when(noteService.getAllNotes(pageable, notebookId, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notes"))
@@ -321,7 +321,7 @@ class NoteControllerTest {
         String title = "title";
 
         // when
-        when(noteService.getAllNotes(pageable, null, title))
+        when(noteService.getAllNotes(pageable, null, title, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/notes"))
@@ -4,7 +4,6 @@ package com.stepaniuk.testhorizon.notebook.note;
 
 import com.stepaniuk.testhorizon.event.notebook.note.NoteCreatedEvent;
 import com.stepaniuk.testhorizon.event.notebook.note.NoteDeletedEvent;
-import com.stepaniuk.testhorizon.event.notebook.note.NoteEvent;
 import com.stepaniuk.testhorizon.event.notebook.note.NoteUpdatedEvent;
 import com.stepaniuk.testhorizon.notebook.NotebookService;
 import com.stepaniuk.testhorizon.notebook.note.exceptions.NoSuchNoteByIdException;
@@ -17,9 +16,6 @@ import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -27,7 +23,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -36,7 +31,6 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -81,12 +75,8 @@ class NoteServiceTest {
         when(noteMapper.toResponse(any())).thenReturn(noteResponse);
         
         final var receivedEventWrapper = new NoteCreatedEvent[1];
-        when(
-                noteProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NoteCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(noteProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NoteCreatedEvent) event));
 
         // when
         var response = noteService.createNote(noteCreateRequest, notebookId, UUID.randomUUID().toString());
@@ -147,12 +137,8 @@ class NoteServiceTest {
         when(noteMapper.toResponse(noteToUpdate)).thenReturn(noteResponse);
         
         var receivedEventWrapper = new NoteUpdatedEvent[1];
-        when(
-                noteProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NoteUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(noteProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NoteUpdatedEvent) event));
 
         // when
         var updatedNoteResponse = noteService.updateNote(1L, noteUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -218,12 +204,8 @@ class NoteServiceTest {
         when(notebookService.getNotebookById(noteToDelete.getNotebookId())).thenReturn(notebookResponse);
         
         final var receivedEventWrapper = new NoteDeletedEvent[1];
-        when(
-                noteProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (NoteDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(noteProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (NoteDeletedEvent) event));
 
         // when
         noteService.deleteNoteById(1L, UUID.randomUUID().toString(), authInfo);
@@ -283,7 +265,7 @@ class NoteServiceTest {
         when(pageMapper.toResponse(any(), any())).thenReturn(pagedModel);
 
         // when
-        var notePageResponse = noteService.getAllNotes(pageable, null, null);
+        var notePageResponse = noteService.getAllNotes(pageable, null, null, null);
 
         // then
         assertNotNull(notePageResponse);
@@ -306,7 +288,7 @@ class NoteServiceTest {
         when(pageMapper.toResponse(any(), any())).thenReturn(pagedModel);
 
         // when
-        var notePageResponse = noteService.getAllNotes(pageable, notebookId, null);
+        var notePageResponse = noteService.getAllNotes(pageable, notebookId, null, null);
 
         // then
         assertNotNull(notePageResponse);
@@ -329,7 +311,7 @@ class NoteServiceTest {
         when(pageMapper.toResponse(any(), any())).thenReturn(pagedModel);
 
         // when
-        var notePageResponse = noteService.getAllNotes(pageable, null, title);
+        var notePageResponse = noteService.getAllNotes(pageable, null, title, null);
 
         // then
         assertNotNull(notePageResponse);
@@ -344,12 +326,6 @@ class NoteServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, NoteEvent>>, NoteEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("notes", event),
-                        new RecordMetadata(new TopicPartition("notes", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Note getNewNoteWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
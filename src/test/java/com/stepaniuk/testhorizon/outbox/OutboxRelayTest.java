@@ -0,0 +1,123 @@
+package com.stepaniuk.testhorizon.outbox;
+
+import com.stepaniuk.testhorizon.event.test.TestDeletedEvent;
+import com.stepaniuk.testhorizon.shared.exceptions.ProducerException;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {OutboxRelay.class})
+@TestPropertySource(properties = {
+        "outbox.relay.batch-size=2",
+        "outbox.relay.send-timeout-ms=1000"
+})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @MockitoBean
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private Outbox outbox;
+
+    @MockitoBean
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @MockitoBean
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(outboxEventRepository.tryLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void shouldSendOldestEventsInOrderAndDeleteThem() {
+        // given
+        var first = outboxEvent(1L);
+        var second = outboxEvent(2L);
+        var third = outboxEvent(3L);
+        var firstEvent = event("1");
+        var secondEvent = event("2");
+        var thirdEvent = event("3");
+
+        when(outboxEventRepository.findOldest(any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+        when(outbox.read(first)).thenReturn(firstEvent);
+        when(outbox.read(second)).thenReturn(secondEvent);
+        when(outbox.read(third)).thenReturn(thirdEvent);
+        when(kafkaTemplate.send(anyString(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        var inOrder = inOrder(kafkaTemplate, outboxEventRepository);
+        inOrder.verify(kafkaTemplate).send("tests", null, firstEvent);
+        inOrder.verify(kafkaTemplate).send("tests", null, secondEvent);
+        inOrder.verify(outboxEventRepository).deleteAllInBatch(List.of(first, second));
+        inOrder.verify(kafkaTemplate).send("tests", null, thirdEvent);
+        inOrder.verify(outboxEventRepository).deleteAllInBatch(List.of(third));
+    }
+
+    @Test
+    void shouldKeepEventsWhenSendFails() {
+        // given
+        var first = outboxEvent(1L);
+
+        when(outboxEventRepository.findOldest(any(Pageable.class))).thenReturn(List.of(first));
+        when(outbox.read(first)).thenReturn(event("1"));
+        when(kafkaTemplate.send(anyString(), any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+
+        // when & then
+        assertThrows(ProducerException.class, () -> outboxRelay.relay());
+        verify(outboxEventRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    @Test
+    void shouldNotSendWhenAnotherRelayHoldsLock() {
+        // given
+        when(outboxEventRepository.tryLock(anyLong())).thenReturn(false);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).findOldest(any(Pageable.class));
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private static OutboxEvent outboxEvent(Long id) {
+        return new OutboxEvent(id, "tests", null, TestDeletedEvent.class.getName(), "{}", Instant.now());
+    }
+
+    private static TestDeletedEvent event(String eventId) {
+        return new TestDeletedEvent(Instant.now(), eventId, "correlationId", 1L);
+    }
+}
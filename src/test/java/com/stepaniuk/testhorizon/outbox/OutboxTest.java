@@ -0,0 +1,41 @@
+package com.stepaniuk.testhorizon.outbox;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.stepaniuk.testhorizon.event.test.TestCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.assertArg;
+import static org.mockito.Mockito.*;
+
+class OutboxTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+
+    private final Outbox outbox = new Outbox(outboxEventRepository, JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build());
+
+    @Test
+    void shouldStoreEventThatReadsBackEqual() {
+        // given
+        var event = new TestCreatedEvent(Instant.parse("2024-01-01T00:00:00Z"), UUID.randomUUID().toString(),
+                "correlationId", 1L, 2L, 3L);
+        var stored = new OutboxEvent[1];
+
+        // when
+        outbox.add("tests", event.getTestId(), event);
+
+        // then
+        verify(outboxEventRepository).save(assertArg(outboxEvent -> stored[0] = outboxEvent));
+        assertEquals("tests", stored[0].getTopic());
+        assertEquals("1", stored[0].getEventKey());
+        assertEquals(TestCreatedEvent.class.getName(), stored[0].getEventClass());
+        assertEquals(event, outbox.read(stored[0]));
+    }
+}
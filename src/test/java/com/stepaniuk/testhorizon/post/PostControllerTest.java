@@ -336,7 +336,7 @@ class PostControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(postService.getAllPosts(pageable, null, null, null))
+        when(postService.getAllPosts(pageable, null, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/posts"))
@@ -372,7 +372,7 @@ class PostControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(postService.getAllPosts(pageable, 1L, null, null))
+        when(postService.getAllPosts(pageable, 1L, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/posts"))
@@ -409,7 +409,7 @@ class PostControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(postService.getAllPosts(pageable, null, "title", null))
+        when(postService.getAllPosts(pageable, null, "title", null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/posts"))
@@ -446,7 +446,7 @@ class PostControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(postService.getAllPosts(pageable, null, null, PostCategoryName.QUALITY_ASSURANCE))
+        when(postService.getAllPosts(pageable, null, null, PostCategoryName.QUALITY_ASSURANCE, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/posts"))
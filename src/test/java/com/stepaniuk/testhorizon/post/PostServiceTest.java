@@ -2,41 +2,40 @@ package com.stepaniuk.testhorizon.post;
 
 import com.stepaniuk.testhorizon.event.post.PostCreatedEvent;
 import com.stepaniuk.testhorizon.event.post.PostDeletedEvent;
-import com.stepaniuk.testhorizon.event.post.PostEvent;
 import com.stepaniuk.testhorizon.event.post.PostUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.post.PostCreateRequest;
 import com.stepaniuk.testhorizon.payload.post.PostUpdateRequest;
 import com.stepaniuk.testhorizon.post.category.PostCategory;
-import com.stepaniuk.testhorizon.post.category.PostCategoryRepository;
 import com.stepaniuk.testhorizon.post.exceptions.NoSuchPostByIdException;
 import com.stepaniuk.testhorizon.post.exceptions.NoSuchPostCategoryByNameException;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.CountMode;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
+import com.stepaniuk.testhorizon.shared.PagingQueries;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.post.PostCategoryName;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
+import org.springframework.hateoas.IanaLinkRelations;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -58,11 +57,14 @@ class PostServiceTest {
     private PostRepository postRepository;
 
     @MockitoBean
-    private PostCategoryRepository postCategoryRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private UserInfoService userInfoService;
 
+    @MockitoBean
+    private PagingQueries pagingQueries;
+
     @Test
     void shouldReturnPostResponseWhenCreatingPost() {
         // given
@@ -77,11 +79,10 @@ class PostServiceTest {
 
         when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
         when(postRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
-        when(postCategoryRepository.findByName(PostCategoryName.QUALITY_ASSURANCE)).thenReturn(Optional.of(category));
+        when(dictionaryRegistry.findPostCategory(PostCategoryName.QUALITY_ASSURANCE)).thenReturn(Optional.of(category));
 
         final var receivedEventWrapper = new PostCreatedEvent[1];
-        when(postProducer.send(assertArg(event -> receivedEventWrapper[0] = (PostCreatedEvent) event)))
-                .thenAnswer(answer(getFakeSendResult()));
+        doNothing().when(postProducer).send(assertArg(event -> receivedEventWrapper[0] = (PostCreatedEvent) event));
 
         // when
         var postResponse = postService.createPost(postCreateRequest, 1L, UUID.randomUUID().toString());
@@ -116,7 +117,7 @@ class PostServiceTest {
                 "Description",
                 PostCategoryName.QUALITY_ASSURANCE);
 
-        when(postCategoryRepository.findByName(PostCategoryName.QUALITY_ASSURANCE)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findPostCategory(PostCategoryName.QUALITY_ASSURANCE)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchPostCategoryByNameException.class, () ->
@@ -173,8 +174,7 @@ class PostServiceTest {
         when(postRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
         var receivedEventWrapper = new PostUpdatedEvent[1];
-        when(postProducer.send(assertArg(event -> receivedEventWrapper[0] = (PostUpdatedEvent) event)))
-                .thenAnswer(answer(getFakeSendResult()));
+        doNothing().when(postProducer).send(assertArg(event -> receivedEventWrapper[0] = (PostUpdatedEvent) event));
 
         // when
         var updatedPostResponse = postService.updatePost(1L, postUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -226,7 +226,7 @@ class PostServiceTest {
         var postUpdateRequest = new PostUpdateRequest(null, null, null, PostCategoryName.MANUAL_TESTING);
 
         when(postRepository.findById(1L)).thenReturn(Optional.of(postToUpdate));
-        when(postCategoryRepository.findByName(PostCategoryName.MANUAL_TESTING)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findPostCategory(PostCategoryName.MANUAL_TESTING)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchPostCategoryByNameException.class, () ->
@@ -256,8 +256,7 @@ class PostServiceTest {
         when(postRepository.findById(1L)).thenReturn(Optional.of(postToDelete));
 
         final var receivedEventWrapper = new PostDeletedEvent[1];
-        when(postProducer.send(assertArg(event -> receivedEventWrapper[0] = (PostDeletedEvent) event)))
-                .thenAnswer(answer(getFakeSendResult()));
+        doNothing().when(postProducer).send(assertArg(event -> receivedEventWrapper[0] = (PostDeletedEvent) event));
 
         // when
         postService.deletePostById(1L, UUID.randomUUID().toString(), authInfo);
@@ -309,12 +308,12 @@ class PostServiceTest {
         var pageable = PageRequest.of(0, 2);
         Specification<Post> specification = Specification.where(null);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(postRepository.findAll(specification, pageable))
                 .thenReturn(new PageImpl<>(List.of(postToFind), pageable, 1));
 
         // when
-        var postPageResponse = postService.getAllPosts(pageable, null, null, null);
+        var postPageResponse = postService.getAllPosts(pageable, null, null, null, null, null);
         var postResponse = postPageResponse.getContent().iterator().next();
 
         // then
@@ -338,6 +337,35 @@ class PostServiceTest {
         assertTrue(postResponse.hasLinks());
     }
 
+    @Test
+    void shouldReturnPagedModelWithoutTotalsWhenGettingAllPostsWithoutCount() {
+        // given
+        Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
+        Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
+        var userInfo = new UserInfo(1L, "Name", "Surname");
+
+        var postToFind = new Post(1L, 1L, "Title", "Description", "Content",
+                new PostCategory(1L, PostCategoryName.QUALITY_ASSURANCE),
+                timeOfCreation, timeOfModification);
+
+        var pageable = PageRequest.of(0, 1);
+
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
+        when(pagingQueries.findSlice(eq(Post.class), any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(postToFind), pageable, true));
+
+        // when
+        var postPageResponse = postService.getAllPosts(pageable, null, null, null, null, CountMode.NONE);
+
+        // then
+        assertNotNull(postPageResponse);
+        assertNull(postPageResponse.getMetadata());
+        assertEquals(1, postPageResponse.getContent().size());
+        assertTrue(postPageResponse.getLink(IanaLinkRelations.NEXT).isPresent());
+        assertTrue(postPageResponse.getLink(IanaLinkRelations.LAST).isEmpty());
+        verify(postRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
     @Test
     void shouldReturnPagedModelWhenGettingAllPostsByOwnerId() {
         // given
@@ -353,12 +381,12 @@ class PostServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(ownerId)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(ownerId, userInfo));
         when(postRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(postToFind), pageable, 1));
 
         // when
-        var postPageResponse = postService.getAllPosts(pageable, ownerId, null, null);
+        var postPageResponse = postService.getAllPosts(pageable, ownerId, null, null, null, null);
         var postResponse = postPageResponse.getContent().iterator().next();
 
         // then
@@ -396,12 +424,12 @@ class PostServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(postRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(postToFind), pageable, 1));
 
         // when
-        var postPageResponse = postService.getAllPosts(pageable, null, title, null);
+        var postPageResponse = postService.getAllPosts(pageable, null, title, null, null, null);
         var postResponse = postPageResponse.getContent().iterator().next();
 
         // then
@@ -440,13 +468,13 @@ class PostServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(postRepository.findAll(any(Specification.class), eq(pageable)))
                 .thenReturn(new PageImpl<>(List.of(postToFind), pageable, 1));
-        when(postCategoryRepository.findByName(categoryName)).thenReturn(Optional.of(postToFind.getCategory()));
+        when(dictionaryRegistry.findPostCategory(categoryName)).thenReturn(Optional.of(postToFind.getCategory()));
 
         // when
-        var postPageResponse = postService.getAllPosts(pageable, null, null, categoryName);
+        var postPageResponse = postService.getAllPosts(pageable, null, null, categoryName, null, null);
         var postResponse = postPageResponse.getContent().iterator().next();
 
         // then
@@ -476,11 +504,11 @@ class PostServiceTest {
         PostCategoryName categoryName = PostCategoryName.QUALITY_ASSURANCE;
         Pageable pageable = PageRequest.of(0, 2);
 
-        when(postCategoryRepository.findByName(categoryName)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findPostCategory(categoryName)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchPostCategoryByNameException.class, () ->
-                postService.getAllPosts(pageable, null, null, categoryName));
+                postService.getAllPosts(pageable, null, null, categoryName, null, null));
     }
 
     private Answer1<Post, Post> getFakeSave(long id) {
@@ -490,12 +518,6 @@ class PostServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, PostEvent>>, PostEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("posts", event),
-                        new RecordMetadata(new TopicPartition("posts", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Post getNewPostWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -332,7 +332,7 @@ class ProjectControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(projectService.getAllProjects(pageable, null, null, null))
+        when(projectService.getAllProjects(pageable, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/projects"))
@@ -369,7 +369,7 @@ class ProjectControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(projectService.getAllProjects(pageable, 1L, null, null))
+        when(projectService.getAllProjects(pageable, 1L, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/projects"))
@@ -407,7 +407,7 @@ class ProjectControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(projectService.getAllProjects(pageable, null, "title", null))
+        when(projectService.getAllProjects(pageable, null, "title", null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/projects"))
@@ -445,7 +445,7 @@ class ProjectControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(projectService.getAllProjects(pageable, null, null, ProjectStatusName.ACTIVE))
+        when(projectService.getAllProjects(pageable, null, null, ProjectStatusName.ACTIVE, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/projects"))
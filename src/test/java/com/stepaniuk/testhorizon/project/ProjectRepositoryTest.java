@@ -1,5 +1,6 @@
 package com.stepaniuk.testhorizon.project;
 
+import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
 import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
 import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
@@ -149,4 +150,15 @@ class ProjectRepositoryTest {
         assertNotNull(projects);
         assertFalse(projects.isEmpty());
     }
+
+    @Test
+    void shouldReturnProjectInfosWhenFindProjectInfosByIds() {
+        // when
+        List<ProjectInfo> projectInfos = projectRepository.findProjectInfosByIds(List.of(1L, 100L));
+
+        // then
+        assertNotNull(projectInfos);
+        assertEquals(1, projectInfos.size());
+        assertEquals(new ProjectInfo(1L, "Project title", 1L), projectInfos.get(0));
+    }
 }
@@ -2,7 +2,6 @@ package com.stepaniuk.testhorizon.project;
 
 import com.stepaniuk.testhorizon.event.project.ProjectCreatedEvent;
 import com.stepaniuk.testhorizon.event.project.ProjectDeletedEvent;
-import com.stepaniuk.testhorizon.event.project.ProjectEvent;
 import com.stepaniuk.testhorizon.event.project.ProjectUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.project.ProjectCreateRequest;
@@ -10,16 +9,13 @@ import com.stepaniuk.testhorizon.payload.project.ProjectUpdateRequest;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectStatusByNameException;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
-import com.stepaniuk.testhorizon.project.status.ProjectStatusRepository;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -28,16 +24,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -58,7 +53,7 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
 
     @MockitoBean
-    private ProjectStatusRepository projectStatusRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private UserInfoService userInfoService;
@@ -73,14 +68,10 @@ class ProjectServiceTest {
 
         when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
         when(projectRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
-        when(projectStatusRepository.findByName(ProjectStatusName.ACTIVE)).thenReturn(Optional.of(new ProjectStatus(1L, ProjectStatusName.ACTIVE)));
+        when(dictionaryRegistry.findProjectStatus(ProjectStatusName.ACTIVE)).thenReturn(Optional.of(new ProjectStatus(1L, ProjectStatusName.ACTIVE)));
         final var receivedEventWrapper = new ProjectCreatedEvent[1];
-        when(
-                projectProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (ProjectCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(projectProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (ProjectCreatedEvent) event));
 
         // when
         var projectResponse = projectService.createProject(projectCreateRequest, 1L, UUID.randomUUID().toString());
@@ -113,7 +104,7 @@ class ProjectServiceTest {
         ProjectCreateRequest projectCreateRequest = new ProjectCreateRequest("title", "description",
                 "instructions", "githubUrl");
 
-        when(projectStatusRepository.findByName(ProjectStatusName.ACTIVE)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findProjectStatus(ProjectStatusName.ACTIVE)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchProjectStatusByNameException.class, () -> projectService.createProject(projectCreateRequest, 1L, correlationId));
@@ -169,12 +160,8 @@ class ProjectServiceTest {
         when(projectRepository.findById(1L)).thenReturn(java.util.Optional.of(projectToUpdate));
         when(projectRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
         var receivedEventWrapper = new ProjectUpdatedEvent[1];
-        when(
-                projectProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (ProjectUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(projectProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (ProjectUpdatedEvent) event));
 
         // when
         var updatedProjectResponse = projectService.updateProject(1L, projectUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -226,7 +213,7 @@ class ProjectServiceTest {
         var projectUpdateRequest = new ProjectUpdateRequest(null, null, ProjectStatusName.INACTIVE, null);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(projectToUpdate));
-        when(projectStatusRepository.findByName(ProjectStatusName.INACTIVE)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findProjectStatus(ProjectStatusName.INACTIVE)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchProjectStatusByNameException.class, () -> projectService.updateProject(1L, projectUpdateRequest, correlationId, authInfo));
@@ -253,12 +240,8 @@ class ProjectServiceTest {
         var authInfo = new AuthInfo(1L, List.of());
         when(projectRepository.findById(1L)).thenReturn(Optional.of(projectToDelete));
         final var receivedEventWrapper = new ProjectDeletedEvent[1];
-        when(
-                projectProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (ProjectDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(projectProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (ProjectDeletedEvent) event));
 
         // when
         projectService.deleteProjectById(1L, UUID.randomUUID().toString(), authInfo);
@@ -307,10 +290,10 @@ class ProjectServiceTest {
         var pageable = PageRequest.of(0, 2);
         Specification<Project> specification = Specification.where(null);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(projectToFind), pageable, 1));
 
-        var projectPageResponse = projectService.getAllProjects(pageable, null, null, null);
+        var projectPageResponse = projectService.getAllProjects(pageable, null, null, null, null);
         var projectResponse = projectPageResponse.getContent().iterator().next();
 
         // then
@@ -350,10 +333,10 @@ class ProjectServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(ownerId)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(ownerId, userInfo));
         when(projectRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(projectToFind), pageable, 1));
 
-        var projectPageResponse = projectService.getAllProjects(pageable, ownerId, null, null);
+        var projectPageResponse = projectService.getAllProjects(pageable, ownerId, null, null, null);
         var projectResponse = projectPageResponse.getContent().iterator().next();
 
         // then
@@ -392,10 +375,10 @@ class ProjectServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(projectToFind), pageable, 1));
 
-        var projectPageResponse = projectService.getAllProjects(pageable, null, title, null);
+        var projectPageResponse = projectService.getAllProjects(pageable, null, title, null, null);
         var projectResponse = projectPageResponse.getContent().iterator().next();
 
         // then
@@ -435,11 +418,11 @@ class ProjectServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(projectRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(projectToFind), pageable, 1));
-        when(projectStatusRepository.findByName(statusName)).thenReturn(Optional.of(projectToFind.getStatus()));
+        when(dictionaryRegistry.findProjectStatus(statusName)).thenReturn(Optional.of(projectToFind.getStatus()));
 
-        var projectPageResponse = projectService.getAllProjects(pageable, null, null, statusName);
+        var projectPageResponse = projectService.getAllProjects(pageable, null, null, statusName, null);
         var projectResponse = projectPageResponse.getContent().iterator().next();
 
         // then
@@ -470,10 +453,10 @@ class ProjectServiceTest {
         ProjectStatusName statusName = ProjectStatusName.ACTIVE;
         Pageable pageable = PageRequest.of(0, 2);
 
-        when(projectStatusRepository.findByName(statusName)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findProjectStatus(statusName)).thenReturn(Optional.empty());
 
         // when && then
-        assertThrows(NoSuchProjectStatusByNameException.class, () -> projectService.getAllProjects(pageable, null, null, statusName));
+        assertThrows(NoSuchProjectStatusByNameException.class, () -> projectService.getAllProjects(pageable, null, null, statusName, null));
     }
 
     private Answer1<Project, Project> getFakeSave(long id) {
@@ -483,12 +466,6 @@ class ProjectServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, ProjectEvent>>, ProjectEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("projects", event),
-                        new RecordMetadata(new TopicPartition("projects", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Project getNewProjectWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -136,7 +136,7 @@ class RatingControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(ratingService.getRatings(pageable, null, null))
+        when(ratingService.getRatings(pageable, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/ratings"))
@@ -172,7 +172,7 @@ class RatingControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(ratingService.getRatings(pageable, userId, null))
+        when(ratingService.getRatings(pageable, userId, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/ratings"))
@@ -209,7 +209,7 @@ class RatingControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(ratingService.getRatings(pageable, null, ratedByUserId))
+        when(ratingService.getRatings(pageable, null, ratedByUserId, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/ratings"))
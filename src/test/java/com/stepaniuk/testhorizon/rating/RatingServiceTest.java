@@ -1,35 +1,32 @@
 package com.stepaniuk.testhorizon.rating;
 
-import com.stepaniuk.testhorizon.event.rating.RatingEvent;
 import com.stepaniuk.testhorizon.event.rating.RatingUpdatedEvent;
+import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.rating.RatingResponse;
 import com.stepaniuk.testhorizon.payload.rating.RatingUpdateRequest;
 import com.stepaniuk.testhorizon.rating.exceptions.UserCannotChangeOwnRatingException;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
+import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.user.User;
 import com.stepaniuk.testhorizon.user.UserRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -52,6 +49,9 @@ class RatingServiceTest {
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private UserInfoService userInfoService;
+
     @Test
     void shouldReturnRatingResponseWhenChangingRating() {
         // given
@@ -69,16 +69,12 @@ class RatingServiceTest {
 
         // when
         when(ratingRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
-        when(userRepository.findById(1L)).thenReturn(Optional.of(ratedByUser));
+        when(userInfoService.getUserInfo(1L)).thenReturn(new UserInfo(1L, ratedByUser.getFirstName(), ratedByUser.getLastName()));
         when(userRepository.findById(2L)).thenReturn(Optional.of(user));
 
         final var receivedEventWrapper = new RatingUpdatedEvent[1];
-        when(
-                ratingProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (RatingUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(ratingProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (RatingUpdatedEvent) event));
 
         RatingResponse ratingResponse = ratingService.changeRating(request, ratedByUserId, UUID.randomUUID().toString());
 
@@ -147,11 +143,13 @@ class RatingServiceTest {
         Specification<Rating> specification = Specification.where(null);
 
         // when
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(ratedByUserId)).thenReturn(Optional.of(ratedByUser));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(
+                userId, new UserInfo(userId, user.getFirstName(), user.getLastName()),
+                ratedByUserId, new UserInfo(ratedByUserId, ratedByUser.getFirstName(), ratedByUser.getLastName())
+        ));
         when(ratingRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(ratingToFind), pageable, 1));
 
-        var ratings = ratingService.getRatings(pageable, null, null);
+        var ratings = ratingService.getRatings(pageable, null, null, null);
         var ratingResponse = ratings.getContent().iterator().next();
 
         // then
@@ -194,11 +192,13 @@ class RatingServiceTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(ratedByUserId)).thenReturn(Optional.of(ratedByUser));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(
+                userId, new UserInfo(userId, user.getFirstName(), user.getLastName()),
+                ratedByUserId, new UserInfo(ratedByUserId, ratedByUser.getFirstName(), ratedByUser.getLastName())
+        ));
         when(ratingRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(ratingToFind), pageable, 1));
 
-        var ratings = ratingService.getRatings(pageable, userId, null);
+        var ratings = ratingService.getRatings(pageable, userId, null, null);
         var ratingResponse = ratings.getContent().iterator().next();
 
         // then
@@ -241,11 +241,13 @@ class RatingServiceTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(userRepository.findById(ratedByUserId)).thenReturn(Optional.of(ratedByUser));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(
+                userId, new UserInfo(userId, user.getFirstName(), user.getLastName()),
+                ratedByUserId, new UserInfo(ratedByUserId, ratedByUser.getFirstName(), ratedByUser.getLastName())
+        ));
         when(ratingRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(ratingToFind), pageable, 1));
 
-        var ratings = ratingService.getRatings(pageable, null, ratedByUserId);
+        var ratings = ratingService.getRatings(pageable, null, ratedByUserId, null);
         var ratingResponse = ratings.getContent().iterator().next();
 
         // then
@@ -277,9 +279,4 @@ class RatingServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, RatingEvent>>, RatingEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("ratings", event),
-                        new RecordMetadata(new TopicPartition("ratings", 0), 0L, 0, 0L, 0, 0)));
-    }
 }
@@ -0,0 +1,55 @@
+package com.stepaniuk.testhorizon.security;
+
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.User;
+import com.stepaniuk.testhorizon.user.authority.Authority;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.io.Encoders;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtProviderTest {
+
+    private static final String SECRET_KEY = Encoders.BASE64.encode(new byte[32]);
+
+    private final JwtProvider jwtProvider = new JwtProvider(SECRET_KEY, 3600000L, 86400000L, 100);
+
+    @Test
+    void shouldReturnClaimsOfGeneratedToken() {
+        // given
+        var token = jwtProvider.generateAccessToken(createUser());
+
+        // when
+        var claims = jwtProvider.extractAllClaims(token);
+
+        // then
+        assertEquals("johndoe@gmail.com", claims.getSubject());
+        assertEquals(1L, jwtProvider.extractUserId(claims));
+        assertEquals(List.of("TESTER"), jwtProvider.extractAuthorities(claims));
+        assertSame(claims, jwtProvider.extractAllClaims(token));
+    }
+
+    @Test
+    void shouldThrowExpiredJwtExceptionWhenTokenIsExpired() {
+        // given
+        var expiredTokenProvider = new JwtProvider(SECRET_KEY, -1000L, 86400000L, 100);
+        var token = expiredTokenProvider.generateAccessToken(new HashMap<>(), createUser());
+
+        // when & then
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.extractAllClaims(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.extractAllClaims(token));
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("johndoe@gmail.com");
+        user.setAuthorities(Set.of(new Authority(1L, AuthorityName.TESTER)));
+        return user;
+    }
+}
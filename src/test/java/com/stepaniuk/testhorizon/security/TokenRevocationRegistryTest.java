@@ -0,0 +1,87 @@
+package com.stepaniuk.testhorizon.security;
+
+import com.stepaniuk.testhorizon.event.user.UserAuthorityUpdatedEvent;
+import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {TokenRevocationRegistry.class})
+class TokenRevocationRegistryTest {
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    void shouldRevokeTokensIssuedBeforeAuthorityUpdate() {
+        // given
+        var revokedAt = Instant.parse("2024-11-25T17:28:19.500Z");
+        var event = new UserAuthorityUpdatedEvent(revokedAt, UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 1L, AuthorityName.ADMIN);
+
+        // when
+        tokenRevocationRegistry.handleUserEvents(event);
+
+        // then
+        assertTrue(tokenRevocationRegistry.isRevoked(1L, revokedAt.minusSeconds(60)));
+        assertTrue(tokenRevocationRegistry.isRevoked(1L, Instant.parse("2024-11-25T17:28:18Z")));
+        assertFalse(tokenRevocationRegistry.isRevoked(1L, revokedAt.plusSeconds(1)));
+        assertFalse(tokenRevocationRegistry.isRevoked(2L, revokedAt.minusSeconds(60)));
+    }
+
+    @Test
+    void shouldAcceptTokenIssuedInSecondOfRevocation() {
+        // given
+        tokenRevocationRegistry.revokeTokensIssuedBefore(5L, Instant.parse("2024-11-25T17:28:19.500Z"));
+
+        // when & then
+        // iat has whole seconds, a token issued at 17:28:19.700 carries 17:28:19
+        assertFalse(tokenRevocationRegistry.isRevoked(5L, Instant.parse("2024-11-25T17:28:19Z")));
+    }
+
+    @Test
+    void shouldTreatTokenWithoutIssuedAtAsRevoked() {
+        // given
+        tokenRevocationRegistry.revokeTokensIssuedBefore(6L, Instant.now());
+
+        // when & then
+        assertTrue(tokenRevocationRegistry.isRevoked(6L, null));
+        assertFalse(tokenRevocationRegistry.isRevoked(7L, null));
+    }
+
+    @Test
+    void shouldNotRevokeTokensWhenEmailIsNotChanged() {
+        // given
+        var updatedAt = Instant.now();
+        var event = new UserUpdatedEvent(updatedAt, UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), 3L, new UserUpdatedEvent.Data(null, "First", null));
+
+        // when
+        tokenRevocationRegistry.handleUserEvents(event);
+
+        // then
+        assertFalse(tokenRevocationRegistry.isRevoked(3L, updatedAt.minusSeconds(60)));
+    }
+
+    @Test
+    void shouldKeepLatestRevocation() {
+        // given
+        var first = Instant.now();
+        var second = first.plusSeconds(30);
+
+        // when
+        tokenRevocationRegistry.revokeTokensIssuedBefore(4L, second);
+        tokenRevocationRegistry.revokeTokensIssuedBefore(4L, first);
+
+        // then
+        assertTrue(tokenRevocationRegistry.isRevoked(4L, first.plusSeconds(10)));
+    }
+}
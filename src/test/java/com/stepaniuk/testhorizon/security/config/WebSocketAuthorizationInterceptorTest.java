@@ -0,0 +1,151 @@
+package com.stepaniuk.testhorizon.security.config;
+
+import com.stepaniuk.testhorizon.security.JwtProvider;
+import com.stepaniuk.testhorizon.security.TokenRevocationRegistry;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.security.Principal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {WebSocketAuthorizationInterceptor.class})
+class WebSocketAuthorizationInterceptorTest {
+
+    private final MessageChannel channel = mock(MessageChannel.class);
+
+    @Autowired
+    private WebSocketAuthorizationInterceptor interceptor;
+
+    @MockitoBean
+    private JwtProvider jwtProvider;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Test
+    void shouldNameSessionUserByUserIdFromToken() {
+        // given
+        var claims = mock(Claims.class);
+        var accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer token");
+
+        when(jwtProvider.extractAllClaims("token")).thenReturn(claims);
+        when(jwtProvider.extractUserId(claims)).thenReturn(1L);
+        when(jwtProvider.extractAuthorities(claims)).thenReturn(List.of(AuthorityName.TESTER.name()));
+        when(jwtProvider.extractIssuedAt(claims)).thenReturn(Instant.now());
+
+        // when
+        interceptor.preSend(messageOf(accessor), channel);
+
+        // then
+        assertNotNull(accessor.getUser());
+        assertEquals("1", accessor.getUser().getName());
+    }
+
+    @Test
+    void shouldRejectConnectWithExpiredToken() {
+        // given
+        var accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setNativeHeader("Authorization", "Bearer token");
+        var message = messageOf(accessor);
+
+        when(jwtProvider.extractAllClaims("token")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    void shouldAllowAuthenticatedUserToSubscribeToEntityAndOwnQueue() {
+        // given
+        var entity = subscribe("/topic/bug-reports/42", user(AuthorityName.TESTER));
+        var queue = subscribe("/user/queue/export-jobs", user(AuthorityName.TESTER));
+
+        // when & then
+        assertDoesNotThrow(() -> interceptor.preSend(entity, channel));
+        assertDoesNotThrow(() -> interceptor.preSend(queue, channel));
+    }
+
+    @Test
+    void shouldRejectAnonymousSubscription() {
+        // given
+        var message = subscribe("/topic/projects/7", null);
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    @Test
+    void shouldRestrictSensitiveDestinationsToAdmins() {
+        // given
+        var tester = subscribe("/topic/auth", user(AuthorityName.TESTER));
+        var admin = subscribe("/topic/auth", user(AuthorityName.ADMIN));
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(tester, channel));
+        assertDoesNotThrow(() -> interceptor.preSend(admin, channel));
+    }
+
+    @Test
+    void shouldRejectPatternAndBrokerQueueSubscriptions() {
+        // given
+        var pattern = subscribe("/topic/*", user(AuthorityName.TESTER));
+        var otherUsersQueue = subscribe("/queue/export-jobs-user1a2b3c", user(AuthorityName.TESTER));
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(pattern, channel));
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(otherUsersQueue, channel));
+    }
+
+    @Test
+    void shouldRejectSendingToBrokerDestinations() {
+        // given
+        var accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setDestination("/topic/projects/7");
+        accessor.setUser(user(AuthorityName.ADMIN));
+        var message = messageOf(accessor);
+
+        // when & then
+        assertThrows(AccessDeniedException.class, () -> interceptor.preSend(message, channel));
+    }
+
+    private static Message<byte[]> subscribe(String destination, Principal user) {
+        var accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(user);
+        return messageOf(accessor);
+    }
+
+    private static Message<byte[]> messageOf(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Principal user(AuthorityName authority) {
+        return UsernamePasswordAuthenticationToken.authenticated("1", null,
+                List.of(new SimpleGrantedAuthority(authority.name())));
+    }
+}
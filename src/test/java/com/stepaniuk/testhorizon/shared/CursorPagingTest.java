@@ -0,0 +1,87 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.stepaniuk.testhorizon.shared.exceptions.InvalidCursorException;
+import com.stepaniuk.testhorizon.shared.exceptions.UnsupportedCursorSortException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPagingTest {
+
+    @Test
+    void shouldEncodeKeysetPositionAsUrlSafeCursor() {
+        // given
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("title", "Title with spaces & symbols=?");
+        keys.put("createdAt", Instant.parse("2024-11-25T17:28:19.266615Z"));
+        keys.put("id", 42L);
+
+        // when
+        String cursor = CursorPaging.encode(ScrollPosition.forward(keys));
+
+        // then
+        assertFalse(cursor.isEmpty());
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void shouldReturnEmptyCursorForInitialPosition() {
+        // when
+        String cursor = CursorPaging.encode(ScrollPosition.keyset());
+
+        // then
+        assertEquals("", cursor);
+    }
+
+    @Test
+    void shouldThrowInvalidCursorExceptionWhenCursorIsMalformed() {
+        // given
+        var pageable = PageRequest.of(0, 10);
+
+        // when & then
+        assertThrows(InvalidCursorException.class,
+                () -> CursorPaging.scroll(pageable, "not a cursor", Set.of("createdAt"), "/tests"));
+    }
+
+    @Test
+    void shouldThrowInvalidCursorExceptionWhenCursorDoesNotMatchSort() {
+        // given
+        String cursor = CursorPaging.encode(ScrollPosition.forward(Map.of("title", "Title", "id", 1L)));
+        var pageable = PageRequest.of(0, 10, Sort.by("createdAt"));
+
+        // when & then
+        assertThrows(InvalidCursorException.class,
+                () -> CursorPaging.scroll(pageable, cursor, Set.of("createdAt", "title"), "/tests"));
+    }
+
+    @Test
+    void shouldThrowUnsupportedCursorSortExceptionWhenSortPropertyIsNotAllowed() {
+        // given
+        var pageable = PageRequest.of(0, 10, Sort.by("description"));
+
+        // when & then
+        assertThrows(UnsupportedCursorSortException.class,
+                () -> CursorPaging.scroll(pageable, "", Set.of("createdAt"), "/tests"));
+    }
+
+    @Test
+    void shouldAcceptCursorEncodedForSameSort() {
+        // given
+        KeysetScrollPosition position = ScrollPosition.forward(
+                Map.of("createdAt", Instant.parse("2024-11-25T17:28:19.266615Z"), "id", 1L));
+        String cursor = CursorPaging.encode(position);
+        var pageable = PageRequest.of(0, 10);
+
+        // when & then
+        assertDoesNotThrow(() -> CursorPaging.scroll(pageable, cursor, Set.of("createdAt"), "/tests"));
+    }
+}
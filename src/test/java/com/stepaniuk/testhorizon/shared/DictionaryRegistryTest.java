@@ -0,0 +1,106 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.stepaniuk.testhorizon.bugreport.severity.BugReportSeverityRepository;
+import com.stepaniuk.testhorizon.bugreport.status.BugReportStatusRepository;
+import com.stepaniuk.testhorizon.post.category.PostCategoryRepository;
+import com.stepaniuk.testhorizon.project.status.ProjectStatusRepository;
+import com.stepaniuk.testhorizon.test.type.TestType;
+import com.stepaniuk.testhorizon.test.type.TestTypeRepository;
+import com.stepaniuk.testhorizon.testcase.priority.TestCasePriorityRepository;
+import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
+import com.stepaniuk.testhorizon.types.test.TestTypeName;
+import com.stepaniuk.testhorizon.types.user.AuthorityName;
+import com.stepaniuk.testhorizon.user.authority.Authority;
+import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ServiceLevelUnitTest
+@ContextConfiguration(classes = {DictionaryRegistry.class})
+class DictionaryRegistryTest {
+
+    @Autowired
+    private DictionaryRegistry dictionaryRegistry;
+
+    @MockitoBean
+    private TestTypeRepository testTypeRepository;
+
+    @MockitoBean
+    private ProjectStatusRepository projectStatusRepository;
+
+    @MockitoBean
+    private BugReportSeverityRepository bugReportSeverityRepository;
+
+    @MockitoBean
+    private BugReportStatusRepository bugReportStatusRepository;
+
+    @MockitoBean
+    private TestCasePriorityRepository testCasePriorityRepository;
+
+    @MockitoBean
+    private PostCategoryRepository postCategoryRepository;
+
+    @MockitoBean
+    private AuthorityRepository authorityRepository;
+
+    @Test
+    void shouldReturnLoadedRowsWithoutQueryingRepositories() {
+        // given
+        var unit = new TestType(1L, TestTypeName.UNIT);
+        var tester = new Authority(1L, AuthorityName.TESTER);
+
+        when(testTypeRepository.findAll()).thenReturn(List.of(unit));
+        when(authorityRepository.findAll()).thenReturn(List.of(tester));
+        dictionaryRegistry.refresh();
+        clearInvocations(testTypeRepository, authorityRepository);
+
+        // when
+        var testType = dictionaryRegistry.findTestType(TestTypeName.UNIT);
+        var authority = dictionaryRegistry.findAuthority(AuthorityName.TESTER);
+
+        // then
+        assertTrue(testType.isPresent());
+        assertSame(unit, testType.get());
+        assertTrue(authority.isPresent());
+        assertSame(tester, authority.get());
+        verifyNoInteractions(testTypeRepository, authorityRepository);
+    }
+
+    @Test
+    void shouldRefreshWhenLookingUpNotLoadedName() {
+        // given
+        var unit = new TestType(1L, TestTypeName.UNIT);
+        var integration = new TestType(2L, TestTypeName.INTEGRATION);
+
+        when(testTypeRepository.findAll()).thenReturn(List.of(unit));
+        dictionaryRegistry.refresh();
+        when(testTypeRepository.findAll()).thenReturn(List.of(unit, integration));
+
+        // when
+        var testType = dictionaryRegistry.findTestType(TestTypeName.INTEGRATION);
+
+        // then
+        assertTrue(testType.isPresent());
+        assertSame(integration, testType.get());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenNameDoesNotExist() {
+        // given
+        when(testTypeRepository.findAll()).thenReturn(List.of());
+        dictionaryRegistry.refresh();
+
+        // when
+        var testType = dictionaryRegistry.findTestType(TestTypeName.UNIT);
+
+        // then
+        assertTrue(testType.isEmpty());
+    }
+}
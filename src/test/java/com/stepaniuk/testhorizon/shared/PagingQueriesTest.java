@@ -0,0 +1,83 @@
+package com.stepaniuk.testhorizon.shared;
+
+import com.stepaniuk.testhorizon.post.Post;
+import com.stepaniuk.testhorizon.post.PostRepository;
+import com.stepaniuk.testhorizon.post.category.PostCategory;
+import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
+import com.stepaniuk.testhorizon.types.post.PostCategoryName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JpaLevelTest
+@Import(PagingQueries.class)
+@Sql(scripts = {"classpath:sql/post/post_categories.sql", "classpath:sql/post/posts.sql"})
+class PagingQueriesTest {
+
+    @Autowired
+    private PagingQueries pagingQueries;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Test
+    void shouldReturnSliceWithoutNextWhenAllRowsFit() {
+        // when
+        var slice = pagingQueries.findSlice(Post.class, null, PageRequest.of(0, 10, Sort.by("id")));
+
+        // then
+        assertEquals(1, slice.getNumberOfElements());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void shouldReturnSliceWithNextWhenMoreRowsExist() {
+        // given
+        postRepository.save(new Post(null, 2L, "Post 2", "Description", "Content of post 2",
+                new PostCategory(1L, PostCategoryName.QUALITY_ASSURANCE), Instant.now(), Instant.now()));
+        Specification<Post> specification = (root, query, criteriaBuilder) -> criteriaBuilder.conjunction();
+
+        // when
+        var firstSlice = pagingQueries.findSlice(Post.class, specification, PageRequest.of(0, 1, Sort.by("id")));
+        var secondSlice = pagingQueries.findSlice(Post.class, specification, PageRequest.of(1, 1, Sort.by("id")));
+
+        // then
+        assertEquals(1, firstSlice.getNumberOfElements());
+        assertEquals(1L, firstSlice.getContent().get(0).getId());
+        assertTrue(firstSlice.hasNext());
+        assertEquals(1, secondSlice.getNumberOfElements());
+        assertFalse(secondSlice.hasNext());
+    }
+
+    @Test
+    void shouldCountExactlyWhenApproximateCountIsRequestedForFilteredQuery() {
+        // given
+        Specification<Post> specification = (root, query, criteriaBuilder) -> criteriaBuilder
+                .equal(root.get("ownerId"), 1L);
+
+        // when
+        var page = pagingQueries.findPage(Post.class, specification, PageRequest.of(0, 10), true);
+
+        // then
+        assertEquals(1, page.getTotalElements());
+        assertEquals(1, page.getContent().size());
+    }
+
+    @Test
+    void shouldReturnPageWhenApproximateCountIsRequestedForUnfilteredQuery() {
+        // when
+        var page = pagingQueries.findPage(Post.class, null, PageRequest.of(0, 10), true);
+
+        // then
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.getTotalElements() >= 1);
+    }
+}
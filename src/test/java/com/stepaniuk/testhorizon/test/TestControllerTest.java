@@ -378,7 +378,7 @@ class TestControllerTest {
         var response = createTestResponse();
         var pageable = PageRequest.of(0, 2);
 
-        when(testService.getAllTests(pageable, null, null, null, null, null))
+        when(testService.getAllTests(pageable, null, null, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -420,7 +420,7 @@ class TestControllerTest {
         var pageable = PageRequest.of(0, 2);
         var testTitle = "title";
 
-        when(testService.getAllTests(pageable, testTitle, null, null, null, null))
+        when(testService.getAllTests(pageable, testTitle, null, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -462,7 +462,7 @@ class TestControllerTest {
         var pageable = PageRequest.of(0, 2);
         var projectId = List.of(1L);
 
-        when(testService.getAllTests(pageable, null, projectId, null, null, null))
+        when(testService.getAllTests(pageable, null, projectId, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -504,7 +504,7 @@ class TestControllerTest {
         var pageable = PageRequest.of(0, 2);
         var authorId = 1L;
 
-        when(testService.getAllTests(pageable, null, null, authorId, null, null))
+        when(testService.getAllTests(pageable, null, null, authorId, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -546,7 +546,7 @@ class TestControllerTest {
         var pageable = PageRequest.of(0, 2);
         var testCaseId = 1L;
 
-        when(testService.getAllTests(pageable, null, null, null, testCaseId, null))
+        when(testService.getAllTests(pageable, null, null, null, testCaseId, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -588,7 +588,7 @@ class TestControllerTest {
         var pageable = PageRequest.of(0, 2);
         var type = TestTypeName.ACCEPTANCE;
 
-        when(testService.getAllTests(pageable, null, null, null, null, type))
+        when(testService.getAllTests(pageable, null, null, null, null, type, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/tests"))
@@ -1,15 +1,20 @@
 package com.stepaniuk.testhorizon.test;
 
+import com.stepaniuk.testhorizon.shared.CursorPaging;
 import com.stepaniuk.testhorizon.test.type.TestType;
 import com.stepaniuk.testhorizon.types.test.TestTypeName;
 import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -140,4 +145,29 @@ class TestRepositoryTest {
         assertNotNull(tests);
         assertFalse(tests.isEmpty());
     }
+
+    @org.junit.jupiter.api.Test
+    void shouldScrollTestsByCursor() {
+        // given
+        TestType testType = new TestType(1L, TestTypeName.FUNCTIONAL);
+        Instant createdAt = Instant.parse("2024-11-26T10:00:00Z");
+        testRepository.save(new Test(null, 1L, 1L, 1L, "Newer test", "Test description",
+                "Test instructions", "https://github.com/user/repo", testType, createdAt, createdAt));
+        var pageable = PageRequest.of(0, 1);
+
+        // when
+        Window<Test> firstWindow = testRepository.findBy(Specification.where(null),
+                CursorPaging.scroll(pageable, "", Set.of("createdAt"), "/tests"));
+        String cursor = CursorPaging.encode(firstWindow.positionAt(0));
+        Window<Test> secondWindow = testRepository.findBy(Specification.where(null),
+                CursorPaging.scroll(pageable, cursor, Set.of("createdAt"), "/tests"));
+
+        // then
+        assertEquals(1, firstWindow.size());
+        assertEquals("Newer test", firstWindow.getContent().get(0).getTitle());
+        assertTrue(firstWindow.hasNext());
+        assertEquals(1, secondWindow.size());
+        assertEquals(1L, secondWindow.getContent().get(0).getId());
+        assertFalse(secondWindow.hasNext());
+    }
 }
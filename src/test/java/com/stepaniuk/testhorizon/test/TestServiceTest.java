@@ -2,8 +2,9 @@ package com.stepaniuk.testhorizon.test;
 
 import com.stepaniuk.testhorizon.event.test.TestCreatedEvent;
 import com.stepaniuk.testhorizon.event.test.TestDeletedEvent;
-import com.stepaniuk.testhorizon.event.test.TestEvent;
 import com.stepaniuk.testhorizon.event.test.TestUpdatedEvent;
+import com.stepaniuk.testhorizon.payload.info.ProjectInfo;
+import com.stepaniuk.testhorizon.payload.info.TestCaseInfo;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.test.TestCreateRequest;
 import com.stepaniuk.testhorizon.payload.test.TestUpdateRequest;
@@ -12,13 +13,13 @@ import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestByIdException;
 import com.stepaniuk.testhorizon.test.exceptions.NoSuchTestTypeByNameException;
 import com.stepaniuk.testhorizon.test.type.TestType;
-import com.stepaniuk.testhorizon.test.type.TestTypeRepository;
 import com.stepaniuk.testhorizon.testcase.TestCase;
 import com.stepaniuk.testhorizon.testcase.TestCaseRepository;
 import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
@@ -26,9 +27,6 @@ import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
 import com.stepaniuk.testhorizon.types.test.TestTypeName;
 import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,16 +34,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -66,7 +63,7 @@ class TestServiceTest {
     private TestRepository testRepository;
 
     @MockitoBean
-    private TestTypeRepository testTypeRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private ProjectRepository projectRepository;
@@ -88,17 +85,12 @@ class TestServiceTest {
 
         when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(testTypeRepository.findById(1L)).thenReturn(Optional.of(testType));
         when(userInfoService.getUserInfo(1L)).thenReturn(new UserInfo(1L, "name", "surname"));
-        when(testTypeRepository.findByName(TestTypeName.UNIT)).thenReturn(Optional.of(testType));
+        when(dictionaryRegistry.findTestType(TestTypeName.UNIT)).thenReturn(Optional.of(testType));
         when(testRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
         final var receivedEventWrapper = new TestCreatedEvent[1];
-        when(
-                testProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(testProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestCreatedEvent) event));
 
         // when
         var testResponse = testService.createTest(testCreateRequest, 1L, UUID.randomUUID().toString());
@@ -139,7 +131,7 @@ class TestServiceTest {
         var testCreateRequest = new TestCreateRequest(1L, 1L, "title", "description", "instructions", "githubUrl", TestTypeName.INTEGRATION);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(getNewProjectWithAllFields()));
-        when(testTypeRepository.findByName(TestTypeName.INTEGRATION)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findTestType(TestTypeName.INTEGRATION)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchTestTypeByNameException.class, () -> testService.createTest(testCreateRequest, 1L, correlationId));
@@ -222,12 +214,8 @@ class TestServiceTest {
         when(testRepository.findById(1L)).thenReturn(Optional.of(testToUpdate));
         when(testRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
         final var receivedEventWrapper = new TestUpdatedEvent[1];
-        when(
-                testProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(testProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestUpdatedEvent) event));
 
         // when
         var testResponse = testService.updateTest(1L, testUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -286,7 +274,7 @@ class TestServiceTest {
         var testUpdateRequest = new TestUpdateRequest(null, null, null, null, null, TestTypeName.INTEGRATION);
 
         when(testRepository.findById(1L)).thenReturn(Optional.of(testToUpdate));
-        when(testTypeRepository.findByName(TestTypeName.INTEGRATION)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findTestType(TestTypeName.INTEGRATION)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchTestTypeByNameException.class, () -> testService.updateTest(1L, testUpdateRequest, correlationId, authInfo));
@@ -313,12 +301,8 @@ class TestServiceTest {
         var authInfo = new AuthInfo(1L, List.of());
         final var receivedEventWrapper = new TestDeletedEvent[1];
 
-        when(
-                testProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(testProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestDeletedEvent) event));
 
         when(testRepository.findById(1L)).thenReturn(Optional.of(testToDelete));
 
@@ -372,12 +356,12 @@ class TestServiceTest {
         var pageable = PageRequest.of(0, 2);
         Specification<Test> specification = Specification.where(null);
 
-        when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
         when(testRepository.findAll(specification, pageable)).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
 
-        var testResponsePage = testService.getAllTests(pageable, null,  null,null, null, null);
+        var testResponsePage = testService.getAllTests(pageable, null,  null,null, null, null, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -425,12 +409,12 @@ class TestServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
-        when(projectRepository.findById(projectIds.get(0))).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
         when(testRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
 
-        var testResponsePage = testService.getAllTests(pageable, testTitle, null, null, null, null);
+        var testResponsePage = testService.getAllTests(pageable, testTitle, null, null, null, null, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -477,12 +461,12 @@ class TestServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
-        when(projectRepository.findById(projectIds.get(0))).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
         when(testRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
 
-        var testResponsePage = testService.getAllTests(pageable, null, projectIds, null, null, null);
+        var testResponsePage = testService.getAllTests(pageable, null, projectIds, null, null, null, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -529,12 +513,12 @@ class TestServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
-        when(userInfoService.getUserInfo(authorId)).thenReturn(userInfo);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
         when(testRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
 
-        var testResponsePage = testService.getAllTests(pageable, null, null, authorId, null, null);
+        var testResponsePage = testService.getAllTests(pageable, null, null, authorId, null, null, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -581,12 +565,12 @@ class TestServiceTest {
 
         var pageable = PageRequest.of(0, 2);
 
-        when(testCaseRepository.findById(testCaseId)).thenReturn(Optional.of(testCase));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
         when(testRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
 
-        var testResponsePage = testService.getAllTests(pageable, null,null, null, testCaseId, null);
+        var testResponsePage = testService.getAllTests(pageable, null,null, null, testCaseId, null, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -632,13 +616,13 @@ class TestServiceTest {
         var testCase = getNewTestCaseWithAllFields();
         var pageable = PageRequest.of(0, 2);
 
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(userInfo.getId(), userInfo));
+        when(projectRepository.findProjectInfosByIds(any())).thenReturn(List.of(new ProjectInfo(project.getId(), project.getTitle(), project.getOwnerId())));
         when(testRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(testToFind), pageable, 1));
-        when(testTypeRepository.findByName(typeName)).thenReturn(Optional.of(type));
-        when(testCaseRepository.findById(testCase.getId())).thenReturn(Optional.of(testCase));
+        when(dictionaryRegistry.findTestType(typeName)).thenReturn(Optional.of(type));
+        when(testCaseRepository.findTestCaseInfosByIds(any())).thenReturn(List.of(new TestCaseInfo(testCase.getId(), testCase.getTitle())));
 
-        var testResponsePage = testService.getAllTests(pageable, null,null, null, null, typeName);
+        var testResponsePage = testService.getAllTests(pageable, null,null, null, null, typeName, null);
         var testResponse = testResponsePage.getContent().iterator().next();
 
         //then
@@ -676,10 +660,10 @@ class TestServiceTest {
         TestTypeName typeName = TestTypeName.INTEGRATION;
         Pageable pageable = PageRequest.of(0, 2);
 
-        when(testTypeRepository.findByName(typeName)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findTestType(typeName)).thenReturn(Optional.empty());
 
         // when && then
-        assertThrows(NoSuchTestTypeByNameException.class, () -> testService.getAllTests(pageable, null, null, null,null, typeName));
+        assertThrows(NoSuchTestTypeByNameException.class, () -> testService.getAllTests(pageable, null, null, null,null, typeName, null));
     }
 
     private Answer1<Test, Test> getFakeSave(long id) {
@@ -689,12 +673,6 @@ class TestServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, TestEvent>>, TestEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("tests", event),
-                        new RecordMetadata(new TopicPartition("tests", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private Test getNewTestWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -364,7 +364,7 @@ class TestCaseControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(testCaseService.getAllTestCases(pageable, null,null, null, null))
+        when(testCaseService.getAllTestCases(pageable, null,null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/test-cases"))
@@ -406,7 +406,7 @@ class TestCaseControllerTest {
         var testCaseTitle = "title";
 
         // when
-        when(testCaseService.getAllTestCases(pageable, testCaseTitle, null, null, null))
+        when(testCaseService.getAllTestCases(pageable, testCaseTitle, null, null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/test-cases"))
@@ -448,7 +448,7 @@ class TestCaseControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(testCaseService.getAllTestCases(pageable, null, List.of(response.getProject().getId()), null, null))
+        when(testCaseService.getAllTestCases(pageable, null, List.of(response.getProject().getId()), null, null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/test-cases"))
@@ -490,7 +490,7 @@ class TestCaseControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(testCaseService.getAllTestCases(pageable, null, null, response.getAuthor().getId(), null))
+        when(testCaseService.getAllTestCases(pageable, null, null, response.getAuthor().getId(), null, null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/test-cases"))
@@ -532,7 +532,7 @@ class TestCaseControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(testCaseService.getAllTestCases(pageable, null,null, null, response.getPriority()))
+        when(testCaseService.getAllTestCases(pageable, null,null, null, response.getPriority(), null))
                 .thenReturn(
                         pageMapper.toResponse(new PageImpl<>(List.of(response), pageable, 1),
                                 URI.create("/test-cases"))
@@ -1,5 +1,6 @@
 package com.stepaniuk.testhorizon.testcase;
 
+import com.stepaniuk.testhorizon.payload.info.TestCaseInfo;
 import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
 import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
 import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
@@ -138,4 +139,15 @@ class TestCaseRepositoryTest {
         assertNotNull(testCases);
         assertFalse(testCases.isEmpty());
     }
+
+    @Test
+    void shouldReturnTestCaseInfosWhenFindTestCaseInfosByIds() {
+        // when
+        List<TestCaseInfo> testCaseInfos = testCaseRepository.findTestCaseInfosByIds(List.of(1L, 100L));
+
+        // then
+        assertNotNull(testCaseInfos);
+        assertEquals(1, testCaseInfos.size());
+        assertEquals(new TestCaseInfo(1L, "Test case title"), testCaseInfos.get(0));
+    }
 }
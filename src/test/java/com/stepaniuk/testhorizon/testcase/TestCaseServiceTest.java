@@ -2,7 +2,6 @@ package com.stepaniuk.testhorizon.testcase;
 
 import com.stepaniuk.testhorizon.event.testcase.TestCaseCreatedEvent;
 import com.stepaniuk.testhorizon.event.testcase.TestCaseDeletedEvent;
-import com.stepaniuk.testhorizon.event.testcase.TestCaseEvent;
 import com.stepaniuk.testhorizon.event.testcase.TestCaseUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.payload.testcase.TestCaseCreateRequest;
@@ -12,6 +11,7 @@ import com.stepaniuk.testhorizon.project.ProjectRepository;
 import com.stepaniuk.testhorizon.project.exceptions.NoSuchProjectByIdException;
 import com.stepaniuk.testhorizon.project.status.ProjectStatus;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.UserInfoService;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
@@ -20,11 +20,7 @@ import com.stepaniuk.testhorizon.testcase.exceptions.NoSuchTestCasePriorityByNam
 import com.stepaniuk.testhorizon.testcase.priority.TestCasePriority;
 import com.stepaniuk.testhorizon.types.project.ProjectStatusName;
 import com.stepaniuk.testhorizon.types.testcase.TestCasePriorityName;
-import com.stepaniuk.testhorizon.testcase.priority.TestCasePriorityRepository;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
 import org.mockito.stubbing.Answer1;
@@ -32,16 +28,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.answer;
@@ -62,7 +57,7 @@ class TestCaseServiceTest {
     private TestCaseRepository testCaseRepository;
 
     @MockitoBean
-    private TestCasePriorityRepository testCasePriorityRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private ProjectRepository projectRepository;
@@ -79,16 +74,12 @@ class TestCaseServiceTest {
         var project = getNewProjectWithAllFields();
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(testCasePriorityRepository.findByName(TestCasePriorityName.LOW)).thenReturn(Optional.of(testCasePriority));
+        when(dictionaryRegistry.findTestCasePriority(TestCasePriorityName.LOW)).thenReturn(Optional.of(testCasePriority));
         when(testCaseRepository.save(any())).thenAnswer(answer(getFakeSave(1L)));
         when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
         final var receivedEventWrapper = new TestCaseCreatedEvent[1];
-        when(
-                testCaseProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestCaseCreatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult()
-                )
-        );
+        doNothing().when(testCaseProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestCaseCreatedEvent) event));
 
         // when
         var testCaseResponse = testCaseService.createTestCase(testCaseCreateRequest, 1L, UUID.randomUUID().toString());
@@ -127,7 +118,7 @@ class TestCaseServiceTest {
         var correlationId = UUID.randomUUID().toString();
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(getNewProjectWithAllFields()));
-        when(testCasePriorityRepository.findByName(TestCasePriorityName.HIGH)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findTestCasePriority(TestCasePriorityName.HIGH)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchTestCasePriorityByNameException.class, () -> testCaseService.createTestCase(testCaseCreateRequest, 1L, correlationId));
@@ -204,11 +195,8 @@ class TestCaseServiceTest {
         when(testCaseRepository.findById(1L)).thenReturn(Optional.of(testCaseToUpdate));
         when(testCaseRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
         final var receivedEventWrapper = new TestCaseUpdatedEvent[1];
-        when(
-                testCaseProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestCaseUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+        doNothing().when(testCaseProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestCaseUpdatedEvent) event));
 
         // when
         var testCaseResponse = testCaseService.updateTestCase(1L, testCaseUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -265,7 +253,7 @@ class TestCaseServiceTest {
         var testCaseUpdateRequest = new TestCaseUpdateRequest(null, null, null, null, null, TestCasePriorityName.HIGH);
 
         when(testCaseRepository.findById(1L)).thenReturn(Optional.of(testCaseToUpdate));
-        when(testCasePriorityRepository.findByName(TestCasePriorityName.HIGH)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findTestCasePriority(TestCasePriorityName.HIGH)).thenReturn(Optional.empty());
 
         // when && then
         assertThrows(NoSuchTestCasePriorityByNameException.class, () -> testCaseService.updateTestCase(1L, testCaseUpdateRequest, correlationId, authInfo));
@@ -292,11 +280,8 @@ class TestCaseServiceTest {
         var authInfo = new AuthInfo(1L, List.of());
 
         final var receivedEventWrapper = new TestCaseDeletedEvent[1];
-        when(
-                testCaseProducer.send(
-                        assertArg(event -> receivedEventWrapper[0] = (TestCaseDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+        doNothing().when(testCaseProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (TestCaseDeletedEvent) event));
 
         when(testCaseRepository.findById(1L)).thenReturn(Optional.of(testCaseToDelete));
 
@@ -351,12 +336,12 @@ class TestCaseServiceTest {
         Specification<TestCase> specification = Specification.where(null);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
 
         when(testCaseRepository.findAll(specification, pageable)).thenReturn(
                 new PageImpl<>(List.of(testCaseToFind), pageable, 1));
         // when
-        var testCaseResponses = testCaseService.getAllTestCases(pageable, null,null, null, null);
+        var testCaseResponses = testCaseService.getAllTestCases(pageable, null,null, null, null, null);
         var testCaseResponse = testCaseResponses.getContent().iterator().next();
 
         //then
@@ -401,12 +386,12 @@ class TestCaseServiceTest {
         var project = getNewProjectWithAllFields();
 
         when(projectRepository.findById(projectIds.get(0))).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
 
         when(testCaseRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(testCaseToFind), pageable, 1));
         // when
-        var testCaseResponses = testCaseService.getAllTestCases(pageable, testCaseTitle, null, null, null);
+        var testCaseResponses = testCaseService.getAllTestCases(pageable, testCaseTitle, null, null, null, null);
         var testCaseResponse = testCaseResponses.getContent().iterator().next();
 
         //then
@@ -450,12 +435,12 @@ class TestCaseServiceTest {
         var project = getNewProjectWithAllFields();
 
         when(projectRepository.findById(projectIds.get(0))).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
 
         when(testCaseRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(testCaseToFind), pageable, 1));
         // when
-        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, projectIds, null, null);
+        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, projectIds, null, null, null);
         var testCaseResponse = testCaseResponses.getContent().iterator().next();
 
         //then
@@ -499,11 +484,11 @@ class TestCaseServiceTest {
         var pageable = PageRequest.of(0, 1);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
         when(testCaseRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(testCaseToFind), pageable, 1));
         // when
-        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, null, authorId, null);
+        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, null, authorId, null, null);
         var testCaseResponse = testCaseResponses.getContent().iterator().next();
 
         //then
@@ -547,12 +532,12 @@ class TestCaseServiceTest {
         var pageable = PageRequest.of(0, 1);
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(userInfoService.getUserInfo(1L)).thenReturn(userInfo);
-        when(testCasePriorityRepository.findByName(priorityName)).thenReturn(Optional.of(testCaseToFind.getPriority()));
+        when(userInfoService.getUserInfos(any())).thenReturn(Map.of(1L, userInfo));
+        when(dictionaryRegistry.findTestCasePriority(priorityName)).thenReturn(Optional.of(testCaseToFind.getPriority()));
         when(testCaseRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(testCaseToFind), pageable, 1));
         // when
-        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, null,null, priorityName);
+        var testCaseResponses = testCaseService.getAllTestCases(pageable, null, null,null, priorityName, null);
         var testCaseResponse = testCaseResponses.getContent().iterator().next();
 
         //then
@@ -588,12 +573,6 @@ class TestCaseServiceTest {
         };
     }
 
-    private Answer1<CompletableFuture<SendResult<String, TestCaseEvent>>, TestCaseEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("test-cases", event),
-                        new RecordMetadata(new TopicPartition("test-cases", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private TestCase getNewTestCaseWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -289,7 +289,7 @@ class UserControllerTest {
         var pageable = PageRequest.of(0, 2);
 
         // when
-        when(userService.getAllUsers(eq(pageable), eq(null), eq(null), eq(null),  any())).thenReturn(pageMapper.toResponse(
+        when(userService.getAllUsers(eq(pageable), eq(null), eq(null), eq(null),  any(), eq(null))).thenReturn(pageMapper.toResponse(
                 new PageImpl<>(List.of(response), pageable, 1),
                 URI.create("/users"))
         );
@@ -324,7 +324,7 @@ class UserControllerTest {
         var userIds = List.of(1L);
 
         // when
-        when(userService.getAllUsers(eq(pageable), eq(userIds), eq(null), eq(null),  any())).thenReturn(pageMapper.toResponse(
+        when(userService.getAllUsers(eq(pageable), eq(userIds), eq(null), eq(null),  any(), eq(null))).thenReturn(pageMapper.toResponse(
                 new PageImpl<>(List.of(response), pageable, 1),
                 URI.create("/users"))
         );
@@ -359,7 +359,7 @@ class UserControllerTest {
         var email = "email@mail.com";
 
         // when
-        when(userService.getAllUsers(eq(pageable), eq(null), eq(email), eq(null),  any())).thenReturn(pageMapper.toResponse(
+        when(userService.getAllUsers(eq(pageable), eq(null), eq(email), eq(null),  any(), eq(null))).thenReturn(pageMapper.toResponse(
                 new PageImpl<>(List.of(response), pageable, 1),
                 URI.create("/users"))
         );
@@ -393,7 +393,7 @@ class UserControllerTest {
         var pageable = PageRequest.of(0, 2);
         var fullName = "first";
         // when
-        when(userService.getAllUsers(eq(pageable), eq(null), eq(null), eq(fullName),  any())).thenReturn(pageMapper.toResponse(
+        when(userService.getAllUsers(eq(pageable), eq(null), eq(null), eq(fullName),  any(), eq(null))).thenReturn(pageMapper.toResponse(
                 new PageImpl<>(List.of(response), pageable, 1),
                 URI.create("/users"))
         );
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.stepaniuk.testhorizon.payload.info.UserInfo;
 import com.stepaniuk.testhorizon.testspecific.JpaLevelTest;
 import com.stepaniuk.testhorizon.user.authority.Authority;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
@@ -203,4 +204,15 @@ class UserRepositoryTest {
         assertNotNull(users);
         assertFalse(users.isEmpty());
     }
+
+    @Test
+    void shouldReturnUserInfosWhenFindUserInfosByIds() {
+        // when
+        List<UserInfo> userInfos = userRepository.findUserInfosByIds(List.of(1L, 100L));
+
+        // then
+        assertNotNull(userInfos);
+        assertEquals(1, userInfos.size());
+        assertEquals(new UserInfo(1L, "John", "Doe"), userInfos.get(0));
+    }
 }
@@ -2,31 +2,25 @@ package com.stepaniuk.testhorizon.user;
 
 import com.stepaniuk.testhorizon.event.user.UserAuthorityUpdatedEvent;
 import com.stepaniuk.testhorizon.event.user.UserDeletedEvent;
-import com.stepaniuk.testhorizon.event.user.UserEvent;
 import com.stepaniuk.testhorizon.event.user.UserUpdatedEvent;
 import com.stepaniuk.testhorizon.payload.user.UserUpdateRequest;
 import com.stepaniuk.testhorizon.security.authinfo.AuthInfo;
+import com.stepaniuk.testhorizon.shared.DictionaryRegistry;
 import com.stepaniuk.testhorizon.shared.PageMapperImpl;
 import com.stepaniuk.testhorizon.shared.exceptions.AccessToManageEntityDeniedException;
 import com.stepaniuk.testhorizon.testspecific.ServiceLevelUnitTest;
 import com.stepaniuk.testhorizon.types.user.AuthorityName;
 import com.stepaniuk.testhorizon.user.authority.Authority;
-import com.stepaniuk.testhorizon.user.authority.AuthorityRepository;
 import com.stepaniuk.testhorizon.user.email.EmailCodeRepository;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchAuthorityException;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByEmailException;
 import com.stepaniuk.testhorizon.user.exceptions.NoSuchUserByIdException;
-import org.apache.kafka.clients.producer.ProducerRecord;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.apache.kafka.common.TopicPartition;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
-import org.mockito.stubbing.Answer1;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -34,10 +28,8 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.answer;
 import static org.mockito.Mockito.*;
 
 @ServiceLevelUnitTest
@@ -53,7 +45,7 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @MockitoBean
-    private AuthorityRepository authorityRepository;
+    private DictionaryRegistry dictionaryRegistry;
 
     @MockitoBean
     private EmailCodeRepository emailCodeRepository;
@@ -136,11 +128,9 @@ class UserServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(userToUpdate));
         when(userRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
         final var receivedEventWrapper = new UserUpdatedEvent[1];
-        when(userProducer.send(
+        doNothing().when(userProducer).send(
                 assertArg(
-                        event -> receivedEventWrapper[0] = (UserUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+                        event -> receivedEventWrapper[0] = (UserUpdatedEvent) event));
 
         // when
         var userResponse = userService.updateUser(1L, userUpdateRequest, UUID.randomUUID().toString(), authInfo);
@@ -200,10 +190,8 @@ class UserServiceTest {
         var authInfo = new AuthInfo(1L, List.of());
 
         final var receivedEventWrapper = new UserDeletedEvent[1];
-        when(userProducer.send(
-                assertArg(event -> receivedEventWrapper[0] = (UserDeletedEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+        doNothing().when(userProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserDeletedEvent) event));
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(userToDelete));
 
@@ -258,7 +246,7 @@ class UserServiceTest {
         when(userRepository.findAll(specification, pageable)).thenReturn(
                 new PageImpl<>(List.of(userToFind), pageable, 1));
         // when
-        var userResponses = userService.getAllUsers(pageable, null, null, null, authInfo);
+        var userResponses = userService.getAllUsers(pageable, null, null, null, authInfo, null);
         var userResponse = userResponses.getContent().iterator().next();
 
         //then
@@ -295,7 +283,7 @@ class UserServiceTest {
         when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(userToFind), pageable, 1));
         // when
-        var userResponses = userService.getAllUsers(pageable, List.of(1L), null, null, authInfo);
+        var userResponses = userService.getAllUsers(pageable, List.of(1L), null, null, authInfo, null);
         var userResponse = userResponses.getContent().iterator().next();
 
         //then
@@ -333,7 +321,7 @@ class UserServiceTest {
         when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(userToFind), pageable, 1));
         // when
-        var userResponses = userService.getAllUsers(pageable, null, email, null, authInfo);
+        var userResponses = userService.getAllUsers(pageable, null, email, null, authInfo, null);
         var userResponse = userResponses.getContent().iterator().next();
 
         //then
@@ -370,7 +358,7 @@ class UserServiceTest {
         when(userRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(
                 new PageImpl<>(List.of(userToFind), pageable, 1));
         // when
-        var userResponses = userService.getAllUsers(pageable, null, null, fullName, authInfo);
+        var userResponses = userService.getAllUsers(pageable, null, null, fullName, authInfo, null);
         var userResponse = userResponses.getContent().iterator().next();
 
         //then
@@ -437,14 +425,12 @@ class UserServiceTest {
         var authority = new Authority(1L, authorityName);
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(userToUpdate));
-        when(authorityRepository.findByName(authorityName)).thenReturn(Optional.of(authority));
+        when(dictionaryRegistry.findAuthority(authorityName)).thenReturn(Optional.of(authority));
         when(userRepository.save(any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
 
         final var receivedEventWrapper = new UserAuthorityUpdatedEvent[1];
-        when(userProducer.send(
-                assertArg(event -> receivedEventWrapper[0] = (UserAuthorityUpdatedEvent) event))).thenAnswer(
-                answer(getFakeSendResult())
-        );
+        doNothing().when(userProducer).send(
+                assertArg(event -> receivedEventWrapper[0] = (UserAuthorityUpdatedEvent) event));
 
         // when
         userService.changeUserAuthority(1L, authorityName, authInfo);
@@ -499,7 +485,7 @@ class UserServiceTest {
         var authorityName = AuthorityName.MENTOR;
 
         when(userRepository.findById(1L)).thenReturn(Optional.of(userToUpdate));
-        when(authorityRepository.findByName(authorityName)).thenReturn(Optional.empty());
+        when(dictionaryRegistry.findAuthority(authorityName)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(NoSuchAuthorityException.class,
@@ -508,12 +494,6 @@ class UserServiceTest {
         verify(userRepository, never()).save(any());
     }
 
-    private Answer1<CompletableFuture<SendResult<String, UserEvent>>, UserEvent> getFakeSendResult() {
-        return event -> CompletableFuture.completedFuture(
-                new SendResult<>(new ProducerRecord<>("users", event),
-                        new RecordMetadata(new TopicPartition("users", 0), 0L, 0, 0L, 0, 0)));
-    }
-
     private static User getNewUserWithAllFields() {
         Instant timeOfCreation = Instant.now().plus(Duration.ofHours(10));
         Instant timeOfModification = Instant.now().plus(Duration.ofHours(20));
@@ -0,0 +1,2 @@
+TRUNCATE TABLE outbox_events, export_jobs, tests, test_cases, test_types, test_case_priorities, projects,
+    project_statuses CASCADE;
@@ -0,0 +1,5 @@
+INSERT INTO tests (id, author_id, created_at, description, github_url, instructions, project_id, test_case_id, title,
+                   updated_at, type_id)
+SELECT n, 1, '2024-11-25T17:28:19.266615Z', 'Test description', 'https://github.com/user/repo', 'Test instructions', 1, 1,
+       'Test title ' || n, '2024-11-25T17:28:19.266615Z', 1
+FROM generate_series(1, 2500) AS n;
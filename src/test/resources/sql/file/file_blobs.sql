@@ -0,0 +1,3 @@
+INSERT INTO file_blobs (hash, size, ref_count, created_at)
+VALUES ('9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08', 4, 2, '2024-11-25T17:28:19.266615Z'),
+       ('60303ae22b998861bce3b28f33eec1be758a213c86c93c076dbe9f558c11c752', 5, 1, '2024-11-25T17:28:19.266615Z');